@@ -0,0 +1,27 @@
+package com.myteam.rpgsurvivor.benchmarks;
+
+import com.myteam.rpgsurvivor.model.Enemy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frame lookup done once per creep per rendered frame
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnimationBenchmark {
+
+    @Benchmark
+    public void getCurrentFrame(SimulationWorld world, Blackhole blackhole) {
+        ArrayList<Enemy> enemies = world.store.getHandles();
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            blackhole.consume(enemies.get(i).getAnimationManager().getCurrentFrame());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.myteam.rpgsurvivor.benchmarks;
+
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.Rectangle;
+import com.myteam.rpgsurvivor.animation.AnimationSet;
+import com.myteam.rpgsurvivor.controller.combat.attack.impl.HeroAttack.MeleeAttackComponent;
+import com.myteam.rpgsurvivor.controller.spatial.EnemySpatialGrid;
+import com.myteam.rpgsurvivor.headless.HeadlessEnvironment;
+import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.model.enum_type.StateType;
+import com.myteam.rpgsurvivor.model.impl.projectile.Arrow;
+import com.myteam.rpgsurvivor.skills.WizardPortalSkill;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hero damage paths against N creeps. Hits deal 0 damage so the world does not
+ * change between invocations; the grid queries, hit loops and hurt reactions still run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CombatBenchmark {
+    private static final int VOLLEY_SIZE = 16;
+    private static final float PORTAL_RADIUS = 150f;
+
+    private MeleeAttackComponent meleeAttack;
+    private AnimationSet arrowAnimations;
+    private final ArrayList<Arrow> arrows = new ArrayList<>(VOLLEY_SIZE);
+    private final Circle portal = new Circle();
+    private final Rectangle screen = new Rectangle(0, 0, HeadlessEnvironment.SCREEN_WIDTH, HeadlessEnvironment.SCREEN_HEIGHT);
+
+    @Setup(Level.Trial)
+    public void setup(SimulationWorld world) {
+        meleeAttack = new MeleeAttackComponent(world.hero, world.spawner,
+            world.hero.getAttackSpeed(), world.hero.getRangeAttack(), 0);
+
+        arrowAnimations = new AnimationSet.Builder()
+            .addAnimation(StateType.STATE_IDLE, "Hero/Achers/aseprite/projectiles_and_effects.png", 1, 1, 0.1f, true)
+            .build();
+        for (int i = 0; i < VOLLEY_SIZE; i++) {
+            arrows.add(new Arrow(arrowAnimations));
+        }
+
+        Rectangle heroBox = world.hero.getHitbox();
+        portal.set(heroBox.x + heroBox.width / 2f, heroBox.y + heroBox.height / 2f, PORTAL_RADIUS);
+    }
+
+    @Benchmark
+    public void meleeTryAttack() {
+        meleeAttack.tryAttack();
+    }
+
+    /**
+     * A volley of arrows fired from the hero across the screen, stepped until every arrow hit or left
+     * @return ticks until the last arrow was gone
+     */
+    @Benchmark
+    public int arrowVolley(SimulationWorld world) {
+        EnemySpatialGrid grid = world.spawner.getEnemyGrid();
+        float x = world.hero.getEntityX();
+        float laneHeight = HeadlessEnvironment.SCREEN_HEIGHT / (float) VOLLEY_SIZE;
+        for (int i = 0; i < VOLLEY_SIZE; i++) {
+            arrows.get(i).init(x, i * laneHeight, i % 2 == 0);
+        }
+
+        int ticks = 0;
+        boolean flying = true;
+        while (flying) {
+            flying = false;
+            for (int i = 0; i < VOLLEY_SIZE; i++) {
+                Arrow arrow = arrows.get(i);
+                arrow.update(SimulationWorld.STEP, grid, 0, screen);
+                flying |= !arrow.isDestroyed();
+            }
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Brute-force portal test against every creep, the narrow phase the skill runs on grid candidates
+     */
+    @Benchmark
+    public int portalOverlaps(SimulationWorld world) {
+        ArrayList<Enemy> enemies = world.store.getHandles();
+        int inside = 0;
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            if (WizardPortalSkill.overlaps(portal, enemies.get(i).getHitbox())) {
+                inside++;
+            }
+        }
+        return inside;
+    }
+}
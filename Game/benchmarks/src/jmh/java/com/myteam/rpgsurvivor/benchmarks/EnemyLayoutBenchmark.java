@@ -0,0 +1,209 @@
+package com.myteam.rpgsurvivor.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.myteam.rpgsurvivor.controller.movement.EnemyMovement;
+import com.myteam.rpgsurvivor.model.EnemyStore;
+import com.myteam.rpgsurvivor.model.enum_type.MonsterType;
+import com.myteam.rpgsurvivor.model.enum_type.StateType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One simulation tick over N enemies: packed {@link EnemyStore} against the previous
+ * object-per-enemy layout (Vector2 velocity, two Rectangles, own movement object and
+ * a HashMap standing in for the per-enemy AnimationManager).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnemyLayoutBenchmark {
+    private static final float STEP = 1f / 60f;
+
+    @Param({"10000"})
+    public int count;
+
+    private final Rectangle target = new Rectangle(640, 385, 20, 28);
+
+    private EnemyStore store;
+    private EnemyMovement movement;
+    private ArrayList<ObjectEnemy> objects;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        MonsterType[] types = MonsterType.values();
+
+        store = new EnemyStore(count);
+        movement = new EnemyMovement();
+        objects = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            MonsterType type = types[random.nextInt(types.length)];
+            float x = random.nextFloat() * 1280;
+            float y = random.nextFloat() * 770;
+
+            int slot = store.add(null);
+            store.x[slot] = x;
+            store.y[slot] = y;
+            store.hitboxOffsetX[slot] = type.hitbox.offsetX;
+            store.hitboxOffsetY[slot] = type.hitbox.offsetY;
+            store.hitboxWidth[slot] = type.hitbox.width;
+            store.hitboxHeight[slot] = type.hitbox.height;
+            store.health[slot] = type.stat.maxHealth;
+            store.maxHealth[slot] = type.stat.maxHealth;
+            store.damage[slot] = type.stat.damage;
+            store.moveSpeed[slot] = type.stat.moveSpeed;
+            store.attackRange[slot] = type.stat.rangeAttack;
+            store.detectionRange[slot] = 1000f;
+            store.attackCooldown[slot] = 1f / type.stat.attackSpeed;
+            store.type[slot] = type.ordinal();
+            store.flags[slot] = EnemyStore.FLAG_FACING_RIGHT;
+
+            objects.add(new ObjectEnemy(x, y, type));
+        }
+    }
+
+    @Benchmark
+    public int structureOfArrays() {
+        return movement.update(store, 0, store.size(), target, STEP);
+    }
+
+    @Benchmark
+    public int objectPerEnemy() {
+        int damage = 0;
+        for (int i = 0, n = objects.size(); i < n; i++) {
+            damage += objects.get(i).update(target, STEP);
+        }
+        return damage;
+    }
+
+    /**
+     * Mirror of the pre-store Enemy.update without animation calls
+     */
+    static final class ObjectEnemy {
+        float entityX, entityY;
+        float previousX, previousY;
+        int currentHealth;
+        final int maxHealth;
+        final int damage;
+        final float attackRange;
+        final float attackCooldown;
+        final float detectionRange = 1000f;
+        final float offsetX, offsetY;
+        float attackTimer;
+        float hurtTimer;
+        boolean isDead, isHurt, isAttack, facingRight = true;
+        StateType currentState = StateType.STATE_IDLE;
+
+        final Vector2 velocity = new Vector2();
+        final Rectangle hitbox;
+        final Rectangle attackbox;
+        final ObjectMovement movement;
+        final HashMap<String, Object> animations = new HashMap<>();
+
+        ObjectEnemy(float x, float y, MonsterType type) {
+            entityX = x;
+            entityY = y;
+            currentHealth = type.stat.maxHealth;
+            maxHealth = type.stat.maxHealth;
+            damage = type.stat.damage;
+            attackRange = type.stat.rangeAttack;
+            attackCooldown = 1f / type.stat.attackSpeed;
+            offsetX = type.hitbox.offsetX;
+            offsetY = type.hitbox.offsetY;
+            hitbox = type.hitbox.createHitbox(x, y);
+            attackbox = new Rectangle(hitbox);
+            attackbox.setSize(hitbox.width + attackRange, hitbox.height + attackRange);
+            movement = new ObjectMovement(x, y, type.stat.moveSpeed);
+            for (StateType state : StateType.values()) {
+                animations.put(state.stateType, state);
+            }
+        }
+
+        int update(Rectangle target, float deltaTime) {
+            previousX = entityX;
+            previousY = entityY;
+            currentHealth = Math.max(0, Math.min(currentHealth, maxHealth));
+            if (!velocity.isZero()) {
+                entityX += velocity.x * deltaTime;
+                entityY += velocity.y * deltaTime;
+            }
+            hitbox.setPosition(entityX + offsetX, entityY + offsetY);
+            if (isDead) return 0;
+
+            attackbox.setPosition(facingRight ? hitbox.x : hitbox.x - attackRange, hitbox.y);
+            if (isHurt) {
+                hurtTimer -= deltaTime;
+                if (hurtTimer > 0) return 0;
+                isHurt = false;
+            }
+
+            int dealt = 0;
+            boolean inAttackRange = attackbox.overlaps(target);
+            if (Vector2.dst(entityX, entityY, target.x, target.y) <= detectionRange && inAttackRange
+                && attackTimer <= 0 && !isAttack) {
+                isAttack = true;
+                if (currentState == StateType.STATE_ATTACK) dealt = damage;
+                attackTimer = attackCooldown;
+            }
+            if (attackTimer > 0) attackTimer -= deltaTime;
+
+            float dx = 0;
+            if (hitbox.x + hitbox.width < target.x) dx = target.x - (hitbox.x + hitbox.width);
+            else if (target.x + target.width < hitbox.x) dx = hitbox.x - (target.x + target.width);
+            float dy = 0;
+            if (hitbox.y + hitbox.height < target.y) dy = target.y - (hitbox.y + hitbox.height);
+            else if (target.y + target.height < hitbox.y) dy = hitbox.y - (target.y + target.height);
+            float distance = (float) Math.sqrt(dx * dx + dy * dy);
+
+            if (distance <= detectionRange && distance > 0) {
+                currentState = StateType.STATE_RUN;
+                Vector2 position = movement.move(target, deltaTime);
+                entityX = position.x;
+                entityY = position.y;
+            } else if (inAttackRange) {
+                currentState = isAttack ? StateType.STATE_ATTACK : StateType.STATE_IDLE;
+            } else {
+                currentState = StateType.STATE_IDLE;
+            }
+            facingRight = target.x > hitbox.x;
+            return dealt;
+        }
+    }
+
+    static final class ObjectMovement {
+        float enemyX, enemyY;
+        final float moveSpeed;
+
+        ObjectMovement(float x, float y, float moveSpeed) {
+            this.enemyX = x;
+            this.enemyY = y;
+            this.moveSpeed = moveSpeed;
+        }
+
+        Vector2 move(Rectangle target, float deltaTime) {
+            Vector2 direction = new Vector2(target.x - enemyX, target.y - enemyY);
+            Vector2 position = new Vector2(enemyX, enemyY);
+            if (direction.len() > 10f) {
+                direction.nor();
+                enemyX += direction.x * moveSpeed * deltaTime;
+                enemyY += direction.y * moveSpeed * deltaTime;
+                position.set(enemyX, enemyY);
+            }
+            return position;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.myteam.rpgsurvivor.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.myteam.rpgsurvivor.animation.AnimationManager;
+import com.myteam.rpgsurvivor.animation.AnimationSet;
+import com.myteam.rpgsurvivor.controller.movement.EnemyMovement;
+import com.myteam.rpgsurvivor.controller.spatial.EnemySpatialGrid;
+import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.model.EnemyStore;
+import com.myteam.rpgsurvivor.model.enum_type.MonsterType;
+import com.myteam.rpgsurvivor.model.enum_type.StateType;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Measures heap bytes allocated by the enemy tick: store step, per-enemy animation
+ * bookkeeping, spatial grid rebuild and a hit query. Exits with status 1 if anything
+ * is allocated once the JIT has warmed up.
+ * Run with ./gradlew :benchmarks:allocationCheck
+ */
+public class EnemyTickAllocationCheck {
+    private static final float STEP = 1f / 60f;
+    private static final int ENEMY_COUNT = 10000;
+    private static final int WARMUP_TICKS = 3000;
+    private static final int MEASURED_TICKS = 600;
+    private static final EnemyStore NO_BOSSES = new EnemyStore(1);
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.out.println("Thread allocation counters are not supported by this JVM");
+            return;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Random random = new Random(7);
+        MonsterType[] types = MonsterType.values();
+        StateType[] states = StateType.values();
+        AnimationSet animationSet = createAnimations(states);
+        EnemyStore store = new EnemyStore(ENEMY_COUNT);
+        AnimationManager[] animations = new AnimationManager[ENEMY_COUNT];
+        EnemyMovement movement = new EnemyMovement();
+        EnemySpatialGrid grid = new EnemySpatialGrid();
+        Rectangle target = new Rectangle(640, 385, 20, 28);
+        Rectangle query = new Rectangle(600, 350, 80, 80);
+        ArrayList<Enemy> hits = new ArrayList<>(ENEMY_COUNT);
+
+        for (int i = 0; i < ENEMY_COUNT; i++) {
+            MonsterType type = types[random.nextInt(types.length)];
+            int slot = store.add(null);
+            store.x[slot] = random.nextFloat() * 1280;
+            store.y[slot] = random.nextFloat() * 770;
+            store.hitboxOffsetX[slot] = type.hitbox.offsetX;
+            store.hitboxOffsetY[slot] = type.hitbox.offsetY;
+            store.hitboxWidth[slot] = type.hitbox.width;
+            store.hitboxHeight[slot] = type.hitbox.height;
+            store.health[slot] = type.stat.maxHealth;
+            store.maxHealth[slot] = type.stat.maxHealth;
+            store.damage[slot] = type.stat.damage;
+            store.moveSpeed[slot] = type.stat.moveSpeed;
+            store.attackRange[slot] = type.stat.rangeAttack;
+            store.detectionRange[slot] = 1000f;
+            store.attackCooldown[slot] = 1f / type.stat.attackSpeed;
+            store.flags[slot] = EnemyStore.FLAG_FACING_RIGHT;
+            animations[slot] = new AnimationManager(animationSet);
+        }
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            tick(store, animations, movement, grid, target, query, hits);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            tick(store, animations, movement, grid, target, query, hits);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        double perEnemyTick = allocated / (double) ((long) MEASURED_TICKS * ENEMY_COUNT);
+        System.out.printf("Allocated %d bytes over %d ticks x %d enemies (%.4f bytes per enemy tick)%n",
+            allocated, MEASURED_TICKS, ENEMY_COUNT, perEnemyTick);
+        if (allocated > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void tick(EnemyStore store, AnimationManager[] animations,
+                             EnemyMovement movement, EnemySpatialGrid grid,
+                             Rectangle target, Rectangle query, ArrayList<Enemy> hits) {
+        movement.update(store, 0, store.size(), target, STEP);
+
+        // Phần việc Enemy.update làm trên handle
+        for (int i = 0, n = store.size(); i < n; i++) {
+            AnimationManager animation = animations[i];
+            animation.update(STEP);
+            animation.setFacingRight(store.hasFlag(i, EnemyStore.FLAG_FACING_RIGHT));
+            animation.setState(store.state[i], true);
+            if (store.hasFlag(i, EnemyStore.FLAG_ATTACKING) && animation.isAnimationFinished()) {
+                store.setFlag(i, EnemyStore.FLAG_ATTACKING, false);
+            }
+            animation.getCurrentFrame();
+        }
+
+        grid.rebuild(store, NO_BOSSES);
+        grid.queryRect(query, hits);
+    }
+
+    private static AnimationSet createAnimations(StateType[] states) {
+        AnimationSet.Builder animations = new AnimationSet.Builder();
+        TextureRegion[] frames = {new TextureRegion(), new TextureRegion()};
+        for (StateType state : states) {
+            boolean loop = state == StateType.STATE_IDLE || state == StateType.STATE_RUN;
+            animations.addAnimation(state, frames, 0.1f, loop);
+        }
+        return animations.build();
+    }
+}
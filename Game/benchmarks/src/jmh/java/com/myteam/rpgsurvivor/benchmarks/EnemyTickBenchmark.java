@@ -0,0 +1,57 @@
+package com.myteam.rpgsurvivor.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.myteam.rpgsurvivor.controller.movement.EnemyMovement;
+import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.model.EnemyStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The three parts of an enemy tick over N creeps: the per-handle {@link Enemy#update(float)},
+ * the per-slot {@link EnemyMovement#move} and the whole {@link com.myteam.rpgsurvivor.controller.EnemySpawnController#update(float)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnemyTickBenchmark {
+    private EnemyMovement movement;
+    private Rectangle target;
+
+    @Setup(Level.Trial)
+    public void setup(SimulationWorld world) {
+        movement = new EnemyMovement();
+        target = world.hero.getHitbox();
+    }
+
+    @Benchmark
+    public void enemyUpdate(SimulationWorld world) {
+        ArrayList<Enemy> handles = world.store.getHandles();
+        for (int i = 0, n = handles.size(); i < n; i++) {
+            handles.get(i).update(SimulationWorld.STEP);
+        }
+    }
+
+    @Benchmark
+    public void enemyMovementMove(SimulationWorld world) {
+        EnemyStore store = world.store;
+        for (int i = 0, n = store.size(); i < n; i++) {
+            movement.move(store, i, target.x, target.y, SimulationWorld.STEP);
+        }
+    }
+
+    @Benchmark
+    public int spawnControllerUpdate(SimulationWorld world) {
+        world.spawner.update(SimulationWorld.STEP);
+        return world.store.size();
+    }
+}
@@ -0,0 +1,83 @@
+package com.myteam.rpgsurvivor.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.myteam.rpgsurvivor.controller.movement.EnemyMovement;
+import com.myteam.rpgsurvivor.controller.spatial.FlowField;
+import com.myteam.rpgsurvivor.model.EnemyStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the enemy flow field: a full recompute when the hero changes tile, the per-enemy
+ * lookup of the next tile, and the whole {@link EnemyMovement#update} with and without the field,
+ * and with the field plus the swept wall test of the collision grid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlowFieldBenchmark {
+    private FlowField flowField;
+    private EnemyMovement straightMovement;
+    private EnemyMovement flowMovement;
+    private EnemyMovement sweptMovement;
+    private Rectangle target;
+    private boolean alternate;
+
+    @Setup(Level.Trial)
+    public void setup(SimulationWorld world) {
+        flowField = new FlowField(world.simulation.getCollisionGrid());
+        target = world.hero.getHitbox();
+        flowField.setTarget(target.x, target.y);
+
+        straightMovement = new EnemyMovement();
+        flowMovement = new EnemyMovement();
+        flowMovement.setFlowField(flowField);
+        sweptMovement = new EnemyMovement();
+        sweptMovement.setFlowField(flowField);
+        sweptMovement.setCollisionGrid(flowField.getGrid());
+    }
+
+    @Benchmark
+    public int recompute() {
+        // Đổi qua lại giữa hai ô cạnh nhau để lần nào cũng phải tính lại
+        alternate = !alternate;
+        flowField.setTarget(target.x + (alternate ? 10f : 0f), target.y);
+        return flowField.getRecomputeCount();
+    }
+
+    @Benchmark
+    public int lookup(SimulationWorld world) {
+        EnemyStore store = world.store;
+        int sum = 0;
+        for (int i = 0, n = store.size(); i < n; i++) {
+            int cell = flowField.cellAt(store.hitboxX[i] + store.hitboxWidth[i] / 2f, store.hitboxY[i] + store.hitboxHeight[i] / 2f);
+            if (cell >= 0) {
+                sum += flowField.getNext(cell);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int movementStraight(SimulationWorld world) {
+        return straightMovement.update(world.store, 0, world.store.size(), target, SimulationWorld.STEP);
+    }
+
+    @Benchmark
+    public int movementFlowField(SimulationWorld world) {
+        return flowMovement.update(world.store, 0, world.store.size(), target, SimulationWorld.STEP);
+    }
+
+    @Benchmark
+    public int movementSwept(SimulationWorld world) {
+        return sweptMovement.update(world.store, 0, world.store.size(), target, SimulationWorld.STEP);
+    }
+}
@@ -0,0 +1,71 @@
+package com.myteam.rpgsurvivor.benchmarks;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
+import com.myteam.rpgsurvivor.controller.EnemySpawnController;
+import com.myteam.rpgsurvivor.controller.spatial.CollisionGrid;
+import com.myteam.rpgsurvivor.controller.system.GameRandom;
+import com.myteam.rpgsurvivor.controller.system.GameSimulation;
+import com.myteam.rpgsurvivor.headless.HeadlessEnvironment;
+import com.myteam.rpgsurvivor.model.EnemyStore;
+import com.myteam.rpgsurvivor.model.Player;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A real game world for the hot path benchmarks: the map, a Knight at the centre of the
+ * screen and N pooled creeps spread uniformly over the screen, built through
+ * {@link GameSimulation} on the headless backend. Assets are read from the classpath.
+ */
+@State(Scope.Thread)
+public class SimulationWorld {
+    public static final float STEP = 1f / 60f;
+    public static final long SEED = 42;
+
+    @Param({"100", "1000", "10000"})
+    public int enemyCount;
+
+    public GameSimulation simulation;
+    public Player hero;
+    public EnemySpawnController spawner;
+    public EnemyStore store;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessEnvironment.start();
+
+        TiledMap map = AssetRegistry.getInstance().acquire(AssetManifest.MAP, TiledMap.class);
+        simulation = new GameSimulation("Knight", map, CollisionGrid.fromMap(map), SEED);
+        GameRandom random = GameRandom.getInstance();
+        hero = simulation.getHero();
+        spawner = simulation.getEnemySpawnController();
+        store = spawner.getCreepStore();
+
+        hero.setInvulnerable(true);
+        hero.setEntityPosition(HeadlessEnvironment.SCREEN_WIDTH / 2f, HeadlessEnvironment.SCREEN_HEIGHT / 2f);
+        hero.getHitbox().setPosition(hero.getEntityX() + hero.getOffsetX(), hero.getEntityY() + hero.getOffsetY());
+        spawner.setMaxEnemiesOnMap(enemyCount);
+        spawner.setEnemiesPerWave(Integer.MAX_VALUE);
+
+        for (int i = 0; i < enemyCount; i++) {
+            spawner.spawnEnemy();
+            store.x[i] = random.random(0f, HeadlessEnvironment.SCREEN_WIDTH);
+            store.y[i] = random.random(0f, HeadlessEnvironment.SCREEN_HEIGHT);
+        }
+        // Một tick để đồng bộ hitbox và dựng lưới không gian
+        spawner.update(STEP);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+        AnimationLoader.getInstance().clearCache();
+        AssetRegistry.getInstance().release(AssetManifest.MAP);
+    }
+}
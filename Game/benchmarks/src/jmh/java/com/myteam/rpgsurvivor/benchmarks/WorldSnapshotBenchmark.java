@@ -0,0 +1,44 @@
+package com.myteam.rpgsurvivor.benchmarks;
+
+import com.myteam.rpgsurvivor.saveGame.WorldSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the whole world as written into a save, and restoring it over the same world.
+ * The creeps walk for half a second first so they are saved with their state, timers and animation time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class WorldSnapshotBenchmark {
+    private byte[] snapshot;
+
+    @Setup(Level.Trial)
+    public void setup(SimulationWorld world) {
+        for (int i = 0; i < 30; i++) {
+            world.simulation.step(SimulationWorld.STEP);
+        }
+        snapshot = WorldSnapshot.capture(world.simulation);
+        System.out.println("Snapshot of " + world.store.size() + " creeps: " + snapshot.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] capture(SimulationWorld world) {
+        return WorldSnapshot.capture(world.simulation);
+    }
+
+    @Benchmark
+    public void restore(SimulationWorld world) throws IOException {
+        WorldSnapshot.restore(world.simulation, snapshot);
+    }
+}
@@ -3,8 +3,14 @@ package com.myteam.rpgsurvivor;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
+import com.myteam.rpgsurvivor.screens.GameScreen;
+import com.myteam.rpgsurvivor.screens.LoadingScreen;
 import com.myteam.rpgsurvivor.screens.MainMenuScreen;
 import com.myteam.rpgsurvivor.screens.MapScreen;
 
@@ -12,14 +18,41 @@ import com.myteam.rpgsurvivor.screens.MapScreen;
 public class Main extends Game {
     private MapScreen map;
     private MainMenuScreen mainMenuScreen;
+    private long createTime;
 
     @Override
     public void create() {
+        createTime = TimeUtils.millis();
         // Khởi tạo camera
        //map = new MapScreen();
-       setScreen(new MainMenuScreen(this));
 
+        // Main giữ tham chiếu MAIN_MENU suốt vòng đời game (menu, chọn hero, âm thanh)
+        AssetRegistry.getInstance().load(AssetManifest.MAIN_MENU);
+        setScreen(new LoadingScreen(this, AssetManifest.MAIN_MENU, () -> {
+            mainMenuScreen = new MainMenuScreen(this);
+            Gdx.app.log("Main", "Cold start to main menu: " + TimeUtils.timeSinceMillis(createTime) + " ms");
+            return mainMenuScreen;
+        }));
+    }
+
+    /**
+     * Load the in-game manifest behind a loading screen, then start a new run
+     */
+    public void startGame(String heroType) {
+        setScreen(new LoadingScreen(this, AssetManifest.GAME, () -> new GameScreen(this, heroType)));
+    }
 
+    /**
+     * Leave the current run and go back to the main menu.
+     * The old GameScreen is disposed on the next frame because this is usually called from inside its render.
+     */
+    public void showMainMenu() {
+        Screen previous = getScreen();
+        mainMenuScreen = new MainMenuScreen(this);
+        setScreen(mainMenuScreen);
+        if (previous instanceof GameScreen) {
+            Gdx.app.postRunnable(previous::dispose);
+        }
     }
 
     @Override
@@ -38,7 +71,10 @@ public class Main extends Game {
     @Override
     public void dispose() {
         //map.dispose();
-        mainMenuScreen.dispose();
+        if (mainMenuScreen != null) {
+            mainMenuScreen.dispose();
+        }
+        AssetRegistry.getInstance().dispose();
 
     }
 }
@@ -4,276 +4,289 @@ import com.myteam.rpgsurvivor.model.enum_type.BossType;
 import com.myteam.rpgsurvivor.model.enum_type.MonsterType;
 import com.myteam.rpgsurvivor.model.enum_type.StateType;
 
+/**
+ * Animation sets of the creeps and bosses, built once per type and shared by every enemy of it
+ */
 public class AnimationForEnemy {
     private static final float DEFAULT_FRAME_DURATION = 0.1f;
     private static final float DEFAULT_DEATH_FRAME_DURATION = 0.08f;
     public AnimationManager createEnemyAnimation(MonsterType monsterType)
     {
-        AnimationManager animationManager = new AnimationManager();
+        return new AnimationManager(AnimationLoader.getInstance().getSet(monsterType, () -> createEnemyAnimations(monsterType)));
+    }
+
+    private AnimationSet createEnemyAnimations(MonsterType monsterType)
+    {
+        AnimationSet.Builder animations = new AnimationSet.Builder();
 
         switch (monsterType)
         {
             case GOBLIN:
-                setUpGoblinAnimation(animationManager);
+                setUpGoblinAnimation(animations);
                 break;
             case SKELETON:
-                setUpSkeletonAnimation(animationManager);
+                setUpSkeletonAnimation(animations);
                 break;
             case RAT:
-                setUpRatAnimation(animationManager);
+                setUpRatAnimation(animations);
                 break;
 //            case ORC:
-//                setUpOrcAnimation(animationManager);
+//                setUpOrcAnimation(animations);
 //                break;
             case VAMPIRE:
-                setUpVampireAnimation(animationManager);
+                setUpVampireAnimation(animations);
                 break;
 
         }
-        return animationManager;
+        return animations.build();
     }
 
     public AnimationManager createBossAnimation(BossType monsterType)
     {
-        AnimationManager animationManager = new AnimationManager();
+        return new AnimationManager(AnimationLoader.getInstance().getSet(monsterType, () -> createBossAnimations(monsterType)));
+    }
+
+    private AnimationSet createBossAnimations(BossType monsterType)
+    {
+        AnimationSet.Builder animations = new AnimationSet.Builder();
 
         switch (monsterType)
         {
             case SLIME_BOSS:
-                setUpSlimeBossAnimation(animationManager);
+                setUpSlimeBossAnimation(animations);
                 break;
             case SKELETON_KING:
-                setUpSkeletonKingAnimation(animationManager);
+                setUpSkeletonKingAnimation(animations);
                 break;
 
         }
-        return animationManager;
+        return animations.build();
     }
 
-    private void setUpGoblinAnimation(AnimationManager animationManager)
+    private void setUpGoblinAnimation(AnimationSet.Builder animations)
     {
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Enemy/Creep 1/HobgoblinNoOutline/goblinsmasher_idle.png",
             4,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Enemy/Creep 1/HobgoblinNoOutline/goblinsmasher_attack.png",
             8,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Enemy/Creep 1/HobgoblinNoOutline/goblinsmasher_run.png",
             4,1, DEFAULT_FRAME_DURATION, true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Enemy/Creep 1/HobgoblinNoOutline/goblinsmasher_hurt.png",
             1,1, DEFAULT_FRAME_DURATION, true
         );
 
-        animationManager.addAnimation(StateType.STATE_DEATH.stateType,
+        animations.addAnimation(StateType.STATE_DEATH,
             "Enemy/Creep 1/HobgoblinNoOutline/goblinsmasher_death.png",
             6, 1, DEFAULT_FRAME_DURATION, false
             );
     }
 
-    public void setUpSkeletonAnimation(AnimationManager animationManager)
+    public void setUpSkeletonAnimation(AnimationSet.Builder animations)
     {
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Enemy/Skeleton/Skeleton/Sprite Sheets/Skeleton Idle.png",
             11,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Enemy/Skeleton/Skeleton/Sprite Sheets/Skeleton Walk.png",
             13,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Enemy/Skeleton/Skeleton/Sprite Sheets/Skeleton Hit.png",
             8,1, DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Enemy/Skeleton/Skeleton/Sprite Sheets/Skeleton Attack.png",
             18,1, DEFAULT_FRAME_DURATION,false
         );
 
 
-        animationManager.addAnimation(StateType.STATE_DEATH.stateType,
+        animations.addAnimation(StateType.STATE_DEATH,
             "Enemy/Skeleton/Skeleton/Sprite Sheets/Skeleton Dead.png",
             15, 1, DEFAULT_DEATH_FRAME_DURATION, false
         );
     }
 
-    public void setUpRatAnimation(AnimationManager animationManager)
+    public void setUpRatAnimation(AnimationSet.Builder animations)
     {
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Enemy/Creep 2/NoneOutlinedRat/rat-idle.png",
             6,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Enemy/Creep 2/NoneOutlinedRat/rat-run.png",
             6,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Enemy/Creep 2/NoneOutlinedRat/rat-attack.png",
             6,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Enemy/Creep 2/NoneOutlinedRat/rat-hurt.png",
             1,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(StateType.STATE_DEATH.stateType,
+        animations.addAnimation(StateType.STATE_DEATH,
             "Enemy/Creep 2/NoneOutlinedRat/rat-death.png",
             6, 1, DEFAULT_FRAME_DURATION, false
         );
 
     }
 
-    public void setUpOrcAnimation(AnimationManager animationManager)
+    public void setUpOrcAnimation(AnimationSet.Builder animations)
     {
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Enemy/Creep 3/Monster_Creatures_Fantasy(Version 1.3)/Orc/Orc-Idle.png",
             6,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Enemy/Creep 3/Monster_Creatures_Fantasy(Version 1.3)/Orc/Orc-Walk.png",
             8,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Enemy/Creep 3/Monster_Creatures_Fantasy(Version 1.3)/Orc/Orc-Attack01.png",
             6,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Enemy/Creep 3/Monster_Creatures_Fantasy(Version 1.3)/Orc/Orc-Hurt.png",
             4,1,DEFAULT_FRAME_DURATION,false
         );
 
 
-        animationManager.addAnimation(StateType.STATE_DEATH.stateType,
+        animations.addAnimation(StateType.STATE_DEATH,
             "Enemy/Creep 3/Monster_Creatures_Fantasy(Version 1.3)/Orc/Orc-Death.png",
             4, 1, DEFAULT_FRAME_DURATION, false
         );
     }
 
-    public void setUpVampireAnimation(AnimationManager animationManager)
+    public void setUpVampireAnimation(AnimationSet.Builder animations)
     {
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Enemy/Creep 2/Enemy_Animations_Set/enemies-vampire_idle.png",
             6,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Enemy/Creep 2/Enemy_Animations_Set/enemies-vampire_movement.png",
             8,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Enemy/Creep 2/Enemy_Animations_Set/enemies-vampire_attack.png",
             16,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Enemy/Creep 2/Enemy_Animations_Set/enemies-vampire_take_damage.png",
             5,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(StateType.STATE_DEATH.stateType,
+        animations.addAnimation(StateType.STATE_DEATH,
             "Enemy/Creep 2/Enemy_Animations_Set/enemies-vampire_death.png",
             14, 1, DEFAULT_DEATH_FRAME_DURATION, false
         );
     }
 
-    public void setUpSlimeBossAnimation(AnimationManager animationManager)
+    public void setUpSlimeBossAnimation(AnimationSet.Builder animations)
     {
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Enemy/Slime Boss/boss_demon_slime_FREE_v1.0/single sprites/Idle.png",
             6,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Enemy/Slime Boss/boss_demon_slime_FREE_v1.0/single sprites/Walk.png",
             12,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Enemy/Slime Boss/boss_demon_slime_FREE_v1.0/single sprites/Attack.png",
             15,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Enemy/Slime Boss/boss_demon_slime_FREE_v1.0/single sprites/TakeHit.png",
             5,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_DEATH.stateType,
+        animations.addAnimation(
+            StateType.STATE_DEATH,
             "Enemy/Slime Boss/boss_demon_slime_FREE_v1.0/single sprites/Death.png",
             22,1,DEFAULT_FRAME_DURATION, false
         );
     }
 
-    public void setUpSkeletonKingAnimation(AnimationManager animationManager)
+    public void setUpSkeletonKingAnimation(AnimationSet.Builder animations)
     {
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Enemy/King Skeleton/Bringer-Of-Death/Sprite/Idle.png",
             8,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Enemy/King Skeleton/Bringer-Of-Death/Sprite/Walk.png",
             8,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Enemy/King Skeleton/Bringer-Of-Death/Sprite/Attack.png",
             10,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Enemy/King Skeleton/Bringer-Of-Death/Sprite/Hurt.png",
             3,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_DEATH.stateType,
+        animations.addAnimation(
+            StateType.STATE_DEATH,
             "Enemy/King Skeleton/Bringer-Of-Death/Sprite/Death.png",
             10,1,DEFAULT_FRAME_DURATION, false
         );
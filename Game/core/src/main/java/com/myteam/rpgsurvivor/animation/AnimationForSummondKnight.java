@@ -8,39 +8,44 @@ public class AnimationForSummondKnight {
 
     public AnimationManager createMiniKnightAnimation(HeroType heroType)
     {
-        AnimationManager animationManager = new AnimationManager();
+        return new AnimationManager(AnimationLoader.getInstance().getSet(heroType, () -> createMiniKnightAnimations(heroType)));
+    }
+
+    private AnimationSet createMiniKnightAnimations(HeroType heroType)
+    {
+        AnimationSet.Builder animations = new AnimationSet.Builder();
 
         switch (heroType)
         {
             case SUMMON_KNIGHT:
-                setUpSummonKnightAnimation(animationManager);
+                setUpSummonKnightAnimation(animations);
                 break;
         }
-        return animationManager;
+        return animations.build();
     }
 
-    private void setUpSummonKnightAnimation(AnimationManager animationManager)
+    private void setUpSummonKnightAnimation(AnimationSet.Builder animations)
     {
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Skills/Knight Spawn/Idle.png",
             6,1,DEFAULT_FRAME_DURATION,true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Skills/Knight Spawn/Attack.png",
             6,1,DEFAULT_FRAME_DURATION,false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Skills/Knight Spawn/Walk.png",
             8,1, DEFAULT_FRAME_DURATION, true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Skills/Knight Spawn/Hurt.png",
             4,1, DEFAULT_FRAME_DURATION, true
         );
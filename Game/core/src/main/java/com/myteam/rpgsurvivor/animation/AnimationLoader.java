@@ -3,20 +3,37 @@ package com.myteam.rpgsurvivor.animation;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 
 import java.util.HashMap;
+import java.util.function.Supplier;
 
 public class AnimationLoader {
+    // Atlas sinh ra bởi ./gradlew packTextures, region đặt tên theo đường dẫn sheet bỏ đuôi .png
+    public static final String ATLAS_PATH = "atlas/sprites.atlas";
+    // -Drpgsurvivor.noAtlas=true: nạp từng sheet rời để so sánh số render call
+    private static final String NO_ATLAS_PROPERTY = "rpgsurvivor.noAtlas";
 
     private static AnimationLoader instance;
 
-    private HashMap<String, Animation<TextureRegion>> animationCache;
+    // Frame của mỗi sheet, một sheet luôn được cắt theo cùng một số cột và hàng
+    private HashMap<String, TextureRegion[]> frameCache;
+    // Bản lật ngang của frameCache, frame dùng chung không bao giờ bị flip tại chỗ
+    private HashMap<String, TextureRegion[]> mirroredFrameCache;
+    // AnimationSet theo loại entity (MonsterType, BossType, HeroType, EffectType)
+    private HashMap<Enum<?>, AnimationSet> setCache;
+    // Sheet rời đã giữ một tham chiếu trong AssetRegistry, trả lại khi clearCache
+    private HashMap<String, Texture> textureCache;
+    private TextureAtlas atlas;
+    private boolean atlasLoaded;
 
     private AnimationLoader() {
-        animationCache = new HashMap<>();
+        frameCache = new HashMap<>();
+        mirroredFrameCache = new HashMap<>();
+        setCache = new HashMap<>();
+        textureCache = new HashMap<>();
     }
 
     public static AnimationLoader getInstance() {
@@ -27,37 +44,136 @@ public class AnimationLoader {
     }
 
 
-    public Animation<TextureRegion> loadAnimation(String path, int cols, int rows, float frameDuration) {
-        String key = path + "_" + cols + "_" + rows + "_" + frameDuration;
-
-        if (animationCache.containsKey(key)) {
-            return animationCache.get(key);
+    /**
+     * Animation set shared by every entity of a type, built by the factory on the first request
+     * @param key The type, e.g. a {@link com.myteam.rpgsurvivor.model.enum_type.MonsterType}
+     */
+    public AnimationSet getSet(Enum<?> key, Supplier<AnimationSet> factory) {
+        AnimationSet set = setCache.get(key);
+        if (set == null) {
+            set = factory.get();
+            setCache.put(key, set);
         }
+        return set;
+    }
 
-        Texture sheet = new Texture(Gdx.files.internal(path));
+    /**
+     * Frames of a sprite sheet of cols x rows frames, read left to right then top to bottom
+     */
+    public TextureRegion[] loadFrames(String path, int cols, int rows) {
+        TextureRegion[] frames = frameCache.get(path);
+        if (frames != null) {
+            return frames;
+        }
 
-        TextureRegion[][] tmp = TextureRegion.split(
-            sheet,
-            sheet.getWidth() / cols,
-            sheet.getHeight() / rows);
+        TextureRegion sheet = getRegion(path);
 
-        Array<TextureRegion> frames = new Array<>();
+        TextureRegion[][] tmp = sheet.split(
+            sheet.getRegionWidth() / cols,
+            sheet.getRegionHeight() / rows);
 
+        frames = new TextureRegion[cols * rows];
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                frames.add(tmp[i][j]);
+                frames[i * cols + j] = tmp[i][j];
             }
         }
 
-        Animation<TextureRegion> animation = new Animation<>(frameDuration, frames);
+        frameCache.put(path, frames);
 
-        animationCache.put(key, animation);
+        return frames;
+    }
+
+    /**
+     * The frames of {@link #loadFrames} mirrored horizontally, for entities facing left
+     */
+    public TextureRegion[] loadMirroredFrames(String path, int cols, int rows) {
+        TextureRegion[] mirrored = mirroredFrameCache.get(path);
+        if (mirrored == null) {
+            mirrored = mirror(loadFrames(path, cols, rows));
+            mirroredFrameCache.put(path, mirrored);
+        }
+        return mirrored;
+    }
 
-        return animation;
+    /**
+     * Horizontally flipped copies of the frames, the frames themselves are left as they are
+     */
+    public static TextureRegion[] mirror(TextureRegion[] frames) {
+        TextureRegion[] mirrored = new TextureRegion[frames.length];
+        for (int i = 0; i < frames.length; i++) {
+            mirrored[i] = new TextureRegion(frames[i]);
+            mirrored[i].flip(true, false);
+        }
+        return mirrored;
+    }
+
+    /**
+     * Whole sheet as a region: from the sprite atlas when it was packed,
+     * otherwise from a standalone texture loaded once per path.
+     * @param path Internal path of the png, e.g. "Enemy/Asset For Boss/FrameHP.png"
+     */
+    public TextureRegion getRegion(String path) {
+        TextureAtlas spriteAtlas = getAtlas();
+        if (spriteAtlas != null) {
+            TextureAtlas.AtlasRegion region = spriteAtlas.findRegion(regionName(path));
+            if (region != null) {
+                return region;
+            }
+        }
+
+        Texture texture = textureCache.get(path);
+        if (texture == null) {
+            texture = AssetRegistry.getInstance().acquire(path, Texture.class);
+            textureCache.put(path, texture);
+        }
+        return new TextureRegion(texture);
+    }
+
+    /**
+     * @return true if the sheet resolves to a region of the sprite atlas
+     */
+    public boolean isPacked(String path) {
+        TextureAtlas spriteAtlas = getAtlas();
+        return spriteAtlas != null && spriteAtlas.findRegion(regionName(path)) != null;
+    }
+
+    public static boolean isAtlasEnabled() {
+        return !Boolean.getBoolean(NO_ATLAS_PROPERTY) && Gdx.files.internal(ATLAS_PATH).exists();
+    }
+
+    private TextureAtlas getAtlas() {
+        if (!atlasLoaded) {
+            atlasLoaded = true;
+            if (isAtlasEnabled()) {
+                atlas = AssetRegistry.getInstance().acquire(ATLAS_PATH, TextureAtlas.class);
+            } else {
+                Gdx.app.log("AnimationLoader", ATLAS_PATH + " not used, loading sprite sheets as separate textures");
+            }
+        }
+        return atlas;
+    }
+
+    private static String regionName(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > 0 ? path.substring(0, dot) : path;
     }
 
 
     public void clearCache() {
-        animationCache.clear();
+        setCache.clear();
+        frameCache.clear();
+        mirroredFrameCache.clear();
+
+        AssetRegistry assets = AssetRegistry.getInstance();
+        for (String path : textureCache.keySet()) {
+            assets.release(path);
+        }
+        textureCache.clear();
+        if (atlas != null) {
+            assets.release(ATLAS_PATH);
+            atlas = null;
+        }
+        atlasLoaded = false;
     }
 }
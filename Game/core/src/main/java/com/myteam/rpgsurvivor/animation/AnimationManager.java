@@ -1,148 +1,155 @@
 package com.myteam.rpgsurvivor.animation;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
 import com.myteam.rpgsurvivor.model.enum_type.StateType;
 
-import java.util.Arrays;
-import java.util.HashMap;
-
+/**
+ * Playback cursor of one entity over a shared {@link AnimationSet}: which state plays, the time into it
+ * and the facing. Clips and frames are never copied, a cursor is a handful of fields.
+ */
 public class AnimationManager {
+    private static final int ATTACK = StateType.STATE_ATTACK.ordinal();
 
-    public HashMap<String, Animation<TextureRegion>> animations;
+    private final AnimationSet animations;
 
-    private String currentState;
+    // Ordinal của StateType đang chạy
+    private int currentState;
 
     private float stateTime;
 
     private boolean facingRight;
 
-    public AnimationManager() {
-        this.animations = new HashMap<>();
-        this.currentState = StateType.STATE_IDLE.stateType;
+    // Thời gian một frame đánh thường theo tốc độ đánh riêng của entity, 0 là dùng của clip
+    private float attackFrameDuration;
+
+    public AnimationManager(AnimationSet animations) {
+        this.animations = animations;
+        this.currentState = animations.getDefaultState();
         this.stateTime = 0f;
         this.facingRight = true;
     }
 
-    public void addAnimation(String stateName, String pathAnimation, int cols, int rows, float frameDuration, boolean loop) {
-        Animation<TextureRegion> animation = AnimationLoader.getInstance().loadAnimation(pathAnimation, cols, rows, frameDuration);
-        animation.setPlayMode(loop ? Animation.PlayMode.LOOP : Animation.PlayMode.NORMAL);
-        animations.put(stateName, animation);
-        if (animations.size() == 1) {
-            currentState = stateName;
-        }
-    }
+    /**
+     * Play the attack clip with another frame duration, for this entity only
+     */
     public void changeDurationAtk(float duration) {
-
-        Animation<TextureRegion> animation = animations.get(StateType.STATE_ATTACK.stateType);
-        if (animation != null) {
-            animation.setFrameDuration(duration);
-        }
+        this.attackFrameDuration = duration;
     }
+
     public void update(float deltaTime) {
         stateTime += deltaTime;
     }
 
-    public void setState(String newState, boolean resetStateTime) {
-        if (!animations.containsKey(newState)) {
-            System.out.println("Warning: Animation state '" + newState + "' not found");
-            return;
+    public boolean setState(StateType newState, boolean resetStateTime) {
+        return setState(newState.ordinal(), resetStateTime);
+    }
+
+    /**
+     * Switch to another state if {@link StateType#transitions} allows it and the set has its clip,
+     * otherwise keep the current one
+     * @param newState A {@link StateType} ordinal
+     * @return true if the cursor is in newState afterwards
+     */
+    public boolean setState(int newState, boolean resetStateTime) {
+        int allowed = currentState >= 0 ? StateType.transitions(currentState) : -1;
+        if ((allowed & animations.getClipMask() & (1 << newState)) == 0) {
+            return currentState == newState;
         }
 
-        if (!currentState.equals(newState)) {
+        if (currentState != newState) {
             currentState = newState;
             if (resetStateTime) {
                 stateTime = 0;
             }
         }
+        return true;
     }
 
-    public TextureRegion getCurrentFrame() {
-        Animation<TextureRegion> currentAnimation = animations.get(currentState);
-//        System.out.println(currentState);
-        if (currentAnimation == null) {
-            if (!animations.isEmpty()) {
-                currentAnimation = animations.values().iterator().next();
-            } else {
-                return null;
-            }
+    /**
+     * Start over in a state whatever the current one is, e.g. when a pooled entity is spawned again
+     */
+    public void resetState(StateType state) {
+        if (animations.hasClip(state.ordinal())) {
+            currentState = state.ordinal();
         }
+        stateTime = 0;
+    }
 
-        // Kiểm tra xem animation hiện tại có phải là loại lặp hay không
-        boolean looping = currentAnimation.getPlayMode() == Animation.PlayMode.LOOP ||
-            currentAnimation.getPlayMode() == Animation.PlayMode.LOOP_PINGPONG;
-
-        // Sử dụng tham số looping dựa trên chế độ chơi của animation
-        TextureRegion frame = currentAnimation.getKeyFrame(stateTime, looping);
+    public TextureRegion getCurrentFrame() {
+        if (currentState < 0) return null;
+        return getFrame(currentState);
+    }
 
-        // Xử lý lật hướng nhân vật
-        if (frame.isFlipX() != !facingRight) {
-            frame.flip(true, false);
-        }
+    /**
+     * Frame of another state at the current state time, without switching state.
+     * Used to draw overlay effects from render code.
+     */
+    public TextureRegion getFrame(StateType state) {
+        return animations.hasClip(state.ordinal()) ? getFrame(state.ordinal()) : null;
+    }
 
-        return frame;
+    private TextureRegion getFrame(int state) {
+        // Frame dùng chung giữa các entity nên không được flip, nhìn sang trái thì lấy clip đã lật sẵn
+        Animation<TextureRegion> animation = facingRight ? animations.getClip(state) : animations.getMirroredClip(state);
+        return animation.getKeyFrame(clipTime(state, animation), animations.isLooping(state));
     }
 
+    /**
+     * State time in the clip's own frame duration
+     */
+    private float clipTime(int state, Animation<TextureRegion> animation) {
+        if (state == ATTACK && attackFrameDuration > 0) {
+            return stateTime * animation.getFrameDuration() / attackFrameDuration;
+        }
+        return stateTime;
+    }
 
     public void setFacingRight(boolean facingRight) {
         this.facingRight = facingRight;
     }
 
     public boolean isAnimationFinished() {
-        Animation<TextureRegion> currentAnimation = animations.get(currentState);
-        return currentAnimation != null && currentAnimation.isAnimationFinished(stateTime);
+        if (currentState < 0) return false;
+        Animation<TextureRegion> currentAnimation = animations.getClip(currentState);
+        return currentAnimation.isAnimationFinished(clipTime(currentState, currentAnimation));
     }
 
-    public String getCurrentState() {
-        return currentState;
+    public StateType getCurrentState() {
+        return currentState >= 0 ? StateType.of(currentState) : null;
+    }
+
+    public boolean isInState(StateType state) {
+        return currentState == state.ordinal();
     }
 
     public void resetStateTime() {
         stateTime = 0;
     }
 
-    public boolean hasState(String state) {
-        return animations.containsKey(state);
+    public float getStateTime() {
+        return stateTime;
     }
 
+    public void setStateTime(float stateTime) {
+        this.stateTime = stateTime;
+    }
+
+    public boolean hasState(StateType state) {
+        return animations.hasClip(state.ordinal());
+    }
 
     public float getAnimationProgress() {
-        Animation<TextureRegion> currentAnimation = animations.get(currentState);
-        if (currentAnimation == null) return 0f;
+        if (currentState < 0) return 0f;
+        Animation<TextureRegion> currentAnimation = animations.getClip(currentState);
 
         float duration = currentAnimation.getAnimationDuration();
         if (duration == 0) return 1f;
 
-        return Math.min(stateTime / duration, 1f);
+        return Math.min(clipTime(currentState, currentAnimation) / duration, 1f);
     }
 
-    public AnimationManager copy() {
-        AnimationManager newManager = new AnimationManager();
-
-        for (HashMap.Entry<String, Animation<TextureRegion>> entry : this.animations.entrySet()) {
-            Animation<TextureRegion> original = entry.getValue();
-
-            float frameDuration = original.getFrameDuration();
-            int frameCount = (int) (original.getAnimationDuration() / frameDuration);
-
-            Array<TextureRegion> framesArray = new Array<>();
-
-            for (int i = 0; i < frameCount; i++) {
-                TextureRegion frame = original.getKeyFrame(i * frameDuration);
-                framesArray.add(new TextureRegion(frame));
-            }
-
-            Animation<TextureRegion> copied = new Animation<>(frameDuration, framesArray);
-            copied.setPlayMode(original.getPlayMode());
-
-            newManager.animations.put(entry.getKey(), copied);
-        }
-
-        newManager.setState(this.currentState, true);
-        return newManager;
+    public AnimationSet getAnimations() {
+        return animations;
     }
-
-
 }
@@ -0,0 +1,114 @@
+package com.myteam.rpgsurvivor.animation;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.myteam.rpgsurvivor.model.enum_type.StateType;
+
+/**
+ * The animation clips of one kind of entity, indexed by {@link StateType} ordinal. Built once per type through
+ * {@link AnimationLoader#getSet} and shared by every entity of that type, which only keeps an
+ * {@link AnimationManager} as its playback cursor. Nothing in a set changes after {@link Builder#build()}.
+ */
+public final class AnimationSet {
+    private static final int STATE_COUNT = StateType.values().length;
+
+    // Phần tử null: loại entity này không có animation cho trạng thái đó
+    private final Animation<TextureRegion>[] clips;
+    // Cùng clip với frame lật ngang, chọn theo hướng nhìn thay vì flip frame khi vẽ
+    private final Animation<TextureRegion>[] mirroredClips;
+    private final boolean[] looping;
+    // Bit (1 << ordinal) của mỗi trạng thái có clip
+    private final int clipMask;
+    private final int defaultState;
+
+    private AnimationSet(Builder builder) {
+        this.clips = builder.clips.clone();
+        this.mirroredClips = builder.mirroredClips.clone();
+        this.looping = builder.looping.clone();
+        this.clipMask = builder.clipMask;
+        this.defaultState = builder.defaultState;
+    }
+
+    /**
+     * @param state A {@link StateType} ordinal
+     * @return The clip of the state, null if this set has none
+     */
+    public Animation<TextureRegion> getClip(int state) {
+        return clips[state];
+    }
+
+    /**
+     * @return The clip of the state with every frame mirrored horizontally, null if this set has none
+     */
+    public Animation<TextureRegion> getMirroredClip(int state) {
+        return mirroredClips[state];
+    }
+
+    public boolean hasClip(int state) {
+        return clips[state] != null;
+    }
+
+    /**
+     * @return Mask with bit (1 << ordinal) set for every state that has a clip
+     */
+    public int getClipMask() {
+        return clipMask;
+    }
+
+    public boolean isLooping(int state) {
+        return looping[state];
+    }
+
+    /**
+     * @return The state of the first clip added, played until another one is set. -1 for an empty set
+     */
+    public int getDefaultState() {
+        return defaultState;
+    }
+
+    public static final class Builder {
+        @SuppressWarnings("unchecked")
+        private final Animation<TextureRegion>[] clips = new Animation[STATE_COUNT];
+        @SuppressWarnings("unchecked")
+        private final Animation<TextureRegion>[] mirroredClips = new Animation[STATE_COUNT];
+        private final boolean[] looping = new boolean[STATE_COUNT];
+        private int clipMask;
+        private int defaultState = -1;
+
+        /**
+         * Add the clip of a state from a sprite sheet of cols x rows frames
+         */
+        public Builder addAnimation(StateType state, String pathAnimation, int cols, int rows, float frameDuration, boolean loop) {
+            AnimationLoader loader = AnimationLoader.getInstance();
+            return addAnimation(state, loader.loadFrames(pathAnimation, cols, rows),
+                loader.loadMirroredFrames(pathAnimation, cols, rows), frameDuration, loop);
+        }
+
+        public Builder addAnimation(StateType state, TextureRegion[] frames, float frameDuration, boolean loop) {
+            return addAnimation(state, frames, AnimationLoader.mirror(frames), frameDuration, loop);
+        }
+
+        private Builder addAnimation(StateType state, TextureRegion[] frames, TextureRegion[] mirroredFrames,
+                                     float frameDuration, boolean loop) {
+            // Mỗi set có Animation riêng, frame thì dùng chung qua cache của AnimationLoader
+            clips[state.ordinal()] = createClip(frames, frameDuration, loop);
+            mirroredClips[state.ordinal()] = createClip(mirroredFrames, frameDuration, loop);
+            looping[state.ordinal()] = loop;
+            clipMask |= 1 << state.ordinal();
+            if (defaultState < 0) {
+                defaultState = state.ordinal();
+            }
+            return this;
+        }
+
+        private static Animation<TextureRegion> createClip(TextureRegion[] frames, float frameDuration, boolean loop) {
+            Animation<TextureRegion> clip = new Animation<>(frameDuration, frames);
+            clip.setPlayMode(loop ? Animation.PlayMode.LOOP : Animation.PlayMode.NORMAL);
+            return clip;
+        }
+
+        public AnimationSet build() {
+            return new AnimationSet(this);
+        }
+    }
+}
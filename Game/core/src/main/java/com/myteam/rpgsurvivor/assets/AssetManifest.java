@@ -0,0 +1,188 @@
+package com.myteam.rpgsurvivor.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Named list of assets a screen or a wave needs before it starts.
+ * Manifests are queued on the {@link AssetRegistry} as a whole and released as a whole.
+ */
+public class AssetManifest {
+    public static final String FONT_FILE = "Menu/Font/antiquity-print.ttf";
+    // Tên ảo cho font sinh bằng FreeType, mỗi cỡ chữ là một asset riêng
+    public static final String FONT_TITLE = "antiquity-print-36.ttf";
+    public static final String FONT_SMALL = "antiquity-print-18.ttf";
+
+    public static final String MAP = "Map Asset/Map Final.tmx";
+
+    public static final String MENU_MUSIC = "Music/10- Power to the hero.mp3";
+    public static final String GAME_MUSIC = "Music/gaming-sound-143716.mp3";
+    public static final String BUTTON_SOUND = "Music/robot_01-47250.mp3";
+    public static final String ATTACK_SOUND = "Music/melee-attack-with-voice-1-104995.mp3";
+
+    // Main menu, chọn hero và mô tả hero; giữ suốt vòng đời game cùng với âm thanh
+    public static final AssetManifest MAIN_MENU = new AssetManifest("MAIN_MENU")
+        .texture("Menu/IntroScreen/BG.png")
+        .texture("Menu/IntroScreen/LogoGame.png")
+        .texture("Menu/IntroScreen/NewGameUnActive.png")
+        .texture("Menu/IntroScreen/NewGameActive.png")
+        .texture("Menu/IntroScreen/ContinueUnActive.png")
+        .texture("Menu/IntroScreen/ContinueActive.png")
+        .texture("Menu/IntroScreen/SettingUnActive.png")
+        .texture("Menu/IntroScreen/SettingActive.png")
+        .texture("Menu/IntroScreen/ExitUnActive.png")
+        .texture("Menu/IntroScreen/ExitActive.png")
+        .texture("Menu/ChossenHero/BG 4 nhân vật.png")
+        .texture("Menu/ChossenHero/Back_ButtonActive.png")
+        .texture("Menu/ChossenHero/Back_ButtonUnActive.png")
+        .texture("Menu/IngameIcon/Khung ava.png")
+        .texture("Menu/IngameIcon/knightAva.png")
+        .texture("Menu/IngameIcon/SamuraiAva.png")
+        .texture("Menu/IngameIcon/archerAva.png")
+        .texture("Menu/IngameIcon/wizardAva.png")
+        .texture("Menu/Description hero/Description_hero.png")
+        .texture("Menu/Description hero/PlayBtnActive (1).png")
+        .texture("Menu/Description hero/PlayBtnUnActive (1).png")
+        .font(FONT_TITLE, 36, Color.BLACK)
+        .music(MENU_MUSIC)
+        .music(GAME_MUSIC)
+        .sound(BUTTON_SOUND)
+        .sound(ATTACK_SOUND);
+
+    // MapScreen cùng HUD, pause, upgrade và thông báo stage
+    public static final AssetManifest GAME = createGameManifest();
+
+    // Sheet của boss, nạp dần trong lúc chờ sang wave boss
+    private static final String[] BOSS_SHEETS = {
+        "Enemy/Slime Boss/boss_demon_slime_FREE_v1.0/single sprites/Idle.png",
+        "Enemy/Slime Boss/boss_demon_slime_FREE_v1.0/single sprites/Walk.png",
+        "Enemy/Slime Boss/boss_demon_slime_FREE_v1.0/single sprites/Attack.png",
+        "Enemy/Slime Boss/boss_demon_slime_FREE_v1.0/single sprites/TakeHit.png",
+        "Enemy/Slime Boss/boss_demon_slime_FREE_v1.0/single sprites/Death.png",
+        "Enemy/King Skeleton/Bringer-Of-Death/Sprite/Idle.png",
+        "Enemy/King Skeleton/Bringer-Of-Death/Sprite/Walk.png",
+        "Enemy/King Skeleton/Bringer-Of-Death/Sprite/Attack.png",
+        "Enemy/King Skeleton/Bringer-Of-Death/Sprite/Hurt.png",
+        "Enemy/King Skeleton/Bringer-Of-Death/Sprite/Death.png",
+    };
+
+    private final String name;
+    private final List<AssetDescriptor<?>> assets = new ArrayList<>();
+
+    public AssetManifest(String name) {
+        this.name = name;
+    }
+
+    private static AssetManifest createGameManifest() {
+        AssetManifest manifest = new AssetManifest("GAME")
+            .map(MAP)
+            .texture("Menu/IngameIcon/pauseGameUnactive.png")
+            .texture("Menu/IngameIcon/pauseGameActive.png")
+            .texture("Menu/IngameIcon/knightAva.png")
+            .texture("Menu/IngameIcon/SamuraiAva.png")
+            .texture("Menu/IngameIcon/archerAva.png")
+            .texture("Menu/IngameIcon/wizardAva.png")
+            .texture("Menu/IngameIcon/Khung ava.png")
+            .texture("Menu/IngameIcon/Khung Blood(1)(1)-1.png.png")
+            .texture("Menu/IngameIcon/Blood.png")
+            .texture("Menu/NoticeStage/Frame.png")
+            .texture("Menu/NoticeStage/YouDied.png")
+            .texture("Menu/NoticeStage/YesUnActive.png")
+            .texture("Menu/NoticeStage/YesActive.png")
+            .texture("Menu/NoticeStage/NoUnActive.png")
+            .texture("Menu/NoticeStage/NoActive.png")
+            .texture("Menu/PauseMenu/BackGround.png")
+            .texture("Menu/PauseMenu/controlUnActive.png")
+            .texture("Menu/PauseMenu/controlActive.png")
+            .texture("Menu/PauseMenu/audioUnActive.png")
+            .texture("Menu/PauseMenu/audioActive.png")
+            .texture("Menu/PauseMenu/exitUnActive.png")
+            .texture("Menu/PauseMenu/exitActive.png")
+            .texture("Menu/PauseMenu/resumeUnActive.png")
+            .texture("Menu/PauseMenu/resumeActive.png")
+            .texture("Menu/PauseMenu/Audio.png")
+            .texture("Menu/PauseMenu/controlScreen.png")
+            .texture("Menu/PauseMenu/mute.png")
+            .texture("Menu/PauseMenu/unmute.png")
+            .texture("Menu/ChossenHero/Back_ButtonUnActive.png")
+            .texture("Menu/ChossenHero/Back_ButtonActive.png")
+            .texture("Menu/Upgrade Screen/Upgrade_Screen.png")
+            .texture("Menu/Upgrade Screen/increaseUnActive.png")
+            .texture("Menu/Upgrade Screen/increaseActive.png")
+            .texture("Menu/Upgrade Screen/decreaseUnActive.png")
+            .texture("Menu/Upgrade Screen/decreaseActive.png")
+            .texture("Menu/Description hero/PlayBtnUnActive (1).png")
+            .texture("Menu/Description hero/PlayBtnActive (1).png")
+            .font(FONT_TITLE, 36, Color.BLACK)
+            .font(FONT_SMALL, 18, Color.BLACK);
+        if (AnimationLoader.isAtlasEnabled()) {
+            manifest.add(new AssetDescriptor<>(AnimationLoader.ATLAS_PATH, TextureAtlas.class));
+        }
+        return manifest;
+    }
+
+    /**
+     * Boss sheets that did not fit in the sprite atlas and still load as separate textures
+     */
+    public static AssetManifest bossWave() {
+        AssetManifest manifest = new AssetManifest("BOSS_WAVE");
+        for (String sheet : BOSS_SHEETS) {
+            if (!AnimationLoader.getInstance().isPacked(sheet)) {
+                manifest.texture(sheet);
+            }
+        }
+        return manifest;
+    }
+
+    public AssetManifest texture(String path) {
+        return add(new AssetDescriptor<>(path, Texture.class));
+    }
+
+    public AssetManifest music(String path) {
+        return add(new AssetDescriptor<>(path, Music.class));
+    }
+
+    public AssetManifest sound(String path) {
+        return add(new AssetDescriptor<>(path, Sound.class));
+    }
+
+    public AssetManifest map(String path) {
+        return add(new AssetDescriptor<>(path, TiledMap.class));
+    }
+
+    public AssetManifest font(String name, int size, Color color) {
+        FreetypeFontLoader.FreeTypeFontLoaderParameter parameter = new FreetypeFontLoader.FreeTypeFontLoaderParameter();
+        parameter.fontFileName = FONT_FILE;
+        parameter.fontParameters.size = size;
+        parameter.fontParameters.color = color;
+        return add(new AssetDescriptor<>(name, BitmapFont.class, parameter));
+    }
+
+    public AssetManifest add(AssetDescriptor<?> descriptor) {
+        assets.add(descriptor);
+        return this;
+    }
+
+    public List<AssetDescriptor<?>> getAssets() {
+        return assets;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEmpty() {
+        return assets.isEmpty();
+    }
+}
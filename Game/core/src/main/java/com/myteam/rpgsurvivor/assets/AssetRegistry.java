@@ -0,0 +1,155 @@
+package com.myteam.rpgsurvivor.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Central owner of every texture, font, sound, music and map used by the game.
+ * Wraps an {@link AssetManager}: each {@link #load(AssetManifest)} or {@link #acquire(String, Class)}
+ * adds one reference per asset, each {@link #release(AssetManifest)} removes one, and an asset is
+ * disposed when its last reference is gone. Screens and entities only borrow assets through the
+ * getters and must not dispose them.
+ */
+public class AssetRegistry implements Disposable {
+    private static AssetRegistry instance;
+
+    private final AssetManager manager;
+
+    public static AssetRegistry getInstance() {
+        if (instance == null) {
+            instance = new AssetRegistry();
+        }
+        return instance;
+    }
+
+    private AssetRegistry() {
+        InternalFileHandleResolver resolver = new InternalFileHandleResolver();
+        manager = new AssetManager(resolver);
+        manager.setLoader(TiledMap.class, new TmxMapLoader(resolver));
+        manager.setLoader(FreeTypeFontGenerator.class, new FreeTypeFontGeneratorLoader(resolver));
+        manager.setLoader(BitmapFont.class, ".ttf", new FreetypeFontLoader(resolver));
+    }
+
+    /**
+     * Queue every asset of the manifest, one reference each. Loading happens in {@link #update(int)}.
+     */
+    public void load(AssetManifest manifest) {
+        for (AssetDescriptor<?> descriptor : manifest.getAssets()) {
+            if (!exists(descriptor)) {
+                Gdx.app.error("AssetRegistry", manifest.getName() + ": missing " + descriptor.fileName);
+                continue;
+            }
+            manager.load(descriptor);
+        }
+    }
+
+    /**
+     * Drop the references taken by {@link #load(AssetManifest)}
+     */
+    public void release(AssetManifest manifest) {
+        for (AssetDescriptor<?> descriptor : manifest.getAssets()) {
+            release(descriptor.fileName);
+        }
+    }
+
+    public void release(String path) {
+        if (manager.contains(path)) {
+            manager.unload(path);
+        }
+    }
+
+    /**
+     * Load a single asset right away and take a reference on it
+     */
+    public <T> T acquire(String path, Class<T> type) {
+        manager.load(path, type);
+        return manager.finishLoadingAsset(path);
+    }
+
+    /**
+     * Continue loading queued assets for at most the given time
+     * @return true once the queue is empty
+     */
+    public boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    /**
+     * Block until the queue is empty. Used when a screen is created without going through the loading screen.
+     */
+    public void finishLoading() {
+        manager.finishLoading();
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    public boolean isLoaded(String path) {
+        return manager.isLoaded(path);
+    }
+
+    public Texture getTexture(String path) {
+        return get(path, Texture.class);
+    }
+
+    public TextureAtlas getAtlas(String path) {
+        return get(path, TextureAtlas.class);
+    }
+
+    public BitmapFont getFont(String name) {
+        return manager.get(name, BitmapFont.class);
+    }
+
+    public Music getMusic(String path) {
+        return get(path, Music.class);
+    }
+
+    public Sound getSound(String path) {
+        return get(path, Sound.class);
+    }
+
+    public TiledMap getMap(String path) {
+        return get(path, TiledMap.class);
+    }
+
+    private <T> T get(String path, Class<T> type) {
+        if (manager.isLoaded(path, type)) {
+            return manager.get(path, type);
+        }
+        if (!Gdx.files.internal(path).exists()) {
+            Gdx.app.error("AssetRegistry", "Missing asset " + path);
+            return null;
+        }
+        // Asset chưa có trong manifest nào: nạp đồng bộ, giữ đến khi registry bị dispose
+        Gdx.app.log("AssetRegistry", "Loading " + path + " synchronously, it is not in any manifest");
+        return acquire(path, type);
+    }
+
+    private static boolean exists(AssetDescriptor<?> descriptor) {
+        String path = descriptor.fileName;
+        if (descriptor.params instanceof FreetypeFontLoader.FreeTypeFontLoaderParameter) {
+            path = ((FreetypeFontLoader.FreeTypeFontLoaderParameter) descriptor.params).fontFileName;
+        }
+        return Gdx.files.internal(path).exists();
+    }
+
+    @Override
+    public void dispose() {
+        manager.dispose();
+        instance = null;
+    }
+}
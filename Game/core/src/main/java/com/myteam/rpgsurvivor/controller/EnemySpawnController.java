@@ -1,28 +1,66 @@
 package com.myteam.rpgsurvivor.controller;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.myteam.rpgsurvivor.animation.AnimationForEnemy;
+import com.myteam.rpgsurvivor.controller.combat.CombatEventQueue;
+import com.myteam.rpgsurvivor.controller.job.EnemyJobSystem;
+import com.myteam.rpgsurvivor.controller.movement.EnemyMovement;
+import com.myteam.rpgsurvivor.controller.spatial.CollisionGrid;
+import com.myteam.rpgsurvivor.controller.spatial.EnemySpatialGrid;
+import com.myteam.rpgsurvivor.controller.spatial.FlowField;
+import com.myteam.rpgsurvivor.controller.spatial.SeparationGrid;
+import com.myteam.rpgsurvivor.controller.system.GameRandom;
 import com.myteam.rpgsurvivor.controller.spawn.SpawnPointManager;
 import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.model.EnemyStore;
 import com.myteam.rpgsurvivor.model.Player;
 import com.myteam.rpgsurvivor.model.enum_type.BossType;
 import com.myteam.rpgsurvivor.model.enum_type.MonsterType;
 import com.myteam.rpgsurvivor.model.impl.Boss.SkeletonKing;
 import com.myteam.rpgsurvivor.model.impl.Boss.SlimeBoss;
 import com.myteam.rpgsurvivor.model.impl.Creep.*;
+import com.myteam.rpgsurvivor.render.ViewCulling;
 
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 
 public class EnemySpawnController {
+    private static final MonsterType[] MONSTER_TYPES = MonsterType.values();
+    private static final BossType[] BOSS_TYPES = BossType.values();
+    // Số enemy tạo sẵn cho mỗi loại creep khi khởi tạo
+    private static final int PREWARM_PER_TYPE = 4;
+    // Sprite creep lớn nhất (Orc, frame 100x100) không vượt khỏi hitbox quá khoảng này
+    private static final float CREEP_SPRITE_MARGIN = 100f;
+
     private SpawnPointManager spawnPointManager;
+    // Trạng thái mô phỏng của enemy nằm trong store, activeEnemy/activeBoss là danh sách handle theo thứ tự slot
+    private EnemyStore creepStore;
+    private EnemyStore bossStore;
     private ArrayList<Enemy> activeEnemy;
     private ArrayList<Enemy> activeBoss;
+    private EnemyMovement enemyMovement;
+    private EnemyJobSystem enemyJobs;
     private Player player;
     private AnimationForEnemy enemyAnimation;
+    private EnemySpatialGrid enemyGrid;
+    // Đường đi tới hero quanh tường, tính lại khi hero sang ô khác
+    private FlowField flowField;
+    private SeparationGrid separationGrid;
+    private final CombatEventQueue combatEvents = CombatEventQueue.getInstance();
+    private final ViewCulling culling = ViewCulling.getInstance();
+    // Creep trong tầm nhìn của frame đang ghi, chỉ dùng khi render
+    private final ArrayList<Enemy> visibleCreeps = new ArrayList<>();
+    private final Rectangle cullArea = new Rectangle();
+
+    // Pool theo từng loại, enemy chết xong animation sẽ được trả về đây thay vì bỏ cho GC
+    private final EnumMap<MonsterType, Pool<Enemy>> creepPools;
+    private final EnumMap<BossType, Pool<Enemy>> bossPools;
+    private final Vector2 spawnPosition = new Vector2();
 
     private int totalDeath = 0;
     private float spawnInterval;
@@ -41,13 +79,45 @@ public class EnemySpawnController {
     private int difficulty = 0;
 
 
-    public EnemySpawnController(Player player, TiledMap map) {
+    public EnemySpawnController(Player player, TiledMap map, CollisionGrid collisionGrid) {
         this.player = player;
         this.spawnPointManager = new SpawnPointManager();
         this.spawnPointManager.loadFromMap(map);
-        this.activeEnemy = new ArrayList<>();
-        this.activeBoss = new ArrayList<>();
+        this.creepStore = new EnemyStore();
+        this.bossStore = new EnemyStore(4);
+        this.activeEnemy = creepStore.getHandles();
+        this.activeBoss = bossStore.getHandles();
+        this.enemyMovement = new EnemyMovement();
+        this.enemyJobs = new EnemyJobSystem(enemyMovement);
         this.enemyAnimation = new AnimationForEnemy();
+        this.enemyGrid = new EnemySpatialGrid();
+        this.flowField = new FlowField(collisionGrid);
+        this.enemyMovement.setFlowField(flowField);
+        this.enemyMovement.setCollisionGrid(collisionGrid);
+        this.separationGrid = new SeparationGrid();
+        this.enemyMovement.setSeparationGrid(separationGrid);
+
+        this.creepPools = new EnumMap<>(MonsterType.class);
+        for (MonsterType type : MONSTER_TYPES) {
+            Pool<Enemy> pool = new Pool<Enemy>() {
+                @Override
+                protected Enemy newObject() {
+                    return createEnemyByType(type, 0, 0);
+                }
+            };
+            pool.fill(PREWARM_PER_TYPE);
+            creepPools.put(type, pool);
+        }
+
+        this.bossPools = new EnumMap<>(BossType.class);
+        for (BossType type : BOSS_TYPES) {
+            bossPools.put(type, new Pool<Enemy>() {
+                @Override
+                protected Enemy newObject() {
+                    return createBossByType(type, 0, 0);
+                }
+            });
+        }
 
         this.spawnInterval = 2.0f;
         this.spawnTimer = 0;
@@ -103,34 +173,54 @@ public class EnemySpawnController {
     }
 
     public void spawnEnemy() {
-        Vector2 spawnPos = spawnPointManager.getRandomSpawnPosition();
+        Vector2 spawnPos = spawnPointManager.getRandomSpawnPosition(spawnPosition);
         Enemy enemy = createRandomEnemy(spawnPos.x, spawnPos.y);
+        enemy.attach(creepStore);
         enemy.applyDifficulty(getCurrentWave());
-        activeEnemy.add(enemy);
     }
 
     public void spawnBoss() {
-        Vector2 spawnPos = spawnPointManager.getSpawnBossPosition();
+        Vector2 spawnPos = spawnPointManager.getSpawnBossPosition(spawnPosition);
         Enemy enemy = createBoss(spawnPos.x, spawnPos.y);
-        activeBoss.add(enemy);
+        enemy.attach(bossStore);
     }
 
     public Enemy createRandomEnemy(float x, float y) {
-        MonsterType[] types = MonsterType.values();
-        MonsterType randomType = types[MathUtils.random(types.length - 1)];
-        Enemy randomEnemy = createEnemyByType(randomType, x, y);
-        //Enemy randomEnemy = createEnemyByType(MonsterType.VAMPIRE,x,y);
+        MonsterType randomType = MONSTER_TYPES[GameRandom.getInstance().random(MONSTER_TYPES.length - 1)];
+        Enemy randomEnemy = creepPools.get(randomType).obtain();
+        //Enemy randomEnemy = creepPools.get(MonsterType.VAMPIRE).obtain();
+        randomEnemy.reset(x, y);
+        // Enemy lấy lại từ pool có thể còn giữ hero cũ
+        randomEnemy.setTargetPlayer(player);
         return randomEnemy;
     }
 
     public Enemy createBoss(float x, float y) {
-        BossType[] types = BossType.values();
-        BossType randomType = types[MathUtils.random(types.length - 1)];
+        BossType randomType = BOSS_TYPES[GameRandom.getInstance().random(BOSS_TYPES.length - 1)];
 
-        Enemy boss = createBossByType(randomType, x, y);
+        Enemy boss = bossPools.get(randomType).obtain();
+        boss.reset(x, y);
+        boss.setTargetPlayer(player);
         return boss;
     }
 
+    /**
+     * Return a detached enemy to the pool of its type
+     */
+    private void freeEnemy(Enemy enemy) {
+        if (enemy.getMonsterType() != null) {
+            creepPools.get(enemy.getMonsterType()).free(enemy);
+        } else {
+            bossPools.get(enemy.getBossType()).free(enemy);
+        }
+    }
+
+    private void freeAll(EnemyStore store) {
+        while (!store.isEmpty()) {
+            freeEnemy(store.remove(store.size() - 1));
+        }
+    }
+
     private Enemy createBossByType(BossType type, float x, float y) {
         switch (type) {
             case SLIME_BOSS:
@@ -160,50 +250,94 @@ public class EnemySpawnController {
     }
 
     private void updateEnemy(float deltaTime) {
-        for (int i = activeEnemy.size() - 1; i >= 0; i--) {
-            Enemy enemy = activeEnemy.get(i);
-
-            enemy.update(deltaTime);
-
-            if (enemy.isDead()) {
-                if (enemy.getAnimationManager().isAnimationFinished()) {
-                    activeEnemy.remove(i);
-                    totalDeath++;
-                    if (totalDeath >= enemiesPerWave) {
-                        prepareToNextStage = true;
-                    }
+        updateStore(creepStore, deltaTime);
+
+        int[] flags = creepStore.flags;
+        for (int i = creepStore.size() - 1; i >= 0; i--) {
+            if ((flags[i] & EnemyStore.FLAG_DEATH_FINISHED) != 0) {
+                freeEnemy(creepStore.remove(i));
+                totalDeath++;
+                if (totalDeath >= enemiesPerWave) {
+                    prepareToNextStage = true;
                 }
             }
         }
+        rebuildEnemyGrid();
     }
 
     private void updateBoss(float deltaTime) {
-        for (int i = activeBoss.size() - 1; i >= 0; i--) {
-            Enemy enemy = activeBoss.get(i);
-
-            enemy.update(deltaTime);
+        updateStore(bossStore, deltaTime);
 
-            if (enemy.isDead()) {
-                if (enemy.getAnimationManager().isAnimationFinished()) {
-                    activeBoss.remove(i);
-                }
+        int[] flags = bossStore.flags;
+        for (int i = bossStore.size() - 1; i >= 0; i--) {
+            if ((flags[i] & EnemyStore.FLAG_DEATH_FINISHED) != 0) {
+                freeEnemy(bossStore.remove(i));
             }
         }
+        rebuildEnemyGrid();
+    }
+
+    /**
+     * Step the packed arrays and handles in parallel chunks, then post the summed damage
+     * to the player as one combat event. Removals are done by the caller afterwards.
+     */
+    private void updateStore(EnemyStore store, float deltaTime) {
+        Rectangle hitbox = player.getHitbox();
+        flowField.setTarget(hitbox.x + hitbox.width / 2f, hitbox.y + hitbox.height / 2f);
+        separationGrid.rebuild(store);
+
+        int damageToPlayer = enemyJobs.update(store, player.getHitbox(), deltaTime);
+        if (damageToPlayer > 0 && !player.isInvulnerable()) {
+            combatEvents.postDamage(player, damageToPlayer);
+        }
+    }
 
+    private void rebuildEnemyGrid() {
+        enemyGrid.rebuild(creepStore, bossStore);
     }
 
-    public void renderCreep(SpriteBatch batch, float deltaTime) {
-        for (Enemy enemy : activeEnemy) {
-            enemy.render(batch, deltaTime);
+    /**
+     * Draw the creeps whose sprite can be in view. Candidates come from the enemy grid,
+     * queried with the view grown by {@link #CREEP_SPRITE_MARGIN} since sprites overhang their hitbox.
+     */
+    public void renderCreep(Batch batch, float alpha) {
+        if (!culling.isBounded()) {
+            for (int i = 0, n = activeEnemy.size(); i < n; i++) {
+                activeEnemy.get(i).render(batch, alpha);
+            }
+            return;
         }
+
+        enemyGrid.queryRectOrdered(culling.getView(CREEP_SPRITE_MARGIN, cullArea), visibleCreeps);
+        for (int i = 0, n = visibleCreeps.size(); i < n; i++) {
+            visibleCreeps.get(i).render(batch, alpha);
+        }
+        culling.addCulled(ViewCulling.Kind.ENTITY, activeEnemy.size() - visibleCreeps.size());
+        visibleCreeps.clear();
     }
 
-    public void renderBoss(SpriteBatch batch, float deltaTime) {
-        for (Enemy enemy : activeBoss) {
-            enemy.render(batch, deltaTime);
+    public void renderBoss(Batch batch, float alpha) {
+        for (int i = 0, n = activeBoss.size(); i < n; i++) {
+            activeBoss.get(i).render(batch, alpha);
         }
     }
 
+    /**
+     * Replace the job system, e.g. to measure scaling with a given number of worker threads
+     */
+    public void setJobSystem(EnemyJobSystem enemyJobs) {
+        this.enemyJobs.dispose();
+        this.enemyJobs = enemyJobs;
+    }
+
+    public EnemyJobSystem getJobSystem() {
+        return enemyJobs;
+    }
+
+    public void dispose() {
+        enemyJobs.dispose();
+    }
+
     public boolean isPrepareToNextStage() {
         return prepareToNextStage;
     }
@@ -219,14 +353,19 @@ public class EnemySpawnController {
         totalDeath = 0;
         isBossWave = currentWave % 5 == 0;
         bossSpawned = false;
-        activeEnemy.clear();
-        activeBoss.clear();
+        freeAll(creepStore);
+        freeAll(bossStore);
+        enemyGrid.clear();
     }
 
     public boolean isBossWave() {
         return isBossWave;
     }
 
+    public boolean isNextWaveBoss() {
+        return (currentWave + 1) % 5 == 0;
+    }
+
     public ArrayList<Enemy> getActiveEnemies() {
         return activeEnemy;
     }
@@ -235,6 +374,26 @@ public class EnemySpawnController {
         return activeBoss;
     }
 
+    public EnemyStore getCreepStore() {
+        return creepStore;
+    }
+
+    public EnemyStore getBossStore() {
+        return bossStore;
+    }
+
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    public SeparationGrid getSeparationGrid() {
+        return separationGrid;
+    }
+
+    public EnemySpatialGrid getEnemyGrid() {
+        return enemyGrid;
+    }
+
     public void setMaxEnemiesOnMap(int maxEnemiesOnMap) {
         this.maxEnemiesOnMap = maxEnemiesOnMap;
     }
@@ -281,6 +440,56 @@ public class EnemySpawnController {
 
     public void setCurrentWave(int currentWave) {
         this.currentWave = currentWave;
+        this.isBossWave = currentWave % 5 == 0;
+        this.bossSpawned = false;
+    }
+
+    /**
+     * Chase and damage another hero, e.g. one restored from a save
+     */
+    public void setPlayer(Player player) {
+        this.player = player;
+        // Enemy đang trong pool được gắn lại khi lấy ra
+        for (Enemy enemy : activeEnemy) {
+            enemy.setTargetPlayer(player);
+        }
+        for (Enemy enemy : activeBoss) {
+            enemy.setTargetPlayer(player);
+        }
+    }
+
+    /**
+     * Put back an enemy read from a save, at (x, y) with its saved stats
+     * @param boss true for a {@link BossType} ordinal, false for a {@link MonsterType} ordinal
+     * @return the enemy, attached to the end of its store
+     */
+    public Enemy restoreEnemy(boolean boss, int type, float x, float y, int health, int maxHealth, int damage) {
+        Enemy enemy = boss ? bossPools.get(BOSS_TYPES[type]).obtain() : creepPools.get(MONSTER_TYPES[type]).obtain();
+        enemy.reset(x, y);
+        enemy.setTargetPlayer(player);
+        enemy.attach(boss ? bossStore : creepStore);
+        enemy.setMaxHealth(maxHealth);
+        enemy.setDamage(damage);
+        enemy.setCurrentHealth(health);
+        if (boss) {
+            bossSpawned = true;
+        }
+        return enemy;
+    }
+
+    /**
+     * Max health and damage of an enemy of this type spawned in the current wave
+     * @param out Set to {maxHealth, damage}
+     */
+    public void getSpawnStats(boolean boss, int type, int[] out) {
+        if (boss) {
+            // Boss không được nhân theo độ khó khi spawn
+            out[0] = BOSS_TYPES[type].stat.maxHealth;
+            out[1] = BOSS_TYPES[type].stat.damage;
+        } else {
+            out[0] = Enemy.scaleForDifficulty(MONSTER_TYPES[type].stat.maxHealth, currentWave);
+            out[1] = Enemy.scaleForDifficulty(MONSTER_TYPES[type].stat.damage, currentWave);
+        }
     }
 
     public void setDifficulty(int difficulty) {
@@ -290,4 +499,41 @@ public class EnemySpawnController {
     public int getDifficulty() {
         return difficulty;
     }
+
+    public float getSpawnTimer() {
+        return spawnTimer;
+    }
+
+    public boolean isSpawningPaused() {
+        return isPaused;
+    }
+
+    public boolean isBossSpawned() {
+        return bossSpawned;
+    }
+
+    /**
+     * Return every enemy to its pool and put the wave back to a saved point.
+     * Enemies are restored afterwards with {@link #restoreEnemy}.
+     */
+    public void restoreWave(int currentWave, int difficulty, int totalDeath, float spawnTimer,
+                            boolean paused, boolean prepareToNextStage, boolean bossSpawned) {
+        freeAll(creepStore);
+        freeAll(bossStore);
+        enemyGrid.clear();
+        setCurrentWave(currentWave);
+        this.difficulty = difficulty;
+        this.totalDeath = totalDeath;
+        this.spawnTimer = spawnTimer;
+        this.isPaused = paused;
+        this.prepareToNextStage = prepareToNextStage;
+        this.bossSpawned = bossSpawned;
+    }
+
+    /**
+     * Rebuild the lookup grid after enemies were restored, skills query it before the next tick
+     */
+    public void refreshEnemyGrid() {
+        rebuildEnemyGrid();
+    }
 }
@@ -0,0 +1,193 @@
+package com.myteam.rpgsurvivor.controller.combat;
+
+import com.badlogic.gdx.utils.ObjectSet;
+import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.model.Entity;
+
+/**
+ * Damage, knockback and hit sounds produced during a simulation step, resolved together in
+ * {@link #flush()} at the end of the step. Events are primitive records in parallel arrays that are
+ * reused from index 0 after every flush, so posting allocates nothing once they have grown to the busiest step.
+ * The arrays are indexed as a ring only so that events posted while a flush runs are resolved by that same flush.
+ * <p>
+ * Resolution runs in posting order, so the outcome does not depend on who resolves it. A target is
+ * hurt at most once and the hit sound reaches the sink set with {@link #setHitSoundSink(Runnable)} at most
+ * once per flush, however many hits landed. Without a sink, e.g. in a headless run, hit sounds are dropped.
+ * Deaths come out of the damage: a target whose health reaches 0 dies while its damage is applied.
+ * The queue belongs to the simulation thread. Producers moved to worker threads would need queues
+ * of their own, drained into this one in a fixed order after the join.
+ */
+public class CombatEventQueue {
+    public static final int DAMAGE = 0;
+    public static final int KNOCKBACK = 1;
+    public static final int HIT_SOUND = 2;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static CombatEventQueue instance;
+
+    private int[] type;
+    private Entity[] target;
+    private int[] amount;
+    private boolean[] hurt;
+    private float[] forceX;
+    private float[] forceY;
+    private int mask;
+    // Chỉ số tăng dần, lấy phần dư theo mask khi đọc ghi; tail - head là số event đang chờ
+    private int head;
+    private int tail;
+
+    private final ObjectSet<Entity> hurtTargets = new ObjectSet<>();
+    // Null khi chạy không có âm thanh, flush không tự tạo AudioManager từ luồng mô phỏng
+    private Runnable hitSoundSink;
+
+    public static CombatEventQueue getInstance() {
+        if (instance == null) {
+            instance = new CombatEventQueue();
+        }
+        return instance;
+    }
+
+    private CombatEventQueue() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        type = new int[capacity];
+        target = new Entity[capacity];
+        amount = new int[capacity];
+        hurt = new boolean[capacity];
+        forceX = new float[capacity];
+        forceY = new float[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Where the hit sound of a flush goes, called on the simulation thread
+     * @param sink null to drop hit sounds
+     */
+    public void setHitSoundSink(Runnable sink) {
+        this.hitSoundSink = sink;
+    }
+
+    /**
+     * Double the arrays, keeping the pending events in order from index 0
+     */
+    private void grow() {
+        int[] oldType = type;
+        Entity[] oldTarget = target;
+        int[] oldAmount = amount;
+        boolean[] oldHurt = hurt;
+        float[] oldForceX = forceX;
+        float[] oldForceY = forceY;
+        int oldMask = mask;
+        int size = tail - head;
+
+        allocate(oldType.length * 2);
+        for (int i = 0; i < size; i++) {
+            int from = (head + i) & oldMask;
+            type[i] = oldType[from];
+            target[i] = oldTarget[from];
+            amount[i] = oldAmount[from];
+            hurt[i] = oldHurt[from];
+            forceX[i] = oldForceX[from];
+            forceY[i] = oldForceY[from];
+        }
+        head = 0;
+        tail = size;
+    }
+
+    private int claim(int eventType, Entity eventTarget) {
+        if (tail - head == type.length) {
+            grow();
+        }
+        int index = tail++ & mask;
+        type[index] = eventType;
+        target[index] = eventTarget;
+        return index;
+    }
+
+    /**
+     * Damage the target and put it in the hurt state
+     */
+    public void postDamage(Entity eventTarget, int damage) {
+        postDamage(eventTarget, damage, true);
+    }
+
+    /**
+     * @param hurtTarget false to only lower the health, without the hurt reaction
+     */
+    public void postDamage(Entity eventTarget, int damage, boolean hurtTarget) {
+        int index = claim(DAMAGE, eventTarget);
+        amount[index] = damage;
+        hurt[index] = hurtTarget;
+    }
+
+    /**
+     * Push an enemy by (dx, dy) world units
+     */
+    public void postKnockback(Enemy eventTarget, float dx, float dy) {
+        int index = claim(KNOCKBACK, eventTarget);
+        forceX[index] = dx;
+        forceY[index] = dy;
+    }
+
+    public void postHitSound() {
+        claim(HIT_SOUND, null);
+    }
+
+    /**
+     * Resolve every pending event in posting order
+     * @return Number of events resolved
+     */
+    public int flush() {
+        int resolved = tail - head;
+        boolean hitSound = false;
+
+        while (head != tail) {
+            int index = head++ & mask;
+            Entity eventTarget = target[index];
+            target[index] = null;
+
+            switch (type[index]) {
+                case DAMAGE:
+                    eventTarget.takeDamge(amount[index]);
+                    // Nhiều đòn trúng cùng một mục tiêu trong một tick chỉ kích hoạt trạng thái hurt một lần
+                    if (hurt[index] && hurtTargets.add(eventTarget)) {
+                        eventTarget.onHurt();
+                    }
+                    break;
+                case KNOCKBACK:
+                    ((Enemy) eventTarget).applyExternalForce(forceX[index], forceY[index]);
+                    break;
+                case HIT_SOUND:
+                    hitSound = true;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown combat event " + type[index]);
+            }
+        }
+
+        hurtTargets.clear();
+        head = 0;
+        tail = 0;
+        if (hitSound && hitSoundSink != null) {
+            hitSoundSink.run();
+        }
+        return resolved;
+    }
+
+    /**
+     * Drop pending events without resolving them, e.g. when a simulation is thrown away
+     */
+    public void clear() {
+        while (head != tail) {
+            target[head++ & mask] = null;
+        }
+        head = 0;
+        tail = 0;
+    }
+
+    public int size() {
+        return tail - head;
+    }
+}
@@ -1,6 +1,7 @@
 package com.myteam.rpgsurvivor.controller.combat.attack.impl.EnemyAttack;
 
 import com.badlogic.gdx.math.Rectangle;
+import com.myteam.rpgsurvivor.controller.combat.CombatEventQueue;
 import com.myteam.rpgsurvivor.controller.combat.attack.impl.AttackComponent;
 import com.myteam.rpgsurvivor.model.Enemy;
 import com.myteam.rpgsurvivor.model.Player;
@@ -14,6 +15,7 @@ public class MeleeAttackComponent implements AttackComponent {
     private float attackTimer;
     private final Rectangle attackBox;
     private final float offsetX, offsetY;
+    private final CombatEventQueue combatEvents = CombatEventQueue.getInstance();
 
     public MeleeAttackComponent(Enemy attacker, Player targetPlayer, float attackRange, float attackSpeed, float offsetX, float offsetY) {
         this.attacker = attacker;
@@ -37,10 +39,9 @@ public class MeleeAttackComponent implements AttackComponent {
             attackTimer -= deltaTime;
         }
         if (attackBox.overlaps(targetPlayer.getHitbox()) && attackTimer <= 0 && !attacker.isAttack()) {
-            attacker.setState(StateType.STATE_ATTACK.stateType);
+            attacker.setState(StateType.STATE_ATTACK);
             attackTimer = attackCooldown;
-            targetPlayer.takeDamge(attacker.getDamage());
-            targetPlayer.onHurt();
+            combatEvents.postDamage(targetPlayer, attacker.getDamage());
         }
     }
 
@@ -49,9 +50,8 @@ public class MeleeAttackComponent implements AttackComponent {
         if (attackTimer <= 0 && !attacker.isAttack()) {
             attackTimer = attackCooldown;
             attacker.setAttack();
-            attacker.setState(StateType.STATE_ATTACK.stateType);
-            targetPlayer.takeDamge(attacker.getDamage());
-            targetPlayer.onHurt();
+            attacker.setState(StateType.STATE_ATTACK);
+            combatEvents.postDamage(targetPlayer, attacker.getDamage());
         }
     }
     public Rectangle getAttackBox() {
@@ -4,7 +4,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.myteam.rpgsurvivor.controller.EnemySpawnController;
-import com.myteam.rpgsurvivor.controller.system.AudioManager;
+import com.myteam.rpgsurvivor.controller.combat.CombatEventQueue;
 import com.myteam.rpgsurvivor.debug.DebugRenderer;
 import com.myteam.rpgsurvivor.model.Entity;
 import com.myteam.rpgsurvivor.model.Enemy;
@@ -21,7 +21,8 @@ public class MeleeAttackComponent {
     private final float knockbackStrength = 150f;
     private final float attackSpeed;
     private float lastAttackTime;
-    private AudioManager audioManager;
+    private final ArrayList<Enemy> hitCandidates = new ArrayList<>();
+    private final CombatEventQueue combatEvents = CombatEventQueue.getInstance();
 
     public MeleeAttackComponent(Entity owner, EnemySpawnController enemySpawnController,
                                 float attackSpeed, float attackRange, int damage) {
@@ -32,7 +33,6 @@ public class MeleeAttackComponent {
         this.attackSpeed = attackSpeed;
         this.damage = damage;
         this.lastAttackTime = -attackCooldown;
-        audioManager = AudioManager.getInstance();
     }
 
     public void tryAttack() {
@@ -49,20 +49,14 @@ public class MeleeAttackComponent {
 
         Rectangle attackArea = new Rectangle(attackX, attackY, attackRange, ownerBounds.height);
         owner.setAttackbox(attackArea);
-        ArrayList <Enemy> enemyWave;
-        if(enemySpawnController.isBossWave()) enemyWave = enemySpawnController.getActiveBoss();
-        else enemyWave = enemySpawnController.getActiveEnemies();
-        for (Enemy enemy : enemyWave) {
-            if (enemy.getHitBox().overlaps(attackArea)) {
-                System.out.println("Overlap");
-                // Gây damage và knockback
-//                Vector2 knockback = new Vector2(owner.isFacingRight() ? 1 : -1, 0).scl(knockbackStrength);
-                enemy.takeDamge(damage);
-                audioManager.playAtkSound();
-                System.out.println(enemy + " " + enemy.getCurrentHealth());
-//                enemy.applyKnockback(knockback);
-                enemy.onHurt();
-            }
+        enemySpawnController.getEnemyGrid().queryRect(attackArea, hitCandidates);
+        for (int i = 0; i < hitCandidates.size(); i++) {
+            Enemy enemy = hitCandidates.get(i);
+            // Gây damage và knockback
+//            Vector2 knockback = new Vector2(owner.isFacingRight() ? 1 : -1, 0).scl(knockbackStrength);
+            combatEvents.postDamage(enemy, damage);
+            combatEvents.postHitSound();
+//            enemy.applyKnockback(knockback);
         }
 
     }
@@ -0,0 +1,141 @@
+package com.myteam.rpgsurvivor.controller.job;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.myteam.rpgsurvivor.controller.movement.EnemyMovement;
+import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.model.EnemyStore;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Steps an {@link EnemyStore} on a {@link ForkJoinPool}. The slot range is cut into chunks, each
+ * chunk runs {@link EnemyMovement#update} and the handle updates for its own slots only, and the
+ * damage every chunk did to the target is summed after the join. Anything touching shared state
+ * (damage to the player, removals, the spatial grid) stays with the caller, on the game thread.
+ * Small stores and a parallelism of 1 take the serial path with no pool at all.
+ */
+public class EnemyJobSystem {
+    // -Drpgsurvivor.enemyThreads=N: số luồng worker, mặc định bằng số nhân
+    public static final String THREADS_PROPERTY = "rpgsurvivor.enemyThreads";
+    // Dưới ngưỡng này chi phí fork/join lớn hơn phần việc được chia
+    public static final int PARALLEL_THRESHOLD = 1024;
+    public static final int MIN_CHUNK_SIZE = 256;
+
+    private final EnemyMovement movement;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    // Task tạo sẵn, dùng lại mỗi tick bằng reinitialize() để không cấp phát
+    private final ChunkTask[] chunks;
+    private final RootTask root = new RootTask();
+
+    private EnemyStore store;
+    private Rectangle target;
+    private float deltaTime;
+    private int chunkCount;
+
+    public EnemyJobSystem(EnemyMovement movement) {
+        this(movement, defaultParallelism());
+    }
+
+    public EnemyJobSystem(EnemyMovement movement, int parallelism) {
+        this.movement = movement;
+        this.parallelism = Math.max(1, parallelism);
+        this.pool = this.parallelism > 1 ? new ForkJoinPool(this.parallelism) : null;
+
+        // Chia nhiều chunk hơn số luồng một chút để work stealing cân tải
+        this.chunks = new ChunkTask[this.parallelism * 4];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new ChunkTask();
+        }
+    }
+
+    public static int defaultParallelism() {
+        return Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Step every slot of the store and advance its handle
+     * @return total damage the store did to the target this step, to be applied by the caller
+     */
+    public int update(EnemyStore store, Rectangle target, float deltaTime) {
+        int size = store.size();
+        if (pool == null || size < PARALLEL_THRESHOLD) {
+            return updateRange(store, 0, size, target, deltaTime);
+        }
+
+        this.store = store;
+        this.target = target;
+        this.deltaTime = deltaTime;
+
+        chunkCount = Math.min(chunks.length, Math.max(1, size / MIN_CHUNK_SIZE));
+        int chunkSize = (size + chunkCount - 1) / chunkCount;
+        for (int i = 0; i < chunkCount; i++) {
+            ChunkTask chunk = chunks[i];
+            chunk.reinitialize();
+            chunk.from = i * chunkSize;
+            chunk.to = Math.min(size, chunk.from + chunkSize);
+            chunk.damage = 0;
+        }
+        root.reinitialize();
+        pool.invoke(root);
+
+        int damage = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            damage += chunks[i].damage;
+        }
+        this.store = null;
+        this.target = null;
+        return damage;
+    }
+
+    private int updateRange(EnemyStore store, int from, int to, Rectangle target, float deltaTime) {
+        int damage = movement.update(store, from, to, target, deltaTime);
+
+        ArrayList<Enemy> handles = store.getHandles();
+        for (int i = from; i < to; i++) {
+            handles.get(i).update(deltaTime);
+        }
+        return damage;
+    }
+
+    public EnemyMovement getMovement() {
+        return movement;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void dispose() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private class RootTask extends RecursiveAction {
+        @Override
+        protected void compute() {
+            for (int i = 1; i < chunkCount; i++) {
+                chunks[i].fork();
+            }
+            chunks[0].invoke();
+            for (int i = 1; i < chunkCount; i++) {
+                chunks[i].join();
+            }
+        }
+    }
+
+    private class ChunkTask extends RecursiveAction {
+        int from;
+        int to;
+        int damage;
+
+        @Override
+        protected void compute() {
+            damage = updateRange(store, from, to, target, deltaTime);
+        }
+    }
+}
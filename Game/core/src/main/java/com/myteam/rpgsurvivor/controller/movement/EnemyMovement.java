@@ -1,74 +1,328 @@
 package com.myteam.rpgsurvivor.controller.movement;
 
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
-import com.myteam.rpgsurvivor.model.Player;
+import com.myteam.rpgsurvivor.controller.spatial.CollisionGrid;
+import com.myteam.rpgsurvivor.controller.spatial.FlowField;
+import com.myteam.rpgsurvivor.controller.spatial.SeparationGrid;
+import com.myteam.rpgsurvivor.model.EnemyStore;
+import com.myteam.rpgsurvivor.model.enum_type.StateType;
 
+/**
+ * Stateless enemy step over an {@link EnemyStore}.
+ * One instance serves every enemy: knockback, chase, attack timing and facing are
+ * computed straight from the store arrays without touching the Enemy handles.
+ * With a {@link FlowField} the chase follows the map around walls instead of a straight line,
+ * with a {@link CollisionGrid} knockback and chase steps stop at the walls.
+ * With a {@link SeparationGrid} living enemies push each other apart instead of piling on one point.
+ */
 public class EnemyMovement extends Movement {
-    private float enemyX;
-    private float enemyY;
-    private Player player;
-    private Rectangle hitboxPlayer;
-    private float moveSpeed;
+    private static final int STATE_IDLE = StateType.STATE_IDLE.ordinal();
+    private static final int STATE_RUN = StateType.STATE_RUN.ordinal();
+    private static final int STATE_ATTACK = StateType.STATE_ATTACK.ordinal();
+    private static final int STATE_HURT = StateType.STATE_HURT.ordinal();
+    private static final int STATE_DEATH = StateType.STATE_DEATH.ordinal();
+    // Giới hạn số hàng xóm mỗi enemy xét, giữ chi phí tuyến tính cả khi cả đám dồn vào một ô
+    private static final int MAX_NEIGHBOURS = 8;
+
     private float minDistanceToPlayer;
-    private boolean isMoving;
+    private float knockbackDecay;
+    // Chỉ đọc trong update, target được đặt trước khi các chunk chạy
+    private FlowField flowField;
+    private CollisionGrid collisionGrid;
+    // Dựng lại trước mỗi lần update, chỉ đọc trong lúc các chunk chạy
+    private SeparationGrid separationGrid;
+    private float separationSpeed;
 
-    public EnemyMovement(float enemyX, float enemyY, Player player, float moveSpeed) {
-        this.enemyX = enemyX;
-        this.enemyY = enemyY;
-        this.player = player;
-        this.moveSpeed = moveSpeed;
+    public EnemyMovement() {
         this.minDistanceToPlayer = 10f;
-        this.isMoving = false;
-        this.hitboxPlayer = player.getHitbox();
+        this.knockbackDecay = 10f;
+        this.separationSpeed = 30f;
     }
 
-    public Vector2 move(float deltaTime) {
-        float playerX = hitboxPlayer.getX();
-        float playerY = hitboxPlayer.getY();
+    /**
+     * Advance slots [from, to) by one simulation step
+     * @param store Enemy arrays
+     * @param target Hitbox of the hero being chased
+     * @param deltaTime Fixed simulation step in seconds
+     * @return Total damage the enemies dealt to the target during this step
+     */
+    public int update(EnemyStore store, int from, int to, Rectangle target, float deltaTime) {
+        float targetX = target.x;
+        float targetY = target.y;
+        float targetWidth = target.width;
+        float targetHeight = target.height;
+
+        float[] x = store.x;
+        float[] y = store.y;
+        float[] velocityX = store.velocityX;
+        float[] velocityY = store.velocityY;
+        float[] hitboxX = store.hitboxX;
+        float[] hitboxY = store.hitboxY;
+        float[] hitboxWidth = store.hitboxWidth;
+        float[] hitboxHeight = store.hitboxHeight;
+        float[] attackRange = store.attackRange;
+        float[] attackTimer = store.attackTimer;
+        float[] hurtTimer = store.hurtTimer;
+        int[] health = store.health;
+        int[] maxHealth = store.maxHealth;
+        int[] state = store.state;
+        int[] flags = store.flags;
+
+        int damageToTarget = 0;
+
+        for (int i = from; i < to; i++) {
+            store.previousX[i] = x[i];
+            store.previousY[i] = y[i];
+            health[i] = Math.max(0, Math.min(health[i], maxHealth[i]));
+            int flag = flags[i];
+
+            // Knockback
+            float vx = velocityX[i];
+            float vy = velocityY[i];
+            if (vx != 0 || vy != 0) {
+                translate(store, i, vx * deltaTime, vy * deltaTime);
+
+                float speed = (float) Math.sqrt(vx * vx + vy * vy);
+                float decay = knockbackDecay * deltaTime;
+                if (speed <= decay) {
+                    velocityX[i] = 0;
+                    velocityY[i] = 0;
+                } else {
+                    float scale = 1 - decay / speed;
+                    velocityX[i] = vx * scale;
+                    velocityY[i] = vy * scale;
+                }
+            }
+
+            float boxX = x[i] + store.hitboxOffsetX[i];
+            float boxY = y[i] + store.hitboxOffsetY[i];
+            float boxWidth = hitboxWidth[i];
+            float boxHeight = hitboxHeight[i];
+            hitboxX[i] = boxX;
+            hitboxY[i] = boxY;
+
+            if ((flag & EnemyStore.FLAG_DEAD) != 0) {
+                state[i] = STATE_DEATH;
+                continue;
+            }
+
+            if ((flag & EnemyStore.FLAG_HURT) != 0) {
+                hurtTimer[i] -= deltaTime;
+                if (hurtTimer[i] <= 0) {
+                    flag &= ~EnemyStore.FLAG_HURT;
+                } else {
+                    state[i] = STATE_HURT;
+                    continue;
+                }
+            }
+
+            // Attackbox = hitbox nới rộng attackRange về phía đang nhìn
+            float range = attackRange[i];
+            float attackX = (flag & EnemyStore.FLAG_FACING_RIGHT) != 0 ? boxX : boxX - range;
+            boolean inAttackRange = attackX < targetX + targetWidth && attackX + boxWidth + range > targetX
+                && boxY < targetY + targetHeight && boxY + boxHeight + range > targetY;
 
-        Vector2 direction = new Vector2(playerX - enemyX, playerY - enemyY);
-        Vector2 newPosition = new Vector2(enemyX, enemyY);
+            float toTargetX = targetX - x[i];
+            float toTargetY = targetY - y[i];
+            float detection = store.detectionRange[i];
+            boolean inDetectionRange = toTargetX * toTargetX + toTargetY * toTargetY <= detection * detection;
 
-        float distance = direction.len();
-        isMoving = false;
+            if (inDetectionRange && inAttackRange
+                && attackTimer[i] <= 0 && (flag & EnemyStore.FLAG_ATTACKING) == 0) {
+                flag |= EnemyStore.FLAG_ATTACKING;
+                if (state[i] == STATE_ATTACK) {
+                    damageToTarget += store.damage[i];
+                }
+                attackTimer[i] = store.attackCooldown[i];
+            }
+
+            if (attackTimer[i] > 0) {
+                attackTimer[i] -= deltaTime;
+            }
+
+            // Khoảng cách ngắn nhất giữa hai hitbox
+            float dx = 0;
+            if (boxX + boxWidth < targetX)
+                dx = targetX - (boxX + boxWidth);
+            else if (targetX + targetWidth < boxX)
+                dx = boxX - (targetX + targetWidth);
+
+            float dy = 0;
+            if (boxY + boxHeight < targetY)
+                dy = targetY - (boxY + boxHeight);
+            else if (targetY + targetHeight < boxY)
+                dy = boxY - (targetY + targetHeight);
+
+            float gap2 = dx * dx + dy * dy;
+
+            if (gap2 > 0 && gap2 <= detection * detection) {
+                state[i] = STATE_RUN;
+                if (!followFlowField(store, i, boxX + boxWidth / 2f, boxY + boxHeight / 2f, deltaTime)) {
+                    move(store, i, targetX, targetY, deltaTime);
+                }
+            } else if (inAttackRange) {
+                state[i] = (flag & EnemyStore.FLAG_ATTACKING) != 0 ? STATE_ATTACK : STATE_IDLE;
+            } else {
+                state[i] = STATE_IDLE;
+            }
+
+            if (separationGrid != null) {
+                separate(store, i, boxX + boxWidth / 2f, boxY + boxHeight / 2f, deltaTime);
+            }
+
+            if (targetX > boxX) {
+                flag |= EnemyStore.FLAG_FACING_RIGHT;
+            } else {
+                flag &= ~EnemyStore.FLAG_FACING_RIGHT;
+            }
+            flags[i] = flag;
+        }
+        return damageToTarget;
+    }
+
+    /**
+     * Move one slot straight towards the target point
+     */
+    public void move(EnemyStore store, int i, float targetX, float targetY, float deltaTime) {
+        float directionX = targetX - store.x[i];
+        float directionY = targetY - store.y[i];
+        float distance = (float) Math.sqrt(directionX * directionX + directionY * directionY);
 
         if (distance > minDistanceToPlayer) {
-            direction.nor();
+            float step = store.moveSpeed[i] * deltaTime / distance;
+            translate(store, i, directionX * step, directionY * step);
+        }
+    }
+
+    /**
+     * Move one slot towards the centre of the next tile on the flow field
+     * @param centerX Centre of the enemy hitbox
+     * @param centerY Centre of the enemy hitbox
+     * @return false when there is no field, the enemy is on the target tile or has no path,
+     * the caller then moves straight at the target
+     */
+    private boolean followFlowField(EnemyStore store, int i, float centerX, float centerY, float deltaTime) {
+        if (flowField == null) return false;
+        int cell = flowField.cellAt(centerX, centerY);
+        if (cell < 0) return false;
+        int nextCell = flowField.getNext(cell);
+        if (nextCell < 0) return false;
+
+        float directionX = flowField.getCellCenterX(nextCell) - centerX;
+        float directionY = flowField.getCellCenterY(nextCell) - centerY;
+        float distance = (float) Math.sqrt(directionX * directionX + directionY * directionY);
+        if (distance == 0) return false;
+
+        float step = store.moveSpeed[i] * deltaTime / distance;
+        translate(store, i, directionX * step, directionY * step);
+        return true;
+    }
+
+    /**
+     * Push one slot away from the neighbours closer than the separation radius, boids style:
+     * each neighbour pushes from 0 at the radius up to 1 on the same point, the sum is capped
+     * at separationSpeed. Neighbours are read from the grid snapshot, not from the moving store.
+     */
+    private void separate(EnemyStore store, int i, float centerX, float centerY, float deltaTime) {
+        SeparationGrid grid = separationGrid;
+        float radius = grid.getRadius();
+        float radius2 = radius * radius;
+        int cellX = grid.cellOf(centerX);
+        int cellY = grid.cellOf(centerY);
+        int[] bucketStart = grid.bucketStart;
+        float pushX = 0;
+        float pushY = 0;
+        int neighbours = 0;
+
+        // Hai ô trùng bucket hash chỉ làm một hàng xóm bị tính hai lần, không sai vị trí
+        search:
+        for (int cy = cellY - 1; cy <= cellY + 1; cy++) {
+            for (int cx = cellX - 1; cx <= cellX + 1; cx++) {
+                int bucket = grid.bucketOf(cx, cy);
+                for (int k = bucketStart[bucket], end = bucketStart[bucket + 1]; k < end; k++) {
+                    int other = grid.slot[k];
+                    if (other == i) continue;
+                    float dx = centerX - grid.centerX[k];
+                    float dy = centerY - grid.centerY[k];
+                    float distance2 = dx * dx + dy * dy;
+                    if (distance2 >= radius2) continue;
 
-            float newX = enemyX + direction.x * moveSpeed * deltaTime;
-            float newY = enemyY + direction.y * moveSpeed * deltaTime;
+                    if (distance2 == 0) {
+                        // Trùng điểm: tách theo thứ tự slot để kết quả không phụ thuộc luồng
+                        pushX += i < other ? -1 : 1;
+                    } else {
+                        float distance = (float) Math.sqrt(distance2);
+                        float weight = (radius - distance) / (radius * distance);
+                        pushX += dx * weight;
+                        pushY += dy * weight;
+                    }
+                    if (++neighbours == MAX_NEIGHBOURS) break search;
+                }
+            }
+        }
 
-            // Cập nhật vị trí được theo dõi trong controller
-            this.enemyX = newX;
-            this.enemyY = newY;
+        float length = (float) Math.sqrt(pushX * pushX + pushY * pushY);
+        if (length == 0) return;
+        float scale = separationSpeed * deltaTime * Math.min(1f, length) / length;
+        translate(store, i, pushX * scale, pushY * scale);
+    }
 
-            // Trả về vị trí mới cho entity
-            newPosition.set(newX, newY);
-            isMoving = true;
+    /**
+     * Move one slot, sweeping its hitbox against the walls when there is a grid.
+     * An enemy whose centre is inside a wall (some spawn points are) moves freely until it is out.
+     */
+    private void translate(EnemyStore store, int i, float dx, float dy) {
+        if (collisionGrid != null) {
+            // Tính từ x, y hiện tại: vị trí có thể vừa được đặt lại khi spawn hoặc nạp bản lưu
+            float boxX = store.x[i] + store.hitboxOffsetX[i];
+            float boxY = store.y[i] + store.hitboxOffsetY[i];
+            float boxWidth = store.hitboxWidth[i];
+            float boxHeight = store.hitboxHeight[i];
+            if (!collisionGrid.isBlockedAt(boxX + boxWidth / 2f, boxY + boxHeight / 2f)) {
+                dx = collisionGrid.sweepX(boxX, boxY, boxWidth, boxHeight, dx);
+                dy = collisionGrid.sweepY(boxX + dx, boxY, boxWidth, boxHeight, dy);
+            }
         }
+        store.x[i] += dx;
+        store.y[i] += dy;
+        // Hitbox theo vị trí mới để grid, đòn cận chiến và lực đẩy trong tick này thấy đúng chỗ
+        store.hitboxX[i] = store.x[i] + store.hitboxOffsetX[i];
+        store.hitboxY[i] = store.y[i] + store.hitboxOffsetY[i];
+    }
+
+    public void setFlowField(FlowField flowField) {
+        this.flowField = flowField;
+    }
+
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    public void setSeparationGrid(SeparationGrid separationGrid) {
+        this.separationGrid = separationGrid;
+    }
 
-        return newPosition;
+    public SeparationGrid getSeparationGrid() {
+        return separationGrid;
     }
 
-    public void updateEnemyPosition(float x, float y) {
-        this.enemyX = x;
-        this.enemyY = y;
+    public void setSeparationSpeed(float separationSpeed) {
+        this.separationSpeed = separationSpeed;
     }
 
-    public boolean isMoving() {
-        return isMoving;
+    public void setCollisionGrid(CollisionGrid collisionGrid) {
+        this.collisionGrid = collisionGrid;
     }
 
-    public void setMoveSpeed(float moveSpeed) {
-        this.moveSpeed = moveSpeed;
+    public CollisionGrid getCollisionGrid() {
+        return collisionGrid;
     }
 
     public void setMinDistanceToPlayer(float minDistance) {
         this.minDistanceToPlayer = minDistance;
     }
 
-    public float getDistanceToPlayer() {
-        return Vector2.dst(enemyX, enemyY, player.getEntityX(), player.getEntityY());
+    public void setKnockbackDecay(float knockbackDecay) {
+        this.knockbackDecay = knockbackDecay;
     }
 }
@@ -1,7 +1,9 @@
 package com.myteam.rpgsurvivor.controller.movement;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.myteam.rpgsurvivor.controller.spatial.CollisionGrid;
 import com.myteam.rpgsurvivor.model.Entity;
 
 public class HeroMovement extends Movement{
@@ -21,6 +23,12 @@ public class HeroMovement extends Movement{
     private float mapX;
     private float mapY;
 
+    // Walls of the map, replaces the boundaries above when set
+    private CollisionGrid collisionGrid;
+    private float hitboxOffsetX;
+    private float hitboxOffsetY;
+    private final Vector2 resolved = new Vector2();
+
     public HeroMovement(Entity entity) {
         this.entity = entity;
         this.direction = new Vector2(0, 0);
@@ -47,6 +55,18 @@ public class HeroMovement extends Movement{
         this.mapHeight = height;
     }
 
+    /**
+     * Resolve movement against the walls of the map instead of the screen boundaries
+     * @param grid Blocked tiles, null to go back to the boundaries
+     * @param offsetX Hitbox x relative to the entity position
+     * @param offsetY Hitbox y relative to the entity position
+     */
+    public void setCollisionGrid(CollisionGrid grid, float offsetX, float offsetY) {
+        this.collisionGrid = grid;
+        this.hitboxOffsetX = offsetX;
+        this.hitboxOffsetY = offsetY;
+    }
+
     /**
      * Set movement direction based on input
      * @param up Move up
@@ -86,18 +106,29 @@ public class HeroMovement extends Movement{
 
     /**
      * Update entity position based on movement direction and speed
+     * @param deltaTime Fixed simulation step in seconds
      */
-    public void update() {
+    public void update(float deltaTime) {
         if (isMoving) {
-            float deltaTime = Gdx.graphics.getDeltaTime();
             float speed = entity.getMoveSpeed();
+            float dx = direction.x * speed * deltaTime;
+            float dy = direction.y * speed * deltaTime;
+
+            if (collisionGrid != null) {
+                // Hitbox lấy theo vị trí hiện tại, Player chỉ cập nhật hitbox sau bước di chuyển
+                Rectangle hitbox = entity.getHitbox();
+                collisionGrid.sweep(entity.getEntityX() + hitboxOffsetX, entity.getEntityY() + hitboxOffsetY,
+                    hitbox.width, hitbox.height, dx, dy, resolved);
+                entity.setEntityPosition(entity.getEntityX() + resolved.x, entity.getEntityY() + resolved.y);
+                updateFacingDirection();
+                return;
+            }
 
-            float newX = entity.getEntityX() + direction.x * speed * deltaTime;
-            float newY = entity.getEntityY() + direction.y * speed * deltaTime;
+            float newX = entity.getEntityX() + dx;
+            float newY = entity.getEntityY() + dy;
 
             float entityWidth = entity.getHitbox().getWidth();
             float entityHeight = entity.getHitbox().getHeight();
-            System.out.println(newX + " " + newY + " " + entityWidth + " " + entityHeight);
 
             if (newX < mapX) {
                 newX = mapX;
@@ -0,0 +1,297 @@
+package com.myteam.rpgsurvivor.controller.spatial;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Blocked tiles of the map as one bit per tile, rasterised once from the "Map Border" tile layer
+ * (every non-empty cell) and the "Collision" group of object layers (rectangles and polygons).
+ * Both are looked up by name at any depth, Map Final.tmx keeps the tile layers inside a group.
+ * Cell (0, 0) is the bottom left tile, the same orientation as world coordinates.
+ * Moving boxes are resolved with {@link #sweep}, which only reads the tiles the box enters.
+ */
+public class CollisionGrid {
+    public static final String BORDER_LAYER = "Map Border";
+    public static final String COLLISION_GROUP = "Collision";
+    // Lùi mép hộp vào trong một chút để hộp nằm sát tường không bị tính là đã chạm ô bên cạnh
+    private static final float EDGE_EPSILON = 0.001f;
+
+    private final int width;
+    private final int height;
+    private final float tileWidth;
+    private final float tileHeight;
+    // Nhân thay cho chia khi đổi tọa độ ra ô, sweep gọi cellX/cellY cho mỗi bước của mỗi enemy
+    private final float inverseTileWidth;
+    private final float inverseTileHeight;
+    private final long[] bits;
+
+    public CollisionGrid(int width, int height, float tileWidth, float tileHeight) {
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.inverseTileWidth = 1f / tileWidth;
+        this.inverseTileHeight = 1f / tileHeight;
+        this.bits = new long[(width * height + 63) >>> 6];
+    }
+
+    public static CollisionGrid fromMap(TiledMap map) {
+        int width = map.getProperties().get("width", Integer.class);
+        int height = map.getProperties().get("height", Integer.class);
+        int tileWidth = map.getProperties().get("tilewidth", Integer.class);
+        int tileHeight = map.getProperties().get("tileheight", Integer.class);
+        CollisionGrid grid = new CollisionGrid(width, height, tileWidth, tileHeight);
+
+        MapLayer border = findLayer(map.getLayers(), BORDER_LAYER);
+        if (border instanceof TiledMapTileLayer) {
+            grid.addTileLayer((TiledMapTileLayer) border);
+        } else {
+            Gdx.app.error("CollisionGrid", "Layer " + BORDER_LAYER + " not found");
+        }
+
+        MapLayer collision = findLayer(map.getLayers(), COLLISION_GROUP);
+        if (collision instanceof MapGroupLayer) {
+            for (MapLayer layer : ((MapGroupLayer) collision).getLayers()) {
+                grid.addObjects(layer);
+            }
+        } else if (collision != null) {
+            grid.addObjects(collision);
+        } else {
+            Gdx.app.error("CollisionGrid", "Layer " + COLLISION_GROUP + " not found");
+        }
+        return grid;
+    }
+
+    private static MapLayer findLayer(MapLayers layers, String name) {
+        for (MapLayer layer : layers) {
+            if (name.equals(layer.getName())) {
+                return layer;
+            }
+            if (layer instanceof MapGroupLayer) {
+                MapLayer found = findLayer(((MapGroupLayer) layer).getLayers(), name);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void addTileLayer(TiledMapTileLayer layer) {
+        int columns = Math.min(width, layer.getWidth());
+        int rows = Math.min(height, layer.getHeight());
+        for (int cy = 0; cy < rows; cy++) {
+            for (int cx = 0; cx < columns; cx++) {
+                if (layer.getCell(cx, cy) != null) {
+                    setBlocked(cx, cy);
+                }
+            }
+        }
+    }
+
+    private void addObjects(MapLayer layer) {
+        for (MapObject object : layer.getObjects()) {
+            if (object instanceof RectangleMapObject) {
+                addRectangle(((RectangleMapObject) object).getRectangle());
+            } else if (object instanceof PolygonMapObject) {
+                addPolygon(((PolygonMapObject) object).getPolygon());
+            } else {
+                Gdx.app.log("CollisionGrid", "Ignoring " + object.getClass().getSimpleName() + " in " + layer.getName());
+            }
+        }
+    }
+
+    /**
+     * Block every tile the rectangle overlaps
+     */
+    private void addRectangle(Rectangle rect) {
+        int minX = Math.max(0, cellX(rect.x));
+        int minY = Math.max(0, cellY(rect.y));
+        int maxX = Math.min(width - 1, cellX(rect.x + rect.width));
+        int maxY = Math.min(height - 1, cellY(rect.y + rect.height));
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                setBlocked(cx, cy);
+            }
+        }
+    }
+
+    /**
+     * Block every tile whose centre lies inside the polygon
+     */
+    private void addPolygon(Polygon polygon) {
+        Rectangle bounds = polygon.getBoundingRectangle();
+        int minX = Math.max(0, cellX(bounds.x));
+        int minY = Math.max(0, cellY(bounds.y));
+        int maxX = Math.min(width - 1, cellX(bounds.x + bounds.width));
+        int maxY = Math.min(height - 1, cellY(bounds.y + bounds.height));
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                if (polygon.contains((cx + 0.5f) * tileWidth, (cy + 0.5f) * tileHeight)) {
+                    setBlocked(cx, cy);
+                }
+            }
+        }
+    }
+
+    public void setBlocked(int cx, int cy) {
+        int index = cy * width + cx;
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * @return true for blocked tiles and for everything outside the map
+     */
+    public boolean isBlocked(int cx, int cy) {
+        if (cx < 0 || cy < 0 || cx >= width || cy >= height) return true;
+        int index = cy * width + cx;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public boolean isBlockedAt(float x, float y) {
+        return isBlocked(cellX(x), cellY(y));
+    }
+
+    /**
+     * Move a box by (dx, dy) against blocked tiles, x first then y, so it slides along walls
+     * @param out Set to the displacement that can actually be applied
+     * @return out
+     */
+    public Vector2 sweep(float x, float y, float width, float height, float dx, float dy, Vector2 out) {
+        float movedX = sweepX(x, y, width, height, dx);
+        float movedY = sweepY(x + movedX, y, width, height, dy);
+        return out.set(movedX, movedY);
+    }
+
+    /**
+     * Sweep a box along x. Only the columns its leading edge enters are tested,
+     * so a box that already overlaps a wall can still move out of it.
+     * @return the part of dx that can be moved before touching a blocked tile
+     */
+    public float sweepX(float x, float y, float width, float height, float dx) {
+        if (dx > 0) {
+            float edge = x + width;
+            int first = cellX(edge - EDGE_EPSILON) + 1;
+            int last = cellX(edge + dx - EDGE_EPSILON);
+            // Trường hợp thường gặp: mép trước chưa sang cột mới thì không cần đọc ô nào
+            if (first > last) return dx;
+            int minRow = cellY(y + EDGE_EPSILON);
+            int maxRow = cellY(y + height - EDGE_EPSILON);
+            for (int cx = first; cx <= last; cx++) {
+                if (isColumnBlocked(cx, minRow, maxRow)) {
+                    return Math.max(0, cx * tileWidth - edge);
+                }
+            }
+        } else if (dx < 0) {
+            int first = cellX(x + EDGE_EPSILON) - 1;
+            int last = cellX(x + dx + EDGE_EPSILON);
+            if (first < last) return dx;
+            int minRow = cellY(y + EDGE_EPSILON);
+            int maxRow = cellY(y + height - EDGE_EPSILON);
+            for (int cx = first; cx >= last; cx--) {
+                if (isColumnBlocked(cx, minRow, maxRow)) {
+                    return Math.min(0, (cx + 1) * tileWidth - x);
+                }
+            }
+        }
+        return dx;
+    }
+
+    /**
+     * Sweep a box along y, see {@link #sweepX}
+     */
+    public float sweepY(float x, float y, float width, float height, float dy) {
+        if (dy > 0) {
+            float edge = y + height;
+            int first = cellY(edge - EDGE_EPSILON) + 1;
+            int last = cellY(edge + dy - EDGE_EPSILON);
+            if (first > last) return dy;
+            int minColumn = cellX(x + EDGE_EPSILON);
+            int maxColumn = cellX(x + width - EDGE_EPSILON);
+            for (int cy = first; cy <= last; cy++) {
+                if (isRowBlocked(cy, minColumn, maxColumn)) {
+                    return Math.max(0, cy * tileHeight - edge);
+                }
+            }
+        } else if (dy < 0) {
+            int first = cellY(y + EDGE_EPSILON) - 1;
+            int last = cellY(y + dy + EDGE_EPSILON);
+            if (first < last) return dy;
+            int minColumn = cellX(x + EDGE_EPSILON);
+            int maxColumn = cellX(x + width - EDGE_EPSILON);
+            for (int cy = first; cy >= last; cy--) {
+                if (isRowBlocked(cy, minColumn, maxColumn)) {
+                    return Math.min(0, (cy + 1) * tileHeight - y);
+                }
+            }
+        }
+        return dy;
+    }
+
+    private boolean isColumnBlocked(int cx, int minRow, int maxRow) {
+        for (int cy = minRow; cy <= maxRow; cy++) {
+            if (isBlocked(cx, cy)) return true;
+        }
+        return false;
+    }
+
+    private boolean isRowBlocked(int cy, int minColumn, int maxColumn) {
+        for (int cx = minColumn; cx <= maxColumn; cx++) {
+            if (isBlocked(cx, cy)) return true;
+        }
+        return false;
+    }
+
+    public int cellX(float x) {
+        return (int) Math.floor(x * inverseTileWidth);
+    }
+
+    public int cellY(float y) {
+        return (int) Math.floor(y * inverseTileHeight);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public float getTileWidth() {
+        return tileWidth;
+    }
+
+    public float getTileHeight() {
+        return tileHeight;
+    }
+
+    /**
+     * Size of the whole map in world units
+     */
+    public float getWorldWidth() {
+        return width * tileWidth;
+    }
+
+    public float getWorldHeight() {
+        return height * tileHeight;
+    }
+
+    public int getBlockedCount() {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
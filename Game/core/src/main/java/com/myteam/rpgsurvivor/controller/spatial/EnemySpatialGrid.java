@@ -0,0 +1,390 @@
+package com.myteam.rpgsurvivor.controller.spatial;
+
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.Rectangle;
+import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.model.EnemyStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Uniform-grid spatial hash over enemy hitboxes.
+ * The grid is rebuilt by {@link com.myteam.rpgsurvivor.controller.EnemySpawnController} every tick,
+ * combat code queries it instead of scanning the whole active enemy list.
+ */
+public class EnemySpatialGrid {
+    // Map Final.tmx dùng tile 10px, một ô lưới = 4 tile (gần bằng hitbox creep lớn nhất 22x30)
+    public static final float TILE_SIZE = 10f;
+    public static final float DEFAULT_CELL_SIZE = TILE_SIZE * 4;
+    private static final int DEFAULT_BUCKET_COUNT = 1024;
+    private static final int INITIAL_CAPACITY = 128;
+
+    private final float cellSize;
+    private final float inverseCellSize;
+    private final int bucketMask;
+    private final int[] bucketHead;
+
+    // Mỗi node là một cặp (ô, enemy); enemy lớn chiếm nhiều ô
+    private int[] nodeNext;
+    private int[] nodeEnemy;
+    private int nodeCount;
+
+    private Enemy[] enemies;
+    // Bản sao hitbox và cờ chết lúc insert, query không cần đọc lại từ handle
+    private float[] boxX, boxY, boxWidth, boxHeight;
+    private boolean[] dead;
+    private int[] queryMark;
+    private int enemyCount;
+    private int queryStamp;
+
+    private int minCellX, minCellY, maxCellX, maxCellY;
+
+    private Enemy[] nearest;
+    private float[] nearestDistance2;
+
+    public EnemySpatialGrid() {
+        this(DEFAULT_CELL_SIZE, DEFAULT_BUCKET_COUNT);
+    }
+
+    /**
+     * @param cellSize Cell edge length in world units
+     * @param bucketCount Number of hash buckets, rounded up to a power of two
+     */
+    public EnemySpatialGrid(float cellSize, int bucketCount) {
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+        int buckets = Integer.highestOneBit(Math.max(1, bucketCount - 1)) << 1;
+        this.bucketMask = buckets - 1;
+        this.bucketHead = new int[buckets];
+        this.nodeNext = new int[INITIAL_CAPACITY];
+        this.nodeEnemy = new int[INITIAL_CAPACITY];
+        this.enemies = new Enemy[INITIAL_CAPACITY];
+        this.boxX = new float[INITIAL_CAPACITY];
+        this.boxY = new float[INITIAL_CAPACITY];
+        this.boxWidth = new float[INITIAL_CAPACITY];
+        this.boxHeight = new float[INITIAL_CAPACITY];
+        this.dead = new boolean[INITIAL_CAPACITY];
+        this.queryMark = new int[INITIAL_CAPACITY];
+        this.nearest = new Enemy[4];
+        this.nearestDistance2 = new float[4];
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(bucketHead, -1);
+        Arrays.fill(enemies, 0, enemyCount, null);
+        nodeCount = 0;
+        enemyCount = 0;
+        minCellX = Integer.MAX_VALUE;
+        minCellY = Integer.MAX_VALUE;
+        maxCellX = Integer.MIN_VALUE;
+        maxCellY = Integer.MIN_VALUE;
+    }
+
+    public void rebuild(EnemyStore creeps, EnemyStore bosses) {
+        clear();
+        insertAll(creeps);
+        insertAll(bosses);
+    }
+
+    private void insertAll(EnemyStore store) {
+        for (int i = 0, n = store.size(); i < n; i++) {
+            insert(store.getHandle(i), store.hitboxX[i], store.hitboxY[i], store.hitboxWidth[i], store.hitboxHeight[i],
+                store.hasFlag(i, EnemyStore.FLAG_DEAD));
+        }
+    }
+
+    public void insert(Enemy enemy) {
+        Rectangle box = enemy.getHitBox();
+        insert(enemy, box.x, box.y, box.width, box.height, enemy.isDead());
+    }
+
+    private void insert(Enemy enemy, float x, float y, float width, float height, boolean isDead) {
+        if (enemyCount == enemies.length) {
+            int capacity = enemyCount * 2;
+            enemies = Arrays.copyOf(enemies, capacity);
+            boxX = Arrays.copyOf(boxX, capacity);
+            boxY = Arrays.copyOf(boxY, capacity);
+            boxWidth = Arrays.copyOf(boxWidth, capacity);
+            boxHeight = Arrays.copyOf(boxHeight, capacity);
+            dead = Arrays.copyOf(dead, capacity);
+            queryMark = Arrays.copyOf(queryMark, capacity);
+        }
+        int index = enemyCount++;
+        enemies[index] = enemy;
+        boxX[index] = x;
+        boxY[index] = y;
+        boxWidth[index] = width;
+        boxHeight[index] = height;
+        dead[index] = isDead;
+        queryMark[index] = 0;
+
+        int x0 = cellOf(x);
+        int y0 = cellOf(y);
+        int x1 = cellOf(x + width);
+        int y1 = cellOf(y + height);
+
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                if (nodeCount == nodeNext.length) {
+                    nodeNext = Arrays.copyOf(nodeNext, nodeCount * 2);
+                    nodeEnemy = Arrays.copyOf(nodeEnemy, nodeCount * 2);
+                }
+                int bucket = bucketOf(cx, cy);
+                nodeEnemy[nodeCount] = index;
+                nodeNext[nodeCount] = bucketHead[bucket];
+                bucketHead[bucket] = nodeCount;
+                nodeCount++;
+            }
+        }
+
+        minCellX = Math.min(minCellX, x0);
+        minCellY = Math.min(minCellY, y0);
+        maxCellX = Math.max(maxCellX, x1);
+        maxCellY = Math.max(maxCellY, y1);
+    }
+
+    /**
+     * Collect every living enemy whose hitbox overlaps the area
+     * @param area Query rectangle in world units
+     * @param out Caller-owned list, cleared before filling
+     * @return out
+     */
+    public ArrayList<Enemy> queryRect(Rectangle area, ArrayList<Enemy> out) {
+        out.clear();
+        if (enemyCount == 0) return out;
+
+        int stamp = nextStamp();
+        int x0 = cellOf(area.x);
+        int y0 = cellOf(area.y);
+        int x1 = cellOf(area.x + area.width);
+        int y1 = cellOf(area.y + area.height);
+
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                for (int node = bucketHead[bucketOf(cx, cy)]; node != -1; node = nodeNext[node]) {
+                    int index = nodeEnemy[node];
+                    if (queryMark[index] == stamp) continue;
+                    queryMark[index] = stamp;
+
+                    if (dead[index]) continue;
+                    if (boxX[index] < area.x + area.width && boxX[index] + boxWidth[index] > area.x
+                        && boxY[index] < area.y + area.height && boxY[index] + boxHeight[index] > area.y) {
+                        out.add(enemies[index]);
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Same area test as {@link #queryRect} but in insertion order, creeps by slot then bosses.
+     * Used for drawing, where the bucket order would swap overlapping sprites between frames.
+     * Dead enemies are kept so their death animation is still drawn.
+     * @param out Caller-owned list, cleared before filling
+     * @return out
+     */
+    public ArrayList<Enemy> queryRectOrdered(Rectangle area, ArrayList<Enemy> out) {
+        out.clear();
+        if (enemyCount == 0) return out;
+
+        // Hai stamp: đã xét mà không chạm, và chạm vùng query
+        int visited = nextStamp();
+        int hit = nextStamp();
+        int first = enemyCount;
+        int last = -1;
+        int x0 = cellOf(area.x);
+        int y0 = cellOf(area.y);
+        int x1 = cellOf(area.x + area.width);
+        int y1 = cellOf(area.y + area.height);
+
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                for (int node = bucketHead[bucketOf(cx, cy)]; node != -1; node = nodeNext[node]) {
+                    int index = nodeEnemy[node];
+                    if (queryMark[index] == visited || queryMark[index] == hit) continue;
+
+                    if (boxX[index] < area.x + area.width && boxX[index] + boxWidth[index] > area.x
+                        && boxY[index] < area.y + area.height && boxY[index] + boxHeight[index] > area.y) {
+                        queryMark[index] = hit;
+                        first = Math.min(first, index);
+                        last = Math.max(last, index);
+                    } else {
+                        queryMark[index] = visited;
+                    }
+                }
+            }
+        }
+
+        for (int index = first; index <= last; index++) {
+            if (queryMark[index] == hit) {
+                out.add(enemies[index]);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Collect every living enemy whose hitbox overlaps the circle
+     * @param circle Query circle in world units
+     * @param out Caller-owned list, cleared before filling
+     * @return out
+     */
+    public ArrayList<Enemy> queryCircle(Circle circle, ArrayList<Enemy> out) {
+        out.clear();
+        if (enemyCount == 0) return out;
+
+        int stamp = nextStamp();
+        int x0 = cellOf(circle.x - circle.radius);
+        int y0 = cellOf(circle.y - circle.radius);
+        int x1 = cellOf(circle.x + circle.radius);
+        int y1 = cellOf(circle.y + circle.radius);
+
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                for (int node = bucketHead[bucketOf(cx, cy)]; node != -1; node = nodeNext[node]) {
+                    int index = nodeEnemy[node];
+                    if (queryMark[index] == stamp) continue;
+                    queryMark[index] = stamp;
+
+                    if (dead[index]) continue;
+                    if (overlaps(circle, index)) {
+                        out.add(enemies[index]);
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Collect up to k living enemies ordered by distance from (x, y) to their hitbox centre.
+     * Searches ring by ring outwards and stops once no unvisited cell can beat the k-th candidate.
+     * @param out Caller-owned list, cleared before filling
+     * @return out
+     */
+    public ArrayList<Enemy> queryNearest(float x, float y, int k, ArrayList<Enemy> out) {
+        out.clear();
+        if (k <= 0 || enemyCount == 0) return out;
+
+        if (nearest.length < k) {
+            nearest = new Enemy[k];
+            nearestDistance2 = new float[k];
+        }
+
+        int stamp = nextStamp();
+        int found = 0;
+        int originX = cellOf(x);
+        int originY = cellOf(y);
+        int maxRing = Math.max(
+            Math.max(Math.abs(originX - minCellX), Math.abs(maxCellX - originX)),
+            Math.max(Math.abs(originY - minCellY), Math.abs(maxCellY - originY)));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (found == k && ring > 1) {
+                float ringDistance = (ring - 1) * cellSize;
+                if (ringDistance * ringDistance > nearestDistance2[k - 1]) break;
+            }
+
+            if (ring == 0) {
+                found = visitNearest(originX, originY, x, y, k, found, stamp);
+                continue;
+            }
+            for (int dx = -ring; dx <= ring; dx++) {
+                found = visitNearest(originX + dx, originY - ring, x, y, k, found, stamp);
+                found = visitNearest(originX + dx, originY + ring, x, y, k, found, stamp);
+            }
+            for (int dy = -ring + 1; dy <= ring - 1; dy++) {
+                found = visitNearest(originX - ring, originY + dy, x, y, k, found, stamp);
+                found = visitNearest(originX + ring, originY + dy, x, y, k, found, stamp);
+            }
+        }
+
+        for (int i = 0; i < found; i++) {
+            out.add(nearest[i]);
+            nearest[i] = null;
+        }
+        return out;
+    }
+
+    private int visitNearest(int cx, int cy, float x, float y, int k, int found, int stamp) {
+        for (int node = bucketHead[bucketOf(cx, cy)]; node != -1; node = nodeNext[node]) {
+            int index = nodeEnemy[node];
+            if (queryMark[index] == stamp) continue;
+            queryMark[index] = stamp;
+
+            if (dead[index]) continue;
+
+            float dx = boxX[index] + boxWidth[index] / 2f - x;
+            float dy = boxY[index] + boxHeight[index] / 2f - y;
+            float distance2 = dx * dx + dy * dy;
+
+            if (found == k && distance2 >= nearestDistance2[k - 1]) continue;
+
+            // Chèn vào danh sách k phần tử đã sắp xếp
+            int slot = found < k ? found++ : k - 1;
+            while (slot > 0 && nearestDistance2[slot - 1] > distance2) {
+                nearest[slot] = nearest[slot - 1];
+                nearestDistance2[slot] = nearestDistance2[slot - 1];
+                slot--;
+            }
+            nearest[slot] = enemies[index];
+            nearestDistance2[slot] = distance2;
+        }
+        return found;
+    }
+
+    /**
+     * Same test as Intersector.overlaps(Circle, Rectangle) against the stored box
+     */
+    private boolean overlaps(Circle circle, int index) {
+        float closestX = circle.x;
+        float closestY = circle.y;
+
+        if (circle.x < boxX[index]) {
+            closestX = boxX[index];
+        } else if (circle.x > boxX[index] + boxWidth[index]) {
+            closestX = boxX[index] + boxWidth[index];
+        }
+
+        if (circle.y < boxY[index]) {
+            closestY = boxY[index];
+        } else if (circle.y > boxY[index] + boxHeight[index]) {
+            closestY = boxY[index] + boxHeight[index];
+        }
+
+        closestX = closestX - circle.x;
+        closestX *= closestX;
+        closestY = closestY - circle.y;
+        closestY *= closestY;
+
+        return closestX + closestY < circle.radius * circle.radius;
+    }
+
+    private int nextStamp() {
+        queryStamp++;
+        if (queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(queryMark, 0);
+            queryStamp = 1;
+        }
+        return queryStamp;
+    }
+
+    private int cellOf(float coordinate) {
+        return (int) Math.floor(coordinate * inverseCellSize);
+    }
+
+    private int bucketOf(int cx, int cy) {
+        return ((cx * 73856093) ^ (cy * 19349663)) & bucketMask;
+    }
+
+    public int size() {
+        return enemyCount;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+}
@@ -0,0 +1,189 @@
+package com.myteam.rpgsurvivor.controller.spatial;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.Arrays;
+
+/**
+ * Shortest-path field towards one target tile over a {@link CollisionGrid}.
+ * A Dijkstra pass with a bucket queue (8 neighbours, straight cost 2, diagonal cost 3, no corner
+ * cutting) stores for every tile the next tile on its path, so an enemy finds its way in O(1).
+ * The field only changes when the target moves to another tile. Cells are indices into a copy of the
+ * grid padded with one blocked tile on every side, callers treat them as opaque.
+ */
+public class FlowField {
+    private static final int STRAIGHT_COST = 2;
+    private static final int DIAGONAL_COST = 3;
+    // Lũy thừa của 2 lớn hơn DIAGONAL_COST để lấy bucket bằng phép AND
+    private static final int BUCKET_COUNT = 4;
+    private static final int BUCKET_MASK = BUCKET_COUNT - 1;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    // Thành phần x của 4 hướng chéo, cùng thứ tự với neighbourOffset[4..7]
+    private static final int[] DIAGONAL_X = {1, 1, -1, -1};
+
+    private final CollisionGrid grid;
+    private final int width;
+    private final int height;
+    // Lưới có viền một ô bị chặn: hàng xóm luôn là chỉ số hợp lệ, không cần kiểm tra biên
+    private final int stride;
+    private final boolean[] passable;
+    // 4 hướng thẳng trước, 4 hướng chéo sau, dưới dạng độ lệch chỉ số
+    private final int[] neighbourOffset;
+    private final int[] distance;
+    // Ô kế tiếp trên đường ngắn nhất tới đích, -1 ở ô đích và ô không tới được
+    private final int[] next;
+    // Hàng đợi theo khoảng cách, dùng xoay vòng vì chi phí một bước không quá DIAGONAL_COST
+    private final IntArray[] buckets = new IntArray[BUCKET_COUNT];
+
+    private int targetCell = -1;
+    private long lastRecomputeNanos;
+    private int recomputeCount;
+
+    public FlowField(CollisionGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.stride = width + 2;
+        int cells = stride * (height + 2);
+        this.passable = new boolean[cells];
+        for (int cy = 0; cy < height; cy++) {
+            for (int cx = 0; cx < width; cx++) {
+                passable[index(cx, cy)] = !grid.isBlocked(cx, cy);
+            }
+        }
+        this.neighbourOffset = new int[] {1, -1, stride, -stride, stride + 1, -stride + 1, stride - 1, -stride - 1};
+
+        this.distance = new int[cells];
+        this.next = new int[cells];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new IntArray(width * 2);
+        }
+        Arrays.fill(next, -1);
+    }
+
+    private int index(int cx, int cy) {
+        return (cy + 1) * stride + cx + 1;
+    }
+
+    /**
+     * Move the target to the tile under the given point
+     * @return true if the target changed tile and the field was recomputed
+     */
+    public boolean setTarget(float x, float y) {
+        int cx = Math.max(0, Math.min(width - 1, grid.cellX(x)));
+        int cy = Math.max(0, Math.min(height - 1, grid.cellY(y)));
+        int cell = index(cx, cy);
+        if (cell == targetCell) return false;
+
+        targetCell = cell;
+        recompute();
+        return true;
+    }
+
+    private void recompute() {
+        long start = TimeUtils.nanoTime();
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(next, -1);
+
+        distance[targetCell] = 0;
+        buckets[0].add(targetCell);
+        int queued = 1;
+
+        boolean[] passable = this.passable;
+        int[] distance = this.distance;
+        int[] next = this.next;
+        int[] offset = neighbourOffset;
+
+        for (int d = 0; queued > 0; d++) {
+            IntArray bucket = buckets[d & BUCKET_MASK];
+            // Các ô mới chỉ rơi vào bucket d+2 hoặc d+3, bucket đang duyệt không lớn thêm
+            for (int k = 0; k < bucket.size; k++) {
+                int cell = bucket.items[k];
+                if (distance[cell] != d) continue;
+
+                int straight = d + STRAIGHT_COST;
+                for (int n = 0; n < 4; n++) {
+                    int neighbour = cell + offset[n];
+                    if (passable[neighbour] && straight < distance[neighbour]) {
+                        distance[neighbour] = straight;
+                        next[neighbour] = cell;
+                        buckets[straight & BUCKET_MASK].add(neighbour);
+                        queued++;
+                    }
+                }
+
+                // Đi chéo chỉ khi hai ô thẳng bên cạnh đều trống, không cắt góc tường
+                int diagonal = d + DIAGONAL_COST;
+                for (int n = 4; n < 8; n++) {
+                    int neighbour = cell + offset[n];
+                    int sideX = DIAGONAL_X[n - 4];
+                    if (passable[neighbour] && diagonal < distance[neighbour]
+                        && passable[cell + sideX] && passable[neighbour - sideX]) {
+                        distance[neighbour] = diagonal;
+                        next[neighbour] = cell;
+                        buckets[diagonal & BUCKET_MASK].add(neighbour);
+                        queued++;
+                    }
+                }
+            }
+            queued -= bucket.size;
+            bucket.clear();
+        }
+
+        lastRecomputeNanos = TimeUtils.nanoTime() - start;
+        recomputeCount++;
+    }
+
+    /**
+     * @return the tile under the point, or -1 outside the map
+     */
+    public int cellAt(float x, float y) {
+        int cx = grid.cellX(x);
+        int cy = grid.cellY(y);
+        if (cx < 0 || cy < 0 || cx >= width || cy >= height) return -1;
+        return index(cx, cy);
+    }
+
+    /**
+     * @return the next tile towards the target, -1 at the target or when there is no path
+     */
+    public int getNext(int cell) {
+        return next[cell];
+    }
+
+    public boolean isReachable(int cell) {
+        return distance[cell] != UNREACHABLE;
+    }
+
+    public float getCellCenterX(int cell) {
+        return (cell % stride - 1 + 0.5f) * grid.getTileWidth();
+    }
+
+    public float getCellCenterY(int cell) {
+        return (cell / stride - 1 + 0.5f) * grid.getTileHeight();
+    }
+
+    public int getTargetCell() {
+        return targetCell;
+    }
+
+    /**
+     * Forget the target so the next {@link #setTarget} always recomputes
+     */
+    public void invalidate() {
+        targetCell = -1;
+    }
+
+    public long getLastRecomputeNanos() {
+        return lastRecomputeNanos;
+    }
+
+    public int getRecomputeCount() {
+        return recomputeCount;
+    }
+
+    public CollisionGrid getGrid() {
+        return grid;
+    }
+}
@@ -0,0 +1,117 @@
+package com.myteam.rpgsurvivor.controller.spatial;
+
+import com.myteam.rpgsurvivor.model.EnemyStore;
+
+import java.util.Arrays;
+
+/**
+ * Broad phase for enemy-enemy separation: the hitbox centres of the living enemies, counting-sorted
+ * by hashed cell once per tick before the enemy jobs run. The arrays are only read during the update,
+ * so every chunk can query it in parallel and sees the positions of the start of the tick.
+ * Cells are as large as the separation radius, a query reads the 3x3 cells around a point.
+ */
+public class SeparationGrid {
+    // Gần bằng chiều rộng hitbox creep (17-22px), nhỏ hơn thì quái vẫn chồng lên nhau
+    public static final float DEFAULT_RADIUS = 16f;
+    private static final int MIN_BUCKET_COUNT = 256;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final float radius;
+    private final float inverseCellSize;
+    private int bucketMask;
+    // Vùng [bucketStart[b], bucketStart[b + 1]) của các mảng đã sắp xếp thuộc bucket b
+    public int[] bucketStart;
+    public float[] centerX;
+    public float[] centerY;
+    // Slot trong EnemyStore của từng phần tử đã sắp xếp
+    public int[] slot;
+    private int[] entryBucket;
+    private int count;
+
+    public SeparationGrid() {
+        this(DEFAULT_RADIUS);
+    }
+
+    public SeparationGrid(float radius) {
+        this.radius = radius;
+        this.inverseCellSize = 1f / radius;
+        resizeBuckets(MIN_BUCKET_COUNT);
+        ensureCapacity(INITIAL_CAPACITY);
+    }
+
+    private void resizeBuckets(int buckets) {
+        bucketMask = buckets - 1;
+        bucketStart = new int[buckets + 1];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (centerX != null && centerX.length >= capacity) return;
+        if (centerX != null) capacity = Math.max(capacity, centerX.length * 2);
+        centerX = new float[capacity];
+        centerY = new float[capacity];
+        slot = new int[capacity];
+        entryBucket = new int[capacity];
+    }
+
+    /**
+     * Snapshot the living enemies of the store, sorted by cell
+     */
+    public void rebuild(EnemyStore store) {
+        int n = store.size();
+        ensureCapacity(n);
+        // Giữ khoảng 2 bucket cho mỗi enemy để ít va chạm hash
+        int buckets = Math.max(MIN_BUCKET_COUNT, Integer.highestOneBit(Math.max(1, n)) << 2);
+        if (buckets != bucketMask + 1) {
+            resizeBuckets(buckets);
+        }
+
+        int[] start = bucketStart;
+        Arrays.fill(start, 0);
+        int[] flags = store.flags;
+        for (int i = 0; i < n; i++) {
+            if ((flags[i] & EnemyStore.FLAG_DEAD) != 0) {
+                entryBucket[i] = -1;
+                continue;
+            }
+            float x = store.hitboxX[i] + store.hitboxWidth[i] / 2f;
+            float y = store.hitboxY[i] + store.hitboxHeight[i] / 2f;
+            int bucket = bucketOf(cellOf(x), cellOf(y));
+            entryBucket[i] = bucket;
+            start[bucket + 1]++;
+        }
+
+        for (int b = 0; b <= bucketMask; b++) {
+            start[b + 1] += start[b];
+        }
+        count = start[bucketMask + 1];
+
+        // Đếm ngược để đặt phần tử vào cuối vùng bucket, giữ thứ tự slot tăng dần trong bucket
+        for (int i = n - 1; i >= 0; i--) {
+            int bucket = entryBucket[i];
+            if (bucket < 0) continue;
+            int position = --start[bucket + 1];
+            centerX[position] = store.hitboxX[i] + store.hitboxWidth[i] / 2f;
+            centerY[position] = store.hitboxY[i] + store.hitboxHeight[i] / 2f;
+            slot[position] = i;
+        }
+        // start[b + 1] đã lùi về đầu vùng của b, dịch lại để start[b] là đầu vùng b
+        System.arraycopy(start, 1, start, 0, bucketMask + 1);
+        start[bucketMask + 1] = count;
+    }
+
+    public int cellOf(float coordinate) {
+        return (int) Math.floor(coordinate * inverseCellSize);
+    }
+
+    public int bucketOf(int cx, int cy) {
+        return ((cx * 73856093) ^ (cy * 19349663)) & bucketMask;
+    }
+
+    public float getRadius() {
+        return radius;
+    }
+
+    public int size() {
+        return count;
+    }
+}
@@ -1,7 +1,7 @@
 package com.myteam.rpgsurvivor.controller.spawn;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.myteam.rpgsurvivor.controller.system.GameRandom;
 
 public class PointSpawnArea implements SpawnArea{
 
@@ -14,9 +14,10 @@ public class PointSpawnArea implements SpawnArea{
     }
 
     @Override
-    public Vector2 getRandomPosition() {
-        float offsetX = MathUtils.random(-POINT_VARIANCE, POINT_VARIANCE);
-        float offsetY = MathUtils.random(-POINT_VARIANCE, POINT_VARIANCE);
-        return new Vector2(x + offsetX, y + offsetY);
+    public Vector2 getRandomPosition(Vector2 out) {
+        GameRandom random = GameRandom.getInstance();
+        float offsetX = random.random(-POINT_VARIANCE, POINT_VARIANCE);
+        float offsetY = random.random(-POINT_VARIANCE, POINT_VARIANCE);
+        return out.set(x + offsetX, y + offsetY);
     }
 }
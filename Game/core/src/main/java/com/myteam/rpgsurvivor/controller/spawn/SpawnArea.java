@@ -3,5 +3,8 @@ package com.myteam.rpgsurvivor.controller.spawn;
 import com.badlogic.gdx.math.Vector2;
 
 public interface SpawnArea {
-    Vector2 getRandomPosition();
+    /**
+     * @param out Vector to fill, returned for chaining
+     */
+    Vector2 getRandomPosition(Vector2 out);
 }
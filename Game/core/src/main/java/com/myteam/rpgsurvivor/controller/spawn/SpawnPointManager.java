@@ -4,8 +4,8 @@ import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.MapObjects;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.myteam.rpgsurvivor.controller.system.GameRandom;
 
 import java.util.ArrayList;
 
@@ -40,28 +40,28 @@ public class SpawnPointManager {
     }
 
 
-    public Vector2 getRandomSpawnPosition() {
+    public Vector2 getRandomSpawnPosition(Vector2 out) {
         if (spawnAreas.isEmpty()) {
-            return new Vector2(0, 0);
+            return out.set(0, 0);
         }
 
-        int randomIndex = MathUtils.random(spawnAreas.size() - 1);
-        return spawnAreas.get(randomIndex).getRandomPosition();
+        int randomIndex = GameRandom.getInstance().random(spawnAreas.size() - 1);
+        return spawnAreas.get(randomIndex).getRandomPosition(out);
     }
 
-    public Vector2 getSpawnBossPosition()
+    public Vector2 getSpawnBossPosition(Vector2 out)
     {
         if (spawnAreas.isEmpty()) {
-            return new Vector2(0, 0);
+            return out.set(0, 0);
         }
-        return spawnBoss.get(0).getRandomPosition();
+        return spawnBoss.get(0).getRandomPosition(out);
     }
 
-    public Vector2 getSpawnPositionFromArea(int areaIndex) {
+    public Vector2 getSpawnPositionFromArea(int areaIndex, Vector2 out) {
         if (areaIndex >= 0 && areaIndex < spawnAreas.size()) {
-            return spawnAreas.get(areaIndex).getRandomPosition();
+            return spawnAreas.get(areaIndex).getRandomPosition(out);
         }
-        return getRandomSpawnPosition();
+        return getRandomSpawnPosition(out);
     }
 
     public int getSpawnAreaCount() {
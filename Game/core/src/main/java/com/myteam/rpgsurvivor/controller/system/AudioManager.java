@@ -4,6 +4,8 @@ import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.Gdx;
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 
 public class AudioManager implements Disposable {
     private static AudioManager instance;
@@ -19,6 +21,8 @@ public class AudioManager implements Disposable {
     private float soundVolume = 0.5f;
     private boolean musicEnabled = true;
     private boolean soundEnabled = true;
+    // Tiếng chém được gọi từ luồng mô phỏng, chỉ phát trên luồng GL trong playQueuedSounds
+    private volatile boolean atkSoundQueued;
 
     public static AudioManager getInstance() {
         if (instance == null) {
@@ -31,18 +35,15 @@ public class AudioManager implements Disposable {
         loadAudio();
     }
 
+    // Âm thanh nằm trong manifest MAIN_MENU, AssetRegistry sở hữu và dispose
     private void loadAudio() {
-        try
-        {
-            menuMusic = Gdx.audio.newMusic(Gdx.files.internal("Music/10- Power to the hero.mp3"));
-            gameMusic = Gdx.audio.newMusic(Gdx.files.internal("Music/gaming-sound-143716.mp3"));
-
-            btnClicked = Gdx.audio.newSound(Gdx.files.internal("Music/robot_01-47250.mp3"));
-            atkSound = Gdx.audio.newSound(Gdx.files.internal("Music/melee-attack-with-voice-1-104995.mp3"));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }   
+        AssetRegistry assets = AssetRegistry.getInstance();
+        menuMusic = assets.getMusic(AssetManifest.MENU_MUSIC);
+        gameMusic = assets.getMusic(AssetManifest.GAME_MUSIC);
+
+        btnClicked = assets.getSound(AssetManifest.BUTTON_SOUND);
+        atkSound = assets.getSound(AssetManifest.ATTACK_SOUND);
+    }
 
     public void playMenuMusic() {
         if (!musicEnabled || menuMusic == null) return;
@@ -93,6 +94,23 @@ public class AudioManager implements Disposable {
         }
     }
 
+    /**
+     * Ask for the attack sound from any thread, it plays on the next {@link #playQueuedSounds()}
+     */
+    public void queueAtkSound() {
+        atkSoundQueued = true;
+    }
+
+    /**
+     * Play the sounds queued since the previous call. Must be called on the render thread.
+     */
+    public void playQueuedSounds() {
+        if (atkSoundQueued) {
+            atkSoundQueued = false;
+            playAtkSound();
+        }
+    }
+
     public void setMusicVolume(float volume) {
         this.musicVolume = Math.max(0f, Math.min(1f, volume));
         if (currentMusic != null) {
@@ -166,9 +184,12 @@ public class AudioManager implements Disposable {
 
     @Override
     public void dispose() {
-        menuMusic.dispose();
-        gameMusic.dispose();
-        btnClicked.dispose();
-        atkSound.dispose();
+        stopCurrentMusic();
+        menuMusic = null;
+        gameMusic = null;
+        currentMusic = null;
+        btnClicked = null;
+        atkSound = null;
+        instance = null;
     }
 }
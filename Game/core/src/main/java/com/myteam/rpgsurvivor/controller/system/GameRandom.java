@@ -0,0 +1,51 @@
+package com.myteam.rpgsurvivor.controller.system;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * The only source of randomness of the simulation: spawn types and positions, skill targets.
+ * {@link GameSimulation} reseeds it when a run starts, so the same seed and the same input
+ * give the same run. Only the simulation thread draws from it, drawing elsewhere shifts the sequence.
+ */
+public class GameRandom extends RandomXS128 {
+    private static GameRandom instance;
+
+    private long seed;
+
+    public static GameRandom getInstance() {
+        if (instance == null) {
+            instance = new GameRandom();
+        }
+        return instance;
+    }
+
+    private GameRandom() {
+        reseed(0);
+    }
+
+    /**
+     * Restart the sequence from the given seed
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        setSeed(seed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return a random number between 0 and range, both inclusive, like {@link com.badlogic.gdx.math.MathUtils#random(int)}
+     */
+    public int random(int range) {
+        return nextInt(range + 1);
+    }
+
+    /**
+     * @return a random number between start (inclusive) and end (exclusive)
+     */
+    public float random(float start, float end) {
+        return start + nextFloat() * (end - start);
+    }
+}
@@ -0,0 +1,183 @@
+package com.myteam.rpgsurvivor.controller.system;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.myteam.rpgsurvivor.controller.EnemySpawnController;
+import com.myteam.rpgsurvivor.controller.combat.CombatEventQueue;
+import com.myteam.rpgsurvivor.controller.spatial.CollisionGrid;
+import com.myteam.rpgsurvivor.debug.FrameProfiler;
+import com.myteam.rpgsurvivor.input.Replay;
+import com.myteam.rpgsurvivor.model.Player;
+import com.myteam.rpgsurvivor.model.impl.Hero.Archer;
+import com.myteam.rpgsurvivor.model.impl.Hero.Knight;
+import com.myteam.rpgsurvivor.model.impl.Hero.Samurai;
+import com.myteam.rpgsurvivor.model.impl.Hero.Wizard;
+import com.myteam.rpgsurvivor.render.ViewCulling;
+
+/**
+ * Everything that advances in a fixed step: the hero with its attacks and skills,
+ * the enemy spawner and the stage progression. Holds no renderer, so the same
+ * loop runs inside {@link com.myteam.rpgsurvivor.screens.MapScreen} and in the headless runner.
+ * {@link #render(Batch, float)} only issues draws, MapScreen records them off the GL thread.
+ * All randomness comes from {@link GameRandom}, seeded here: the seed plus a {@link Replay} reproduce a run.
+ */
+public class GameSimulation {
+    private Player hero;
+    private final String heroType;
+    private final long seed;
+    private final TiledMap map;
+    private final CollisionGrid collisionGrid;
+    private final EnemySpawnController enemySpawnController;
+    private final StageController stageController;
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    private final CombatEventQueue combatEvents = CombatEventQueue.getInstance();
+    private final ViewCulling culling = ViewCulling.getInstance();
+    private Replay recording;
+
+    public GameSimulation(String heroType, TiledMap map) {
+        this(heroType, map, CollisionGrid.fromMap(map));
+    }
+
+    /**
+     * @param collisionGrid Walls of the map, built once when the map is loaded
+     */
+    public GameSimulation(String heroType, TiledMap map, CollisionGrid collisionGrid) {
+        this(heroType, map, collisionGrid, TimeUtils.millis());
+    }
+
+    /**
+     * @param seed Seed of {@link GameRandom} for this run
+     */
+    public GameSimulation(String heroType, TiledMap map, CollisionGrid collisionGrid, long seed) {
+        // Gieo lại trước khi tạo bất cứ thứ gì có thể rút số ngẫu nhiên
+        GameRandom.getInstance().reseed(seed);
+        this.heroType = heroType;
+        this.seed = seed;
+        this.map = map;
+        this.collisionGrid = collisionGrid;
+        this.hero = createHero(heroType, 400, 400);
+        hero.setCollisionGrid(collisionGrid);
+
+        enemySpawnController = new EnemySpawnController(hero, map, collisionGrid);
+        stageController = new StageController(enemySpawnController, hero);
+
+        enemySpawnController.setMaxEnemiesOnMap(5);
+        enemySpawnController.setSpawnInterval(3.0f);
+        enemySpawnController.setTimeBetweenWaves(45.0f);
+
+        hero.setEnemySpawnController(enemySpawnController);
+    }
+
+    public static Player createHero(String heroType, float x, float y) {
+        switch (heroType)
+        {
+            case "Samurai" :
+                return new Samurai(x, y);
+            case "Archer" :
+                return new Archer(x, y);
+            case "Wizard" :
+                return new Wizard(x, y);
+            case "Knight" :
+            default:
+                return new Knight(x, y);
+        }
+    }
+
+    /**
+     * Advance one fixed step: hero first, then enemies against the hero's new position,
+     * then the damage both sides dealt during the step in one pass
+     */
+    public void step(float deltaTime) {
+        if (recording != null) {
+            recording.record(hero, stageController.getCurrentStage());
+        }
+        profiler.begin(FrameProfiler.Section.HERO_UPDATE);
+        hero.update(deltaTime);
+        profiler.end(FrameProfiler.Section.HERO_UPDATE);
+        stageController.update(deltaTime);
+
+        profiler.begin(FrameProfiler.Section.COMBAT_RESOLVE);
+        combatEvents.flush();
+        profiler.end(FrameProfiler.Section.COMBAT_RESOLVE);
+    }
+
+    /**
+     * Centre {@link ViewCulling}'s view on the hero, then draw the hero and the enemies of the current wave in it
+     */
+    public void render(Batch batch, float alpha) {
+        culling.resetCounts();
+        followHero(alpha);
+        hero.render(batch, alpha);
+        if (enemySpawnController.isBossWave()) {
+            profiler.begin(FrameProfiler.Section.RENDER_BOSS);
+            enemySpawnController.renderBoss(batch, alpha);
+            profiler.end(FrameProfiler.Section.RENDER_BOSS);
+        } else {
+            profiler.begin(FrameProfiler.Section.RENDER_CREEP);
+            enemySpawnController.renderCreep(batch, alpha);
+            profiler.end(FrameProfiler.Section.RENDER_CREEP);
+        }
+    }
+
+    /**
+     * Centre {@link ViewCulling}'s view on the middle of the hero's hitbox at its interpolated position
+     */
+    public void followHero(float alpha) {
+        culling.follow(hero.getRenderX(alpha) + hero.getOffsetX() + hero.getHitbox().width / 2f,
+            hero.getRenderY(alpha) + hero.getOffsetY() + hero.getHitbox().height / 2f);
+    }
+
+    public void dispose() {
+        combatEvents.clear();
+        stageController.dispose();
+        enemySpawnController.dispose();
+    }
+
+    public Player getHero() {
+        return hero;
+    }
+
+    /**
+     * Record the input of every following tick. Only a run recorded from its first tick can be replayed.
+     * @return the replay being recorded
+     */
+    public Replay startRecording() {
+        recording = new Replay(seed, heroType);
+        return recording;
+    }
+
+    public Replay getRecording() {
+        return recording;
+    }
+
+    public void setHero(Player hero) {
+        // Hero nạp từ file lưu không bắt đầu từ seed, bản ghi không phát lại được nữa
+        recording = null;
+        this.hero = hero;
+        hero.setCollisionGrid(collisionGrid);
+        hero.setEnemySpawnController(enemySpawnController);
+        enemySpawnController.setPlayer(hero);
+        stageController.setPlayer(hero);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public TiledMap getMap() {
+        return map;
+    }
+
+    public CollisionGrid getCollisionGrid() {
+        return collisionGrid;
+    }
+
+    public EnemySpawnController getEnemySpawnController() {
+        return enemySpawnController;
+    }
+
+    public StageController getStageController() {
+        return stageController;
+    }
+}
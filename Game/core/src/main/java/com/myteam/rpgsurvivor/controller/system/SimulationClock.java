@@ -0,0 +1,55 @@
+package com.myteam.rpgsurvivor.controller.system;
+
+/**
+ * Fixed-step simulation clock.
+ * Frame time is accumulated and consumed in {@link #STEP} sized ticks so the
+ * simulation runs at 60 ticks per second regardless of the monitor refresh rate.
+ */
+public class SimulationClock {
+    public static final int TICKS_PER_SECOND = 60;
+    public static final float STEP = 1f / TICKS_PER_SECOND;
+    // Giới hạn số tick bù trong một frame để tránh vòng xoáy khi máy bị chậm
+    public static final int MAX_STEPS_PER_FRAME = 5;
+
+    private float accumulator;
+    private long tickCount;
+
+    /**
+     * Add frame time to the accumulator
+     * @param frameDelta Real time elapsed since the previous frame
+     * @return Number of fixed steps the caller must simulate this frame
+     */
+    public int advance(float frameDelta) {
+        accumulator += Math.max(0f, frameDelta);
+
+        int steps = 0;
+        while (accumulator >= STEP && steps < MAX_STEPS_PER_FRAME) {
+            accumulator -= STEP;
+            steps++;
+        }
+
+        // Bỏ phần tồn đọng còn lại nếu đã chạm giới hạn tick bù
+        if (steps == MAX_STEPS_PER_FRAME && accumulator >= STEP) {
+            accumulator = accumulator % STEP;
+        }
+
+        tickCount += steps;
+        return steps;
+    }
+
+    /**
+     * @return Interpolation factor in [0, 1) between the previous and the current tick
+     */
+    public float getAlpha() {
+        return accumulator / STEP;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public void reset() {
+        accumulator = 0f;
+        tickCount = 0;
+    }
+}
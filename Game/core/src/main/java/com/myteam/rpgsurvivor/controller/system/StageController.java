@@ -0,0 +1,180 @@
+package com.myteam.rpgsurvivor.controller.system;
+
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
+import com.myteam.rpgsurvivor.controller.EnemySpawnController;
+import com.myteam.rpgsurvivor.debug.FrameProfiler;
+import com.myteam.rpgsurvivor.model.Player;
+
+/**
+ * Stage progression without any UI: runs the spawner while a stage is on, pauses it when
+ * the stage is cleared and scales the next wave when {@link #startNextStage()} is called.
+ * The game waits for the upgrade screen before starting the next stage, the headless runner starts it right away.
+ */
+public class StageController {
+    private final AssetRegistry assets = AssetRegistry.getInstance();
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    private EnemySpawnController enemySpawnController;
+    private Player player;
+    private StageListener listener;
+
+    private int currentStage;
+    private float stageTimer;
+    private float stageDuration;
+    private boolean stageCompleted;
+
+    private float stageTransitionTimer;
+    private float stageTransitionDelay;
+    private boolean isWaitingForNextStage;
+
+    // Sheet boss được nạp dần trong lúc chờ sang wave boss
+    private AssetManifest bossWaveAssets;
+
+    public StageController(EnemySpawnController enemySpawnController, Player player) {
+        this.enemySpawnController = enemySpawnController;
+        this.player = player;
+
+        this.currentStage = enemySpawnController.getCurrentWave();
+        this.stageTimer = 0f;
+        this.stageDuration = 30f;
+        this.stageCompleted = false;
+
+        this.stageTransitionTimer = 0f;
+        this.stageTransitionDelay = 10f;
+        this.isWaitingForNextStage = false;
+    }
+
+    public void update(float deltaTime) {
+        if (isWaitingForNextStage) {
+            stageTransitionTimer += deltaTime;
+            return;
+        }
+
+        profiler.begin(FrameProfiler.Section.SPAWN_UPDATE);
+        enemySpawnController.update(deltaTime);
+        profiler.end(FrameProfiler.Section.SPAWN_UPDATE);
+        stageTimer += deltaTime;
+
+        if (enemySpawnController.isPrepareToNextStage() && !isWaitingForNextStage) {
+            prepareForNextStage();
+        }
+    }
+
+    private void prepareForNextStage() {
+        stageCompleted = true;
+        isWaitingForNextStage = true;
+        stageTransitionTimer = 0f;
+        enemySpawnController.pauseSpawning();
+        if (enemySpawnController.isNextWaveBoss() && bossWaveAssets == null) {
+            bossWaveAssets = AssetManifest.bossWave();
+            assets.load(bossWaveAssets);
+        }
+        if (listener != null) {
+            listener.onStageCleared(currentStage);
+        }
+        System.out.println("Stage " + currentStage + " cleared. Preparing for next stage.");
+    }
+
+    public void startNextStage() {
+        if (bossWaveAssets != null) {
+            if (enemySpawnController.isBossWave()) {
+                // Wave boss vừa xong; animation đã cache vẫn giữ tham chiếu riêng
+                assets.release(bossWaveAssets);
+                bossWaveAssets = null;
+            } else {
+                assets.finishLoading();
+            }
+        }
+        currentStage++;
+        stageTimer = 0f;
+        stageCompleted = false;
+        isWaitingForNextStage = false;
+        if(enemySpawnController.isBossWave())
+        player.addSkillPoints(3);
+        player.addSkillPoints(3);
+        enemySpawnController.setDifficulty(currentStage - 1);
+        enemySpawnController.setTotalDeaths(0);
+        enemySpawnController.resumeSpawning();
+
+        adjustEnemySpawn();
+        player.recover10PercentHealth();
+        if (listener != null) {
+            listener.onStageStarted(currentStage);
+        }
+        System.out.println("Starting Stage " + currentStage);
+    }
+
+    private void adjustEnemySpawn() {
+        int waveNumber = enemySpawnController.getCurrentWave();
+        enemySpawnController.setEnemiesPerWave(Math.min((waveNumber - 1) * 2 + enemySpawnController.getEnemiesPerWave(), 100));
+
+        float currentSpawnInterval = enemySpawnController.getSpawnInterval();
+        enemySpawnController.setSpawnInterval(Math.max(currentSpawnInterval * 0.9f, 0.5f));
+
+        float currentTimeBetweenWaves = enemySpawnController.getTimeBetweenWaves();
+        enemySpawnController.setTimeBetweenWaves(Math.max(currentTimeBetweenWaves * 0.9f, 15f));
+
+        int maxEnemeyperWave = enemySpawnController.getMaxEnemiesOnMap();
+        enemySpawnController.setMaxEnemiesOnMap(Math.min(maxEnemeyperWave + waveNumber * 2 , 100));
+    }
+
+    /**
+     * Drop the boss wave assets still held, if any
+     */
+    public void dispose() {
+        if (bossWaveAssets != null) {
+            assets.release(bossWaveAssets);
+            bossWaveAssets = null;
+        }
+    }
+
+    public void setListener(StageListener listener) {
+        this.listener = listener;
+    }
+
+    public int getCurrentStage() {
+        return currentStage;
+    }
+
+    public float getStageTransitionTimer() {
+        return stageTransitionTimer;
+    }
+
+    /**
+     * Put the stage back to a saved point. Call after the spawner's wave was restored:
+     * the boss sheets are loaded again when the saved stage is a boss wave or waits for one.
+     */
+    public void restoreStage(int currentStage, float stageTimer, boolean waitingForNextStage, float stageTransitionTimer) {
+        this.currentStage = currentStage;
+        this.stageTimer = stageTimer;
+        this.isWaitingForNextStage = waitingForNextStage;
+        this.stageCompleted = waitingForNextStage;
+        this.stageTransitionTimer = stageTransitionTimer;
+
+        boolean bossWave = enemySpawnController.isBossWave();
+        if ((bossWave || waitingForNextStage && enemySpawnController.isNextWaveBoss()) && bossWaveAssets == null) {
+            bossWaveAssets = AssetManifest.bossWave();
+            assets.load(bossWaveAssets);
+            if (bossWave) {
+                // Boss được dựng lại ngay sau đây, cần sheet của nó
+                assets.finishLoading();
+            }
+        }
+    }
+
+    public float getStageTimer() {
+        return stageTimer;
+    }
+
+    public boolean isWaitingForNextStage() {
+        return isWaitingForNextStage;
+    }
+
+    public void setWaitingForNextStage(boolean waitingForNextStage) {
+        isWaitingForNextStage = waitingForNextStage;
+    }
+
+    public void setPlayer(Player player) {
+        this.player = player;
+    }
+}
@@ -0,0 +1,14 @@
+package com.myteam.rpgsurvivor.controller.system;
+
+/**
+ * Notified by {@link StageController} when a stage ends and when the next one begins
+ */
+public interface StageListener {
+    /**
+     * All enemies of the stage are dead, spawning is paused until
+     * {@link StageController#startNextStage()} is called
+     */
+    void onStageCleared(int stage);
+
+    void onStageStarted(int stage);
+}
@@ -8,21 +8,24 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.myteam.rpgsurvivor.Main;
-import com.myteam.rpgsurvivor.controller.EnemySpawnController;
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
+import com.myteam.rpgsurvivor.debug.FrameProfiler;
 import com.myteam.rpgsurvivor.model.Player;
 import com.myteam.rpgsurvivor.screens.MapScreen;
 import com.myteam.rpgsurvivor.screens.UpgradeScreen;
 import com.myteam.rpgsurvivor.screens.UpgradeScreenListener;
 
-public class SystemController implements Screen {
-    private EnemySpawnController enemySpawnController;
+public class SystemController implements Screen, StageListener {
+    private final AssetRegistry assets = AssetRegistry.getInstance();
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    private StageController stageController;
     private OrthographicCamera camera;
     private Player player;
     private Main game;
@@ -35,16 +38,9 @@ public class SystemController implements Screen {
 
     private Texture frameStage;
 
-
-    private int currentStage;
-    private float stageTimer;
-    private float stageDuration;
-    private boolean stageCompleted;
-
-    private float stageTransitionTimer;
-    private float stageTransitionDelay;
-    private boolean isWaitingForNextStage;
     private boolean isShowingUpgradeScreen;
+    // onStageCleared có thể chạy trên luồng mô phỏng, màn nâng cấp được mở trong update()
+    private boolean upgradeScreenRequested;
 
 
     private BitmapFont font;
@@ -57,8 +53,11 @@ public class SystemController implements Screen {
     private int skillMod = 0;
     private int availablePoints = 10;
 
-    public SystemController(EnemySpawnController enemySpawnController, Player player, Main game, MapScreen mapScreen, OrthographicCamera camera) {
-        this.enemySpawnController = enemySpawnController;
+    // Sheet boss được nạp dần trong lúc hiện màn nâng cấp trước wave boss
+    private static final int WAVE_LOAD_BUDGET_MILLIS = 4;
+
+    public SystemController(StageController stageController, Player player, Main game, MapScreen mapScreen, OrthographicCamera camera) {
+        this.stageController = stageController;
         this.player = player;
         this.game = game;
         this.mapScreen = mapScreen;
@@ -68,34 +67,18 @@ public class SystemController implements Screen {
         this.stage1 = new Stage(viewport, batch);
         this.upgradeScreen = new UpgradeScreen(camera, game, player);
 
-        this.currentStage = enemySpawnController.getCurrentWave();
-        this.stageTimer = 0f;
-        this.stageDuration = 30f;
-        this.stageCompleted = false;
-
-        this.stageTransitionTimer = 0f;
-        this.stageTransitionDelay = 10f;
-        this.isWaitingForNextStage = false;
         this.isShowingUpgradeScreen = false;
 
-        frameStage = new Texture(Gdx.files.internal("Menu/NoticeStage/Frame.png"));
+        frameStage = assets.getTexture("Menu/NoticeStage/Frame.png");
 
 
         createFont();
-        setupLabel(currentStage);
+        setupLabel(stageController.getCurrentStage());
+        stageController.setListener(this);
     }
 
     public void createFont() {
-        try {
-            FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("Menu/Font/antiquity-print.ttf"));
-            FreeTypeFontGenerator.FreeTypeFontParameter titleParams = new FreeTypeFontGenerator.FreeTypeFontParameter();
-            titleParams.size = 36;
-            titleParams.color = Color.BLACK;
-
-            font = generator.generateFont(titleParams);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        font = assets.getFont(AssetManifest.FONT_TITLE);
         description = new Label.LabelStyle(font, Color.BLACK);
     }
 
@@ -120,32 +103,33 @@ public class SystemController implements Screen {
         stage.addActor(stageLabel);
     }
 
+    /**
+     * Open the upgrade screen when a stage was cleared, start the next stage once the player closed it.
+     * Spawning and stage timers are stepped by {@link StageController}.
+     * Called on the render thread while the simulation is idle, starting a stage saves the game.
+     */
     public void update(float deltaTime) {
-        if (isWaitingForNextStage) {
-            stageTransitionTimer += deltaTime;
-            if (upgradeScreen.isDone()) {
-                startNextStage();
-            }
+        if (upgradeScreenRequested) {
+            upgradeScreenRequested = false;
+            showUpgradeScreen();
             return;
         }
-
-        enemySpawnController.update(deltaTime);
-        stageTimer += deltaTime;
-
-        if (enemySpawnController.isPrepareToNextStage() && !isWaitingForNextStage) {
-            prepareForNextStage();
+        if (stageController.isWaitingForNextStage() && upgradeScreen.isDone()) {
+            stageController.startNextStage();
+            // Gộp journal của stage vừa xong vào một bản lưu đầy đủ
+            mapScreen.checkpoint();
         }
-
     }
 
+    @Override
+    public void onStageCleared(int stage) {
+        upgradeScreenRequested = true;
+    }
 
-    private void prepareForNextStage() {
-        stageCompleted = true;
-        isWaitingForNextStage = true;
-        stageTransitionTimer = 0f;
-        enemySpawnController.pauseSpawning();
-        showUpgradeScreen();
-        System.out.println("Stage " + currentStage + " cleared. Preparing for next stage.");
+    @Override
+    public void onStageStarted(int stage) {
+        isShowingUpgradeScreen = false;
+        setupLabel(stage);
     }
 
     private void showUpgradeScreen() {
@@ -155,40 +139,6 @@ public class SystemController implements Screen {
         upgradeScreen.reset();
     }
 
-    private void startNextStage() {
-        currentStage++;
-        stageTimer = 0f;
-        isShowingUpgradeScreen = false;
-        stageCompleted = false;
-        isWaitingForNextStage = false;
-        if(enemySpawnController.isBossWave())
-        player.addSkillPoints(3);
-        player.addSkillPoints(3);
-        enemySpawnController.setDifficulty(currentStage - 1);
-        enemySpawnController.setTotalDeaths(0);
-        enemySpawnController.resumeSpawning();
-
-        setupLabel(currentStage);
-        adjustEnemySpawn();
-        player.recover10PercentHealth();
-        System.out.println("Starting Stage " + currentStage);
-    }
-
-    private void adjustEnemySpawn() {
-        int waveNumber = enemySpawnController.getCurrentWave();
-        enemySpawnController.setEnemiesPerWave(Math.min((waveNumber - 1) * 2 + enemySpawnController.getEnemiesPerWave(), 100));
-
-        float currentSpawnInterval = enemySpawnController.getSpawnInterval();
-        enemySpawnController.setSpawnInterval(Math.max(currentSpawnInterval * 0.9f, 0.5f));
-
-        float currentTimeBetweenWaves = enemySpawnController.getTimeBetweenWaves();
-        enemySpawnController.setTimeBetweenWaves(Math.max(currentTimeBetweenWaves * 0.9f, 15f));
-
-        int maxEnemeyperWave = enemySpawnController.getMaxEnemiesOnMap();
-        enemySpawnController.setMaxEnemiesOnMap(Math.min(maxEnemeyperWave + waveNumber * 2 , 100));
-    }
-
-
     @Override
     public void show() {
 
@@ -202,8 +152,14 @@ public class SystemController implements Screen {
             upgradeScreen.render(delta);
         }
 
+        if (stageController.isWaitingForNextStage()) {
+            assets.update(WAVE_LOAD_BUDGET_MILLIS);
+        }
+
         stage.act(delta);
+        profiler.begin(FrameProfiler.Section.STAGE_DRAW);
         stage.draw();
+        profiler.end(FrameProfiler.Section.STAGE_DRAW);
 
 
     }
@@ -232,14 +188,6 @@ public class SystemController implements Screen {
             upgradeScreen.dispose();
         }
 
-        if (frameStage != null) {
-            frameStage.dispose();
-        }
-
-        if (game != null) {
-            game.dispose();
-        }
-
         if (camera != null) {
             camera = null;
         }
@@ -247,11 +195,11 @@ public class SystemController implements Screen {
     }
 
     public boolean isWaitingForNextStage() {
-        return isWaitingForNextStage;
+        return stageController.isWaitingForNextStage();
     }
 
     public void setWaitingForNextStage(boolean waitingForNextStage) {
-        isWaitingForNextStage = waitingForNextStage;
+        stageController.setWaitingForNextStage(waitingForNextStage);
     }
 
 
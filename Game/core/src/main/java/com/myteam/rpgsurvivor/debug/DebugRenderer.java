@@ -3,59 +3,127 @@ package com.myteam.rpgsurvivor.debug;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Debug outlines of hitboxes and skill areas. The simulation adds shapes while it steps and records,
+ * {@link #collect(Shapes)} moves them into the snapshot of that frame and the GL thread draws the
+ * snapshot's shapes with {@link #render(Shapes, Matrix4)}, so shapes are double-buffered like sprites.
+ */
 public class DebugRenderer {
 
-    private static final ShapeRenderer shapeRenderer = new ShapeRenderer();
+    // Tạo khi vẽ lần đầu: drawRect được gọi từ update, kể cả khi chạy không có GL
+    private static ShapeRenderer shapeRenderer;
+    // Chỉ đổi giữa await và submit, luồng mô phỏng thấy giá trị mới qua lần giao job
     private static boolean enabled = false;
 
-    private static final List<DebugShape> shapesToDraw = new ArrayList<>();
+    // Shape của job đang chạy, chỉ luồng mô phỏng ghi vào
+    private static final Shapes recording = new Shapes();
 
+    /**
+     * Call on the render thread while the simulation is idle
+     */
     public static void setEnabled(boolean isEnabled) {
         enabled = isEnabled;
     }
 
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
     public static void drawRect(Rectangle rect, Color color) {
         if (!enabled) return;
-        shapesToDraw.add(new DebugShape(rect, color));
+        DebugShape shape = recording.next();
+        shape.isCircle = false;
+        shape.rect.set(rect);
+        shape.color = color;
     }
 
     public static void drawCircle(Circle circle, Color color) {
         if (!enabled) return;
-        shapesToDraw.add(new DebugShape(circle, color));
+        DebugShape shape = recording.next();
+        shape.isCircle = true;
+        shape.circle.set(circle);
+        shape.color = color;
+    }
+
+    /**
+     * Move the shapes added since the last call into target, on the simulation thread at the end of a job
+     */
+    public static void collect(Shapes target) {
+        target.copyFrom(recording);
+        recording.clear();
     }
-    public static void render() {
-        if (!enabled || shapesToDraw.isEmpty()) return;
 
+    /**
+     * Draw the shapes of a recorded frame
+     * @param projection Projection of the world camera, shapes are in world units
+     */
+    public static void render(Shapes shapes, Matrix4 projection) {
+        if (!enabled || shapes.size == 0) return;
+
+        if (shapeRenderer == null) {
+            shapeRenderer = new ShapeRenderer();
+        }
+        shapeRenderer.setProjectionMatrix(projection);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        for (DebugShape shape : shapesToDraw) {
+        for (int i = 0; i < shapes.size; i++) {
+            DebugShape shape = shapes.list.get(i);
             shapeRenderer.setColor(shape.color);
-            if (shape.rect != null) {
-                shapeRenderer.rect(shape.rect.x, shape.rect.y, shape.rect.width, shape.rect.height);
-            } else if (shape.circle != null) {
+            if (shape.isCircle) {
                 shapeRenderer.circle(shape.circle.x, shape.circle.y, shape.circle.radius);
+            } else {
+                shapeRenderer.rect(shape.rect.x, shape.rect.y, shape.rect.width, shape.rect.height);
             }
         }
         shapeRenderer.end();
-        shapesToDraw.clear();
+    }
+
+    /**
+     * Shapes of one frame. Entries are reused between frames, only the first size ones are valid.
+     */
+    public static class Shapes {
+        private final List<DebugShape> list = new ArrayList<>();
+        private int size = 0;
+
+        private DebugShape next() {
+            if (size == list.size()) {
+                list.add(new DebugShape());
+            }
+            return list.get(size++);
+        }
+
+        private void copyFrom(Shapes other) {
+            size = 0;
+            for (int i = 0; i < other.size; i++) {
+                next().set(other.list.get(i));
+            }
+        }
+
+        public void clear() {
+            size = 0;
+        }
+
+        public int size() {
+            return size;
+        }
     }
 
     private static class DebugShape {
-        Rectangle rect;
+        final Rectangle rect = new Rectangle();
+        final Circle circle = new Circle();
         Color color;
-        Circle circle;
-        DebugShape(Rectangle rect, Color color) {
-            this.rect = new Rectangle(rect);
-            this.color = color;
-        }
+        boolean isCircle;
 
-        DebugShape(Circle circle, Color color) {
-            this.circle = new Circle(circle);
-            this.color = color;
+        void set(DebugShape other) {
+            rect.set(other.rect);
+            circle.set(other.circle);
+            color = other.color;
+            isCircle = other.isCircle;
         }
     }
 }
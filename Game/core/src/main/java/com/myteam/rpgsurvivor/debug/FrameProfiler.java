@@ -0,0 +1,299 @@
+package com.myteam.rpgsurvivor.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-frame timings and counters for the game screen. Sections are timed with
+ * {@link #begin(Section)} / {@link #end(Section)}, summed over the frame and pushed into
+ * a rolling window by {@link #endFrame()}. While disabled every call returns after one branch.
+ * <p>
+ * Sections timed on the simulation worker go to accumulators of their own, folded into the frame by
+ * {@link #endFrame()}. Enabling, clearing, closing a frame and exporting happen on the render thread
+ * while the worker is idle, between RenderPipeline.await and submit.
+ */
+public class FrameProfiler {
+    // Số frame giữ lại để tính p50/p99, khoảng 5 giây ở 60 fps
+    public static final int WINDOW = 300;
+
+    public enum Section {
+        MAP_UPDATE("MapScreen.update"),
+        SIMULATION_WAIT("wait for simulation"),
+        HERO_UPDATE("Hero.update"),
+        SKILL_UPDATE("Skill.update"),
+        SPAWN_UPDATE("EnemySpawnController.update"),
+        COMBAT_RESOLVE("CombatEventQueue.flush"),
+        MAP_RENDER("MapScreen.render"),
+        RENDER_CREEP("renderCreep"),
+        RENDER_BOSS("renderBoss"),
+        STAGE_DRAW("Stage.draw"),
+        DEBUG_RENDER("DebugRenderer.render");
+
+        public final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+    }
+
+    public enum Counter {
+        ENEMIES("enemies"),
+        PROJECTILES("projectiles"),
+        CULLED_ENTITIES("culled entities"),
+        CULLED_PROJECTILES("culled projectiles"),
+        CULLED_EFFECTS("culled effects"),
+        TILE_CHUNKS("tile chunks"),
+        RENDER_CALLS("render calls"),
+        TEXTURE_BINDS("texture binds"),
+        DRAW_CALLS("draw calls"),
+        GC_EVENTS("gc events"),
+        GC_MILLIS("gc ms");
+
+        public final String label;
+
+        Counter(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Section[] SECTIONS = Section.values();
+    private static final Counter[] COUNTERS = Counter.values();
+
+    private static FrameProfiler instance;
+
+    private boolean enabled;
+    // Luồng gọi setEnabled(true); section của các luồng khác cộng vào workerNanos
+    private Thread renderThread;
+    private GLProfiler glProfiler;
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long lastGcCount = -1;
+    private long lastGcMillis;
+
+    // Thời điểm begin và tổng thời gian của từng section trong frame hiện tại
+    private final long[] startNanos = new long[SECTIONS.length];
+    private final long[] frameNanos = new long[SECTIONS.length];
+    private final long[] workerStartNanos = new long[SECTIONS.length];
+    private final long[] workerNanos = new long[SECTIONS.length];
+    private final int[] frameCounts = new int[COUNTERS.length];
+
+    // Cửa sổ trượt: sectionSamples[section][frame] tính bằng ms
+    private final float[][] sectionSamples = new float[SECTIONS.length][WINDOW];
+    private final int[][] counterSamples = new int[COUNTERS.length][WINDOW];
+    private final float[] sortScratch = new float[WINDOW];
+    private int head;
+    private int sampleCount;
+    private long frameIndex;
+
+    public static FrameProfiler getInstance() {
+        if (instance == null) {
+            instance = new FrameProfiler();
+        }
+        return instance;
+    }
+
+    private FrameProfiler() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turn collection on or off. Must be called on the render thread while the simulation is idle:
+     * enabling wraps Gdx.gl in a {@link GLProfiler} to count texture binds and draw calls.
+     */
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+
+        if (enabled) {
+            renderThread = Thread.currentThread();
+            if (glProfiler == null && Gdx.graphics != null) {
+                glProfiler = new GLProfiler(Gdx.graphics);
+            }
+            if (glProfiler != null) {
+                glProfiler.enable();
+                glProfiler.reset();
+            }
+            clear();
+        } else if (glProfiler != null) {
+            glProfiler.disable();
+        }
+    }
+
+    public void begin(Section section) {
+        if (!enabled) return;
+        long[] start = Thread.currentThread() == renderThread ? startNanos : workerStartNanos;
+        start[section.ordinal()] = TimeUtils.nanoTime();
+    }
+
+    public void end(Section section) {
+        if (!enabled) return;
+        int i = section.ordinal();
+        if (Thread.currentThread() == renderThread) {
+            frameNanos[i] += TimeUtils.nanoTime() - startNanos[i];
+        } else {
+            workerNanos[i] += TimeUtils.nanoTime() - workerStartNanos[i];
+        }
+    }
+
+    public void count(Counter counter, int value) {
+        if (!enabled) return;
+        frameCounts[counter.ordinal()] = value;
+    }
+
+    /**
+     * Close the frame: read GL and GC counters, push every section and counter into the window.
+     * Call on the render thread after the simulation job of the frame was joined.
+     */
+    public void endFrame() {
+        if (!enabled) return;
+
+        if (glProfiler != null) {
+            frameCounts[Counter.TEXTURE_BINDS.ordinal()] = glProfiler.getTextureBindings();
+            frameCounts[Counter.DRAW_CALLS.ordinal()] = glProfiler.getDrawCalls();
+            glProfiler.reset();
+        }
+        readGarbageCollectors();
+
+        for (int i = 0; i < SECTIONS.length; i++) {
+            sectionSamples[i][head] = (frameNanos[i] + workerNanos[i]) / 1000000f;
+            frameNanos[i] = 0;
+            workerNanos[i] = 0;
+        }
+        for (int i = 0; i < COUNTERS.length; i++) {
+            counterSamples[i][head] = frameCounts[i];
+        }
+
+        head = (head + 1) % WINDOW;
+        if (sampleCount < WINDOW) sampleCount++;
+        frameIndex++;
+    }
+
+    private void readGarbageCollectors() {
+        long count = 0;
+        long millis = 0;
+        for (int i = 0, n = collectors.size(); i < n; i++) {
+            GarbageCollectorMXBean collector = collectors.get(i);
+            count += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        if (lastGcCount >= 0) {
+            frameCounts[Counter.GC_EVENTS.ordinal()] = (int) (count - lastGcCount);
+            frameCounts[Counter.GC_MILLIS.ordinal()] = (int) (millis - lastGcMillis);
+        }
+        lastGcCount = count;
+        lastGcMillis = millis;
+    }
+
+    public void clear() {
+        for (float[] samples : sectionSamples) Arrays.fill(samples, 0f);
+        for (int[] samples : counterSamples) Arrays.fill(samples, 0);
+        Arrays.fill(frameNanos, 0);
+        Arrays.fill(workerNanos, 0);
+        Arrays.fill(frameCounts, 0);
+        head = 0;
+        sampleCount = 0;
+        lastGcCount = -1;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * @param percentile 0..100
+     * @return the section time in ms at the given percentile of the window
+     */
+    public float percentile(Section section, float percentile) {
+        return percentile(sectionSamples[section.ordinal()], percentile);
+    }
+
+    public float percentile(Counter counter, float percentile) {
+        int[] samples = counterSamples[counter.ordinal()];
+        for (int i = 0; i < sampleCount; i++) {
+            sortScratch[i] = samples[i];
+        }
+        return sortedPercentile(percentile);
+    }
+
+    private float percentile(float[] samples, float percentile) {
+        System.arraycopy(samples, 0, sortScratch, 0, sampleCount);
+        return sortedPercentile(percentile);
+    }
+
+    private float sortedPercentile(float percentile) {
+        if (sampleCount == 0) return 0f;
+        Arrays.sort(sortScratch, 0, sampleCount);
+        int index = (int) Math.ceil(percentile / 100f * sampleCount) - 1;
+        return sortScratch[Math.max(0, Math.min(sampleCount - 1, index))];
+    }
+
+    /**
+     * Write every frame of the window, oldest first, one column per section (ms) and counter
+     */
+    public void exportCsv(FileHandle file) {
+        StringBuilder csv = new StringBuilder();
+        csv.append("frame");
+        for (Section section : SECTIONS) csv.append(',').append(section.label).append(" ms");
+        for (Counter counter : COUNTERS) csv.append(',').append(counter.label);
+        csv.append('\n');
+
+        long firstFrame = frameIndex - sampleCount;
+        for (int n = 0; n < sampleCount; n++) {
+            int slot = (head - sampleCount + n + WINDOW) % WINDOW;
+            csv.append(firstFrame + n);
+            for (int i = 0; i < SECTIONS.length; i++) csv.append(',').append(sectionSamples[i][slot]);
+            for (int i = 0; i < COUNTERS.length; i++) csv.append(',').append(counterSamples[i][slot]);
+            csv.append('\n');
+        }
+        file.writeString(csv.toString(), false);
+    }
+
+    /**
+     * Write p50/p99/max of every section and counter over the window
+     */
+    public void exportJson(FileHandle file) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"frames\": ").append(sampleCount).append(",\n  \"sections\": {\n");
+        for (int i = 0; i < SECTIONS.length; i++) {
+            Section section = SECTIONS[i];
+            appendSummary(json, section.label, percentile(section, 50), percentile(section, 99), percentile(section, 100));
+            json.append(i < SECTIONS.length - 1 ? ",\n" : "\n");
+        }
+        json.append("  },\n  \"counters\": {\n");
+        for (int i = 0; i < COUNTERS.length; i++) {
+            Counter counter = COUNTERS[i];
+            appendSummary(json, counter.label, percentile(counter, 50), percentile(counter, 99), percentile(counter, 100));
+            json.append(i < COUNTERS.length - 1 ? ",\n" : "\n");
+        }
+        json.append("  }\n}\n");
+        file.writeString(json.toString(), false);
+    }
+
+    private static void appendSummary(StringBuilder json, String name, float p50, float p99, float max) {
+        json.append("    \"").append(name).append("\": {\"p50\": ").append(p50)
+            .append(", \"p99\": ").append(p99)
+            .append(", \"max\": ").append(max).append('}');
+    }
+
+    /**
+     * Export the window as profiles/frame-&lt;time&gt;.csv and .json in local storage
+     * @return the CSV file that was written
+     */
+    public FileHandle export() {
+        String name = "profiles/frame-" + TimeUtils.millis();
+        FileHandle csv = Gdx.files.local(name + ".csv");
+        exportCsv(csv);
+        exportJson(Gdx.files.local(name + ".json"));
+        Gdx.app.log("FrameProfiler", "Exported " + sampleCount + " frames to " + csv.path());
+        return csv;
+    }
+}
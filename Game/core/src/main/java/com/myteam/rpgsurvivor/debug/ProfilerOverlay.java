@@ -0,0 +1,87 @@
+package com.myteam.rpgsurvivor.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Text panel in the top right corner with rolling p50/p99 of every {@link FrameProfiler}
+ * section and counter. The text is rebuilt twice per second, not every frame.
+ */
+public class ProfilerOverlay implements Disposable {
+    private static final float REFRESH_INTERVAL = 0.5f;
+    private static final float PANEL_WIDTH = 330f;
+    private static final float MARGIN = 10f;
+
+    private final FrameProfiler profiler;
+    private SpriteBatch batch;
+    private BitmapFont font;
+    private final StringBuilder text = new StringBuilder(1024);
+    private float refreshTimer = REFRESH_INTERVAL;
+
+    public ProfilerOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    public void render(float delta) {
+        if (!profiler.isEnabled()) return;
+
+        // Tạo khi bật lần đầu, không tốn gì nếu không bao giờ mở overlay
+        if (batch == null) {
+            batch = new SpriteBatch();
+            font = new BitmapFont();
+            font.setColor(Color.WHITE);
+        }
+
+        refreshTimer += delta;
+        if (refreshTimer >= REFRESH_INTERVAL) {
+            refreshTimer = 0f;
+            rebuildText();
+        }
+
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        batch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        batch.begin();
+        font.draw(batch, text, width - PANEL_WIDTH - MARGIN, height - MARGIN);
+        batch.end();
+    }
+
+    private void rebuildText() {
+        text.setLength(0);
+        text.append("Profiler (").append(profiler.getSampleCount()).append(" frames)   p50 / p99\n");
+        for (FrameProfiler.Section section : FrameProfiler.Section.values()) {
+            text.append(section.label).append(": ");
+            appendMillis(profiler.percentile(section, 50));
+            text.append(" / ");
+            appendMillis(profiler.percentile(section, 99));
+            text.append(" ms\n");
+        }
+        for (FrameProfiler.Counter counter : FrameProfiler.Counter.values()) {
+            text.append(counter.label).append(": ")
+                .append((int) profiler.percentile(counter, 50)).append(" / ")
+                .append((int) profiler.percentile(counter, 99)).append('\n');
+        }
+        text.append("F4 hide, F5 export");
+    }
+
+    private void appendMillis(float millis) {
+        int hundredths = Math.round(millis * 100f);
+        text.append(hundredths / 100).append('.');
+        int fraction = hundredths % 100;
+        if (fraction < 10) text.append('0');
+        text.append(fraction);
+    }
+
+    @Override
+    public void dispose() {
+        if (batch != null) {
+            batch.dispose();
+            font.dispose();
+            batch = null;
+            font = null;
+        }
+    }
+}
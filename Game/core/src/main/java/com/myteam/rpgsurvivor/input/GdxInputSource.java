@@ -0,0 +1,23 @@
+package com.myteam.rpgsurvivor.input;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Keyboard of the running application
+ */
+public class GdxInputSource implements InputSource {
+    public static final GdxInputSource INSTANCE = new GdxInputSource();
+
+    private GdxInputSource() {
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        return Gdx.input.isKeyPressed(key);
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        return Gdx.input.isKeyJustPressed(key);
+    }
+}
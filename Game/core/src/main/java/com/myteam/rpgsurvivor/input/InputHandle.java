@@ -1,6 +1,5 @@
 package com.myteam.rpgsurvivor.input;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.myteam.rpgsurvivor.controller.movement.HeroMovement;
 import com.myteam.rpgsurvivor.model.Player;
@@ -8,6 +7,8 @@ import com.myteam.rpgsurvivor.model.Player;
 public class InputHandle {
     private Player player;
     private HeroMovement heroMovement;
+    // Mặc định đọc bàn phím; chạy headless hoặc replay thì thay bằng nguồn khác
+    private InputSource inputSource;
 
     public static final int ACTION_MOVE_UP = 0;
     public static final int ACTION_MOVE_DOWN = 1;
@@ -18,41 +19,73 @@ public class InputHandle {
 
     private boolean[] actions;
 
+    // Phím J/K được nhấn giữa hai tick mô phỏng, giữ lại cho tới khi tick kế tiếp đọc
+    private boolean pendingAttack;
+    private boolean pendingSkill;
+    // W/S/A/D đang giữ lúc latch, (1 << ACTION_MOVE_*); tick trên luồng mô phỏng chỉ đọc bản này
+    private int latchedMovement;
+
     public InputHandle(Player player , HeroMovement heroMovement)
     {
         this.player = player;
         this.heroMovement = heroMovement;
         this.actions = new boolean[10];
+        this.inputSource = GdxInputSource.INSTANCE;
     }
 
-    public boolean handleInput()
+    /**
+     * Latch the input once per rendered frame, on the thread that polls it, while the simulation is idle.
+     * Held movement keys are copied as they are now. The simulation may run zero ticks in a frame,
+     * so one-shot presses are held until consumed.
+     */
+    public void latchInput()
     {
-        resetActions();
-
-        // Thay đổi từ isKeyJustPressed sang isKeyPressed để kiểm tra khi phím đang được giữ
-        if(Gdx.input.isKeyPressed(Input.Keys.W))
+        int movement = 0;
+        if (inputSource.isKeyPressed(Input.Keys.W)) movement |= 1 << ACTION_MOVE_UP;
+        if (inputSource.isKeyPressed(Input.Keys.S)) movement |= 1 << ACTION_MOVE_DOWN;
+        if (inputSource.isKeyPressed(Input.Keys.A)) movement |= 1 << ACTION_MOVE_LEFT;
+        if (inputSource.isKeyPressed(Input.Keys.D)) movement |= 1 << ACTION_MOVE_RIGHT;
+        latchedMovement = movement;
+        if(inputSource.isKeyJustPressed(Input.Keys.J))
         {
-            actions[ACTION_MOVE_UP] = true;
+            pendingAttack = true;
         }
-        if(Gdx.input.isKeyPressed(Input.Keys.S))
+        if(inputSource.isKeyJustPressed(Input.Keys.K))
         {
-            actions[ACTION_MOVE_DOWN] = true;
+            pendingSkill = true;
         }
-        if(Gdx.input.isKeyPressed(Input.Keys.A))
-        {
-            actions[ACTION_MOVE_LEFT] = true;
-        }
-        if(Gdx.input.isKeyPressed(Input.Keys.D))
-        {
-            actions[ACTION_MOVE_RIGHT] = true;
-        }
-        if(Gdx.input.isKeyJustPressed(Input.Keys.J))
+    }
+
+    /**
+     * The input {@link #handleInput()} would read now, one bit per action (1 &lt;&lt; ACTION_*).
+     * Recorded before every tick by {@link Replay}.
+     */
+    public int sampleActions()
+    {
+        int bits = latchedMovement;
+        if (pendingAttack) bits |= 1 << ACTION_ATTACK;
+        if (pendingSkill) bits |= 1 << ACTION_SKILL;
+        return bits;
+    }
+
+    public boolean handleInput()
+    {
+        resetActions();
+
+        // Phím di chuyển lấy từ lần latch, không đọc bàn phím từ luồng mô phỏng
+        actions[ACTION_MOVE_UP] = (latchedMovement & (1 << ACTION_MOVE_UP)) != 0;
+        actions[ACTION_MOVE_DOWN] = (latchedMovement & (1 << ACTION_MOVE_DOWN)) != 0;
+        actions[ACTION_MOVE_LEFT] = (latchedMovement & (1 << ACTION_MOVE_LEFT)) != 0;
+        actions[ACTION_MOVE_RIGHT] = (latchedMovement & (1 << ACTION_MOVE_RIGHT)) != 0;
+        if(pendingAttack)
         {
             actions[ACTION_ATTACK] = true;
+            pendingAttack = false;
         }
-        if(Gdx.input.isKeyJustPressed(Input.Keys.K))
+        if(pendingSkill)
         {
             actions[ACTION_SKILL] = true;
+            pendingSkill = false;
         }
 
         // Nếu đang di chuyển, cập nhật hướng di chuyển
@@ -117,6 +150,14 @@ public class InputHandle {
         return false;
     }
 
+    public InputSource getInputSource() {
+        return inputSource;
+    }
+
+    public void setInputSource(InputSource inputSource) {
+        this.inputSource = inputSource;
+    }
+
     /**
      * Đặt trạng thái của một hành động
      * @param actionCode Mã hành động cần đặt
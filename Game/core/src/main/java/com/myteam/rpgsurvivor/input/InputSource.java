@@ -0,0 +1,19 @@
+package com.myteam.rpgsurvivor.input;
+
+/**
+ * Where {@link InputHandle} reads key state from. The game polls the keyboard,
+ * the headless runner and replays feed keys from a script.
+ */
+public interface InputSource {
+    /**
+     * @param key Key code from {@link com.badlogic.gdx.Input.Keys}
+     * @return true while the key is held
+     */
+    boolean isKeyPressed(int key);
+
+    /**
+     * @param key Key code from {@link com.badlogic.gdx.Input.Keys}
+     * @return true only in the frame the key went down
+     */
+    boolean isKeyJustPressed(int key);
+}
@@ -0,0 +1,253 @@
+package com.myteam.rpgsurvivor.input;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.myteam.rpgsurvivor.model.Player;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Everything a run needs besides its seed: the {@link InputHandle} actions of every fixed tick,
+ * the ticks the next stage was started on and the upgrade points the hero had spent.
+ * Played back by {@link ReplayInputSource}, a run started from the same seed with the same hero
+ * then steps through exactly the same states.
+ * <p>
+ * The file is a header (magic, version, seed, hero type, tick count) followed by records in tick order.
+ * Input is run-length encoded, a hero holding the same keys for a second is one record of 3 bytes.
+ */
+public class Replay {
+    private static final int MAGIC = 0x52504752; // "RPGR"
+    private static final int VERSION = 1;
+    private static final int RECORD_INPUT = 0;
+    private static final int RECORD_STAGE = 1;
+    private static final int RECORD_POINTS = 2;
+    private static final int RECORD_END = 3;
+    // Máu, sát thương, tốc chạy, tốc đánh, cấp skill
+    public static final int POINT_KINDS = 5;
+
+    private final long seed;
+    private final String heroType;
+    // Một byte bit hành động cho mỗi tick
+    private final ByteArray inputs = new ByteArray();
+    private final IntArray stageTicks = new IntArray();
+    private final IntArray pointTicks = new IntArray();
+    // POINT_KINDS giá trị cho mỗi phần tử của pointTicks
+    private final IntArray pointValues = new IntArray();
+
+    private int lastStage = -1;
+    private final int[] lastPoints = new int[POINT_KINDS];
+    private final int[] points = new int[POINT_KINDS];
+
+    public Replay(long seed, String heroType) {
+        this.seed = seed;
+        this.heroType = heroType;
+    }
+
+    /**
+     * Record the tick about to be stepped: a stage start or spent points since the previous tick, then the input
+     */
+    public void record(Player hero, int stage) {
+        int tick = inputs.size;
+        if (lastStage >= 0 && stage != lastStage) {
+            stageTicks.add(tick);
+        }
+        lastStage = stage;
+
+        readPoints(hero, points);
+        for (int kind = 0; kind < POINT_KINDS; kind++) {
+            if (points[kind] != lastPoints[kind]) {
+                pointTicks.add(tick);
+                pointValues.addAll(points);
+                System.arraycopy(points, 0, lastPoints, 0, POINT_KINDS);
+                break;
+            }
+        }
+
+        inputs.add((byte) hero.getInputHandle().sampleActions());
+    }
+
+    public static void readPoints(Player hero, int[] out) {
+        out[0] = hero.getHealthPoints();
+        out[1] = hero.getDamagePoints();
+        out[2] = hero.getSpeedPoints();
+        out[3] = hero.getAttackSpeedPoints();
+        out[4] = hero.getLevelSkillPoints();
+    }
+
+    /**
+     * Spend or refund points one at a time through the upgrade screen's methods until the hero has the given points,
+     * so the stats change the same way
+     * @param points POINT_KINDS values, in the order of {@link #readPoints}
+     */
+    public static void spendPoints(Player hero, int[] points) {
+        while (hero.getHealthPoints() < points[0]) hero.spendSkillPointOnHealth();
+        while (hero.getHealthPoints() > points[0]) hero.deSpendSkillPointOnHealth();
+        while (hero.getDamagePoints() < points[1]) hero.spendSkillPointOnDamage();
+        while (hero.getDamagePoints() > points[1]) hero.deSpendSkillPointOnDamage();
+        while (hero.getSpeedPoints() < points[2]) hero.spendSkillPointOnSpeed();
+        while (hero.getSpeedPoints() > points[2]) hero.deSpendSkillPointOnSpeed();
+        while (hero.getAttackSpeedPoints() < points[3]) hero.spendSkillPointOnAttackSpeed();
+        while (hero.getAttackSpeedPoints() > points[3]) hero.deSpendSkillPointOnAttackSpeed();
+        while (hero.getLevelSkillPoints() < points[4]) hero.spendSkillPointOnSKill();
+        while (hero.getLevelSkillPoints() > points[4]) hero.deSpendSkillPointOnSKill();
+    }
+
+    public void write(FileHandle file) {
+        DataOutputStream out = null;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(file.write(false)));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(seed);
+            out.writeUTF(heroType);
+            writeVarInt(out, inputs.size);
+
+            int stageIndex = 0;
+            int pointIndex = 0;
+            int tick = 0;
+            while (tick < inputs.size) {
+                // Sự kiện đứng trước input của tick đó, giống thứ tự lúc ghi
+                while (pointIndex < pointTicks.size && pointTicks.get(pointIndex) == tick) {
+                    out.writeByte(RECORD_POINTS);
+                    for (int kind = 0; kind < POINT_KINDS; kind++) {
+                        writeVarInt(out, pointValues.get(pointIndex * POINT_KINDS + kind));
+                    }
+                    pointIndex++;
+                }
+                while (stageIndex < stageTicks.size && stageTicks.get(stageIndex) == tick) {
+                    out.writeByte(RECORD_STAGE);
+                    stageIndex++;
+                }
+
+                // Chuỗi tick cùng input dừng ở tick có sự kiện kế tiếp
+                int end = inputs.size;
+                if (pointIndex < pointTicks.size) end = Math.min(end, pointTicks.get(pointIndex));
+                if (stageIndex < stageTicks.size) end = Math.min(end, stageTicks.get(stageIndex));
+                byte bits = inputs.get(tick);
+                int run = 1;
+                while (tick + run < end && inputs.get(tick + run) == bits) run++;
+
+                out.writeByte(RECORD_INPUT);
+                out.writeByte(bits);
+                writeVarInt(out, run);
+                tick += run;
+            }
+            out.writeByte(RECORD_END);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Error writing replay " + file.path(), e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    public static Replay read(FileHandle file) {
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(file.read()));
+            if (in.readInt() != MAGIC) {
+                throw new GdxRuntimeException(file.path() + " is not a replay");
+            }
+            int version = in.readShort();
+            if (version != VERSION) {
+                throw new GdxRuntimeException("Unsupported replay version " + version + " in " + file.path());
+            }
+            Replay replay = new Replay(in.readLong(), in.readUTF());
+            int tickCount = readVarInt(in);
+            replay.inputs.ensureCapacity(tickCount);
+
+            while (true) {
+                int record = in.readByte();
+                switch (record) {
+                    case RECORD_INPUT:
+                        byte bits = in.readByte();
+                        for (int run = readVarInt(in); run > 0; run--) {
+                            replay.inputs.add(bits);
+                        }
+                        break;
+                    case RECORD_STAGE:
+                        replay.stageTicks.add(replay.inputs.size);
+                        break;
+                    case RECORD_POINTS:
+                        replay.pointTicks.add(replay.inputs.size);
+                        for (int kind = 0; kind < POINT_KINDS; kind++) {
+                            replay.pointValues.add(readVarInt(in));
+                        }
+                        break;
+                    case RECORD_END:
+                        if (replay.inputs.size != tickCount) {
+                            throw new GdxRuntimeException("Replay " + file.path() + " has " + replay.inputs.size
+                                + " ticks, expected " + tickCount);
+                        }
+                        return replay;
+                    default:
+                        throw new GdxRuntimeException("Unknown replay record " + record + " in " + file.path());
+                }
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Error reading replay " + file.path(), e);
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getHeroType() {
+        return heroType;
+    }
+
+    public int getTickCount() {
+        return inputs.size;
+    }
+
+    public int getInput(int tick) {
+        return inputs.get(tick);
+    }
+
+    public int getStageCount() {
+        return stageTicks.size;
+    }
+
+    public int getStageTick(int index) {
+        return stageTicks.get(index);
+    }
+
+    public int getPointsCount() {
+        return pointTicks.size;
+    }
+
+    public int getPointsTick(int index) {
+        return pointTicks.get(index);
+    }
+
+    public int getPoints(int index, int kind) {
+        return pointValues.get(index * POINT_KINDS + kind);
+    }
+}
@@ -0,0 +1,99 @@
+package com.myteam.rpgsurvivor.input;
+
+import com.badlogic.gdx.Input;
+import com.myteam.rpgsurvivor.controller.system.GameSimulation;
+import com.myteam.rpgsurvivor.model.Player;
+
+/**
+ * Feeds a {@link Replay} back into a simulation started with the replay's seed and hero type.
+ * Before every tick call {@link #advance(GameSimulation)}, then {@link InputHandle#latchInput()},
+ * then {@link GameSimulation#step(float)}: the same order MapScreen uses.
+ */
+public class ReplayInputSource implements InputSource {
+    private final Replay replay;
+    private final int[] points = new int[Replay.POINT_KINDS];
+    private int tick = -1;
+    private int bits;
+    private int stageIndex;
+    private int pointsIndex;
+
+    public ReplayInputSource(Replay replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Move to the next tick: spend the hero's points and start the next stage where the recording did
+     * @return false once every recorded tick was played
+     */
+    public boolean advance(GameSimulation simulation) {
+        tick++;
+        if (tick >= replay.getTickCount()) {
+            bits = 0;
+            return false;
+        }
+
+        // Điểm được cộng trên màn nâng cấp, trước khi stage mới bắt đầu
+        while (pointsIndex < replay.getPointsCount() && replay.getPointsTick(pointsIndex) == tick) {
+            spendPoints(simulation.getHero(), pointsIndex++);
+        }
+        while (stageIndex < replay.getStageCount() && replay.getStageTick(stageIndex) == tick) {
+            simulation.getStageController().startNextStage();
+            stageIndex++;
+        }
+        bits = replay.getInput(tick);
+        return true;
+    }
+
+    /**
+     * Give the hero the points of the record, as the upgrade screen would
+     */
+    private void spendPoints(Player hero, int index) {
+        for (int kind = 0; kind < Replay.POINT_KINDS; kind++) {
+            points[kind] = replay.getPoints(index, kind);
+        }
+        Replay.spendPoints(hero, points);
+    }
+
+    private boolean isActive(int action) {
+        return (bits & (1 << action)) != 0;
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        switch (key) {
+            case Input.Keys.W:
+                return isActive(InputHandle.ACTION_MOVE_UP);
+            case Input.Keys.S:
+                return isActive(InputHandle.ACTION_MOVE_DOWN);
+            case Input.Keys.A:
+                return isActive(InputHandle.ACTION_MOVE_LEFT);
+            case Input.Keys.D:
+                return isActive(InputHandle.ACTION_MOVE_RIGHT);
+            default:
+                return isKeyJustPressed(key);
+        }
+    }
+
+    /**
+     * The attack and skill bits were recorded as latched presses, replaying them as a press on the same tick latches them again
+     */
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        switch (key) {
+            case Input.Keys.J:
+                return isActive(InputHandle.ACTION_ATTACK);
+            case Input.Keys.K:
+                return isActive(InputHandle.ACTION_SKILL);
+            default:
+                return false;
+        }
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public boolean isFinished() {
+        return tick >= replay.getTickCount();
+    }
+}
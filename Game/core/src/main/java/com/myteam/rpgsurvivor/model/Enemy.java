@@ -4,7 +4,7 @@
     import com.badlogic.gdx.graphics.Color;
     import com.badlogic.gdx.graphics.Texture;
     import com.badlogic.gdx.graphics.g2d.BitmapFont;
-    import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+    import com.badlogic.gdx.graphics.g2d.Batch;
     import com.badlogic.gdx.graphics.g2d.TextureRegion;
     import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
     import com.badlogic.gdx.math.Circle;
@@ -13,13 +13,16 @@
 
     import com.badlogic.gdx.scenes.scene2d.ui.Label;
     import com.myteam.rpgsurvivor.animation.AnimationForEnemy;
+    import com.myteam.rpgsurvivor.animation.AnimationLoader;
     import com.myteam.rpgsurvivor.animation.AnimationManager;
     import com.myteam.rpgsurvivor.controller.movement.EnemyMovement;
     import com.myteam.rpgsurvivor.debug.DebugRenderer;
     import com.myteam.rpgsurvivor.model.enum_type.BossType;
+    import com.myteam.rpgsurvivor.model.enum_type.EnemyHitbox;
     import com.myteam.rpgsurvivor.model.enum_type.HeroType;
     import com.myteam.rpgsurvivor.model.enum_type.MonsterType;
     import com.myteam.rpgsurvivor.model.enum_type.StateType;
+    import com.myteam.rpgsurvivor.render.ViewCulling;
 
     public abstract class Enemy extends Entity {
         // Stat
@@ -39,23 +42,29 @@
         private float offsetX;
         private float offsetY;
 
+
         private StateType currentState;
-        private EnemyMovement enemyMovement;
         private ShapeRenderer shapeRenderer;
         private Rectangle hitboxPlayer;
-        private Rectangle hitboxEnemy;
-
-
-        private Vector2 velocity = new Vector2();
-        private float knockbackDecay = 10f;
-        private float maxKnockbackSpeed = 300f;
+        // Khung sprite cho debug, dùng lại mỗi frame
+        private final Rectangle hitboxFrame = new Rectangle();
+        private static final ViewCulling culling = ViewCulling.getInstance();
+
+        // Slot trong EnemyStore; khi chưa gắn vào store thì dùng các field của chính object
+        private EnemyStore store;
+        int slot = -1;
+        private final int typeOrdinal;
+        // Chỉ số gốc của loại enemy, dùng khi lấy lại từ pool
+        private final MonsterType monsterType;
+        private final BossType bossType;
+        private final EnemyHitbox hitboxType;
 
         private boolean bossTurn;
 
-        private Texture frameHP;
-        private Texture fullBloodFrame ;
+        private TextureRegion frameHP;
+        private TextureRegion fullBloodFrame ;
 
-        private Texture bossName;
+        private TextureRegion bossName;
         private TextureRegion currentBloodFrame;
 
         private static final int BLOOD_FRAME_COLS = 6;
@@ -79,7 +88,11 @@
             this.entityY = y;
 
             // Stat
-            this.stat = enemyType.stat;
+            this.stat = copyStat(enemyType.stat);
+            this.typeOrdinal = enemyType.ordinal();
+            this.monsterType = enemyType;
+            this.bossType = null;
+            this.hitboxType = enemyType.hitbox;
             this.level = 1;
             this.currentHealth = stat.maxHealth;
 
@@ -95,8 +108,6 @@
             entityX = x;
             entityY = y;
             hitboxPlayer = targetPlayer.getHitbox();
-            hitboxEnemy = getHitBox();
-            this.enemyMovement = new EnemyMovement(x,y,player,enemyType.stat.moveSpeed);
             this.animationManager = animationFactory.createEnemyAnimation(enemyType);
             this.currentState = StateType.STATE_IDLE;
 
@@ -106,8 +117,6 @@
             this.attackRange = stat.rangeAttack;
             this.detectionRange = 1000f;
 
-            this.movement = new EnemyMovement(x,y, player, stat.moveSpeed);
-
             this.isInvisible = false;
             this.isInvulnerable = false;
             this.isInteracting = false;
@@ -117,6 +126,7 @@
 
             this.attackbox = new Rectangle(hitbox);
             attackbox.setSize(hitbox.getWidth() + attackRange , hitbox.getHeight() + attackRange);
+            storePreviousPosition();
         }
 
         public Enemy(float x, float y, BossType bossType, Player player, AnimationForEnemy animationFactory) {
@@ -124,7 +134,11 @@
             this.entityY = y;
 
             // Stat
-            this.stat = bossType.stat;
+            this.stat = copyStat(bossType.stat);
+            this.typeOrdinal = bossType.ordinal();
+            this.monsterType = null;
+            this.bossType = bossType;
+            this.hitboxType = bossType.hitbox;
             this.level = 1;
             this.currentHealth = stat.maxHealth;
 
@@ -140,8 +154,6 @@
             entityX = x;
             entityY = y;
             hitboxPlayer = targetPlayer.getHitbox();
-            hitboxEnemy = getHitBox();
-            this.enemyMovement = new EnemyMovement(x,y,player,bossType.stat.moveSpeed);
             this.animationManager = animationFactory.createBossAnimation(bossType);
             this.currentState = StateType.STATE_IDLE;
 
@@ -151,8 +163,6 @@
             this.attackRange = stat.rangeAttack;
             this.detectionRange = 1000f;
 
-            this.movement = new EnemyMovement(hitboxEnemy.x, hitboxEnemy.y, player, stat.moveSpeed);
-
             this.isInvisible = false;
             this.isInvulnerable = false;
             this.isInteracting = false;
@@ -161,8 +171,8 @@
             this.bossTurn = true;
 
             // Khởi tạo textures cho thanh máu của boss
-            frameHP = new Texture(Gdx.files.internal("Enemy/Asset For Boss/FrameHP.png"));
-            fullBloodFrame = new Texture(Gdx.files.internal("Enemy/Asset For Boss/FullBloodFrame.png"));
+            frameHP = AnimationLoader.getInstance().getRegion("Enemy/Asset For Boss/FrameHP.png");
+            fullBloodFrame = AnimationLoader.getInstance().getRegion("Enemy/Asset For Boss/FullBloodFrame.png");
 
             // Khởi tạo kích thước thanh máu
             innerBloodWidth = bloodBarWidth - (2 * bloodBarInnerPaddingX) + 30;
@@ -178,181 +188,219 @@
 
             if(BossType.SLIME_BOSS.name().equals(bossType.name()))
             {
-                bossName = new Texture(Gdx.files.internal("Enemy/Asset For Boss/SlimebossName.png"));
+                bossName = AnimationLoader.getInstance().getRegion("Enemy/Asset For Boss/SlimebossName.png");
             }
             else if(BossType.SKELETON_KING.name().equals(bossType.name()))
             {
-                bossName = new Texture(Gdx.files.internal("Enemy/Asset For Boss/Igris.png"));
+                bossName = AnimationLoader.getInstance().getRegion("Enemy/Asset For Boss/Igris.png");
             }
+            storePreviousPosition();
         }
 
-        private void setupBloodFrames() {
-            currentBloodFrame = new TextureRegion();
-            float frameWidth = fullBloodFrame.getWidth();
-            float frameHeight = fullBloodFrame.getHeight();
+        private static EntityStat copyStat(EntityStat stat) {
+            return new EntityStat(stat.maxHealth, stat.damage, stat.moveSpeed, stat.attackSpeed, stat.rangeAttack);
+        }
+
+        /**
+         * Restore a pooled enemy to its freshly spawned state at (x, y).
+         * Must be called while detached, before {@link #attach(EnemyStore)}.
+         */
+        public void reset(float x, float y) {
+            EntityStat base = monsterType != null ? monsterType.stat : bossType.stat;
+            stat.maxHealth = base.maxHealth;
+            stat.damage = base.damage;
+            stat.moveSpeed = base.moveSpeed;
+            stat.attackSpeed = base.attackSpeed;
+            stat.rangeAttack = base.rangeAttack;
 
-            currentBloodFrame = new TextureRegion(fullBloodFrame, 0 , 0, (int)frameWidth, (int)frameHeight);
+            entityX = x;
+            entityY = y;
+            previousEntityX = x;
+            previousEntityY = y;
+            currentHealth = stat.maxHealth;
+            level = 1;
+
+            hitbox.set(x + hitboxType.offsetX, y + hitboxType.offsetY, hitboxType.width, hitboxType.height);
+            attackCooldown = 1f / stat.attackSpeed;
+            attackTimer = 0;
+            hurtTimer = 0;
+            attackRange = stat.rangeAttack;
+            detectionRange = 1000f;
+            attackbox.set(hitbox.x, hitbox.y, hitbox.width + attackRange, hitbox.height + attackRange);
+
+            isDead = false;
+            isHurt = false;
+            isAttack = false;
+            facingRight = true;
+            currentState = StateType.STATE_IDLE;
+
+            animationManager.setFacingRight(true);
+            animationManager.resetState(StateType.STATE_IDLE);
         }
 
+        public MonsterType getMonsterType() {
+            return monsterType;
+        }
 
+        public BossType getBossType() {
+            return bossType;
+        }
 
-        private void updateHealth(float health) {
-            currentHealth = (int) Math.max(0, Math.min(health, getMaxHealth()));
+        private void setupBloodFrames() {
+            currentBloodFrame = new TextureRegion(fullBloodFrame);
         }
 
-        @Override
-        public void update(float deltaTime) {
-            updateHealth(getCurrentHealth());
-            // Cập nhật vị trí hitbox
-            if (!velocity.isZero()) {
-                entityX += velocity.x * deltaTime;
-                entityY += velocity.y * deltaTime;
-
-                float decay = knockbackDecay * deltaTime;
-                if (velocity.len() <= decay) {
-                    velocity.setZero();
-                } else {
-                    velocity.scl(1 - decay / velocity.len());
-                }
-            }
 
-            hitbox.setPosition(entityX + offsetX, entityY + offsetY);
 
-        if (isDead)
-        {
-            animationManager.setState(StateType.STATE_DEATH.stateType, true);
-            return;
+        /**
+         * Bind this handle to a slot of the store, copying the spawn state into the arrays.
+         * From here on position, hitbox, health and timers are read from the store.
+         */
+        public void attach(EnemyStore store) {
+            int index = store.add(this);
+            store.x[index] = entityX;
+            store.y[index] = entityY;
+            store.previousX[index] = previousEntityX;
+            store.previousY[index] = previousEntityY;
+            store.hitboxX[index] = hitbox.x;
+            store.hitboxY[index] = hitbox.y;
+            store.hitboxWidth[index] = hitbox.width;
+            store.hitboxHeight[index] = hitbox.height;
+            store.hitboxOffsetX[index] = offsetX;
+            store.hitboxOffsetY[index] = offsetY;
+            store.health[index] = currentHealth;
+            store.maxHealth[index] = stat.maxHealth;
+            store.damage[index] = stat.damage;
+            store.moveSpeed[index] = stat.moveSpeed;
+            store.attackRange[index] = attackRange;
+            store.detectionRange[index] = detectionRange;
+            store.attackCooldown[index] = attackCooldown;
+            store.attackTimer[index] = attackTimer;
+            store.hurtTimer[index] = hurtTimer;
+            store.state[index] = currentState.ordinal();
+            store.type[index] = typeOrdinal;
+
+            int flags = 0;
+            if (isDead) flags |= EnemyStore.FLAG_DEAD;
+            if (isHurt) flags |= EnemyStore.FLAG_HURT;
+            if (isAttack) flags |= EnemyStore.FLAG_ATTACKING;
+            if (facingRight) flags |= EnemyStore.FLAG_FACING_RIGHT;
+            if (bossTurn) flags |= EnemyStore.FLAG_BOSS;
+            store.flags[index] = flags;
+
+            this.store = store;
+            this.slot = index;
         }
 
-            // Cập nhật vị trí attackbox
-            if(isFacingRight()){
-                attackbox.setPosition(entityX + offsetX , entityY + offsetY);
-            } else {
-                attackbox.setPosition(entityX + offsetX - attackRange, entityY + offsetY);
-            }
-
-            if (isDead) return;
+        /**
+         * Copy the slot back into the handle's own fields. Called by the store on removal,
+         * so references kept by skills or summons stay readable.
+         */
+        void detach() {
+            if (store == null) return;
+            entityX = store.x[slot];
+            entityY = store.y[slot];
+            previousEntityX = store.previousX[slot];
+            previousEntityY = store.previousY[slot];
+            hitbox.setPosition(store.hitboxX[slot], store.hitboxY[slot]);
+            currentHealth = store.health[slot];
+            stat.maxHealth = store.maxHealth[slot];
+            stat.damage = store.damage[slot];
+            attackTimer = store.attackTimer[slot];
+            hurtTimer = store.hurtTimer[slot];
+            currentState = StateType.of(store.state[slot]);
+            int flags = store.flags[slot];
+            isDead = (flags & EnemyStore.FLAG_DEAD) != 0;
+            isHurt = (flags & EnemyStore.FLAG_HURT) != 0;
+            isAttack = (flags & EnemyStore.FLAG_ATTACKING) != 0;
+            facingRight = (flags & EnemyStore.FLAG_FACING_RIGHT) != 0;
+            store = null;
+            slot = -1;
+        }
 
-            if (isHurt) {
-                hurtTimer -= deltaTime;
-                if (hurtTimer <= 0) {
-                    isHurt = false;
-                } else {
-                    currentState = StateType.STATE_HURT;
-                    animationManager.setState(StateType.STATE_HURT.stateType, true);
-                    return;
-                }
-            }
+        public boolean isAttached() {
+            return store != null;
+        }
 
-            // Kiểm tra player có trong tầm phát hiện không
-            if (isPlayerInDetectionRange()) {
-                if (isPlayerInAttackRange()) {
-                    tryAttack();
-                }
-            }
+        public int getSlot() {
+            return slot;
+        }
 
-            if (attackTimer > 0) {
-                attackTimer -= deltaTime;
-            }
+        /**
+         * Per-handle part of the tick. Simulation state is advanced over the store arrays by
+         * {@link EnemyMovement}; this only mirrors the slot into the hitbox views and drives the animation.
+         */
+        @Override
+        public void update(float deltaTime) {
+            animationManager.update(deltaTime);
+            if (store == null) return;
 
-            float dx = 0;
-            // Tính hiệu dx nhỏ nhất
-            if(hitboxEnemy.getX() + hitboxEnemy.getWidth() < hitboxPlayer.getX())
-                dx = hitboxPlayer.getX() - (hitboxEnemy.getX() + hitboxEnemy.getWidth());
-            else if(hitboxPlayer.getX() + hitboxPlayer.getWidth() < hitboxEnemy.getX())
-                dx = hitboxEnemy.getX() - (hitboxPlayer.getX() + hitboxPlayer.getWidth());
-
-            float dy = 0;
-            // Tính hiệu dy nhỏ nhất
-            if(hitboxEnemy.getY() + hitboxEnemy.getHeight() < hitboxPlayer.getY())
-                dy = hitboxPlayer.getY() - (hitboxEnemy.getY() + hitboxEnemy.getHeight());
-            else if(hitboxPlayer.getY() + hitboxPlayer.getHeight() < hitboxEnemy.getY())
-                dy = hitboxEnemy.getY() - (hitboxPlayer.getY() + hitboxPlayer.getHeight());
-
-            float shortestDistanceToPlayer = (float) Math.sqrt(dx * dx + dy * dy);
-
-            if (shortestDistanceToPlayer <= detectionRange && shortestDistanceToPlayer > 0) {
-                currentState = StateType.STATE_RUN;
-                // Sử dụng deltaTime được truyền vào
-                Vector2 newDirection = enemyMovement.move(deltaTime);
-                entityX = newDirection.x;
-                entityY = newDirection.y;
-            }
-            else if (isPlayerInAttackRange()) {
-                if (isAttack) {
-                    currentState = StateType.STATE_ATTACK;
-                } else {
-                    currentState = StateType.STATE_IDLE;
-                }
+            hitbox.setPosition(store.hitboxX[slot], store.hitboxY[slot]);
+            if (isFacingRight()) {
+                attackbox.setPosition(hitbox.x, hitbox.y);
             } else {
-                currentState = StateType.STATE_IDLE;
+                attackbox.setPosition(hitbox.x - store.attackRange[slot], hitbox.y);
             }
 
-            if (targetPlayer.getHitbox().x > hitboxEnemy.getX() ) {
-                facingRight = true;
-            }
-            else {
-                facingRight = false;
-            }
-
-            if (animationManager != null) {
-                animationManager.setState(currentState.stateType, true);
+            animationManager.setFacingRight(isFacingRight());
+            animationManager.setState(store.state[slot], true);
 
-                if (isAttack && animationManager.isAnimationFinished()) {
-                    isAttack = false;
+            if (isDead()) {
+                if (animationManager.isAnimationFinished()) {
+                    store.flags[slot] |= EnemyStore.FLAG_DEATH_FINISHED;
                 }
+                return;
+            }
+
+            if (isAttack() && animationManager.isAnimationFinished()) {
+                store.flags[slot] &= ~EnemyStore.FLAG_ATTACKING;
             }
         }
 
         @Override
-        public void render(SpriteBatch batch, float deltaTime) {
-
-
-//        if (isDead || animationManager == null) {
-//            return;
-//        }
-
-
-
-            update(deltaTime);
-
-            animationManager.update(deltaTime);
+        public void render(Batch batch, float alpha) {
+            float drawX = getRenderX(alpha);
+            float drawY = getRenderY(alpha);
 
+            TextureRegion tr  = animationManager.getCurrentFrame();
+            // Creep đã được lọc theo tầm nhìn qua lưới enemy; boss kiểm tra ở đây vì thanh máu vẫn phải vẽ
+            boolean visible = !bossTurn
+                || culling.accept(ViewCulling.Kind.ENTITY, drawX, drawY, tr.getRegionWidth(), tr.getRegionHeight());
 
-        if (isDead)
+        if (isDead())
         {
-                batch.draw(animationManager.getCurrentFrame(), entityX, entityY);
+                if (visible) batch.draw(tr, drawX, drawY);
                 return;
         }
 
-
-            // Thiết lập hướng di chuyển
-            this.setFacingRight(facingRight);
-            animationManager.setFacingRight(facingRight);
-
-            TextureRegion tr  = animationManager.getCurrentFrame();
-            Rectangle hitboxFrame = new Rectangle(entityX, entityY, tr.getRegionWidth(), tr.getRegionHeight());
-            DebugRenderer.drawRect(hitboxFrame, Color.GREEN);
-            batch.draw(animationManager.getCurrentFrame(), entityX, entityY);
+            if (visible) {
+                hitboxFrame.set(drawX, drawY, tr.getRegionWidth(), tr.getRegionHeight());
+                DebugRenderer.drawRect(hitboxFrame, Color.GREEN);
+                batch.draw(tr, drawX, drawY);
+            }
 
             if (bossTurn) {
 
-                float healthPercent = currentHealth / (float) getMaxHealth();
+                float healthPercent = getCurrentHealth() / (float) getMaxHealth();
                 float currentBloodWidth = innerBloodWidth * healthPercent;
+                // Thanh máu gắn với màn hình, dời theo góc vùng nhìn khi camera chạy theo hero
+                float barX = culling.getOriginX() + bloodBarX;
+                float barY = culling.getOriginY() + bloodBarY;
                 // Vẽ khung thanh máu
                 batch.draw(frameHP,
-                    bloodBarX,
-                    bloodBarY);
-                int newWidth = (int)(fullBloodFrame.getWidth() * healthPercent);
-                int height = fullBloodFrame.getHeight();
-                currentBloodFrame = new TextureRegion(fullBloodFrame, 0, 0, newWidth, height);
+                    barX,
+                    barY);
+                int newWidth = (int)(fullBloodFrame.getRegionWidth() * healthPercent);
+                int height = fullBloodFrame.getRegionHeight();
+                // Cắt theo toạ độ trong region vì thanh máu nằm trong atlas
+                currentBloodFrame.setRegion(fullBloodFrame, 0, 0, newWidth, height);
                 batch.draw(
                     currentBloodFrame,
-                    bloodBarX + bloodBarInnerPaddingX,
-                    bloodBarY + bloodBarInnerPaddingY
+                    barX + bloodBarInnerPaddingX,
+                    barY + bloodBarInnerPaddingY
                 );
 
-                batch.draw(bossName,bloodBarX, bloodBarY + 100);
+                batch.draw(bossName, barX, barY + 100);
             }
 
             // Debug drawing
@@ -362,40 +410,22 @@
 
         }
 
-        public boolean isPlayerInDetectionRange() {
-            float distance = Vector2.dst(entityX, entityY, targetPlayer.getHitbox().getX(), targetPlayer.getHitbox().getY());
-            return distance <= detectionRange;
-        }
-
-        public boolean isPlayerInAttackRange() {
-            return attackbox.overlaps(targetPlayer.hitbox);
-        }
-
-        private void tryAttack() {
-            if (attackTimer <= 0 && !isAttack) {
-                performAttack();
-                attackTimer = attackCooldown;
-            }
-        }
-
-        protected void performAttack() {
-            isAttack = true;
-            if (animationManager != null) {
-                animationManager.setState(StateType.STATE_ATTACK.stateType, true);
-            }
-
-            if(currentState == StateType.STATE_ATTACK) {
-                targetPlayer.takeDamge(getDamage());
-                targetPlayer.onHurt();
-            }
+        /**
+         * Chase another hero, e.g. one restored from a save
+         */
+        public void setTargetPlayer(Player player) {
+            this.targetPlayer = player;
+            this.hitboxPlayer = player.getHitbox();
         }
 
         public void setDetectionRange(float range) {
             this.detectionRange = range;
+            if (store != null) store.detectionRange[slot] = range;
         }
 
         public void setAttackRange(float range) {
             this.attackRange = range;
+            if (store != null) store.attackRange[slot] = range;
         }
 
         public Rectangle getHitBox() {
@@ -404,9 +434,15 @@
 
         public void onHurt() {
             if(!bossTurn) {
-                isHurt = true;
-                hurtTimer = 0.4f;
-                animationManager.setState(StateType.STATE_HURT.stateType, true);
+                if (store != null) {
+                    store.flags[slot] |= EnemyStore.FLAG_HURT;
+                    store.hurtTimer[slot] = 0.4f;
+                    store.state[slot] = StateType.STATE_HURT.ordinal();
+                } else {
+                    isHurt = true;
+                    hurtTimer = 0.4f;
+                }
+                animationManager.setState(StateType.STATE_HURT, true);
             }
         }
 
@@ -415,21 +451,177 @@
         }
 
         public void applyExternalForce(float dx, float dy) {
-            this.entityX+= dx;
-            this.entityY += dy;
-            enemyMovement.updateEnemyPosition(this.entityX, this.entityY);
+            if (store != null) {
+                store.x[slot] += dx;
+                store.y[slot] += dy;
+            } else {
+                this.entityX += dx;
+                this.entityY += dy;
+            }
         }
 
+        // Các accessor đọc từ store khi enemy đã được gắn slot
+
+        @Override
+        public float getEntityX() {
+            return store != null ? store.x[slot] : entityX;
+        }
+
+        @Override
+        public float getEntityY() {
+            return store != null ? store.y[slot] : entityY;
+        }
+
+        @Override
+        public void setEntityPosition(float x, float y) {
+            if (store != null) {
+                store.x[slot] = x;
+                store.y[slot] = y;
+            } else {
+                this.entityX = x;
+                this.entityY = y;
+            }
+        }
+
+        @Override
+        public void storePreviousPosition() {
+            if (store != null) {
+                store.previousX[slot] = store.x[slot];
+                store.previousY[slot] = store.y[slot];
+            } else {
+                super.storePreviousPosition();
+            }
+        }
+
+        @Override
+        public float getRenderX(float alpha) {
+            if (store == null) return super.getRenderX(alpha);
+            float previous = store.previousX[slot];
+            return previous + (store.x[slot] - previous) * alpha;
+        }
+
+        @Override
+        public float getRenderY(float alpha) {
+            if (store == null) return super.getRenderY(alpha);
+            float previous = store.previousY[slot];
+            return previous + (store.y[slot] - previous) * alpha;
+        }
+
+        @Override
+        public boolean isFacingRight() {
+            return store != null ? (store.flags[slot] & EnemyStore.FLAG_FACING_RIGHT) != 0 : facingRight;
+        }
+
+        @Override
+        public void setFacingRight(boolean facingRight) {
+            if (store != null) {
+                store.setFlag(slot, EnemyStore.FLAG_FACING_RIGHT, facingRight);
+            } else {
+                this.facingRight = facingRight;
+            }
+        }
+
+        @Override
+        public int getCurrentHealth() {
+            return store != null ? store.health[slot] : currentHealth;
+        }
+
+        @Override
+        public void setCurrentHealth(int currentHealth) {
+            if (store != null) {
+                store.health[slot] = currentHealth;
+            } else {
+                this.currentHealth = currentHealth;
+            }
+        }
+
+        @Override
+        public int getMaxHealth() {
+            return store != null ? store.maxHealth[slot] : stat.maxHealth;
+        }
+
+        @Override
+        public void setMaxHealth(int maxHealth) {
+            stat.maxHealth = maxHealth;
+            if (store != null) store.maxHealth[slot] = maxHealth;
+        }
+
+        @Override
+        public int getDamage() {
+            return store != null ? store.damage[slot] : stat.damage;
+        }
+
+        @Override
+        public void setDamage(int damage) {
+            stat.damage = damage;
+            if (store != null) store.damage[slot] = damage;
+        }
+
+        @Override
+        public void setMoveSpeed(float moveSpeed) {
+            stat.moveSpeed = moveSpeed;
+            if (store != null) store.moveSpeed[slot] = moveSpeed;
+        }
+
+        @Override
+        public void takeDamge(int damage) {
+            setCurrentHealth(getCurrentHealth() - damage);
+            if (getCurrentHealth() <= 0) {
+                die();
+            }
+        }
+
+        @Override
+        public void die() {
+            if (store != null) {
+                store.flags[slot] |= EnemyStore.FLAG_DEAD;
+            } else {
+                isDead = true;
+            }
+        }
+
+        @Override
+        public boolean isDead() {
+            return store != null ? (store.flags[slot] & EnemyStore.FLAG_DEAD) != 0 : isDead;
+        }
+
+        @Override
+        public void setAttack() {
+            if (store != null) {
+                store.flags[slot] |= EnemyStore.FLAG_ATTACKING;
+            } else {
+                isAttack = true;
+            }
+        }
+
+        @Override
+        public boolean isAttack() {
+            return store != null ? (store.flags[slot] & EnemyStore.FLAG_ATTACKING) != 0 : isAttack;
+        }
+
+        /**
+         * @return Set once the death animation has played to the end
+         */
+        public boolean isDeathFinished() {
+            return store != null && (store.flags[slot] & EnemyStore.FLAG_DEATH_FINISHED) != 0;
+        }
 
         public boolean isBoss(){
             return  bossName != null;
         }
 
         public void applyDifficulty(int difficulty) {
-            System.out.println(difficulty);
+            setMaxHealth(scaleForDifficulty(getMaxHealth(), difficulty));
+            setDamage(scaleForDifficulty(getDamage(), difficulty));
+            setCurrentHealth(getMaxHealth());
+        }
+
+        /**
+         * A base stat of a creep spawned in the given wave
+         */
+        public static int scaleForDifficulty(int value, int difficulty) {
             float scale = 1f + 0.025f * difficulty;
-            this.stat.maxHealth *= scale;
-            this.stat.damage *= scale;
+            return (int) (value * scale);
         }
     }
 
@@ -0,0 +1,245 @@
+package com.myteam.rpgsurvivor.model;
+
+import com.myteam.rpgsurvivor.model.enum_type.StateType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Packed structure-of-arrays storage for enemy simulation state.
+ * Slot i of every array belongs to the same enemy; {@link Enemy} objects are thin handles
+ * that read and write their slot. Removal swaps the last slot into the hole so the live
+ * range is always [0, size).
+ */
+public class EnemyStore {
+    public static final int FLAG_DEAD = 1;
+    public static final int FLAG_HURT = 1 << 1;
+    public static final int FLAG_ATTACKING = 1 << 2;
+    public static final int FLAG_FACING_RIGHT = 1 << 3;
+    public static final int FLAG_BOSS = 1 << 4;
+    // Animation chết đã chạy xong, controller có thể gỡ enemy khỏi store
+    public static final int FLAG_DEATH_FINISHED = 1 << 5;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Vị trí và vận tốc (knockback)
+    public float[] x, y;
+    public float[] previousX, previousY;
+    public float[] velocityX, velocityY;
+
+    // Hitbox: kích thước và độ lệch so với vị trí sprite
+    public float[] hitboxX, hitboxY;
+    public float[] hitboxWidth, hitboxHeight;
+    public float[] hitboxOffsetX, hitboxOffsetY;
+
+    // Chỉ số chiến đấu
+    public int[] health, maxHealth, damage;
+    public float[] moveSpeed;
+    public float[] attackRange, detectionRange;
+    public float[] attackCooldown, attackTimer, hurtTimer;
+
+    // Trạng thái
+    public int[] state;
+    public int[] type;
+    public int[] flags;
+
+    private Enemy[] handles;
+    private final ArrayList<Enemy> handleList;
+    private int size;
+
+    public EnemyStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public EnemyStore(int capacity) {
+        allocate(Math.max(1, capacity));
+        handleList = new ArrayList<>(capacity);
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        hitboxX = new float[capacity];
+        hitboxY = new float[capacity];
+        hitboxWidth = new float[capacity];
+        hitboxHeight = new float[capacity];
+        hitboxOffsetX = new float[capacity];
+        hitboxOffsetY = new float[capacity];
+        health = new int[capacity];
+        maxHealth = new int[capacity];
+        damage = new int[capacity];
+        moveSpeed = new float[capacity];
+        attackRange = new float[capacity];
+        detectionRange = new float[capacity];
+        attackCooldown = new float[capacity];
+        attackTimer = new float[capacity];
+        hurtTimer = new float[capacity];
+        state = new int[capacity];
+        type = new int[capacity];
+        flags = new int[capacity];
+        handles = new Enemy[capacity];
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        hitboxX = Arrays.copyOf(hitboxX, capacity);
+        hitboxY = Arrays.copyOf(hitboxY, capacity);
+        hitboxWidth = Arrays.copyOf(hitboxWidth, capacity);
+        hitboxHeight = Arrays.copyOf(hitboxHeight, capacity);
+        hitboxOffsetX = Arrays.copyOf(hitboxOffsetX, capacity);
+        hitboxOffsetY = Arrays.copyOf(hitboxOffsetY, capacity);
+        health = Arrays.copyOf(health, capacity);
+        maxHealth = Arrays.copyOf(maxHealth, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        moveSpeed = Arrays.copyOf(moveSpeed, capacity);
+        attackRange = Arrays.copyOf(attackRange, capacity);
+        detectionRange = Arrays.copyOf(detectionRange, capacity);
+        attackCooldown = Arrays.copyOf(attackCooldown, capacity);
+        attackTimer = Arrays.copyOf(attackTimer, capacity);
+        hurtTimer = Arrays.copyOf(hurtTimer, capacity);
+        state = Arrays.copyOf(state, capacity);
+        type = Arrays.copyOf(type, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        handles = Arrays.copyOf(handles, capacity);
+    }
+
+    /**
+     * Append a new slot with zeroed state
+     * @param handle Enemy view bound to the slot, may be null when the store is driven headless
+     * @return Slot index
+     */
+    public int add(Enemy handle) {
+        if (size == x.length) {
+            grow();
+        }
+        int slot = size++;
+        x[slot] = 0;
+        y[slot] = 0;
+        previousX[slot] = 0;
+        previousY[slot] = 0;
+        velocityX[slot] = 0;
+        velocityY[slot] = 0;
+        hitboxX[slot] = 0;
+        hitboxY[slot] = 0;
+        hitboxWidth[slot] = 0;
+        hitboxHeight[slot] = 0;
+        hitboxOffsetX[slot] = 0;
+        hitboxOffsetY[slot] = 0;
+        health[slot] = 0;
+        maxHealth[slot] = 0;
+        damage[slot] = 0;
+        moveSpeed[slot] = 0;
+        attackRange[slot] = 0;
+        detectionRange[slot] = 0;
+        attackCooldown[slot] = 0;
+        attackTimer[slot] = 0;
+        hurtTimer[slot] = 0;
+        state[slot] = StateType.STATE_IDLE.ordinal();
+        type[slot] = 0;
+        flags[slot] = 0;
+        handles[slot] = handle;
+        handleList.add(handle);
+        return slot;
+    }
+
+    /**
+     * Remove a slot by moving the last slot into it
+     * @return Handle that was removed
+     */
+    public Enemy remove(int slot) {
+        Enemy removed = handles[slot];
+        if (removed != null) {
+            removed.detach();
+        }
+
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            previousX[slot] = previousX[last];
+            previousY[slot] = previousY[last];
+            velocityX[slot] = velocityX[last];
+            velocityY[slot] = velocityY[last];
+            hitboxX[slot] = hitboxX[last];
+            hitboxY[slot] = hitboxY[last];
+            hitboxWidth[slot] = hitboxWidth[last];
+            hitboxHeight[slot] = hitboxHeight[last];
+            hitboxOffsetX[slot] = hitboxOffsetX[last];
+            hitboxOffsetY[slot] = hitboxOffsetY[last];
+            health[slot] = health[last];
+            maxHealth[slot] = maxHealth[last];
+            damage[slot] = damage[last];
+            moveSpeed[slot] = moveSpeed[last];
+            attackRange[slot] = attackRange[last];
+            detectionRange[slot] = detectionRange[last];
+            attackCooldown[slot] = attackCooldown[last];
+            attackTimer[slot] = attackTimer[last];
+            hurtTimer[slot] = hurtTimer[last];
+            state[slot] = state[last];
+            type[slot] = type[last];
+            flags[slot] = flags[last];
+
+            Enemy moved = handles[last];
+            handles[slot] = moved;
+            handleList.set(slot, moved);
+            if (moved != null) {
+                moved.slot = slot;
+            }
+        }
+        handles[last] = null;
+        handleList.remove(last);
+        return removed;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            if (handles[i] != null) {
+                handles[i].detach();
+            }
+            handles[i] = null;
+        }
+        handleList.clear();
+        size = 0;
+    }
+
+    public boolean hasFlag(int slot, int flag) {
+        return (flags[slot] & flag) != 0;
+    }
+
+    public void setFlag(int slot, int flag, boolean value) {
+        if (value) {
+            flags[slot] |= flag;
+        } else {
+            flags[slot] &= ~flag;
+        }
+    }
+
+    public Enemy getHandle(int slot) {
+        return handles[slot];
+    }
+
+    /**
+     * Live handles in slot order. Backed by the store, do not modify.
+     */
+    public ArrayList<Enemy> getHandles() {
+        return handleList;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -1,6 +1,6 @@
 package com.myteam.rpgsurvivor.model;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.myteam.rpgsurvivor.animation.AnimationManager;
 import com.badlogic.gdx.math.Rectangle;
@@ -13,6 +13,8 @@ public abstract class Entity {
     protected int currentHealth;
     protected Movement movement;
     protected float entityX, entityY;
+    // Vị trí ở tick trước, dùng để nội suy khi render
+    protected float previousEntityX, previousEntityY;
     protected boolean isAttack;
     protected boolean isDead = false;
     protected boolean facingRight = true;
@@ -24,10 +26,34 @@ public abstract class Entity {
     protected float hurtTimer = 0;
     protected boolean isHurt = false;
 
-    public abstract void render(SpriteBatch batch, float deltaTime);
+    /**
+     * Draw the entity. Must not advance any simulation state.
+     * @param alpha Interpolation factor between the previous and the current tick
+     */
+    public abstract void render(Batch batch, float alpha);
 
+    /**
+     * Advance the simulation by one fixed step
+     * @param deltaTime Fixed step length in seconds
+     */
     public abstract void update(float deltaTime);
 
+    /**
+     * Remember the current position as the start of the next tick
+     */
+    public void storePreviousPosition() {
+        previousEntityX = entityX;
+        previousEntityY = entityY;
+    }
+
+    public float getRenderX(float alpha) {
+        return previousEntityX + (entityX - previousEntityX) * alpha;
+    }
+
+    public float getRenderY(float alpha) {
+        return previousEntityY + (entityY - previousEntityY) * alpha;
+    }
+
     // Các getter và setter cần thiết cho Movement
     public float getEntityX() {
         return entityX;
@@ -129,6 +155,18 @@ public abstract class Entity {
         this.currentHealth = currentHealth;
     }
 
+    public float getHurtTimer() {
+        return isHurt ? hurtTimer : 0;
+    }
+
+    /**
+     * Put the entity back into its hurt state for the given time, 0 ends it
+     */
+    public void setHurtTimer(float hurtTimer) {
+        this.hurtTimer = hurtTimer;
+        this.isHurt = hurtTimer > 0;
+    }
+
     public void die() {
         isDead = true;
     }
@@ -145,7 +183,7 @@ public abstract class Entity {
         this.hitbox = hitbox;
     }
 
-    public void setState(String currentState) {
+    public void setState(StateType currentState) {
         animationManager.setState(currentState, true);
     }
 
@@ -175,7 +213,7 @@ public abstract class Entity {
 
         isHurt = true;
         hurtTimer = 0.4f;
-        animationManager.setState(StateType.STATE_HURT.stateType, true);
+        animationManager.setState(StateType.STATE_HURT, true);
 
     }
         public AnimationManager getAnimationManager() {
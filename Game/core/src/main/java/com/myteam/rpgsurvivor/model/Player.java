@@ -4,11 +4,12 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
-import com.myteam.rpgsurvivor.animation.AnimationManager;
 import com.myteam.rpgsurvivor.controller.EnemySpawnController;
 import com.myteam.rpgsurvivor.controller.combat.attack.impl.HeroAttack.MeleeAttackComponent;
 import com.myteam.rpgsurvivor.controller.movement.HeroMovement;
+import com.myteam.rpgsurvivor.controller.spatial.CollisionGrid;
 import com.myteam.rpgsurvivor.debug.DebugRenderer;
+import com.myteam.rpgsurvivor.debug.FrameProfiler;
 import com.myteam.rpgsurvivor.input.InputHandle;
 import com.myteam.rpgsurvivor.model.enum_type.HeroType;
 
@@ -33,6 +34,8 @@ public abstract class Player extends Entity{
     protected HeroType heroType;
     protected InputHandle inputHandle;
     protected HeroMovement heroMovement;
+    // Tường của map, null khi chạy không có map (giữ giới hạn màn hình cũ)
+    protected CollisionGrid collisionGrid;
 
 
     protected boolean isInvisible;
@@ -45,9 +48,13 @@ public abstract class Player extends Entity{
 
     protected  MeleeAttackComponent attackHandler;
     protected boolean attackTriggered = false;
+    // Đang trong animation đánh thường / dùng skill
+    protected boolean isAttacking = false;
+    protected boolean isUsingSkill = false;
     protected boolean skillTriggered = false;
 
     protected ArrayList<Enemy> enemyList;
+    protected final FrameProfiler profiler = FrameProfiler.getInstance();
 
     public Player(float x, float y, HeroType heroType) {
         this.entityX = x;
@@ -84,7 +91,6 @@ public abstract class Player extends Entity{
 
         this.heroMovement = new HeroMovement(this);
         this.inputHandle = new InputHandle(this, heroMovement);
-        this.animationManager = new AnimationManager();
     }
 
     @Override
@@ -101,6 +107,44 @@ public abstract class Player extends Entity{
     }
     public abstract void onHurt();
 
+    public boolean isAttacking() {
+        return isAttacking;
+    }
+
+    public boolean isUsingSkill() {
+        return isUsingSkill;
+    }
+
+    public boolean isAttackTriggered() {
+        return attackTriggered;
+    }
+
+    /**
+     * Resume an attack or skill animation from a save, the animation state itself is set separately
+     */
+    public void restoreAction(boolean attacking, boolean usingSkill, boolean attackTriggered) {
+        this.isAttacking = attacking;
+        this.isUsingSkill = usingSkill;
+        this.attackTriggered = attackTriggered;
+    }
+
+    /**
+     * Put the hero at (x, y) with its hitbox, without interpolating from the old position
+     */
+    public void teleport(float x, float y) {
+        setEntityPosition(x, y);
+        storePreviousPosition();
+        hitbox.setPosition(entityX + offsetX, entityY + offsetY);
+    }
+
+    @Override
+    public void takeDamge(int damage) {
+        if (isInvulnerable) {
+            return;
+        }
+        super.takeDamge(damage);
+    }
+
     public void setEnemySpawnController (EnemySpawnController controller)
     {
 
@@ -117,6 +161,13 @@ public abstract class Player extends Entity{
         return enemySpawnController.getActiveEnemies();
     }
 
+    /**
+     * @return projectiles of this hero still in flight
+     */
+    public int getProjectileCount() {
+        return 0;
+    }
+
     public void performAttack() {
 
     }
@@ -288,6 +339,14 @@ public abstract class Player extends Entity{
         this.inputHandle = inputHandle;
     }
 
+    public boolean isInvulnerable() {
+        return isInvulnerable;
+    }
+
+    public void setInvulnerable(boolean invulnerable) {
+        isInvulnerable = invulnerable;
+    }
+
     public MeleeAttackComponent getAttackHandler() {
         return attackHandler;
     }
@@ -296,6 +355,18 @@ public abstract class Player extends Entity{
         this.attackHandler = attackHandler;
     }
 
+    public CollisionGrid getCollisionGrid() {
+        return collisionGrid;
+    }
+
+    /**
+     * Resolve movement and dashes against the walls of the map
+     */
+    public void setCollisionGrid(CollisionGrid collisionGrid) {
+        this.collisionGrid = collisionGrid;
+        heroMovement.setCollisionGrid(collisionGrid, offsetX, offsetY);
+    }
+
     public float getOffsetX() {
         return offsetX;
     }
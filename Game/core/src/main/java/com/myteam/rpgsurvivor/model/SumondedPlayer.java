@@ -1,18 +1,21 @@
 package com.myteam.rpgsurvivor.model;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.myteam.rpgsurvivor.animation.AnimationForSummondKnight;
 import com.myteam.rpgsurvivor.controller.EnemySpawnController;
+import com.myteam.rpgsurvivor.controller.combat.CombatEventQueue;
 import com.myteam.rpgsurvivor.controller.combat.attack.impl.HeroAttack.MeleeAttackComponent;
 import com.myteam.rpgsurvivor.controller.movement.EnemyMovement;
 import com.myteam.rpgsurvivor.controller.movement.SummonedKinghtMovement;
 import com.myteam.rpgsurvivor.debug.DebugRenderer;
 import com.myteam.rpgsurvivor.model.enum_type.HeroType;
 import com.myteam.rpgsurvivor.model.enum_type.StateType;
+import com.myteam.rpgsurvivor.render.ViewCulling;
 
 public abstract class SumondedPlayer extends Entity{
     protected int level;
@@ -41,6 +44,8 @@ public abstract class SumondedPlayer extends Entity{
 
 
     private Vector2 velocity = new Vector2();
+    private final CombatEventQueue combatEvents = CombatEventQueue.getInstance();
+    private final ViewCulling culling = ViewCulling.getInstance();
     private float knockbackDecay = 10f;
     private float maxKnockbackSpeed = 300f;
     private int damge =  10;
@@ -75,6 +80,7 @@ public abstract class SumondedPlayer extends Entity{
 
         this.attackbox = new Rectangle(hitbox);
         attackbox.setSize(hitbox.getWidth() + attackRange , hitbox.getHeight() + attackRange);
+        storePreviousPosition();
     }
 
     private void updateHealth(float health) {
@@ -83,6 +89,10 @@ public abstract class SumondedPlayer extends Entity{
 
     @Override
     public void update(float deltaTime) {
+        storePreviousPosition();
+        if (animationManager != null) {
+            animationManager.update(deltaTime);
+        }
         updateHealth(getCurrentHealth());
         if (!velocity.isZero()) {
             entityX += velocity.x * deltaTime;
@@ -156,7 +166,8 @@ public abstract class SumondedPlayer extends Entity{
         }
 
         if (animationManager != null) {
-            animationManager.setState(currentState.stateType, true);
+            animationManager.setFacingRight(facingRight);
+            animationManager.setState(currentState, true);
 
             if (isAttack && animationManager.isAnimationFinished()) {
                 isAttack = false;
@@ -165,18 +176,16 @@ public abstract class SumondedPlayer extends Entity{
     }
 
     @Override
-    public void render(SpriteBatch batch, float deltaTime) {
+    public void render(Batch batch, float alpha) {
         if (isDead || animationManager == null) return;
 
-        update(deltaTime);
-
-        animationManager.update(deltaTime);
-
-        this.setFacingRight(facingRight);
-        animationManager.setFacingRight(facingRight);
-
-
-        batch.draw(animationManager.getCurrentFrame(), entityX, entityY);
+        TextureRegion frame = animationManager.getCurrentFrame();
+        float drawX = getRenderX(alpha);
+        float drawY = getRenderY(alpha);
+        if (!culling.accept(ViewCulling.Kind.ENTITY, drawX, drawY, frame.getRegionWidth(), frame.getRegionHeight())) {
+            return;
+        }
+        batch.draw(frame, drawX, drawY);
 
 
         DebugRenderer.drawRect(hitboxPlayer, Color.GREEN);
@@ -188,7 +197,7 @@ public abstract class SumondedPlayer extends Entity{
     public void onHurt() {
         isHurt = true;
         hurtTimer = 0.4f;
-        animationManager.setState(StateType.STATE_HURT.stateType, true);
+        animationManager.setState(StateType.STATE_HURT, true);
     }
 
     public boolean isEnemyInDetectionRange() {
@@ -210,14 +219,12 @@ public abstract class SumondedPlayer extends Entity{
     protected void performAttack() {
         isAttack = true;
         if (animationManager != null) {
-            animationManager.setState(StateType.STATE_ATTACK.stateType, true);
+            animationManager.setState(StateType.STATE_ATTACK, true);
             attackComponent.tryAttack();
         }
 
         if(currentState == StateType.STATE_ATTACK) {
-            targetEnemy.takeDamge(getDamage());
-            //System.out.println("takedamge");
-            targetEnemy.onHurt();
+            combatEvents.postDamage(targetEnemy, getDamage());
             attackComponent.tryAttack();
         }
     }
@@ -0,0 +1,10 @@
+package com.myteam.rpgsurvivor.model.enum_type;
+
+/**
+ * Projectiles and skill effects that have their own animation set
+ */
+public enum EffectType {
+    ARROW,
+    ARCHER_BEAM,
+    WIZARD_PORTAL
+}
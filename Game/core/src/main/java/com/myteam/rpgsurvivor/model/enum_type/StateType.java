@@ -12,7 +12,52 @@ public enum StateType {
     STATE_DEATH("death");
     public final String stateType;
 
+    private static final StateType[] VALUES = values();
+
+    // TRANSITIONS[from] có bit (1 << to) khi được chuyển từ from sang to
+    private static final int[] TRANSITIONS = new int[VALUES.length];
+
+    static {
+        int all = (1 << VALUES.length) - 1;
+        // Hiệu ứng skill chỉ được vẽ chồng lên, không bao giờ là trạng thái của entity
+        int enterable = all & ~bit(STATE_SKILL_EFFECT);
+        for (StateType from : VALUES) {
+            TRANSITIONS[from.ordinal()] = enterable;
+        }
+        // Chết là trạng thái cuối
+        TRANSITIONS[STATE_DEATH.ordinal()] = bit(STATE_DEATH);
+    }
+
     StateType(String stateType) {
         this.stateType = stateType;
     }
+
+    /**
+     * @param from A state ordinal
+     * @return Mask with bit (1 << to) set for every state that may follow it
+     */
+    public static int transitions(int from) {
+        return TRANSITIONS[from];
+    }
+
+    public static StateType of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * State by its animation name, as saves store the hero's state
+     * @return null if no state has this name
+     */
+    public static StateType fromName(String name) {
+        for (StateType state : VALUES) {
+            if (state.stateType.equals(name)) {
+                return state;
+            }
+        }
+        return null;
+    }
+
+    private static int bit(StateType state) {
+        return 1 << state.ordinal();
+    }
 }
@@ -1,6 +1,6 @@
 package com.myteam.rpgsurvivor.model.impl.Boss;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.myteam.rpgsurvivor.animation.AnimationForEnemy;
 import com.myteam.rpgsurvivor.model.Enemy;
 import com.myteam.rpgsurvivor.model.Player;
@@ -19,8 +19,8 @@ public class SlimeBoss extends Enemy {
     }
 
     @Override
-    public void render(SpriteBatch batch, float deltaTime) {
-        super.render(batch, deltaTime);
+    public void render(Batch batch, float alpha) {
+        super.render(batch, alpha);
     }
 
 
@@ -1,6 +1,6 @@
 package com.myteam.rpgsurvivor.model.impl.Creep;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Intersector;
@@ -26,8 +26,8 @@ public class Goblin extends Enemy {
     }
 
     @Override
-    public void render(SpriteBatch batch, float deltaTime) {
-     super.render(batch, deltaTime);
+    public void render(Batch batch, float alpha) {
+     super.render(batch, alpha);
     }
 
 
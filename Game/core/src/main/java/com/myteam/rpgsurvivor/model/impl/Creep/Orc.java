@@ -1,6 +1,6 @@
 //package com.myteam.rpgsurvivor.model.impl.Creep;
 //
-//import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+//import com.badlogic.gdx.graphics.g2d.Batch;
 //import com.myteam.rpgsurvivor.animation.AnimationForEnemy;
 //import com.myteam.rpgsurvivor.model.Enemy;
 //import com.myteam.rpgsurvivor.model.Player;
@@ -17,7 +17,7 @@
 //    }
 //
 //    @Override
-//    public void render(SpriteBatch batch, float deltaTime) {
+//    public void render(Batch batch, float deltaTime) {
 //        super.render(batch, deltaTime);
 //    }
 //}
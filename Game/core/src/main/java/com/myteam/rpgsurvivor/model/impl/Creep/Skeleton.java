@@ -1,6 +1,6 @@
 package com.myteam.rpgsurvivor.model.impl.Creep;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g3d.Shader;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
@@ -27,9 +27,8 @@ public class Skeleton extends Enemy {
 
 
     @Override
-    public void render(SpriteBatch batch, float deltaTime) {
-        super.render(batch, deltaTime);
-        update(deltaTime);
+    public void render(Batch batch, float alpha) {
+        super.render(batch, alpha);
     }
 
 
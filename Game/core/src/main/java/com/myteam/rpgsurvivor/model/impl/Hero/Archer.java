@@ -1,12 +1,19 @@
 package com.myteam.rpgsurvivor.model.impl.Hero;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
 import com.myteam.rpgsurvivor.animation.AnimationManager;
+import com.myteam.rpgsurvivor.animation.AnimationSet;
 import com.myteam.rpgsurvivor.controller.movement.HeroMovement;
+import com.myteam.rpgsurvivor.controller.spatial.EnemySpatialGrid;
 import com.myteam.rpgsurvivor.input.InputHandle;
-import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.debug.FrameProfiler;
 import com.myteam.rpgsurvivor.model.Player;
+import com.myteam.rpgsurvivor.model.enum_type.EffectType;
 import com.myteam.rpgsurvivor.model.enum_type.HeroType;
 import com.myteam.rpgsurvivor.model.enum_type.StateType;
 import com.myteam.rpgsurvivor.model.impl.projectile.Arrow;
@@ -19,8 +26,6 @@ import java.util.List;
 public class Archer extends Player {
 //    private InputHandle inputHandle;
 //    private HeroMovement heroMovement;
-    private boolean isAttacking = false;
-    private boolean isUsingSkill = false;
     private float stateTime = 0;
 
 
@@ -29,7 +34,16 @@ public class Archer extends Player {
 
 //    Arrow
     private List<Arrow> arrows = new ArrayList<>();
-    private AnimationManager arrowAnimManager;
+    private AnimationSet arrowAnimations;
+    // Vùng mũi tên được bay: cả map khi có lưới va chạm, không thì cửa sổ
+    private final Rectangle worldBounds = new Rectangle();
+    // Mũi tên đã bay xong được trả về đây, bắn lại không cấp phát
+    private final Pool<Arrow> arrowPool = new Pool<Arrow>() {
+        @Override
+        protected Arrow newObject() {
+            return new Arrow(arrowAnimations);
+        }
+    };
     private ArcherBeamSkill archerBeamSkill;
 
     private static final int IDLE_FRAME_COLS = 12;
@@ -64,60 +78,69 @@ public class Archer extends Player {
     }
 
     public void setupAnimation()
+    {
+        animationManager = new AnimationManager(AnimationLoader.getInstance().getSet(HeroType.ARCHER, Archer::createAnimations));
+        // Nạp ở đây trên luồng render, mũi tên được bắn từ luồng mô phỏng
+        arrowAnimations = AnimationLoader.getInstance().getSet(EffectType.ARROW, Archer::createArrowAnimations);
+    }
+
+    private static AnimationSet createAnimations()
     {
         float idleFrameDuration = 0.15f;
         float runFrameDuration = 0.1f;
-        float attackFrameDuration = this.getAttackSpeed();
+        float attackFrameDuration = HeroType.ARCHER.stat.attackSpeed;
         float skillFrameDuration = 0.08f;
         float hurtFrameDuration = 0.1f;
         float skillEffectDuration = 0.1f;
-        System.out.println(attackFrameDuration);
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+
+        AnimationSet.Builder animations = new AnimationSet.Builder();
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Hero/Achers/spriteSheet/idle_1.png",
             IDLE_FRAME_COLS, IDLE_FRAME_ROWS,idleFrameDuration,
             true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Hero/Achers/spriteSheet/run_1.png",
             RUN_FRAME_COLS, RUN_FRAME_ROWS,runFrameDuration,
             true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Hero/Achers/spriteSheet/atk.png",
             ATTACK_FRAME_COLS, ATTACK_FRAME_ROWS,attackFrameDuration,
             false
         );
 
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Hero/Achers/spriteSheet/take_hit_1.png",
             HURT_COLS, HURT_ROWS,hurtFrameDuration,
             false
         );
+        return animations.build();
+    }
 
-
-// Arrow animation
-            arrowAnimManager = new AnimationManager();
-            arrowAnimManager.addAnimation(
-            "arrow",
-            "Hero/Achers/aseprite/projectiles_and_effects.png",
-            ARROW_FRAME_COLS, ARROW_FRAME_ROWS,
-            0.1f,
-            true
-        );
+    private static AnimationSet createArrowAnimations()
+    {
+        return new AnimationSet.Builder()
+            .addAnimation(
+                StateType.STATE_IDLE,
+                "Hero/Achers/aseprite/projectiles_and_effects.png",
+                ARROW_FRAME_COLS, ARROW_FRAME_ROWS,
+                0.1f,
+                true
+            )
+            .build();
     }
     @Override
-    public void render(SpriteBatch batch, float deltaTime) {
-        stateTime += deltaTime;
-        animationManager.update(deltaTime);
+    public void render(Batch batch, float alpha) {
         for (Arrow arrow : arrows) {
-            arrow.render(batch);
+            arrow.render(batch, alpha);
         }
 
         TextureRegion currentFrame = animationManager.getCurrentFrame();
@@ -125,30 +148,38 @@ public class Archer extends Player {
         {
             batch.draw(
                 currentFrame,
-                entityX, entityY
+                getRenderX(alpha), getRenderY(alpha)
             );
         }
         if(archerBeamSkill.isActive())
-            archerBeamSkill.render(batch, deltaTime);
+            archerBeamSkill.render(batch);
     }
 
     @Override
     public void update(float deltaTime) {
-        deltaTime = 1/60f;
+        storePreviousPosition();
+        stateTime += deltaTime;
+        animationManager.update(deltaTime);
         updateWithDeltaTime(deltaTime);
         super.update(deltaTime);
+        EnemySpatialGrid enemyGrid = enemySpawnController.getEnemyGrid();
+        if (collisionGrid != null) {
+            worldBounds.set(0, 0, collisionGrid.getWorldWidth(), collisionGrid.getWorldHeight());
+        } else {
+            worldBounds.set(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        }
         Iterator<Arrow> iter = arrows.iterator();
         while (iter.hasNext()) {
             Arrow arrow = iter.next();
-            ArrayList<Enemy> enemyWave;
-            if(enemySpawnController.isBossWave()) enemyWave = enemySpawnController.getActiveBoss();
-                else enemyWave = enemySpawnController.getActiveEnemies();
-            arrow.update(deltaTime, enemyWave, getDamage());
+            arrow.update(deltaTime, enemyGrid, getDamage(), worldBounds);
             if (arrow.isDestroyed()) {
                 iter.remove();
+                arrowPool.free(arrow);
             }
         }
-        archerBeamSkill.update(deltaTime, enemyList);
+        profiler.begin(FrameProfiler.Section.SKILL_UPDATE);
+        archerBeamSkill.update(deltaTime, enemyGrid);
+        profiler.end(FrameProfiler.Section.SKILL_UPDATE);
     }
 
     public void updateWithDeltaTime(float deltaTime)
@@ -166,23 +197,23 @@ public class Archer extends Player {
 
         if(inputHandle.isActionActive(InputHandle.ACTION_SKILL)
             && !isAttacking && !isUsingSkill
-            && animationManager.getCurrentState().equals("idle")) {
+            && animationManager.isInState(StateType.STATE_IDLE)) {
 
         if (archerBeamSkill.isReady()) {
             isUsingSkill = true;
             skillTriggered = false;
-            animationManager.setState(StateType.STATE_ATTACK.stateType, true);
+            animationManager.setState(StateType.STATE_ATTACK, true);
         }
     }
 
-        if(!animationManager.getCurrentState().equals("attack"))
-        heroMovement.update();
+        if(!animationManager.isInState(StateType.STATE_ATTACK))
+        heroMovement.update(deltaTime);
 
         if (inputHandle.isActionActive(InputHandle.ACTION_ATTACK) && attackHandler.canAttack()
-            && !isAttacking && animationManager.getCurrentState().equals("idle")) {
+            && !isAttacking && animationManager.isInState(StateType.STATE_IDLE)) {
             isAttacking = true;
             attackTriggered = false;
-            animationManager.setState(StateType.STATE_ATTACK.stateType, true);
+            animationManager.setState(StateType.STATE_ATTACK, true);
         }
 
         updateAnimationState(deltaTime);
@@ -204,9 +235,9 @@ public class Archer extends Player {
                 isUsingSkill = false;
                 skillTriggered = false;
                 if (heroMovement.isMoving()) {
-                    animationManager.setState(StateType.STATE_RUN.stateType, true);
+                    animationManager.setState(StateType.STATE_RUN, true);
                 } else {
-                    animationManager.setState(StateType.STATE_IDLE.stateType, true);
+                    animationManager.setState(StateType.STATE_IDLE, true);
                 }
             }
             return;
@@ -217,15 +248,15 @@ public class Archer extends Player {
             if (!attackTriggered && progress >= 0.5) {
                 float arrowX = entityX + (facingRight ? + 95 : 65);
                 float arrowY = entityY + 5;
-                arrows.add(new Arrow(arrowX, arrowY, facingRight, arrowAnimManager));
+                addArrow(arrowX, arrowY, facingRight);
                 attackTriggered = true;
             }
             if (animationManager.isAnimationFinished()) {
                 isAttacking = false;
                 if (heroMovement.isMoving()) {
-                    animationManager.setState(StateType.STATE_RUN.stateType, true);
+                    animationManager.setState(StateType.STATE_RUN, true);
                 } else {
-                    animationManager.setState(StateType.STATE_IDLE.stateType, true);
+                    animationManager.setState(StateType.STATE_IDLE, true);
                 }
             }
             return;
@@ -234,9 +265,9 @@ public class Archer extends Player {
 
 
         if (heroMovement.isMoving()) {
-            animationManager.setState(StateType.STATE_RUN.stateType, true);
+            animationManager.setState(StateType.STATE_RUN, true);
         } else {
-            animationManager.setState(StateType.STATE_IDLE.stateType, true);
+            animationManager.setState(StateType.STATE_IDLE, true);
         }
 
         this.setFacingRight(facingRight);
@@ -251,11 +282,43 @@ public class Archer extends Player {
         return facingRight;
     }
 
+    @Override
+    public int getProjectileCount() {
+        return arrows.size();
+    }
+
+    public List<Arrow> getArrows() {
+        return arrows;
+    }
+
+    /**
+     * Shoot an arrow from (x, y) without the attack animation, e.g. when restoring a save
+     */
+    public void addArrow(float x, float y, boolean facingRight) {
+        Arrow arrow = arrowPool.obtain();
+        arrow.init(x, y, facingRight);
+        arrows.add(arrow);
+    }
+
+    /**
+     * Take every arrow in flight off the map
+     */
+    public void clearArrows() {
+        for (Arrow arrow : arrows) {
+            arrowPool.free(arrow);
+        }
+        arrows.clear();
+    }
+
+    public ArcherBeamSkill getArcherBeamSkill() {
+        return archerBeamSkill;
+    }
+
     @Override
     public void onHurt() {
         isHurt = true;
         hurtTimer = 0.4f;
-        animationManager.setState(StateType.STATE_HURT.stateType, true);
+        animationManager.setState(StateType.STATE_HURT, true);
 
     }
     @Override
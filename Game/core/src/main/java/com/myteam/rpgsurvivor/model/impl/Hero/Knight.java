@@ -1,11 +1,14 @@
 package com.myteam.rpgsurvivor.model.impl.Hero;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
 import com.myteam.rpgsurvivor.animation.AnimationManager;
+import com.myteam.rpgsurvivor.animation.AnimationSet;
 import com.myteam.rpgsurvivor.controller.EnemySpawnController;
 import com.myteam.rpgsurvivor.controller.movement.HeroMovement;
 import com.myteam.rpgsurvivor.input.InputHandle;
+import com.myteam.rpgsurvivor.debug.FrameProfiler;
 import com.myteam.rpgsurvivor.model.Player;
 import com.myteam.rpgsurvivor.model.enum_type.HeroType;
 import com.myteam.rpgsurvivor.model.enum_type.StateType;
@@ -15,8 +18,6 @@ public class Knight extends Player{
     private KnightSkill knightSkill;
 //    private InputHandle inputHandle;
 //    private HeroMovement heroMovement;
-    private boolean isAttacking = false;
-    private boolean isUsingSkill = false;
     private float stateTime = 0;
 
 
@@ -45,78 +46,84 @@ public class Knight extends Player{
     }
 
     private void setupAnimation()
+    {
+        animationManager = new AnimationManager(AnimationLoader.getInstance().getSet(HeroType.KNIGHT, Knight::createAnimations));
+    }
+
+    private static AnimationSet createAnimations()
     {
         float idleFrameDuration = 0.15f;
         float runFrameDuration = 0.1f;
-        float attackFrameDuration = this.getAttackSpeed();
+        float attackFrameDuration = HeroType.KNIGHT.stat.attackSpeed;
         float skillFrameDuration = 0.08f;
         float hurtFrameDuration = 0.1f;
-        System.out.println(attackFrameDuration);
 
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        AnimationSet.Builder animations = new AnimationSet.Builder();
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Hero/Knight/Knight 2D Pixel Art/Sprites/with_outline/IDLE.png",
             IDLE_FRAME_COLS, IDLE_FRAME_ROWS,idleFrameDuration,
             true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Hero/Knight/Knight 2D Pixel Art/Sprites/with_outline/RUN.png",
             RUN_FRAME_COLS, RUN_FRAME_ROWS,runFrameDuration,
             true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Hero/Knight/Knight 2D Pixel Art/Sprites/with_outline/ATTACK 1.png",
             ATTACK_FRAME_COLS, ATTACK_FRAME_ROWS,attackFrameDuration,
             false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_SKILL.stateType,
+        animations.addAnimation(
+            StateType.STATE_SKILL,
             "Hero/Knight/Knight 2D Pixel Art/Sprites/with_outline/DEFEND.png",
             SKILL_FRAME_COLS, SKILL_FRAME_ROWS,skillFrameDuration,
             false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Hero/Knight/Knight 2D Pixel Art/Sprites/with_outline/HURT.png",
             HURT_FRAME_COLS, HURT_FRAME_ROWS, hurtFrameDuration,
             false
         );
+        return animations.build();
     }
 
     @Override
-    public void render(SpriteBatch batch, float deltaTime) {
-
-        stateTime += deltaTime;
-        animationManager.update(deltaTime);
-
+    public void render(Batch batch, float alpha) {
         TextureRegion currentFrame = animationManager.getCurrentFrame();
         if(currentFrame != null)
         {
             batch.draw(
                 currentFrame,
-                entityX, entityY
+                getRenderX(alpha), getRenderY(alpha)
             );
         }
 
-        knightSkill.render(batch, deltaTime);
+        knightSkill.render(batch, alpha);
     }
 
     @Override
     public void update(float deltaTime) {
-        deltaTime = 1/60f;
+        storePreviousPosition();
+        stateTime += deltaTime;
+        animationManager.update(deltaTime);
         updateWithDeltaTime(deltaTime);
         super.update(deltaTime);
     }
 
     public void updateWithDeltaTime(float deltaTime)
     {
+        profiler.begin(FrameProfiler.Section.SKILL_UPDATE);
         knightSkill.update(deltaTime);
+        profiler.end(FrameProfiler.Section.SKILL_UPDATE);
         if(isHurt)
         {
             hurtTimer -= deltaTime;
@@ -129,22 +136,22 @@ public class Knight extends Player{
             inputHandle.handleInput();
 
             if (inputHandle.isActionActive(InputHandle.ACTION_ATTACK) && attackHandler.canAttack()
-                && !isAttacking  && animationManager.getCurrentState().equals("idle")) {
+                && !isAttacking  && animationManager.isInState(StateType.STATE_IDLE)) {
                 isAttacking = true;
                 attackTriggered = false;
-                animationManager.setState(StateType.STATE_ATTACK.stateType, true);
+                animationManager.setState(StateType.STATE_ATTACK, true);
             }
 
             if (inputHandle.isActionActive(InputHandle.ACTION_SKILL)) {
                 if(knightSkill.activateSkill())
                 {
                     isUsingSkill = true;
-                    animationManager.setState(StateType.STATE_SKILL.stateType, true);
+                    animationManager.setState(StateType.STATE_SKILL, true);
                 }
             }
 
-            if(!animationManager.getCurrentState().equals("attack"))
-                heroMovement.update();
+            if(!animationManager.isInState(StateType.STATE_ATTACK))
+                heroMovement.update(deltaTime);
 
             if (heroMovement.isMoving()) {
                 knightSkill.updatePositions();
@@ -159,7 +166,7 @@ public class Knight extends Player{
     {
         if(isHurt)
         {
-            animationManager.setState(StateType.STATE_HURT.stateType, true);
+            animationManager.setState(StateType.STATE_HURT, true);
             return;
         }
 
@@ -175,9 +182,9 @@ public class Knight extends Player{
             if (animationManager.isAnimationFinished()) {
                 isUsingSkill = false;
                 if (heroMovement.isMoving()) {
-                    animationManager.setState(StateType.STATE_RUN.stateType, true);
+                    animationManager.setState(StateType.STATE_RUN, true);
                 } else {
-                    animationManager.setState(StateType.STATE_IDLE.stateType, true);
+                    animationManager.setState(StateType.STATE_IDLE, true);
                 }
             }
             return;
@@ -187,9 +194,9 @@ public class Knight extends Player{
             if (animationManager.isAnimationFinished()) {
                 isAttacking = false;
                 if (heroMovement.isMoving()) {
-                    animationManager.setState(StateType.STATE_RUN.stateType, true);
+                    animationManager.setState(StateType.STATE_RUN, true);
                 } else {
-                    animationManager.setState(StateType.STATE_IDLE.stateType, true);
+                    animationManager.setState(StateType.STATE_IDLE, true);
                 }
             }
             return;
@@ -197,9 +204,9 @@ public class Knight extends Player{
 
 
         if (heroMovement.isMoving()) {
-            animationManager.setState(StateType.STATE_RUN.stateType, true);
+            animationManager.setState(StateType.STATE_RUN, true);
         } else {
-            animationManager.setState(StateType.STATE_IDLE.stateType, true);
+            animationManager.setState(StateType.STATE_IDLE, true);
         }
 
         this.setFacingRight(facingRight);
@@ -220,7 +227,7 @@ public class Knight extends Player{
     {
         isHurt = true;
         hurtTimer = 0.4f;
-        animationManager.setState(StateType.STATE_HURT.stateType, true);
+        animationManager.setState(StateType.STATE_HURT, true);
     }
 
     public void updateSkill() {
@@ -231,4 +238,7 @@ public class Knight extends Player{
         knightSkill.downSkill();
     }
 
+    public KnightSkill getKnightSkill() {
+        return knightSkill;
+    }
 }
@@ -1,9 +1,12 @@
 package com.myteam.rpgsurvivor.model.impl.Hero;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
 import com.myteam.rpgsurvivor.animation.AnimationManager;
+import com.myteam.rpgsurvivor.animation.AnimationSet;
 import com.myteam.rpgsurvivor.input.InputHandle;
+import com.myteam.rpgsurvivor.debug.FrameProfiler;
 import com.myteam.rpgsurvivor.model.Player;
 import com.myteam.rpgsurvivor.model.enum_type.HeroType;
 import com.myteam.rpgsurvivor.model.enum_type.StateType;
@@ -17,8 +20,6 @@ public class Samurai extends Player {
     private SamuraiDashing skillHandler;
     private SamuraiSlashing skillSlashing;
     private boolean facingRight = true;
-    private boolean isAttacking = false;
-    private boolean isUsingSkill = false;
     private float stateTime = 0;
 
 
@@ -65,84 +66,113 @@ public class Samurai extends Player {
     }
 
     private void setupAnimations() {
+        animationManager = new AnimationManager(AnimationLoader.getInstance().getSet(HeroType.SAMURAI, Samurai::createAnimations));
+    }
+
+    private static AnimationSet createAnimations() {
         float idleFrameDuration = 0.15f;
         float runFrameDuration = 0.1f;
-        float attackFrameDuration = this.getAttackSpeed();
+        float attackFrameDuration = HeroType.SAMURAI.stat.attackSpeed;
         float skillFrameDuration = 0.08f;
         float smokeFrameDuration = 0.1f;
         float hurtFrameDuration = 0.1f;
 
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        AnimationSet.Builder animations = new AnimationSet.Builder();
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Hero/Samurai/FREE_Samurai 2D Pixel Art v1.2/Sprites/IDLE.png",
             IDLE_FRAME_COLS, IDLE_FRAME_ROWS, idleFrameDuration,
             true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Hero/Samurai/FREE_Samurai 2D Pixel Art v1.2/Sprites/RUN.png",
             RUN_FRAME_COLS, RUN_FRAME_ROWS, runFrameDuration,
             true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Hero/Samurai/FREE_Samurai 2D Pixel Art v1.2/Sprites/ATTACK 1.png",
             ATTACK_FRAME_COLS, ATTACK_FRAME_ROWS, attackFrameDuration,
             false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_SKILL.stateType,
+        animations.addAnimation(
+            StateType.STATE_SKILL,
             "Skills/Samurai Dash/Slash 1/color4/sprite-sheet.png",
             SKILL_FRAME_COLS, SKILL_FRAME_ROWS, skillFrameDuration,
             false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_SKILL_EFFECT.stateType,
+        animations.addAnimation(
+            StateType.STATE_SKILL_EFFECT,
             "Skills/Smoke/SmokeNDust P03 VFX 1.png",
             SMOKE_FRAME_COLS, SMOKE_FRAME_ROWS, smokeFrameDuration,
             false
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Hero/Samurai/FREE_Samurai 2D Pixel Art v1.2/Sprites/HURT.png",
             HURT_FRAME_COLS, HURT_FRAME_ROWS, hurtFrameDuration,
             false
         );
+        return animations.build();
     }
 
     @Override
-    public void render(SpriteBatch batch, float deltaTime) {
-        stateTime += deltaTime;
-        animationManager.update(deltaTime);
+    public void render(Batch batch, float alpha) {
+        float drawX = getRenderX(alpha);
+        float drawY = getRenderY(alpha);
 
         // Render nhân vật chính
         TextureRegion currentFrame = animationManager.getCurrentFrame();
         if (currentFrame != null) {
             batch.draw(
                 currentFrame,
-                entityX, entityY
+                drawX, drawY
             );
         }
 
-
         if(showSmoke)
         {
-            smokeStateTime += deltaTime;
-            String currentState = animationManager.getCurrentState();
-            animationManager.setState(StateType.STATE_SKILL_EFFECT.stateType, false);
-
-            TextureRegion smokeFrame = animationManager.getCurrentFrame();
+            TextureRegion smokeFrame = animationManager.getFrame(StateType.STATE_SKILL_EFFECT);
             if (smokeFrame != null) {
                 batch.draw(smokeFrame, smokeX, smokeY);
             }
+        }
+
+        if (showDashAttack) {
+            TextureRegion attackFrame = animationManager.getFrame(StateType.STATE_ATTACK);
+            if (attackFrame != null) {
+                batch.draw(attackFrame, drawX, drawY);
+            }
+        }
 
-            animationManager.setState(currentState, false);
+        skillSlashing.render();
+    }
 
+    @Override
+    public void update(float deltaTime) {
+        storePreviousPosition();
+        stateTime += deltaTime;
+        animationManager.update(deltaTime);
+        if (cooldownRemaining > 0) {
+            cooldownRemaining -= deltaTime;
+        }
+        updateWithDelta(deltaTime);
+        updateSkillEffects(deltaTime);
+        super.update(deltaTime);
+    }
+
+    /**
+     * Advance smoke and dash-attack overlays, previously driven from render
+     */
+    private void updateSkillEffects(float deltaTime) {
+        if (showSmoke) {
+            smokeStateTime += deltaTime;
             // Kết thúc hiệu ứng khói nếu đã hoàn thành
             if (animationManager.isAnimationFinished()) {
                 showSmoke = false;
@@ -152,36 +182,12 @@ public class Samurai extends Player {
 
         if (showDashAttack) {
             dashAttackStateTime += deltaTime;
-            String currentState = animationManager.getCurrentState();
-            animationManager.setState(StateType.STATE_ATTACK.stateType, false);
-            TextureRegion attackFrame = animationManager.getCurrentFrame();
-
-            if (attackFrame != null) {
-
-                batch.draw(attackFrame, entityX, entityY);
-            }
-
-            animationManager.setState(currentState, false);
-
             if (animationManager.isAnimationFinished()) {
                 skillSlashing.startSlash();
-                skillSlashing.render();
                 showDashAttack = false;
                 dashAttackStateTime = 0f;
             }
         }
-
-
-    }
-
-    @Override
-    public void update(float deltaTime) {
-        if (cooldownRemaining > 0) {
-            cooldownRemaining -= deltaTime;
-        }
-        deltaTime = 1/60f;
-        updateWithDelta(deltaTime);
-        super.update(deltaTime);
     }
 
     public void updateWithDelta(float deltaTime) {
@@ -189,7 +195,9 @@ public class Samurai extends Player {
 
         boolean wasDashing = skillHandler.isDashing();
 
+        profiler.begin(FrameProfiler.Section.SKILL_UPDATE);
         skillHandler.update(deltaTime);
+        profiler.end(FrameProfiler.Section.SKILL_UPDATE);
 
         if (wasDashing && !skillHandler.isDashing()) {
             dashJustEnded = true;
@@ -222,14 +230,14 @@ public class Samurai extends Player {
         }
 
         if (inputHandle.isActionActive(InputHandle.ACTION_ATTACK) && attackHandler.canAttack()
-            && !isAttacking && !skillHandler.isDashing() && animationManager.getCurrentState().equals("idle")) {
+            && !isAttacking && !skillHandler.isDashing() && animationManager.isInState(StateType.STATE_IDLE)) {
             isAttacking = true;
             attackTriggered = false;
-            animationManager.setState(StateType.STATE_ATTACK.stateType, true);
+            animationManager.setState(StateType.STATE_ATTACK, true);
         }
 
-        if (!skillHandler.isDashing() && !animationManager.getCurrentState().equals("attack")) {
-            heroMovement.update();
+        if (!skillHandler.isDashing() && !animationManager.isInState(StateType.STATE_ATTACK)) {
+            heroMovement.update(deltaTime);
         } else {
             if (skillHandler.getDashProgress() > 0.8f && !showSkillEffect) {
                 showSkillEffect = true;
@@ -247,9 +255,13 @@ public class Samurai extends Player {
                 skillSlashing.startSlash();
                 dashJustEnded = false;
             }
+            profiler.begin(FrameProfiler.Section.SKILL_UPDATE);
             skillSlashing.update(deltaTime);
+            profiler.end(FrameProfiler.Section.SKILL_UPDATE);
         }
+        profiler.begin(FrameProfiler.Section.SKILL_UPDATE);
         skillSlashing.update(deltaTime);
+        profiler.end(FrameProfiler.Section.SKILL_UPDATE);
 
         updateAnimationState(deltaTime);
 
@@ -259,7 +271,7 @@ public class Samurai extends Player {
     private void updateAnimationState(float deltaTime) {
         if(isHurt)
         {
-            animationManager.setState(StateType.STATE_HURT.stateType, true);
+            animationManager.setState(StateType.STATE_HURT, true);
             return;
         }
 
@@ -272,39 +284,39 @@ public class Samurai extends Player {
         }
 
         if (skillHandler.isDashing() || isUsingSkill) {
-            if (!animationManager.getCurrentState().equals(StateType.STATE_SKILL.stateType)) {
-                animationManager.setState(StateType.STATE_SKILL.stateType, true);
+            if (!animationManager.isInState(StateType.STATE_SKILL)) {
+                animationManager.setState(StateType.STATE_SKILL, true);
             }
 
             if (animationManager.isAnimationFinished()) {
                 isUsingSkill = false;
                 if (heroMovement.isMoving() && !skillHandler.isDashing()) {
-                    animationManager.setState(StateType.STATE_RUN.stateType, true);
+                    animationManager.setState(StateType.STATE_RUN, true);
                 } else if (!skillHandler.isDashing()) {
-                    animationManager.setState(StateType.STATE_IDLE.stateType, true);
+                    animationManager.setState(StateType.STATE_IDLE, true);
                 }
             }
         }
         else if (isAttacking) {
-            if (!animationManager.getCurrentState().equals(StateType.STATE_ATTACK.stateType)) {
-                animationManager.setState(StateType.STATE_ATTACK.stateType, true);
+            if (!animationManager.isInState(StateType.STATE_ATTACK)) {
+                animationManager.setState(StateType.STATE_ATTACK, true);
                 skillSlashing.update(deltaTime);
             }
 
             if (animationManager.isAnimationFinished()) {
                 isAttacking = false;
                 if (heroMovement.isMoving()) {
-                    animationManager.setState(StateType.STATE_RUN.stateType, true);
+                    animationManager.setState(StateType.STATE_RUN, true);
                 } else {
-                    animationManager.setState(StateType.STATE_IDLE.stateType, true);
+                    animationManager.setState(StateType.STATE_IDLE, true);
                 }
             }
         }
         else if (heroMovement.isMoving() && !skillHandler.isDashing()) {
-            animationManager.setState(StateType.STATE_RUN.stateType, true);
+            animationManager.setState(StateType.STATE_RUN, true);
         }
         else if (!skillHandler.isDashing()) {
-            animationManager.setState(StateType.STATE_IDLE.stateType, true);
+            animationManager.setState(StateType.STATE_IDLE, true);
         }
 
         this.setFacingRight(facingRight);
@@ -337,7 +349,7 @@ public class Samurai extends Player {
     {
         isHurt = true;
         hurtTimer = 0.4f;
-        animationManager.setState(StateType.STATE_HURT.stateType, true);
+        animationManager.setState(StateType.STATE_HURT, true);
 
     }
 
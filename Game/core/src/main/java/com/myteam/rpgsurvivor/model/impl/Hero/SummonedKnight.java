@@ -1,6 +1,6 @@
 package com.myteam.rpgsurvivor.model.impl.Hero;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.myteam.rpgsurvivor.animation.AnimationForSummondKnight;
 import com.myteam.rpgsurvivor.animation.AnimationManager;
@@ -30,9 +30,9 @@ public class SummonedKnight extends SumondedPlayer {
     }
 
     @Override
-    public void render(SpriteBatch batch, float deltaTime) {
+    public void render(Batch batch, float alpha) {
         if (!isLifeTimeOver()) {
-            super.render(batch, deltaTime);
+            super.render(batch, alpha);
         }
     }
 
@@ -46,6 +46,14 @@ public class SummonedKnight extends SumondedPlayer {
         }
     }
 
+    public float getCurrentLifeTime() {
+        return currentLifeTime;
+    }
+
+    public void setCurrentLifeTime(float currentLifeTime) {
+        this.currentLifeTime = currentLifeTime;
+    }
+
     public float getRemainingLifeTime() {
         return Math.max(0, lifeDuration - currentLifeTime);
     }
@@ -1,10 +1,13 @@
 package com.myteam.rpgsurvivor.model.impl.Hero;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
 import com.myteam.rpgsurvivor.animation.AnimationManager;
+import com.myteam.rpgsurvivor.animation.AnimationSet;
 import com.myteam.rpgsurvivor.input.InputHandle;
 import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.debug.FrameProfiler;
 import com.myteam.rpgsurvivor.model.Player;
 import com.myteam.rpgsurvivor.model.enum_type.HeroType;
 import com.myteam.rpgsurvivor.model.enum_type.StateType;
@@ -15,8 +18,6 @@ import java.util.ArrayList;
 
 public class Wizard extends Player {
 
-    private boolean isAttacking = false;
-    private boolean isUsingSkill = false;
     private float stateTime = 0;
 
     private boolean showSkill = false;
@@ -49,28 +50,33 @@ public class Wizard extends Player {
     }
 
     public void setupAnimation() {
+        animationManager = new AnimationManager(AnimationLoader.getInstance().getSet(HeroType.WIZARD, Wizard::createAnimations));
+    }
+
+    private static AnimationSet createAnimations() {
         float idleFrameDuration = 0.15f;
         float walkFrameDuration = 0.1f;
-        float attackFrameDuration = this.getAttackSpeed();
+        float attackFrameDuration = HeroType.WIZARD.stat.attackSpeed;
         float skillFrameDuration = 0.08f;
         float skillEffectFrameDuration = 0.1f;
 
-        animationManager.addAnimation(
-            StateType.STATE_IDLE.stateType,
+        AnimationSet.Builder animations = new AnimationSet.Builder();
+        animations.addAnimation(
+            StateType.STATE_IDLE,
             "Hero/Wizard/Wizard Pack/SpriteSheet/Idle-Resize.png",
             IDLE_FRAME_COLS, IDLE_FRAME_ROWS, idleFrameDuration,
             true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_RUN.stateType,
+        animations.addAnimation(
+            StateType.STATE_RUN,
             "Hero/Wizard/Wizard Pack/SpriteSheet/Run-Resize.png",
             RUN_FRAME_COLS, RUN_FRAME_ROWS, walkFrameDuration,
             true
         );
 
-        animationManager.addAnimation(
-            StateType.STATE_ATTACK.stateType,
+        animations.addAnimation(
+            StateType.STATE_ATTACK,
             "Hero/Wizard/Wizard Pack/SpriteSheet/Attack1-Resize.png",
             ATTACK_FRAME_COLS, ATTACK_FRAME_ROWS, attackFrameDuration,
             false
@@ -78,34 +84,34 @@ public class Wizard extends Player {
 
 
 
-        animationManager.addAnimation(
-            StateType.STATE_HURT.stateType,
+        animations.addAnimation(
+            StateType.STATE_HURT,
             "Hero/Wizard/Wizard Pack/SpriteSheet/Hit-Reisize.png",
             HURT_FRAME_COLS, HURT_FRAME_ROWS, skillEffectFrameDuration,
             true
         );
-
+        return animations.build();
     }
 
     @Override
-    public void render(SpriteBatch batch, float deltaTime) {
-
-        stateTime += deltaTime;
-        animationManager.update(deltaTime);
-
+    public void render(Batch batch, float alpha) {
         TextureRegion currentFrame = animationManager.getCurrentFrame();
         if (currentFrame != null) {
-            batch.draw(currentFrame, entityX, entityY);
+            batch.draw(currentFrame, getRenderX(alpha), getRenderY(alpha));
         }
                 if(wizardPortalSkill.isActive())
-                    wizardPortalSkill.render(batch, deltaTime);
+                    wizardPortalSkill.render(batch);
     }
 
     @Override
     public void update(float deltaTime) {
-        deltaTime = 1 / 60f;
+        storePreviousPosition();
+        stateTime += deltaTime;
+        animationManager.update(deltaTime);
         updateWithDeltaTime(deltaTime);
-        wizardPortalSkill.update(deltaTime, enemyList);
+        profiler.begin(FrameProfiler.Section.SKILL_UPDATE);
+        wizardPortalSkill.update(deltaTime, enemySpawnController.getEnemyGrid());
+        profiler.end(FrameProfiler.Section.SKILL_UPDATE);
         super.update(deltaTime);
 
     }
@@ -122,20 +128,20 @@ public class Wizard extends Player {
             }
         }
         if (inputHandle.isActionActive(InputHandle.ACTION_ATTACK) && attackHandler.canAttack()
-            && !isAttacking && animationManager.getCurrentState().equals("idle")) {
+            && !isAttacking && animationManager.isInState(StateType.STATE_IDLE)) {
             isAttacking = true;
             attackTriggered = false;
-            animationManager.setState(StateType.STATE_ATTACK.stateType, true);
+            animationManager.setState(StateType.STATE_ATTACK, true);
         }
-        if (inputHandle.isActionActive(InputHandle.ACTION_SKILL) && !isAttacking && animationManager.getCurrentState().equals("idle")) {
+        if (inputHandle.isActionActive(InputHandle.ACTION_SKILL) && !isAttacking && animationManager.isInState(StateType.STATE_IDLE)) {
             if (wizardPortalSkill.isReady()) {
                 skillX = entityX + (facingRight ? 150 : -50);
                 skillY = entityY + 30;
                 wizardPortalSkill.activate(skillX, skillY);
             }
         }
-        if(!animationManager.getCurrentState().equals("attack"))
-            heroMovement.update();
+        if(!animationManager.isInState(StateType.STATE_ATTACK))
+            heroMovement.update(deltaTime);
 
 
         updateAnimationState(deltaTime);
@@ -146,9 +152,9 @@ public class Wizard extends Player {
             if (animationManager.isAnimationFinished()) {
                 isUsingSkill = false;
                 if (heroMovement.isMoving()) {
-                    animationManager.setState(StateType.STATE_RUN.stateType, true);
+                    animationManager.setState(StateType.STATE_RUN, true);
                 } else {
-                    animationManager.setState(StateType.STATE_IDLE.stateType, true);
+                    animationManager.setState(StateType.STATE_IDLE, true);
                 }
             }
             return;
@@ -164,18 +170,18 @@ public class Wizard extends Player {
             if (animationManager.isAnimationFinished()) {
                 isAttacking = false;
                 if (heroMovement.isMoving()) {
-                    animationManager.setState(StateType.STATE_RUN.stateType, true);
+                    animationManager.setState(StateType.STATE_RUN, true);
                 } else {
-                    animationManager.setState(StateType.STATE_IDLE.stateType, true);
+                    animationManager.setState(StateType.STATE_IDLE, true);
                 }
             }
             return;
         }
 
         if (heroMovement.isMoving()) {
-            animationManager.setState(StateType.STATE_RUN.stateType, true);
+            animationManager.setState(StateType.STATE_RUN, true);
         } else {
-            animationManager.setState(StateType.STATE_IDLE.stateType, true);
+            animationManager.setState(StateType.STATE_IDLE, true);
         }
 
         this.setFacingRight(facingRight);
@@ -195,7 +201,7 @@ public class Wizard extends Player {
     public void onHurt() {
         isHurt = true;
         hurtTimer = 0.4f;
-        animationManager.setState(StateType.STATE_HURT.stateType, true);
+        animationManager.setState(StateType.STATE_HURT, true);
     }
     @Override
     public void updateSkill() {
@@ -206,4 +212,8 @@ public class Wizard extends Player {
         wizardPortalSkill.downSkill();
 
     }
+
+    public WizardPortalSkill getWizardPortalSkill() {
+        return wizardPortalSkill;
+    }
 }
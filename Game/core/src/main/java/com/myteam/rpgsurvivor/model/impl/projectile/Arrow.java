@@ -1,70 +1,113 @@
 package com.myteam.rpgsurvivor.model.impl.projectile;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.myteam.rpgsurvivor.animation.AnimationManager;
+import com.myteam.rpgsurvivor.animation.AnimationSet;
+import com.myteam.rpgsurvivor.controller.combat.CombatEventQueue;
+import com.myteam.rpgsurvivor.controller.spatial.EnemySpatialGrid;
 import com.myteam.rpgsurvivor.debug.DebugRenderer;
 import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.render.ViewCulling;
 
-import com.myteam.rpgsurvivor.debug.DebugRenderer;
-import java.util.List;
+import java.util.ArrayList;
 
-public class Arrow {
+/**
+ * An arrow of the archer. Arrows are pooled by their archer, {@link #init} launches a pooled one again.
+ */
+public class Arrow implements Pool.Poolable {
     private final Vector2 position;
+    // Vị trí ở tick trước, dùng để nội suy khi render
+    private float previousX;
     private final float speed = 200f;
-    private final boolean facingRight;
+    private boolean facingRight;
     private final AnimationManager animationManager;
     private boolean isDestroyed = false;
     private final Rectangle hitbox;
+    private final CombatEventQueue combatEvents = CombatEventQueue.getInstance();
+    private static final ViewCulling culling = ViewCulling.getInstance();
+    // Dùng chung cho mọi mũi tên, chỉ chạy trên game thread
+    private static final ArrayList<Enemy> hitCandidates = new ArrayList<>();
+
+    public Arrow(AnimationSet arrowAnimations) {
+        this.position = new Vector2();
+        this.animationManager = new AnimationManager(arrowAnimations);
+        this.hitbox = new Rectangle(0, 0, 20, 4);
+    }
 
-    public Arrow(float x, float y, boolean facingRight, AnimationManager arrowAnimManager) {
-        this.position = new Vector2(x, y);
+    public void init(float x, float y, boolean facingRight) {
+        position.set(x, y);
+        previousX = x;
         this.facingRight = facingRight;
-        this.animationManager = arrowAnimManager.copy();
-        this.animationManager.setState("arrow", true);
-        this.hitbox = new Rectangle(x + 15, y + 16.5f, 20, 4);
+        hitbox.setPosition(x + 15, y + 16.5f);
+        animationManager.resetStateTime();
+        isDestroyed = false;
+    }
+
+    @Override
+    public void reset() {
+        isDestroyed = true;
     }
 
-    public void update(float deltaTime, List<Enemy> enemyList, int arrowDamage) {
+    /**
+     * @param worldBounds The map, an arrow leaving it is destroyed
+     */
+    public void update(float deltaTime, EnemySpatialGrid enemyGrid, int arrowDamage, Rectangle worldBounds) {
         if (isDestroyed) return;
+        previousX = position.x;
         float dx = speed * deltaTime * (facingRight ? 1 : -1);
         position.x += dx;
         hitbox.setPosition(position.x + 15, position.y + 16.5f);
         animationManager.update(deltaTime);
-        DebugRenderer.drawRect(hitbox, Color.ORANGE);
-        if (position.x < 0 || position.x > Gdx.graphics.getWidth() || position.y < 0 || position.y > Gdx.graphics.getHeight()) {
+        if (!worldBounds.contains(position.x, position.y)) {
             isDestroyed = true;
             return;
         }
 
-        for (Enemy enemy : enemyList) {
-            if (hitbox.overlaps(enemy.getHitbox())) {
-                enemy.takeDamge(arrowDamage);
-                enemy.onHurt();
-                isDestroyed = true;
-                break;
-            }
+        enemyGrid.queryRect(hitbox, hitCandidates);
+        if (!hitCandidates.isEmpty()) {
+            Enemy enemy = hitCandidates.get(0);
+            combatEvents.postDamage(enemy, arrowDamage);
+            isDestroyed = true;
         }
     }
 
-    public void render(SpriteBatch batch) {
+    public void render(Batch batch, float alpha) {
         if (isDestroyed) return;
+        DebugRenderer.drawRect(hitbox, Color.ORANGE);
+
+        float x = previousX + (position.x - previousX) * alpha;
 
         TextureRegion frame = animationManager.getCurrentFrame();
         if (frame != null) {
             float width = frame.getRegionWidth();
             float height = frame.getRegionHeight();
-            float drawX = facingRight ? position.x : position.x + width;
+            float drawX = facingRight ? x : x + width;
             float scaleX = facingRight ? 1f : -1f;
 
+            if (!culling.accept(ViewCulling.Kind.PROJECTILE, drawX + 15f, position.y + 16.5f, width * scaleX, height)) {
+                return;
+            }
             batch.draw(frame, drawX + 15f, position.y + 16.5f, width * scaleX, height);
         }
     }
 
+    public float getX() {
+        return position.x;
+    }
+
+    public float getY() {
+        return position.y;
+    }
+
+    public boolean isFacingRight() {
+        return facingRight;
+    }
+
     public boolean isDestroyed() {
         return isDestroyed;
     }
@@ -0,0 +1,279 @@
+package com.myteam.rpgsurvivor.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Arrays;
+
+/**
+ * Draws the tile layers of a TiledMap from geometry baked once into a SpriteCache.
+ * Every visible tile layer is cut into squares of {@link #CHUNK_TILES} tiles and each square becomes one cache,
+ * a frame draws the caches of the squares the camera sees, layer by layer in map order. The cost per frame
+ * depends on the window, not on the map size, and no tile vertex is rebuilt after loading.
+ * <p>
+ * Cells are baked the way OrthogonalTiledMapRenderer draws them, flips and rotations included.
+ * Animated tiles keep their first frame and parallax is not applied.
+ */
+public class ChunkedMapRenderer implements Disposable {
+    public static final int CHUNK_TILES = 64;
+
+    // x, y, color, u, v cho mỗi đỉnh, 2 tam giác mỗi tile vì cache không dùng index
+    private static final int VERTEX_SIZE = 5;
+    private static final int SPRITE_SIZE = 6 * VERTEX_SIZE;
+
+    private final SpriteCache cache;
+    private final Array<BakedLayer> layers = new Array<>();
+    // Tile lớn hơn ô lưới hoặc có offset thì vẽ tràn ra ngoài chunk của nó
+    private float overhang;
+
+    private final Rectangle view = new Rectangle();
+    private final float[] corners = new float[4 * 4];
+    private final float[] vertices = new float[SPRITE_SIZE];
+    private final Array<Texture> textures = new Array<>();
+    private int drawCount;
+
+    public ChunkedMapRenderer(TiledMap map) {
+        Array<TiledMapTileLayer> tileLayers = new Array<>();
+        collectLayers(map.getLayers(), tileLayers);
+
+        int tileCount = 0;
+        for (TiledMapTileLayer layer : tileLayers) {
+            tileCount += countTiles(layer);
+        }
+        cache = new SpriteCache(Math.max(1, tileCount), false);
+
+        for (TiledMapTileLayer layer : tileLayers) {
+            layers.add(bake(layer));
+        }
+        Gdx.app.log("ChunkedMapRenderer", "Baked " + tileCount + " tiles of " + tileLayers.size
+            + " layers into chunks of " + CHUNK_TILES + "x" + CHUNK_TILES);
+    }
+
+    /**
+     * Visible tile layers in drawing order, the content of visible groups included
+     */
+    private static void collectLayers(MapLayers mapLayers, Array<TiledMapTileLayer> out) {
+        for (MapLayer layer : mapLayers) {
+            if (!layer.isVisible()) continue;
+            if (layer instanceof MapGroupLayer) {
+                collectLayers(((MapGroupLayer) layer).getLayers(), out);
+            } else if (layer instanceof TiledMapTileLayer) {
+                out.add((TiledMapTileLayer) layer);
+            }
+        }
+    }
+
+    private int countTiles(TiledMapTileLayer layer) {
+        int count = 0;
+        for (int row = 0; row < layer.getHeight(); row++) {
+            for (int col = 0; col < layer.getWidth(); col++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                if (cell == null || cell.getTile() == null) continue;
+                TiledMapTile tile = cell.getTile();
+                TextureRegion region = tile.getTextureRegion();
+                overhang = Math.max(overhang, Math.abs(tile.getOffsetX()) + Math.max(0, region.getRegionWidth() - layer.getTileWidth()));
+                overhang = Math.max(overhang, Math.abs(tile.getOffsetY()) + Math.max(0, region.getRegionHeight() - layer.getTileHeight()));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private BakedLayer bake(TiledMapTileLayer layer) {
+        BakedLayer baked = new BakedLayer(layer);
+        float color = Color.toFloatBits(1f, 1f, 1f, layer.getOpacity());
+
+        for (int chunkY = 0; chunkY < baked.chunksY; chunkY++) {
+            for (int chunkX = 0; chunkX < baked.chunksX; chunkX++) {
+                int fromCol = chunkX * CHUNK_TILES;
+                int fromRow = chunkY * CHUNK_TILES;
+                int toCol = Math.min(fromCol + CHUNK_TILES, layer.getWidth());
+                int toRow = Math.min(fromRow + CHUNK_TILES, layer.getHeight());
+
+                // Gom tile theo texture để mỗi chunk chỉ đổi texture vài lần khi vẽ
+                textures.clear();
+                for (int row = fromRow; row < toRow; row++) {
+                    for (int col = fromCol; col < toCol; col++) {
+                        TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                        if (cell == null || cell.getTile() == null) continue;
+                        Texture texture = cell.getTile().getTextureRegion().getTexture();
+                        if (!textures.contains(texture, true)) textures.add(texture);
+                    }
+                }
+                if (textures.isEmpty()) continue;
+
+                cache.beginCache();
+                for (Texture texture : textures) {
+                    // Từ hàng trên xuống như OrthogonalTiledMapRenderer, tile tràn ô chồng lên nhau giống nhau
+                    for (int row = toRow - 1; row >= fromRow; row--) {
+                        for (int col = fromCol; col < toCol; col++) {
+                            TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                            if (cell == null || cell.getTile() == null) continue;
+                            if (cell.getTile().getTextureRegion().getTexture() != texture) continue;
+                            addCell(cell, texture, col * layer.getTileWidth() + baked.offsetX,
+                                row * layer.getTileHeight() + baked.offsetY, color);
+                        }
+                    }
+                }
+                baked.cacheIds[chunkY * baked.chunksX + chunkX] = cache.endCache();
+            }
+        }
+        return baked;
+    }
+
+    private void addCell(TiledMapTileLayer.Cell cell, Texture texture, float x, float y, float color) {
+        TiledMapTile tile = cell.getTile();
+        TextureRegion region = tile.getTextureRegion();
+        float x1 = x + tile.getOffsetX();
+        float y1 = y + tile.getOffsetY();
+        float x2 = x1 + region.getRegionWidth();
+        float y2 = y1 + region.getRegionHeight();
+
+        // 4 góc theo thứ tự dưới trái, trên trái, trên phải, dưới phải: x, y, u, v
+        float[] c = corners;
+        c[0] = x1; c[1] = y1; c[2] = region.getU(); c[3] = region.getV2();
+        c[4] = x1; c[5] = y2; c[6] = region.getU(); c[7] = region.getV();
+        c[8] = x2; c[9] = y2; c[10] = region.getU2(); c[11] = region.getV();
+        c[12] = x2; c[13] = y1; c[14] = region.getU2(); c[15] = region.getV2();
+
+        // Lật và xoay đổi chỗ toạ độ texture giữa các góc, vị trí giữ nguyên
+        if (cell.getFlipHorizontally()) {
+            swap(c, 2, 10);
+            swap(c, 6, 14);
+        }
+        if (cell.getFlipVertically()) {
+            swap(c, 3, 11);
+            swap(c, 7, 15);
+        }
+        switch (cell.getRotation()) {
+            case TiledMapTileLayer.Cell.ROTATE_90:
+                rotateUV(c, 1);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_180:
+                rotateUV(c, 2);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_270:
+                rotateUV(c, 3);
+                break;
+        }
+
+        int i = 0;
+        i = putVertex(i, 0, color);
+        i = putVertex(i, 1, color);
+        i = putVertex(i, 2, color);
+        i = putVertex(i, 2, color);
+        i = putVertex(i, 3, color);
+        putVertex(i, 0, color);
+        cache.add(texture, vertices, 0, SPRITE_SIZE);
+    }
+
+    private int putVertex(int i, int corner, float color) {
+        int c = corner * 4;
+        vertices[i] = corners[c];
+        vertices[i + 1] = corners[c + 1];
+        vertices[i + 2] = color;
+        vertices[i + 3] = corners[c + 2];
+        vertices[i + 4] = corners[c + 3];
+        return i + VERTEX_SIZE;
+    }
+
+    private static void swap(float[] values, int a, int b) {
+        float temp = values[a];
+        values[a] = values[b];
+        values[b] = temp;
+    }
+
+    // Góc k nhận toạ độ texture của góc k + steps, giống cách OrthogonalTiledMapRenderer xoay cell
+    private static void rotateUV(float[] c, int steps) {
+        for (int s = 0; s < steps; s++) {
+            float u = c[2], v = c[3];
+            for (int k = 0; k < 3; k++) {
+                c[k * 4 + 2] = c[(k + 1) * 4 + 2];
+                c[k * 4 + 3] = c[(k + 1) * 4 + 3];
+            }
+            c[14] = u;
+            c[15] = v;
+        }
+    }
+
+    /**
+     * Draw the chunks the camera sees. Call outside of any batch begin/end, after camera.update()
+     */
+    public void render(OrthographicCamera camera) {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        view.set(camera.position.x - width / 2f - overhang, camera.position.y - height / 2f - overhang,
+            width + overhang * 2, height + overhang * 2);
+
+        drawCount = 0;
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(camera.combined);
+        cache.begin();
+        for (BakedLayer layer : layers) {
+            int fromX = Math.max(0, MathUtils.floor((view.x - layer.offsetX) / layer.chunkWidth));
+            int fromY = Math.max(0, MathUtils.floor((view.y - layer.offsetY) / layer.chunkHeight));
+            int toX = Math.min(layer.chunksX - 1, MathUtils.floor((view.x + view.width - layer.offsetX) / layer.chunkWidth));
+            int toY = Math.min(layer.chunksY - 1, MathUtils.floor((view.y + view.height - layer.offsetY) / layer.chunkHeight));
+            for (int chunkY = fromY; chunkY <= toY; chunkY++) {
+                for (int chunkX = fromX; chunkX <= toX; chunkX++) {
+                    int id = layer.cacheIds[chunkY * layer.chunksX + chunkX];
+                    if (id < 0) continue;
+                    cache.draw(id);
+                    drawCount++;
+                }
+            }
+        }
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    /**
+     * @return Chunks drawn by the last render call
+     */
+    public int getDrawCount() {
+        return drawCount;
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+
+    private static class BakedLayer {
+        final int chunksX;
+        final int chunksY;
+        final float chunkWidth;
+        final float chunkHeight;
+        final float offsetX;
+        final float offsetY;
+        // Id cache theo chunkY * chunksX + chunkX, -1 khi chunk không có tile nào
+        final int[] cacheIds;
+
+        BakedLayer(TiledMapTileLayer layer) {
+            chunksX = (layer.getWidth() + CHUNK_TILES - 1) / CHUNK_TILES;
+            chunksY = (layer.getHeight() + CHUNK_TILES - 1) / CHUNK_TILES;
+            chunkWidth = CHUNK_TILES * layer.getTileWidth();
+            chunkHeight = CHUNK_TILES * layer.getTileHeight();
+            offsetX = layer.getRenderOffsetX();
+            offsetY = -layer.getRenderOffsetY();
+            cacheIds = new int[chunksX * chunksY];
+            Arrays.fill(cacheIds, -1);
+        }
+    }
+}
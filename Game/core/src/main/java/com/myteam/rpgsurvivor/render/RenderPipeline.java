@@ -0,0 +1,177 @@
+package com.myteam.rpgsurvivor.render;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.myteam.rpgsurvivor.controller.system.GameSimulation;
+import com.myteam.rpgsurvivor.controller.system.SimulationClock;
+import com.myteam.rpgsurvivor.debug.DebugRenderer;
+import com.myteam.rpgsurvivor.model.Player;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the simulation ticks of frame N+1 on a worker thread while the GL thread draws frame N.
+ * Two {@link RenderSnapshot}s are used: the worker steps the simulation and records the entities
+ * into the back one, the GL thread replays the front one. The hand-off is two volatile counters and
+ * park/unpark, no lock is taken on either side.
+ * <p>
+ * Per frame the GL thread calls {@link #await()} before touching simulation state, then
+ * {@link #submit(int, float, boolean)}, then draws {@link #getFront()}. In serial mode (single core,
+ * -Drpgsurvivor.renderPipeline=false, or when the caller asks for it) submit runs the job in place.
+ */
+public class RenderPipeline implements Disposable {
+    public static final String PIPELINE_PROPERTY = "rpgsurvivor.renderPipeline";
+
+    private final GameSimulation simulation;
+    private final RenderSnapshot[] snapshots = {new RenderSnapshot(), new RenderSnapshot()};
+    private final SnapshotBatch recorder = new SnapshotBatch();
+    private final ViewCulling culling = ViewCulling.getInstance();
+    private final boolean enabled;
+    private int front;
+    // Đã giao cho worker một job mà front chưa được đổi
+    private boolean pending;
+
+    // Tham số của job, ghi trước khi tăng requested nên worker luôn thấy bản mới
+    private int jobSteps;
+    private float jobAlpha;
+    private boolean jobRecord;
+    private RenderSnapshot jobTarget;
+
+    private volatile long requested;
+    private volatile long completed;
+    private volatile Throwable failure;
+    private volatile boolean running;
+    private volatile Thread waiter;
+    private Thread worker;
+
+    public RenderPipeline(GameSimulation simulation) {
+        this.simulation = simulation;
+        this.enabled = Runtime.getRuntime().availableProcessors() > 1
+            && !"false".equals(System.getProperty(PIPELINE_PROPERTY));
+        // Frame đầu tiên được vẽ trước khi có job nào xong
+        recordStatus(snapshots[0]);
+        recordStatus(snapshots[1]);
+    }
+
+    /**
+     * Wait for the job of the previous frame and make its snapshot the front one.
+     * After this call the simulation may be read and changed from the calling thread until the next submit.
+     */
+    public void await() {
+        if (pending) {
+            waiter = Thread.currentThread();
+            while (completed != requested) {
+                LockSupport.park(this);
+            }
+            waiter = null;
+            pending = false;
+            front ^= 1;
+        }
+
+        Throwable error = failure;
+        if (error != null) {
+            failure = null;
+            throw new GdxRuntimeException("Simulation step failed", error);
+        }
+    }
+
+    /**
+     * Step the simulation and record the next snapshot, on the worker when possible
+     * @param steps Fixed steps to simulate
+     * @param alpha Interpolation factor used when recording
+     * @param parallel false to run the job on the calling thread, e.g. while debug shapes are drawn
+     */
+    public void submit(int steps, float alpha, boolean parallel) {
+        if (pending) {
+            throw new IllegalStateException("RenderPipeline.await must be called before submit.");
+        }
+        jobSteps = steps;
+        jobAlpha = alpha;
+        jobRecord = !simulation.getHero().isDead();
+        jobTarget = snapshots[front ^ 1];
+
+        if (parallel && enabled) {
+            startWorker();
+            pending = true;
+            requested = requested + 1;
+            LockSupport.unpark(worker);
+        } else {
+            runJob();
+            front ^= 1;
+        }
+    }
+
+    private void runJob() {
+        for (int i = 0; i < jobSteps; i++) {
+            simulation.step(SimulationClock.STEP);
+        }
+        recorder.begin(jobTarget);
+        if (jobRecord) {
+            simulation.render(recorder, jobAlpha);
+        }
+        recorder.end();
+        recordStatus(jobTarget);
+        DebugRenderer.collect(jobTarget.getDebugShapes());
+        if (culling.isBounded()) {
+            jobTarget.setViewCenter(culling.getCenterX(), culling.getCenterY());
+        }
+    }
+
+    private void recordStatus(RenderSnapshot target) {
+        Player hero = simulation.getHero();
+        target.setStatus(hero.isDead(), hero.getCurrentHealth(), hero.getMaxHealth(),
+            simulation.getStageController().isWaitingForNextStage());
+    }
+
+    private void startWorker() {
+        if (worker != null) return;
+        running = true;
+        worker = new Thread(this::runWorker, "simulation");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void runWorker() {
+        long done = 0;
+        while (running) {
+            if (requested == done) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                runJob();
+            } catch (Throwable e) {
+                failure = e;
+                // Bản ghi dở dang: bỏ để vòng sau begin() không báo lỗi
+                if (recorder.isDrawing()) recorder.end();
+            }
+            done++;
+            completed = done;
+            Thread gl = waiter;
+            if (gl != null) {
+                LockSupport.unpark(gl);
+            }
+        }
+    }
+
+    public RenderSnapshot getFront() {
+        return snapshots[front];
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void dispose() {
+        try {
+            await();
+        } finally {
+            if (worker != null) {
+                running = false;
+                LockSupport.unpark(worker);
+                worker = null;
+            }
+        }
+    }
+}
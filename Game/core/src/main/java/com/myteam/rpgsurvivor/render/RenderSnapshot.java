@@ -0,0 +1,209 @@
+package com.myteam.rpgsurvivor.render;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.myteam.rpgsurvivor.debug.DebugRenderer;
+
+import java.util.Arrays;
+
+/**
+ * Flat list of the sprites of one simulated frame: texture, position, signed size (a negative
+ * width is a horizontal flip), texture coordinates and packed tint. Rotated, transformed and raw-vertex draws
+ * are kept as the finished SpriteBatch vertices instead, in recording order with the rest. Written by a {@link SnapshotBatch}
+ * after the simulation ticks, replayed on the GL thread by {@link #draw(Batch)}. The debug shapes and the
+ * hero and stage status the screen branches on are copied in too, the GL thread reads them from here only.
+ * The arrays only grow, a frame with no more sprites than the largest one so far allocates nothing.
+ */
+public class RenderSnapshot {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private Texture[] texture;
+    private float[] x, y, width, height;
+    // Quy ước giống SpriteBatch.draw(Texture, x, y, w, h, u, v, u2, v2): (u, v) ở góc dưới trái
+    private float[] u, v, u2, v2;
+    private float[] color;
+    // Đỉnh có sẵn của sprite xoay hoặc vẽ bằng vertex thô; -1 với sprite thẳng trục
+    private int[] vertexOffset;
+    private int[] vertexCount;
+    private float[] vertices = new float[INITIAL_CAPACITY * 20];
+    private int vertexSize;
+    private int size;
+
+    // Tâm vùng nhìn lúc ghi, camera được đặt về đây trước khi vẽ
+    private float viewCenterX, viewCenterY;
+    private boolean hasView;
+
+    private final DebugRenderer.Shapes debugShapes = new DebugRenderer.Shapes();
+    // Trạng thái lúc ghi, MapScreen và HUD đọc ở đây thay vì đọc hero đang được mô phỏng
+    private boolean heroDead;
+    private int heroHealth;
+    private int heroMaxHealth;
+    private boolean waitingForNextStage;
+
+    public RenderSnapshot() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        texture = new Texture[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        u = new float[capacity];
+        v = new float[capacity];
+        u2 = new float[capacity];
+        v2 = new float[capacity];
+        color = new float[capacity];
+        vertexOffset = new int[capacity];
+        vertexCount = new int[capacity];
+    }
+
+    private void grow() {
+        int capacity = texture.length * 2;
+        texture = Arrays.copyOf(texture, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        u = Arrays.copyOf(u, capacity);
+        v = Arrays.copyOf(v, capacity);
+        u2 = Arrays.copyOf(u2, capacity);
+        v2 = Arrays.copyOf(v2, capacity);
+        color = Arrays.copyOf(color, capacity);
+        vertexOffset = Arrays.copyOf(vertexOffset, capacity);
+        vertexCount = Arrays.copyOf(vertexCount, capacity);
+    }
+
+    public void add(Texture texture, float x, float y, float width, float height,
+                    float u, float v, float u2, float v2, float color) {
+        if (size == this.texture.length) {
+            grow();
+        }
+        int i = size++;
+        this.texture[i] = texture;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.width[i] = width;
+        this.height[i] = height;
+        this.u[i] = u;
+        this.v[i] = v;
+        this.u2[i] = u2;
+        this.v2[i] = v2;
+        this.color[i] = color;
+        this.vertexOffset[i] = -1;
+    }
+
+    /**
+     * Add a draw given as finished vertices in the SpriteBatch layout (x, y, packed color, u, v per vertex)
+     * @param count Number of floats, 20 per sprite
+     */
+    public void addVertices(Texture texture, float[] spriteVertices, int offset, int count) {
+        if (size == this.texture.length) {
+            grow();
+        }
+        if (vertexSize + count > vertices.length) {
+            vertices = Arrays.copyOf(vertices, Math.max(vertices.length * 2, vertexSize + count));
+        }
+        System.arraycopy(spriteVertices, offset, vertices, vertexSize, count);
+        int i = size++;
+        this.texture[i] = texture;
+        this.vertexOffset[i] = vertexSize;
+        this.vertexCount[i] = count;
+        vertexSize += count;
+    }
+
+    /**
+     * Submit every sprite in recording order. The batch must be between begin() and end().
+     */
+    public void draw(Batch batch) {
+        float previousColor = batch.getPackedColor();
+        float currentColor = previousColor;
+        for (int i = 0; i < size; i++) {
+            if (vertexOffset[i] >= 0) {
+                // Màu đã nằm trong từng đỉnh, batch bỏ qua màu hiện tại
+                batch.draw(texture[i], vertices, vertexOffset[i], vertexCount[i]);
+                continue;
+            }
+            if (color[i] != currentColor) {
+                currentColor = color[i];
+                batch.setPackedColor(currentColor);
+            }
+            batch.draw(texture[i], x[i], y[i], width[i], height[i], u[i], v[i], u2[i], v2[i]);
+        }
+        if (currentColor != previousColor) {
+            batch.setPackedColor(previousColor);
+        }
+    }
+
+    /**
+     * Forget the sprites but keep the arrays. Texture references are kept too,
+     * they are overwritten by the next frame and textures outlive the snapshot anyway.
+     */
+    public void clear() {
+        size = 0;
+        vertexSize = 0;
+    }
+
+    /**
+     * Remember where the camera looked when the sprites were recorded
+     */
+    public void setViewCenter(float x, float y) {
+        viewCenterX = x;
+        viewCenterY = y;
+        hasView = true;
+    }
+
+    public float getViewCenterX() {
+        return viewCenterX;
+    }
+
+    public float getViewCenterY() {
+        return viewCenterY;
+    }
+
+    /**
+     * @return false until a frame recorded with a bounded view
+     */
+    public boolean hasView() {
+        return hasView;
+    }
+
+    /**
+     * Remember the state the screen needs to pick what to draw
+     */
+    public void setStatus(boolean heroDead, int heroHealth, int heroMaxHealth, boolean waitingForNextStage) {
+        this.heroDead = heroDead;
+        this.heroHealth = heroHealth;
+        this.heroMaxHealth = heroMaxHealth;
+        this.waitingForNextStage = waitingForNextStage;
+    }
+
+    public boolean isHeroDead() {
+        return heroDead;
+    }
+
+    public int getHeroHealth() {
+        return heroHealth;
+    }
+
+    public int getHeroMaxHealth() {
+        return heroMaxHealth;
+    }
+
+    public boolean isWaitingForNextStage() {
+        return waitingForNextStage;
+    }
+
+    public DebugRenderer.Shapes getDebugShapes() {
+        return debugShapes;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,367 @@
+package com.myteam.rpgsurvivor.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+
+/**
+ * {@link Batch} that records draws into a {@link RenderSnapshot} instead of sending them to GL,
+ * so entity render code can run on the simulation thread. It never touches GL and can be created anywhere.
+ * Axis-aligned draws are recorded as rectangles, rotated, transformed and raw-vertex draws as the
+ * vertices SpriteBatch would have built for them.
+ */
+public class SnapshotBatch implements Batch {
+    private final Color color = new Color(1, 1, 1, 1);
+    private float packedColor = Color.WHITE_FLOAT_BITS;
+    private final Matrix4 projectionMatrix = new Matrix4();
+    private final Matrix4 transformMatrix = new Matrix4();
+
+    private RenderSnapshot snapshot;
+    private boolean drawing;
+    private boolean blendingEnabled = true;
+    private int blendSrcFunc = GL20.GL_SRC_ALPHA;
+    private int blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+    private int blendSrcFuncAlpha = GL20.GL_SRC_ALPHA;
+    private int blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+    private ShaderProgram shader;
+    // Một sprite: 4 đỉnh x, y, color, u, v như SpriteBatch
+    private final float[] vertices = new float[20];
+
+    /**
+     * Clear the snapshot and record every following draw into it
+     */
+    public void begin(RenderSnapshot snapshot) {
+        this.snapshot = snapshot;
+        snapshot.clear();
+        begin();
+    }
+
+    @Override
+    public void begin() {
+        if (drawing) throw new IllegalStateException("SnapshotBatch.end must be called before begin.");
+        if (snapshot == null) throw new IllegalStateException("SnapshotBatch has no snapshot to record into.");
+        drawing = true;
+    }
+
+    @Override
+    public void end() {
+        if (!drawing) throw new IllegalStateException("SnapshotBatch.begin must be called before end.");
+        drawing = false;
+        snapshot = null;
+    }
+
+    private void record(Texture texture, float x, float y, float width, float height,
+                        float u, float v, float u2, float v2) {
+        if (!drawing) throw new IllegalStateException("SnapshotBatch.begin must be called before draw.");
+        snapshot.add(texture, x, y, width, height, u, v, u2, v2, packedColor);
+    }
+
+    private void recordSource(Texture texture, float x, float y, float width, float height,
+                              int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        float invTexWidth = 1f / texture.getWidth();
+        float invTexHeight = 1f / texture.getHeight();
+        float u = srcX * invTexWidth;
+        float v = (srcY + srcHeight) * invTexHeight;
+        float u2 = (srcX + srcWidth) * invTexWidth;
+        float v2 = srcY * invTexHeight;
+        if (flipX) {
+            float tmp = u;
+            u = u2;
+            u2 = tmp;
+        }
+        if (flipY) {
+            float tmp = v;
+            v = v2;
+            v2 = tmp;
+        }
+        record(texture, x, y, width, height, u, v, u2, v2);
+    }
+
+    private void recordVertices(Texture texture, float[] spriteVertices, int offset, int count) {
+        if (!drawing) throw new IllegalStateException("SnapshotBatch.begin must be called before draw.");
+        snapshot.addVertices(texture, spriteVertices, offset, count);
+    }
+
+    /**
+     * Rotate and scale a sprite around its origin the way SpriteBatch does and record its corners.
+     * Texture coordinates are given per corner: bottom left, top left, top right, bottom right.
+     */
+    private void recordRotated(Texture texture, float x, float y, float originX, float originY, float width, float height,
+                               float scaleX, float scaleY, float rotation,
+                               float u1, float v1, float u2, float v2, float u3, float v3, float u4, float v4) {
+        float worldOriginX = x + originX;
+        float worldOriginY = y + originY;
+        float fx = -originX * scaleX;
+        float fy = -originY * scaleY;
+        float fx2 = (width - originX) * scaleX;
+        float fy2 = (height - originY) * scaleY;
+
+        float cos = MathUtils.cosDeg(rotation);
+        float sin = MathUtils.sinDeg(rotation);
+        float x1 = cos * fx - sin * fy;
+        float y1 = sin * fx + cos * fy;
+        float x2 = cos * fx - sin * fy2;
+        float y2 = sin * fx + cos * fy2;
+        float x3 = cos * fx2 - sin * fy2;
+        float y3 = sin * fx2 + cos * fy2;
+        // Hình bình hành: góc thứ 4 suy ra từ 3 góc kia
+        float x4 = x1 + (x3 - x2);
+        float y4 = y3 - (y2 - y1);
+
+        putVertex(0, worldOriginX + x1, worldOriginY + y1, u1, v1);
+        putVertex(1, worldOriginX + x2, worldOriginY + y2, u2, v2);
+        putVertex(2, worldOriginX + x3, worldOriginY + y3, u3, v3);
+        putVertex(3, worldOriginX + x4, worldOriginY + y4, u4, v4);
+        recordVertices(texture, vertices, 0, vertices.length);
+    }
+
+    private void putVertex(int corner, float x, float y, float u, float v) {
+        int i = corner * 5;
+        vertices[i] = x;
+        vertices[i + 1] = y;
+        vertices[i + 2] = packedColor;
+        vertices[i + 3] = u;
+        vertices[i + 4] = v;
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight,
+                     boolean flipX, boolean flipY) {
+        if (rotation == 0) {
+            recordSource(texture, x + originX - originX * scaleX, y + originY - originY * scaleY,
+                width * scaleX, height * scaleY, srcX, srcY, srcWidth, srcHeight, flipX, flipY);
+            return;
+        }
+        float invTexWidth = 1f / texture.getWidth();
+        float invTexHeight = 1f / texture.getHeight();
+        float u = srcX * invTexWidth;
+        float v = (srcY + srcHeight) * invTexHeight;
+        float u2 = (srcX + srcWidth) * invTexWidth;
+        float v2 = srcY * invTexHeight;
+        if (flipX) {
+            float tmp = u;
+            u = u2;
+            u2 = tmp;
+        }
+        if (flipY) {
+            float tmp = v;
+            v = v2;
+            v2 = tmp;
+        }
+        recordRotated(texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+            u, v, u, v2, u2, v2, u2, v);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY,
+                     int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+        recordSource(texture, x, y, width, height, srcX, srcY, srcWidth, srcHeight, flipX, flipY);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+        recordSource(texture, x, y, srcWidth, srcHeight, srcX, srcY, srcWidth, srcHeight, false, false);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+        record(texture, x, y, width, height, u, v, u2, v2);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y) {
+        record(texture, x, y, texture.getWidth(), texture.getHeight(), 0, 1, 1, 0);
+    }
+
+    @Override
+    public void draw(Texture texture, float x, float y, float width, float height) {
+        record(texture, x, y, width, height, 0, 1, 1, 0);
+    }
+
+    @Override
+    public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+        recordVertices(texture, spriteVertices, offset, count);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y) {
+        draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float width, float height) {
+        record(region.getTexture(), x, y, width, height, region.getU(), region.getV2(), region.getU2(), region.getV());
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation) {
+        if (rotation == 0) {
+            draw(region, x + originX - originX * scaleX, y + originY - originY * scaleY, width * scaleX, height * scaleY);
+            return;
+        }
+        float u = region.getU();
+        float v = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+        recordRotated(region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+            u, v, u, v2, u2, v2, u2, v);
+    }
+
+    @Override
+    public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+                     float scaleX, float scaleY, float rotation, boolean clockwise) {
+        // Texture xoay 90 độ so với sprite, cùng cách gán góc như SpriteBatch
+        float u = region.getU();
+        float v = region.getV();
+        float u2 = region.getU2();
+        float v2 = region.getV2();
+        if (clockwise) {
+            recordRotated(region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+                u2, v2, u, v2, u, v, u2, v);
+        } else {
+            recordRotated(region.getTexture(), x, y, originX, originY, width, height, scaleX, scaleY, rotation,
+                u, v, u2, v, u2, v2, u, v2);
+        }
+    }
+
+    @Override
+    public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+        float u = region.getU();
+        float v = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+        putVertex(0, transform.m02, transform.m12, u, v);
+        putVertex(1, transform.m01 * height + transform.m02, transform.m11 * height + transform.m12, u, v2);
+        putVertex(2, transform.m00 * width + transform.m01 * height + transform.m02,
+            transform.m10 * width + transform.m11 * height + transform.m12, u2, v2);
+        putVertex(3, transform.m00 * width + transform.m02, transform.m10 * width + transform.m12, u2, v);
+        recordVertices(region.getTexture(), vertices, 0, vertices.length);
+    }
+
+    @Override
+    public void setColor(Color tint) {
+        color.set(tint);
+        packedColor = tint.toFloatBits();
+    }
+
+    @Override
+    public void setColor(float r, float g, float b, float a) {
+        color.set(r, g, b, a);
+        packedColor = color.toFloatBits();
+    }
+
+    @Override
+    public Color getColor() {
+        return color;
+    }
+
+    @Override
+    public void setPackedColor(float packedColor) {
+        Color.abgr8888ToColor(color, packedColor);
+        this.packedColor = packedColor;
+    }
+
+    @Override
+    public float getPackedColor() {
+        return packedColor;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void disableBlending() {
+        blendingEnabled = false;
+    }
+
+    @Override
+    public void enableBlending() {
+        blendingEnabled = true;
+    }
+
+    @Override
+    public void setBlendFunction(int srcFunc, int dstFunc) {
+        setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+    }
+
+    @Override
+    public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+        blendSrcFunc = srcFuncColor;
+        blendDstFunc = dstFuncColor;
+        blendSrcFuncAlpha = srcFuncAlpha;
+        blendDstFuncAlpha = dstFuncAlpha;
+    }
+
+    @Override
+    public int getBlendSrcFunc() {
+        return blendSrcFunc;
+    }
+
+    @Override
+    public int getBlendDstFunc() {
+        return blendDstFunc;
+    }
+
+    @Override
+    public int getBlendSrcFuncAlpha() {
+        return blendSrcFuncAlpha;
+    }
+
+    @Override
+    public int getBlendDstFuncAlpha() {
+        return blendDstFuncAlpha;
+    }
+
+    @Override
+    public Matrix4 getProjectionMatrix() {
+        return projectionMatrix;
+    }
+
+    @Override
+    public Matrix4 getTransformMatrix() {
+        return transformMatrix;
+    }
+
+    @Override
+    public void setProjectionMatrix(Matrix4 projection) {
+        projectionMatrix.set(projection);
+    }
+
+    @Override
+    public void setTransformMatrix(Matrix4 transform) {
+        transformMatrix.set(transform);
+    }
+
+    @Override
+    public void setShader(ShaderProgram shader) {
+        this.shader = shader;
+    }
+
+    @Override
+    public ShaderProgram getShader() {
+        return shader;
+    }
+
+    @Override
+    public boolean isBlendingEnabled() {
+        return blendingEnabled;
+    }
+
+    @Override
+    public boolean isDrawing() {
+        return drawing;
+    }
+
+    @Override
+    public void dispose() {
+    }
+}
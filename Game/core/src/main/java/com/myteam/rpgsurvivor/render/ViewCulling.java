@@ -0,0 +1,158 @@
+package com.myteam.rpgsurvivor.render;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * World-space rectangle seen by the game camera. Render code of enemies, projectiles and skill effects
+ * tests its sprite bounds against it and skips the draw when they do not meet, counting what was skipped
+ * for the profiler overlay.
+ * <p>
+ * MapScreen sets the view size from its world camera once. When the simulation records a frame on the
+ * worker it centres the view on the hero with {@link #follow(float, float)}, the snapshot keeps that centre
+ * and the camera is moved to it before the snapshot is drawn. Until a camera was set everything is visible,
+ * so headless runs and benchmarks draw as before.
+ */
+public class ViewCulling {
+    public enum Kind {
+        ENTITY,
+        PROJECTILE,
+        EFFECT
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+
+    private static ViewCulling instance;
+
+    private final Rectangle view = new Rectangle();
+    private boolean bounded;
+    // Vùng nhìn không đi ra ngoài map, rộng 0 khi không giới hạn
+    private final Rectangle world = new Rectangle();
+    private final int[] culled = new int[KINDS.length];
+
+    public static ViewCulling getInstance() {
+        if (instance == null) {
+            instance = new ViewCulling();
+        }
+        return instance;
+    }
+
+    private ViewCulling() {
+        clearView();
+    }
+
+    /**
+     * Take the area the camera shows, call after camera.update()
+     */
+    public void setView(OrthographicCamera camera) {
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        view.set(camera.position.x - width / 2f, camera.position.y - height / 2f, width, height);
+        bounded = true;
+    }
+
+    /**
+     * Keep the view inside the map when following
+     */
+    public void setWorldBounds(float x, float y, float width, float height) {
+        world.set(x, y, width, height);
+    }
+
+    /**
+     * Centre the view on a point, kept inside the world bounds. A map smaller than the view is centred.
+     * Does nothing until a camera was set.
+     */
+    public void follow(float x, float y) {
+        if (!bounded) return;
+        float left = x - view.width / 2f;
+        float bottom = y - view.height / 2f;
+        if (world.width > 0) {
+            left = world.width <= view.width ? world.x + (world.width - view.width) / 2f
+                : MathUtils.clamp(left, world.x, world.x + world.width - view.width);
+        }
+        if (world.height > 0) {
+            bottom = world.height <= view.height ? world.y + (world.height - view.height) / 2f
+                : MathUtils.clamp(bottom, world.y, world.y + world.height - view.height);
+        }
+        view.setPosition(left, bottom);
+    }
+
+    /**
+     * Make everything visible again
+     */
+    public void clearView() {
+        view.set(-Float.MAX_VALUE / 2f, -Float.MAX_VALUE / 2f, Float.MAX_VALUE, Float.MAX_VALUE);
+        world.set(0, 0, 0, 0);
+        bounded = false;
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    /**
+     * Bottom left of the view, 0 while unbounded. Screen-anchored sprites such as the boss health bar
+     * add it to their screen position.
+     */
+    public float getOriginX() {
+        return bounded ? view.x : 0f;
+    }
+
+    public float getOriginY() {
+        return bounded ? view.y : 0f;
+    }
+
+    public float getCenterX() {
+        return view.x + view.width / 2f;
+    }
+
+    public float getCenterY() {
+        return view.y + view.height / 2f;
+    }
+
+    /**
+     * @return The view in world units, grown by margin on every side
+     */
+    public Rectangle getView(float margin, Rectangle out) {
+        if (!bounded) return out.set(view);
+        return out.set(view.x - margin, view.y - margin, view.width + margin * 2, view.height + margin * 2);
+    }
+
+    public boolean isVisible(float x, float y, float width, float height) {
+        // Kích thước âm là sprite bị lật, lấy cạnh trái thật
+        if (width < 0) {
+            x += width;
+            width = -width;
+        }
+        return x < view.x + view.width && x + width > view.x
+            && y < view.y + view.height && y + height > view.y;
+    }
+
+    /**
+     * Test the sprite bounds and count them as culled when they are out of view
+     * @return true if the sprite should be drawn
+     */
+    public boolean accept(Kind kind, float x, float y, float width, float height) {
+        if (isVisible(x, y, width, height)) return true;
+        culled[kind.ordinal()]++;
+        return false;
+    }
+
+    public void addCulled(Kind kind, int count) {
+        culled[kind.ordinal()] += count;
+    }
+
+    public int getCulled(Kind kind) {
+        return culled[kind.ordinal()];
+    }
+
+    /**
+     * Start counting a new recorded frame
+     */
+    public void resetCounts() {
+        for (int i = 0; i < culled.length; i++) {
+            culled[i] = 0;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.myteam.rpgsurvivor.saveGame;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Binary layout of {@link GameSaveData}: a magic number and a format version, then the fields in a fixed order.
+ * A change to the layout bumps {@link #VERSION}; {@link #read} rejects versions it does not know
+ * instead of reading garbage. Since version 2 the enemies, projectiles and skills are in a {@link WorldSnapshot}
+ * stored as one length-prefixed block; version 1 saves, with only living enemies, are no longer read.
+ * Version 3 adds the id matching the {@link SaveJournal} of the save, version 2 saves are read with no journal.
+ */
+public final class GameSaveCodec {
+    public static final int MAGIC = 0x52504753; // "RPGS"
+    public static final int VERSION = 3;
+
+    private GameSaveCodec() {
+    }
+
+    public static void write(GameSaveData data, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        out.writeUTF(data.heroName != null ? data.heroName : "");
+        out.writeFloat(data.currentHealth);
+        out.writeFloat(data.maxHealth);
+        out.writeFloat(data.damage);
+        out.writeFloat(data.speed);
+        out.writeFloat(data.atkspeed);
+        out.writeFloat(data.playerX);
+        out.writeFloat(data.playerY);
+        out.writeInt(data.skillPoints);
+
+        out.writeInt(data.currentWave);
+        out.writeBoolean(data.isWaitingForNextStage);
+
+        out.writeInt(data.maxEnemiesOnMap);
+        out.writeFloat(data.spawnInterval);
+        out.writeFloat(data.timeBetweenWaves);
+
+        out.writeLong(data.journalId);
+
+        if (data.world != null) {
+            out.writeInt(data.world.length);
+            out.write(data.world);
+        } else {
+            out.writeInt(-1);
+        }
+    }
+
+    public static GameSaveData read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a save file");
+        }
+        int version = in.readShort();
+        if (version != VERSION && version != 2) {
+            throw new IOException("Unsupported save version " + version);
+        }
+
+        GameSaveData data = new GameSaveData();
+        String heroName = in.readUTF();
+        data.heroName = heroName.isEmpty() ? null : heroName;
+        data.currentHealth = in.readFloat();
+        data.maxHealth = in.readFloat();
+        data.damage = in.readFloat();
+        data.speed = in.readFloat();
+        data.atkspeed = in.readFloat();
+        data.playerX = in.readFloat();
+        data.playerY = in.readFloat();
+        data.skillPoints = in.readInt();
+
+        data.currentWave = in.readInt();
+        data.isWaitingForNextStage = in.readBoolean();
+
+        data.maxEnemiesOnMap = in.readInt();
+        data.spawnInterval = in.readFloat();
+        data.timeBetweenWaves = in.readFloat();
+
+        if (version >= 3) {
+            data.journalId = in.readLong();
+        }
+
+        int worldLength = in.readInt();
+        if (worldLength >= 0) {
+            data.world = new byte[worldLength];
+            in.readFully(data.world);
+        } else if (worldLength != -1) {
+            throw new IOException("Invalid world snapshot length " + worldLength);
+        }
+        return data;
+    }
+}
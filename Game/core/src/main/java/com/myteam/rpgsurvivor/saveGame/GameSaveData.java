@@ -1,13 +1,11 @@
 package com.myteam.rpgsurvivor.saveGame;
 
-import com.myteam.rpgsurvivor.controller.movement.HeroMovement;
-import com.myteam.rpgsurvivor.input.InputHandle;
-import com.myteam.rpgsurvivor.model.Player;
 import com.myteam.rpgsurvivor.screens.MapScreen;
 
-import java.util.ArrayList;
-
-
+/**
+ * What a save keeps of a game, copied out of the simulation on the render thread.
+ * Only primitives and arrays, so {@link GameSaveManager} can encode it on another thread while the game goes on.
+ */
 public class GameSaveData {
     //Attributes Hero
     public String heroName;
@@ -19,8 +17,6 @@ public class GameSaveData {
     public float playerX;
     public float playerY;
     public int skillPoints;
-    public InputHandle inputHandle;
-    public HeroMovement heroMovement;
 
 
     //Attributes SystemController
@@ -31,10 +27,15 @@ public class GameSaveData {
     public int maxEnemiesOnMap;
     public float spawnInterval;
     public float timeBetweenWaves;
-    public ArrayList activeEnemies;
-    public ArrayList activeBosses;
 
+    // Toàn bộ mô phỏng (enemy, mũi tên, skill, bộ đếm thời gian) do WorldSnapshot ghi
+    public byte[] world;
+
+    // Id ghi ở đầu journal nối tiếp bản lưu này, 0 khi không có journal
+    public long journalId;
 
+    GameSaveData() {
+    }
 
     public GameSaveData(MapScreen mapScreen) {
         if(mapScreen.getChosenHero() != null)
@@ -47,9 +48,7 @@ public class GameSaveData {
             this.atkspeed = mapScreen.getChosenHero().getAttackSpeed();
             this.playerX = mapScreen.getChosenHero().getEntityX();
             this.playerY = mapScreen.getChosenHero().getEntityY();
-            //this.skillPoints = mapScreen.getChosenHero().getSkillPoints();
-//            this.inputHandle = mapScreen.getChosenHero().getInputHandle();
-//            this.heroMovement = mapScreen.getChosenHero().getHeroMovement();
+            this.skillPoints = mapScreen.getChosenHero().getSkillPoints();
         }
 
         if(mapScreen.getEnemySpawnController() != null)
@@ -58,14 +57,17 @@ public class GameSaveData {
             this.maxEnemiesOnMap = mapScreen.getEnemySpawnController().getMaxEnemiesOnMap();
             this.spawnInterval = mapScreen.getEnemySpawnController().getSpawnInterval();
             this.timeBetweenWaves = mapScreen.getEnemySpawnController().getTimeBetweenWaves();
-//            this.activeEnemies = mapScreen.getEnemySpawnController().getActiveEnemies();
-//            this.activeBosses = mapScreen.getEnemySpawnController().getActiveBoss();
         }
 
         if(mapScreen.getSystemController() != null)
         {
             this.isWaitingForNextStage = mapScreen.getSystemController().isWaitingForNextStage();
         }
+
+        if(mapScreen.getSimulation() != null)
+        {
+            this.world = WorldSnapshot.capture(mapScreen.getSimulation());
+        }
     }
 
     public String getHeroName() {
@@ -92,14 +94,6 @@ public class GameSaveData {
         return atkspeed;
     }
 
-    public InputHandle getInputHandle() {
-        return inputHandle;
-    }
-
-    public HeroMovement getHeroMovement() {
-        return heroMovement;
-    }
-
     public int getCurrentWave() {
         return currentWave;
     }
@@ -120,12 +114,12 @@ public class GameSaveData {
         return timeBetweenWaves;
     }
 
-    public ArrayList getActiveEnemies() {
-        return activeEnemies;
+    public byte[] getWorld() {
+        return world;
     }
 
-    public ArrayList getActiveBosses() {
-        return activeBosses;
+    public long getJournalId() {
+        return journalId;
     }
 
     public float getPlayerX() {
@@ -154,15 +148,12 @@ public class GameSaveData {
             ", damage=" + damage +
             ", speed=" + speed +
             ", atkspeed=" + atkspeed +
-            ", inputHandle=" + (inputHandle != null ? inputHandle.toString() : "null") +
-            ", heroMovement=" + (heroMovement != null ? heroMovement.toString() : "null") +
             ", currentWave=" + currentWave +
             ", isWaitingForNextStage=" + isWaitingForNextStage +
             ", maxEnemiesOnMap=" + maxEnemiesOnMap +
             ", spawnInterval=" + spawnInterval +
             ", timeBetweenWaves=" + timeBetweenWaves +
-            ", activeEnemies=" + (activeEnemies != null ? activeEnemies.toString() : "null") +
-            ", activeBosses=" + (activeBosses != null ? activeBosses.toString() : "null") +
+            ", worldBytes=" + (world != null ? world.length : 0) +
             '}';
     }
 }
@@ -1,59 +1,186 @@
 package com.myteam.rpgsurvivor.saveGame;
 
 import com.badlogic.gdx.Gdx;
-import com.google.gson.Gson;
-import com.myteam.rpgsurvivor.controller.movement.HeroMovement;
-import com.myteam.rpgsurvivor.input.InputHandle;
-import com.myteam.rpgsurvivor.model.Player;
-import com.myteam.rpgsurvivor.model.enum_type.HeroType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.myteam.rpgsurvivor.controller.system.GameSimulation;
 import com.myteam.rpgsurvivor.model.impl.Hero.Archer;
 import com.myteam.rpgsurvivor.model.impl.Hero.Knight;
 import com.myteam.rpgsurvivor.model.impl.Hero.Samurai;
 import com.myteam.rpgsurvivor.model.impl.Hero.Wizard;
 import com.myteam.rpgsurvivor.screens.MapScreen;
 
-
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-
+/**
+ * Saves and loads the game through {@link GameSaveCodec}, in saves/ of the local storage.
+ * Saving only copies the state on the calling thread; encoding and writing run on a background thread.
+ * The file is written next to the save and moved over it when complete, so a crash mid-write
+ * keeps the previous save intact.
+ * <p>
+ * Between full saves, {@link #autosave} appends what changed to a {@link SaveJournal} next to the save.
+ * Each full save is a checkpoint: once it is on disk the journal is started over for it.
+ */
 public class GameSaveManager {
-    private static final String SAVE_FILE_NAME = "D:\\Package IDE Java\\RPG-Game\\Game\\data\\game_save.json";
-    private Gson gson;
+    private static final String SAVE_FILE_NAME = "saves/game_save.sav";
+    private static final String JOURNAL_FILE_NAME = "saves/game_save.journal";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    // Một luồng cho mọi GameSaveManager: các lần lưu được ghi theo đúng thứ tự gọi
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "GameSaveWriter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static Future<Boolean> pendingSave;
+    private static long lastJournalId;
 
-    public GameSaveManager() {
-        gson = new Gson();
+    private final SaveJournal journal = new SaveJournal();
+    // Journal chỉ được ghi sau bản lưu đầy đủ đầu tiên của lượt chơi này
+    private boolean hasCheckpoint;
+
+    /**
+     * Save the whole game and start a new journal from it. Call on the thread that owns the simulation.
+     * @return Completes with true once the save file was replaced
+     */
+    public Future<Boolean> checkpoint(MapScreen mapScreen) {
+        GameSaveData saveData = new GameSaveData(mapScreen);
+        journal.reset(mapScreen.getSimulation());
+        hasCheckpoint = true;
+        return saveGame(saveData);
     }
 
-    public boolean saveGame(GameSaveData saveData) {
+    /**
+     * Queue the changes since the last autosave for appending to the journal.
+     * The first autosave of a game writes a checkpoint instead, the journal on disk may belong to an older game.
+     */
+    public void autosave(MapScreen mapScreen) {
+        if (!hasCheckpoint) {
+            checkpoint(mapScreen);
+            return;
+        }
+        byte[] records = journal.record(mapScreen.getSimulation());
+        if (records == null) return;
+        FileHandle file = Gdx.files.local(JOURNAL_FILE_NAME);
+        pendingSave = writer.submit(() -> append(records, file));
+    }
+
+    /**
+     * Queue the save data for writing
+     * @return Completes with true once the save file was replaced
+     */
+    public Future<Boolean> saveGame(GameSaveData saveData) {
         if (saveData == null) {
             Gdx.app.error("GameSaveManager", "Invalid save data");
+            return writer.submit(() -> false);
+        }
+
+        // Id tăng dần kể cả khi hai lần lưu rơi vào cùng một mili giây
+        lastJournalId = Math.max(TimeUtils.millis(), lastJournalId + 1);
+        saveData.journalId = lastJournalId;
+        FileHandle file = Gdx.files.local(SAVE_FILE_NAME);
+        FileHandle temp = Gdx.files.local(SAVE_FILE_NAME + TEMP_SUFFIX);
+        Future<Boolean> save = writer.submit(() -> write(saveData, file, temp) && startJournal(saveData.journalId));
+        pendingSave = save;
+        return save;
+    }
+
+    private static boolean write(GameSaveData saveData, FileHandle file, FileHandle temp) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + (saveData.world != null ? saveData.world.length : 0));
+            DataOutputStream out = new DataOutputStream(bytes);
+            GameSaveCodec.write(saveData, out);
+            out.flush();
+            temp.writeBytes(bytes.toByteArray(), false);
+            move(temp.file().toPath(), file.file().toPath());
+            Gdx.app.log("GameSaveManager", "Game saved to " + file.path() + " (" + bytes.size() + " bytes)");
+            return true;
+        } catch (Exception e) {
+            Gdx.app.error("GameSaveManager", "Error saving game: " + e.getMessage(), e);
             return false;
         }
+    }
 
-        try (FileWriter writer = new FileWriter(SAVE_FILE_NAME)) {
-            gson.toJson(saveData, writer);
-            writer.flush(); // Đảm bảo dữ liệu được ghi hết
-            System.out.println("Dữ liệu đã được lưu vào file");
+    /**
+     * Replace the journal with an empty one for the save just written.
+     * A crash before the move leaves the old journal, which names another save and is ignored.
+     */
+    private static boolean startJournal(long saveId) {
+        FileHandle journal = Gdx.files.local(JOURNAL_FILE_NAME);
+        FileHandle temp = Gdx.files.local(JOURNAL_FILE_NAME + TEMP_SUFFIX);
+        try {
+            temp.writeBytes(SaveJournal.header(saveId), false);
+            move(temp.file().toPath(), journal.file().toPath());
             return true;
-        } catch (IOException e) {
-            Gdx.app.error("GameSaveManager", "Error saving game: " + e.getMessage());
-            e.printStackTrace();
+        } catch (Exception e) {
+            Gdx.app.error("GameSaveManager", "Error starting save journal: " + e.getMessage(), e);
             return false;
         }
     }
 
+    private static boolean append(byte[] records, FileHandle journal) {
+        try {
+            journal.writeBytes(records, true);
+            return true;
+        } catch (Exception e) {
+            Gdx.app.error("GameSaveManager", "Error appending to save journal: " + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Block until the last queued save is on disk
+     */
+    public void waitForPendingSave() {
+        Future<Boolean> save = pendingSave;
+        if (save == null) return;
+        try {
+            save.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Gdx.app.error("GameSaveManager", "Error saving game", e.getCause());
+        }
+    }
+
     public GameSaveData loadGame() {
-        try (FileReader reader = new FileReader(SAVE_FILE_NAME)) {
-            return gson.fromJson(reader, GameSaveData.class);
-        } catch (FileNotFoundException e) {
-            Gdx.app.error("GameSaveManager", "Save file not found: " + e.getMessage());
+        waitForPendingSave();
+        FileHandle file = Gdx.files.local(SAVE_FILE_NAME);
+        if (!file.exists()) {
+            Gdx.app.error("GameSaveManager", "Save file not found: " + file.path());
             return null;
+        }
+
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(file.read()));
+            return GameSaveCodec.read(in);
         } catch (IOException e) {
             Gdx.app.error("GameSaveManager", "Error loading save file: " + e.getMessage());
             return null;
+        } finally {
+            StreamUtils.closeQuietly(in);
         }
     }
 
@@ -79,6 +206,13 @@ public class GameSaveManager {
                     break;
             }
 
+            if (saveData.getWorld() != null) {
+                // Snapshot đã có chỉ số, điểm và vị trí của hero, không đặt lại lần nữa
+                WorldSnapshot.restore(mapScreen.getSimulation(), saveData.getWorld());
+                replayJournal(saveData, mapScreen.getSimulation());
+                return;
+            }
+
             mapScreen.getChosenHero().setCurrentHealth((int)saveData.getCurrentHealth());
             mapScreen.getChosenHero().setMaxHealth((int)saveData.getMaxHealth());
             mapScreen.getChosenHero().setDamage((int)saveData.getDamage());
@@ -95,11 +229,29 @@ public class GameSaveManager {
             mapScreen.getEnemySpawnController().setTimeBetweenWaves(saveData.getTimeBetweenWaves());
 
             mapScreen.getSystemController().setWaitingForNextStage(saveData.isWaitingForNextStage());
+            replayJournal(saveData, mapScreen.getSimulation());
 
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Apply the journal written after this save, if any
+     */
+    private void replayJournal(GameSaveData saveData, GameSimulation simulation) {
+        FileHandle file = Gdx.files.local(JOURNAL_FILE_NAME);
+        if (saveData.getJournalId() == 0 || !file.exists()) return;
 
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(file.read()));
+            int records = SaveJournal.replay(simulation, in, saveData.getJournalId());
+            Gdx.app.log("GameSaveManager", "Replayed " + records + " journal records");
+        } catch (IOException e) {
+            Gdx.app.error("GameSaveManager", "Error reading save journal: " + e.getMessage());
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
 }
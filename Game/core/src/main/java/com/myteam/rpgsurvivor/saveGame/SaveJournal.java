@@ -0,0 +1,173 @@
+package com.myteam.rpgsurvivor.saveGame;
+
+import com.myteam.rpgsurvivor.controller.system.GameSimulation;
+import com.myteam.rpgsurvivor.input.Replay;
+import com.myteam.rpgsurvivor.model.Player;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * Log of what changed since the last full save, appended at every autosave and replayed over the save on load.
+ * {@link #record} compares the simulation with what was journaled last and encodes only the records that differ:
+ * the hero's position and health and the points spent on the upgrade screen.
+ * Records hold absolute values, so replaying them in order leaves the latest ones.
+ * <p>
+ * The file starts with the id of the save it extends, a journal left over from another save is ignored.
+ * A record cut off by a crash is dropped. Enemies and the kill count of the wave are only in the full save,
+ * so the enemies killed since come back together with the kills they had not yet counted.
+ */
+public class SaveJournal {
+    public static final int MAGIC = 0x52504a4c; // "RPJL"
+    public static final int VERSION = 1;
+
+    private static final int RECORD_HERO = 1;
+    private static final int RECORD_POINTS = 2;
+    // Chỉ còn đọc để bỏ qua trong journal cũ, số kill không khớp với enemy lấy từ bản lưu đầy đủ
+    private static final int RECORD_WAVE = 3;
+
+    // Dùng lại giữa các lần autosave, chỉ bản sao cuối cùng được gửi sang luồng ghi
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private final int[] points = new int[Replay.POINT_KINDS];
+
+    private float lastX;
+    private float lastY;
+    private int lastHealth;
+    private int lastSkillPoints;
+    private final int[] lastPoints = new int[Replay.POINT_KINDS];
+
+    /**
+     * Take the current state as journaled, right after a full save of it
+     */
+    public void reset(GameSimulation simulation) {
+        Player hero = simulation.getHero();
+        lastX = hero.getEntityX();
+        lastY = hero.getEntityY();
+        lastHealth = hero.getCurrentHealth();
+        lastSkillPoints = hero.getSkillPoints();
+        Replay.readPoints(hero, lastPoints);
+    }
+
+    /**
+     * Encode what changed since the last call or {@link #reset}, on the thread that owns the simulation
+     * @return The records to append, null when nothing changed
+     */
+    public byte[] record(GameSimulation simulation) {
+        Player hero = simulation.getHero();
+        bytes.reset();
+        try {
+            if (hero.getEntityX() != lastX || hero.getEntityY() != lastY || hero.getCurrentHealth() != lastHealth) {
+                lastX = hero.getEntityX();
+                lastY = hero.getEntityY();
+                lastHealth = hero.getCurrentHealth();
+                out.writeByte(RECORD_HERO);
+                out.writeFloat(lastX);
+                out.writeFloat(lastY);
+                out.writeInt(lastHealth);
+            }
+
+            Replay.readPoints(hero, points);
+            if (hero.getSkillPoints() != lastSkillPoints || !samePoints()) {
+                lastSkillPoints = hero.getSkillPoints();
+                out.writeByte(RECORD_POINTS);
+                out.writeShort(lastSkillPoints);
+                for (int kind = 0; kind < Replay.POINT_KINDS; kind++) {
+                    lastPoints[kind] = points[kind];
+                    out.writeShort(points[kind]);
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            // ByteArrayOutputStream không ném IOException
+            throw new IllegalStateException(e);
+        }
+        return bytes.size() > 0 ? bytes.toByteArray() : null;
+    }
+
+    private boolean samePoints() {
+        for (int kind = 0; kind < Replay.POINT_KINDS; kind++) {
+            if (points[kind] != lastPoints[kind]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * The first bytes of a journal extending the save with the given id
+     */
+    public static byte[] header(long saveId) {
+        ByteArrayOutputStream header = new ByteArrayOutputStream(14);
+        DataOutputStream out = new DataOutputStream(header);
+        try {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(saveId);
+            out.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return header.toByteArray();
+    }
+
+    /**
+     * Apply the records of a journal over a simulation just restored from the save with the given id
+     * @return The number of records applied, 0 when the journal belongs to another save
+     */
+    public static int replay(GameSimulation simulation, DataInputStream in, long saveId) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a save journal");
+        }
+        int version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported journal version " + version);
+        }
+        if (in.readLong() != saveId) {
+            return 0;
+        }
+
+        Player hero = simulation.getHero();
+        int[] points = new int[Replay.POINT_KINDS];
+        int applied = 0;
+        try {
+            while (true) {
+                int kind = in.read();
+                if (kind < 0) break;
+                // Đọc hết bản ghi trước khi áp dụng, bản ghi bị cắt dở thì bỏ
+                switch (kind) {
+                    case RECORD_HERO: {
+                        float x = in.readFloat();
+                        float y = in.readFloat();
+                        int health = in.readInt();
+                        hero.teleport(x, y);
+                        hero.setCurrentHealth(health);
+                        break;
+                    }
+                    case RECORD_POINTS: {
+                        int skillPoints = in.readShort();
+                        for (int i = 0; i < Replay.POINT_KINDS; i++) {
+                            points[i] = in.readShort();
+                        }
+                        Replay.spendPoints(hero, points);
+                        hero.setSkillPoints(skillPoints);
+                        break;
+                    }
+                    case RECORD_WAVE: {
+                        // Giữ số kill của bản lưu đầy đủ: enemy bị giết sau đó vẫn còn trong bản lưu
+                        in.readShort();
+                        in.readInt();
+                        continue;
+                    }
+                    default:
+                        throw new IOException("Unknown journal record " + kind);
+                }
+                applied++;
+            }
+        } catch (EOFException e) {
+            // Lần ghi cuối bị ngắt giữa chừng
+        }
+        return applied;
+    }
+}
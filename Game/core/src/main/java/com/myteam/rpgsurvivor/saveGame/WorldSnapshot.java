@@ -0,0 +1,464 @@
+package com.myteam.rpgsurvivor.saveGame;
+
+import com.myteam.rpgsurvivor.animation.AnimationManager;
+import com.myteam.rpgsurvivor.controller.EnemySpawnController;
+import com.myteam.rpgsurvivor.controller.system.GameRandom;
+import com.myteam.rpgsurvivor.controller.system.GameSimulation;
+import com.myteam.rpgsurvivor.controller.system.StageController;
+import com.myteam.rpgsurvivor.input.Replay;
+import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.model.EnemyStore;
+import com.myteam.rpgsurvivor.model.Player;
+import com.myteam.rpgsurvivor.model.enum_type.StateType;
+import com.myteam.rpgsurvivor.model.impl.Hero.Archer;
+import com.myteam.rpgsurvivor.model.impl.Hero.Knight;
+import com.myteam.rpgsurvivor.model.impl.Hero.SummonedKnight;
+import com.myteam.rpgsurvivor.model.impl.Hero.Wizard;
+import com.myteam.rpgsurvivor.model.impl.projectile.Arrow;
+import com.myteam.rpgsurvivor.skills.KnightSkill;
+import com.myteam.rpgsurvivor.skills.WizardPortalSkill;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Binary snapshot of a whole {@link GameSimulation}: the random generator, the hero's position, health and points,
+ * the spawner and stage timers, every enemy in slot order, arrows in flight and the hero's skill state.
+ * <p>
+ * Each enemy is written as a delta against a creep of its type freshly spawned in the saved wave:
+ * type, position and a mask byte, then only the fields that differ (health, scaled stats, state and
+ * animation time, attack and hurt timers, flags, knockback, the hitbox a step behind a moving enemy).
+ * An enemy standing at full health takes 10 bytes, one walking and attacking about 30.
+ * <p>
+ * Restoring expects a simulation of the same hero type. The archer's beam in its half second of firing and the
+ * samurai's dash are dropped; summons restart their attack and walk cycle.
+ */
+public final class WorldSnapshot {
+    private static final int MAGIC = 0x52504757; // "RPGW"
+    private static final int VERSION = 1;
+
+    private static final int DELTA_HEALTH = 1;
+    private static final int DELTA_STATS = 1 << 1;
+    private static final int DELTA_STATE = 1 << 2;
+    private static final int DELTA_ATTACK_TIMER = 1 << 3;
+    private static final int DELTA_FLAGS = 1 << 4;
+    private static final int DELTA_VELOCITY = 1 << 5;
+    private static final int DELTA_HITBOX = 1 << 6;
+    private static final int DELTA_HURT_TIMER = 1 << 7;
+    // Cờ enemy vừa spawn, ngoài FLAG_BOSS do attach tự đặt
+    private static final int SPAWN_FLAGS = EnemyStore.FLAG_FACING_RIGHT;
+
+    private static final int TARGET_NONE = 0;
+    private static final int TARGET_CREEP = 1;
+    private static final int TARGET_BOSS = 2;
+
+    private WorldSnapshot() {
+    }
+
+    /**
+     * Snapshot the simulation into a byte array, on the thread that owns the simulation
+     */
+    public static byte[] capture(GameSimulation simulation) {
+        EnemySpawnController spawner = simulation.getEnemySpawnController();
+        int enemies = spawner.getCreepStore().size() + spawner.getBossStore().size();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + enemies * 16);
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            write(simulation, out);
+            out.flush();
+        } catch (IOException e) {
+            // ByteArrayOutputStream không ném IOException
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Put the simulation back to a snapshot made by {@link #capture}
+     */
+    public static void restore(GameSimulation simulation, byte[] snapshot) throws IOException {
+        read(simulation, new DataInputStream(new ByteArrayInputStream(snapshot)));
+    }
+
+    public static void write(GameSimulation simulation, DataOutputStream out) throws IOException {
+        Player hero = simulation.getHero();
+        EnemySpawnController spawner = simulation.getEnemySpawnController();
+        StageController stage = simulation.getStageController();
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        GameRandom random = GameRandom.getInstance();
+        out.writeLong(random.getState(0));
+        out.writeLong(random.getState(1));
+
+        out.writeUTF(hero.getHeroType().name());
+        out.writeFloat(hero.getEntityX());
+        out.writeFloat(hero.getEntityY());
+        out.writeBoolean(hero.isFacingRight());
+        writeVarInt(out, hero.getCurrentHealth());
+        writeVarInt(out, hero.getSkillPoints());
+        writeVarInt(out, hero.getHealthPoints());
+        writeVarInt(out, hero.getDamagePoints());
+        writeVarInt(out, hero.getSpeedPoints());
+        writeVarInt(out, hero.getAttackSpeedPoints());
+        writeVarInt(out, hero.getLevelSkillPoints());
+        out.writeFloat(hero.getHurtTimer());
+        out.writeBoolean(hero.isAttacking());
+        out.writeBoolean(hero.isUsingSkill());
+        out.writeBoolean(hero.isAttackTriggered());
+        out.writeUTF(hero.getAnimationManager().getCurrentState().stateType);
+        out.writeFloat(hero.getAnimationManager().getStateTime());
+
+        writeVarInt(out, spawner.getCurrentWave());
+        writeVarInt(out, spawner.getDifficulty());
+        writeVarInt(out, spawner.getTotalDeaths());
+        writeVarInt(out, spawner.getEnemiesPerWave());
+        writeVarInt(out, spawner.getMaxEnemiesOnMap());
+        out.writeFloat(spawner.getSpawnInterval());
+        out.writeFloat(spawner.getTimeBetweenWaves());
+        out.writeFloat(spawner.getSpawnTimer());
+        out.writeBoolean(spawner.isSpawningPaused());
+        out.writeBoolean(spawner.isPrepareToNextStage());
+        out.writeBoolean(spawner.isBossSpawned());
+
+        writeVarInt(out, stage.getCurrentStage());
+        out.writeFloat(stage.getStageTimer());
+        out.writeBoolean(stage.isWaitingForNextStage());
+        out.writeFloat(stage.getStageTransitionTimer());
+
+        int[] spawnStats = new int[2];
+        writeEnemies(out, spawner, spawner.getCreepStore(), false, spawnStats);
+        writeEnemies(out, spawner, spawner.getBossStore(), true, spawnStats);
+
+        if (hero instanceof Archer) {
+            writeArcher(out, (Archer) hero);
+        } else if (hero instanceof Wizard) {
+            writeWizard(out, ((Wizard) hero).getWizardPortalSkill());
+        } else if (hero instanceof Knight) {
+            writeKnight(out, ((Knight) hero).getKnightSkill());
+        }
+    }
+
+    private static void writeEnemies(DataOutputStream out, EnemySpawnController spawner, EnemyStore store,
+                                     boolean boss, int[] spawnStats) throws IOException {
+        int count = store.size();
+        writeVarInt(out, count);
+        for (int i = 0; i < count; i++) {
+            int type = store.type[i];
+            spawner.getSpawnStats(boss, type, spawnStats);
+            float stateTime = store.getHandle(i).getAnimationManager().getStateTime();
+            int flags = store.flags[i] & ~EnemyStore.FLAG_BOSS;
+
+            int mask = 0;
+            if (store.health[i] != store.maxHealth[i]) mask |= DELTA_HEALTH;
+            if (store.maxHealth[i] != spawnStats[0] || store.damage[i] != spawnStats[1]) mask |= DELTA_STATS;
+            if (store.state[i] != StateType.STATE_IDLE.ordinal() || stateTime != 0) mask |= DELTA_STATE;
+            // Hết hồi chiêu (<= 0) chạy y như 0, hurtTimer chỉ được đọc khi còn cờ HURT
+            if (store.attackTimer[i] > 0) mask |= DELTA_ATTACK_TIMER;
+            if ((flags & EnemyStore.FLAG_HURT) != 0) mask |= DELTA_HURT_TIMER;
+            if (flags != SPAWN_FLAGS) mask |= DELTA_FLAGS;
+            if (store.velocityX[i] != 0 || store.velocityY[i] != 0) mask |= DELTA_VELOCITY;
+            // Hitbox trong store còn ở vị trí trước bước di chuyển của tick vừa chạy
+            if (store.hitboxX[i] != store.x[i] + store.hitboxOffsetX[i]
+                || store.hitboxY[i] != store.y[i] + store.hitboxOffsetY[i]) mask |= DELTA_HITBOX;
+
+            out.writeByte(type);
+            out.writeByte(mask);
+            out.writeFloat(store.x[i]);
+            out.writeFloat(store.y[i]);
+            if ((mask & DELTA_HEALTH) != 0) {
+                writeVarInt(out, store.health[i]);
+            }
+            if ((mask & DELTA_STATS) != 0) {
+                writeVarInt(out, store.maxHealth[i]);
+                writeVarInt(out, store.damage[i]);
+            }
+            if ((mask & DELTA_STATE) != 0) {
+                out.writeByte(store.state[i]);
+                out.writeFloat(stateTime);
+            }
+            if ((mask & DELTA_ATTACK_TIMER) != 0) {
+                out.writeFloat(store.attackTimer[i]);
+            }
+            if ((mask & DELTA_HURT_TIMER) != 0) {
+                out.writeFloat(store.hurtTimer[i]);
+            }
+            if ((mask & DELTA_FLAGS) != 0) {
+                out.writeByte(flags);
+            }
+            if ((mask & DELTA_VELOCITY) != 0) {
+                out.writeFloat(store.velocityX[i]);
+                out.writeFloat(store.velocityY[i]);
+            }
+            if ((mask & DELTA_HITBOX) != 0) {
+                out.writeFloat(store.hitboxX[i]);
+                out.writeFloat(store.hitboxY[i]);
+            }
+        }
+    }
+
+    private static void writeArcher(DataOutputStream out, Archer archer) throws IOException {
+        out.writeFloat(archer.getArcherBeamSkill().getCooldownRemaining());
+        List<Arrow> arrows = archer.getArrows();
+        writeVarInt(out, arrows.size());
+        for (int i = 0, n = arrows.size(); i < n; i++) {
+            Arrow arrow = arrows.get(i);
+            out.writeFloat(arrow.getX());
+            out.writeFloat(arrow.getY());
+            out.writeBoolean(arrow.isFacingRight());
+        }
+    }
+
+    private static void writeWizard(DataOutputStream out, WizardPortalSkill portal) throws IOException {
+        out.writeFloat(portal.getCooldownRemaining());
+        out.writeBoolean(portal.isActive());
+        if (portal.isActive()) {
+            out.writeFloat(portal.getElapsed());
+            out.writeFloat(portal.getCenterX());
+            out.writeFloat(portal.getCenterY());
+            out.writeFloat(portal.getDamageAccumulator());
+        }
+    }
+
+    private static void writeKnight(DataOutputStream out, KnightSkill skill) throws IOException {
+        out.writeFloat(skill.getCurrentCooldown());
+        List<SummonedKnight> summons = skill.getSummonedKnights();
+        writeVarInt(out, summons.size());
+        for (int i = 0, n = summons.size(); i < n; i++) {
+            SummonedKnight summon = summons.get(i);
+            out.writeFloat(summon.getEntityX());
+            out.writeFloat(summon.getEntityY());
+            out.writeFloat(summon.getCurrentLifeTime());
+            writeVarInt(out, summon.getCurrentHealth());
+
+            // Mục tiêu được lưu bằng slot, enemy đã bị gỡ khỏi store thì không còn slot
+            Enemy target = summon.getTargetEnemy();
+            if (target == null || !target.isAttached()) {
+                out.writeByte(TARGET_NONE);
+            } else {
+                out.writeByte(target.getBossType() != null ? TARGET_BOSS : TARGET_CREEP);
+                writeVarInt(out, target.getSlot());
+            }
+        }
+    }
+
+    public static void read(GameSimulation simulation, DataInputStream in) throws IOException {
+        Player hero = simulation.getHero();
+        EnemySpawnController spawner = simulation.getEnemySpawnController();
+        StageController stage = simulation.getStageController();
+
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a world snapshot");
+        }
+        int version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported world snapshot version " + version);
+        }
+
+        long seed0 = in.readLong();
+        long seed1 = in.readLong();
+
+        String heroType = in.readUTF();
+        if (!heroType.equals(hero.getHeroType().name())) {
+            throw new IOException("Snapshot of a " + heroType + " restored into a " + hero.getHeroType().name());
+        }
+        float heroX = in.readFloat();
+        float heroY = in.readFloat();
+        boolean heroFacingRight = in.readBoolean();
+        int heroHealth = readVarInt(in);
+        int skillPoints = readVarInt(in);
+        int[] points = new int[Replay.POINT_KINDS];
+        for (int kind = 0; kind < Replay.POINT_KINDS; kind++) {
+            points[kind] = readVarInt(in);
+        }
+        float heroHurtTimer = in.readFloat();
+        boolean heroAttacking = in.readBoolean();
+        boolean heroUsingSkill = in.readBoolean();
+        boolean heroAttackTriggered = in.readBoolean();
+        StateType heroAnimation = StateType.fromName(in.readUTF());
+        float heroAnimationTime = in.readFloat();
+        // Cộng điểm qua các hàm của màn nâng cấp để chỉ số và cấp skill khớp với lúc lưu
+        Replay.spendPoints(hero, points);
+        hero.setSkillPoints(skillPoints);
+        hero.teleport(heroX, heroY);
+        hero.setFacingRight(heroFacingRight);
+        hero.setCurrentHealth(heroHealth);
+        hero.setHurtTimer(heroHurtTimer);
+        hero.restoreAction(heroAttacking, heroUsingSkill, heroAttackTriggered);
+        if (heroAnimation != null) {
+            hero.getAnimationManager().setState(heroAnimation, true);
+        }
+        hero.getAnimationManager().setStateTime(heroAnimationTime);
+
+        int wave = readVarInt(in);
+        int difficulty = readVarInt(in);
+        int totalDeath = readVarInt(in);
+        spawner.setEnemiesPerWave(readVarInt(in));
+        spawner.setMaxEnemiesOnMap(readVarInt(in));
+        spawner.setSpawnInterval(in.readFloat());
+        spawner.setTimeBetweenWaves(in.readFloat());
+        float spawnTimer = in.readFloat();
+        boolean paused = in.readBoolean();
+        boolean prepareToNextStage = in.readBoolean();
+        boolean bossSpawned = in.readBoolean();
+        spawner.restoreWave(wave, difficulty, totalDeath, spawnTimer, paused, prepareToNextStage, bossSpawned);
+
+        int currentStage = readVarInt(in);
+        float stageTimer = in.readFloat();
+        boolean waiting = in.readBoolean();
+        float transitionTimer = in.readFloat();
+        stage.restoreStage(currentStage, stageTimer, waiting, transitionTimer);
+
+        int[] spawnStats = new int[2];
+        readEnemies(in, spawner, false, spawnStats);
+        readEnemies(in, spawner, true, spawnStats);
+        spawner.refreshEnemyGrid();
+
+        if (hero instanceof Archer) {
+            readArcher(in, (Archer) hero);
+        } else if (hero instanceof Wizard) {
+            readWizard(in, ((Wizard) hero).getWizardPortalSkill());
+        } else if (hero instanceof Knight) {
+            readKnight(in, ((Knight) hero).getKnightSkill(), spawner);
+        }
+
+        GameRandom.getInstance().setState(seed0, seed1);
+    }
+
+    private static void readEnemies(DataInputStream in, EnemySpawnController spawner, boolean boss,
+                                    int[] spawnStats) throws IOException {
+        EnemyStore store = boss ? spawner.getBossStore() : spawner.getCreepStore();
+        int count = readVarInt(in);
+        for (int i = 0; i < count; i++) {
+            int type = in.readUnsignedByte();
+            int mask = in.readUnsignedByte();
+            float x = in.readFloat();
+            float y = in.readFloat();
+            spawner.getSpawnStats(boss, type, spawnStats);
+            int maxHealth = spawnStats[0];
+            int damage = spawnStats[1];
+            // Enemy đang chết có máu âm, nên dựa vào bit của mask chứ không dựa vào dấu của máu
+            boolean hasHealth = (mask & DELTA_HEALTH) != 0;
+            int health = hasHealth ? readVarInt(in) : 0;
+            if ((mask & DELTA_STATS) != 0) {
+                maxHealth = readVarInt(in);
+                damage = readVarInt(in);
+            }
+            Enemy enemy = spawner.restoreEnemy(boss, type, x, y, hasHealth ? health : maxHealth, maxHealth, damage);
+            int slot = enemy.getSlot();
+
+            int state = StateType.STATE_IDLE.ordinal();
+            float stateTime = 0;
+            if ((mask & DELTA_STATE) != 0) {
+                state = in.readUnsignedByte();
+                stateTime = in.readFloat();
+            }
+            if ((mask & DELTA_ATTACK_TIMER) != 0) {
+                store.attackTimer[slot] = in.readFloat();
+            }
+            if ((mask & DELTA_HURT_TIMER) != 0) {
+                store.hurtTimer[slot] = in.readFloat();
+            }
+            if ((mask & DELTA_FLAGS) != 0) {
+                store.flags[slot] = in.readUnsignedByte() | (store.flags[slot] & EnemyStore.FLAG_BOSS);
+            }
+            if ((mask & DELTA_VELOCITY) != 0) {
+                store.velocityX[slot] = in.readFloat();
+                store.velocityY[slot] = in.readFloat();
+            }
+            if ((mask & DELTA_HITBOX) != 0) {
+                store.hitboxX[slot] = in.readFloat();
+                store.hitboxY[slot] = in.readFloat();
+                // Skill và đòn đánh của hero đọc hitbox của handle qua lưới enemy
+                enemy.getHitbox().setPosition(store.hitboxX[slot], store.hitboxY[slot]);
+            }
+            store.state[slot] = state;
+
+            AnimationManager animation = enemy.getAnimationManager();
+            animation.setFacingRight((store.flags[slot] & EnemyStore.FLAG_FACING_RIGHT) != 0);
+            animation.setState(state, true);
+            animation.setStateTime(stateTime);
+        }
+    }
+
+    private static void readArcher(DataInputStream in, Archer archer) throws IOException {
+        archer.getArcherBeamSkill().setCooldownRemaining(in.readFloat());
+        archer.clearArrows();
+        int count = readVarInt(in);
+        for (int i = 0; i < count; i++) {
+            float x = in.readFloat();
+            float y = in.readFloat();
+            archer.addArrow(x, y, in.readBoolean());
+        }
+    }
+
+    private static void readWizard(DataInputStream in, WizardPortalSkill portal) throws IOException {
+        float cooldown = in.readFloat();
+        if (in.readBoolean()) {
+            float elapsed = in.readFloat();
+            float centerX = in.readFloat();
+            float centerY = in.readFloat();
+            portal.restore(cooldown, true, elapsed, centerX, centerY, in.readFloat());
+        } else {
+            portal.restore(cooldown, false, 0, 0, 0, 0);
+        }
+    }
+
+    private static void readKnight(DataInputStream in, KnightSkill skill, EnemySpawnController spawner) throws IOException {
+        skill.setCurrentCooldown(in.readFloat());
+        skill.getSummonedKnights().clear();
+        int count = readVarInt(in);
+        for (int i = 0; i < count; i++) {
+            float x = in.readFloat();
+            float y = in.readFloat();
+            float lifeTime = in.readFloat();
+            int health = readVarInt(in);
+            Enemy target = readTarget(in, spawner);
+            // Summon luôn cần một mục tiêu; không còn enemy nào thì bỏ summon
+            if (target != null) {
+                skill.restoreSummon(x, y, target, lifeTime, health);
+            }
+        }
+    }
+
+    /**
+     * The saved target, or any enemy still on the map when the target had already been removed
+     */
+    private static Enemy readTarget(DataInputStream in, EnemySpawnController spawner) throws IOException {
+        int kind = in.readUnsignedByte();
+        if (kind != TARGET_NONE) {
+            EnemyStore store = kind == TARGET_BOSS ? spawner.getBossStore() : spawner.getCreepStore();
+            int slot = readVarInt(in);
+            if (slot >= store.size()) {
+                throw new IOException("Summon target " + slot + " out of " + store.size() + " enemies");
+            }
+            return store.getHandle(slot);
+        }
+        if (!spawner.getBossStore().isEmpty()) return spawner.getBossStore().getHandle(0);
+        if (!spawner.getCreepStore().isEmpty()) return spawner.getCreepStore().getHandle(0);
+        return null;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+}
@@ -14,6 +14,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.myteam.rpgsurvivor.Main;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 import com.myteam.rpgsurvivor.controller.system.AudioManager;
 
 public class AudioScreen implements Screen {
@@ -24,6 +25,7 @@ public class AudioScreen implements Screen {
     private Viewport viewport;
     private SpriteBatch batch;
     private AudioManager audioManager;
+    private final AssetRegistry assets = AssetRegistry.getInstance();
     private boolean isShow;
 
     private Texture background;
@@ -52,11 +54,11 @@ public class AudioScreen implements Screen {
 
     public void loadTexture() {
         try {
-            background = new Texture(Gdx.files.internal("Menu/PauseMenu/Audio.png"));
-            backUnActiveTexture = new Texture(Gdx.files.internal("Menu/ChossenHero/Back_ButtonUnActive.png"));
-            backActiveTexture = new Texture(Gdx.files.internal("Menu/ChossenHero/Back_ButtonActive.png"));
-            unmuteTexture = new Texture(Gdx.files.internal("Menu/PauseMenu/unmute.png"));
-            muteTexture = new Texture(Gdx.files.internal("Menu/PauseMenu/mute.png"));
+            background = assets.getTexture("Menu/PauseMenu/Audio.png");
+            backUnActiveTexture = assets.getTexture("Menu/ChossenHero/Back_ButtonUnActive.png");
+            backActiveTexture = assets.getTexture("Menu/ChossenHero/Back_ButtonActive.png");
+            unmuteTexture = assets.getTexture("Menu/PauseMenu/unmute.png");
+            muteTexture = assets.getTexture("Menu/PauseMenu/mute.png");
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -212,21 +214,6 @@ public class AudioScreen implements Screen {
         if (batch != null) {
             batch.dispose();
         }
-        if (background != null) {
-            background.dispose();
-        }
-        if (muteTexture != null) {
-            muteTexture.dispose();
-        }
-        if (unmuteTexture != null) {
-            unmuteTexture.dispose();
-        }
-        if (backUnActiveTexture != null) {
-            backUnActiveTexture.dispose();
-        }
-        if (backActiveTexture != null) {
-            backActiveTexture.dispose();
-        }
     }
 
     public boolean isShow() {
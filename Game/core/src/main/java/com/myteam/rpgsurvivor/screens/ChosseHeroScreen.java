@@ -17,6 +17,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.myteam.rpgsurvivor.Main;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 import com.myteam.rpgsurvivor.controller.system.AudioManager;
 import com.myteam.rpgsurvivor.model.Player;
 
@@ -31,6 +32,7 @@ public class ChosseHeroScreen implements Screen {
     private int h;
 
     private AudioManager audioManager;
+    private final AssetRegistry assets = AssetRegistry.getInstance();
 
     // Background Choose Hero
     private Texture BGTexture;
@@ -72,14 +74,14 @@ public class ChosseHeroScreen implements Screen {
     }
 
     public void loadTextures() {
-        BGTexture = new Texture("Menu/ChossenHero/BG 4 nhân vật.png");
-        frameHero = new Texture("Menu/IngameIcon/Khung ava.png");
-        knightAva = new Texture("Menu/IngameIcon/knightAva.png");
-        samuraiAva = new Texture("Menu/IngameIcon/SamuraiAva.png");
-        archerAva = new Texture("Menu/IngameIcon/archerAva.png");
-        wizardAva = new Texture("Menu/IngameIcon/wizardAva.png");
-        backBtnActive = new Texture("Menu/ChossenHero/Back_ButtonActive.png");
-        backBtnUnActive = new Texture("Menu/ChossenHero/Back_ButtonUnActive.png");
+        BGTexture = assets.getTexture("Menu/ChossenHero/BG 4 nhân vật.png");
+        frameHero = assets.getTexture("Menu/IngameIcon/Khung ava.png");
+        knightAva = assets.getTexture("Menu/IngameIcon/knightAva.png");
+        samuraiAva = assets.getTexture("Menu/IngameIcon/SamuraiAva.png");
+        archerAva = assets.getTexture("Menu/IngameIcon/archerAva.png");
+        wizardAva = assets.getTexture("Menu/IngameIcon/wizardAva.png");
+        backBtnActive = assets.getTexture("Menu/ChossenHero/Back_ButtonActive.png");
+        backBtnUnActive = assets.getTexture("Menu/ChossenHero/Back_ButtonUnActive.png");
     }
 
     public void setupLayout() {
@@ -193,13 +195,5 @@ public class ChosseHeroScreen implements Screen {
     public void dispose() {
         stage.dispose();
         batch.dispose();
-        BGTexture.dispose();
-        frameHero.dispose();
-        knightAva.dispose();
-        samuraiAva.dispose();
-        archerAva.dispose();
-        wizardAva.dispose();
-        backBtnUnActive.dispose();
-        backBtnActive.dispose();
     }
 }
@@ -8,7 +8,6 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -20,6 +19,8 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.myteam.rpgsurvivor.Main;
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 import com.myteam.rpgsurvivor.controller.system.AudioManager;
 import com.myteam.rpgsurvivor.model.Player;
 import com.myteam.rpgsurvivor.model.enum_type.HeroType;
@@ -34,9 +35,9 @@ public class DescriptionHero implements Screen {
     private Player player;
     private String heroType;
     private HeroType heroDescription;
-    private GameScreen gameScreen;
 
     private AudioManager audioManager;
+    private final AssetRegistry assets = AssetRegistry.getInstance();
 
     private Texture background;
 
@@ -62,7 +63,6 @@ public class DescriptionHero implements Screen {
         this.viewport = new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), camera);
         this.batch = new SpriteBatch();
         this.stage = new Stage(viewport, batch);
-        this.gameScreen = new GameScreen(game, heroType);
 
         audioManager = AudioManager.getInstance();
 
@@ -79,27 +79,27 @@ public class DescriptionHero implements Screen {
 
     private void loadTextures() {
         try {
-            background = new Texture("Menu/Description hero/Description_hero.png");
-            backButtonActive = new Texture("Menu/ChossenHero/Back_ButtonActive.png");
-            backButtonInactive = new Texture("Menu/ChossenHero/Back_ButtonUnActive.png");
-            playButtonActive = new Texture("Menu/Description hero/PlayBtnActive (1).png");
-            playButtonInactive = new Texture("Menu/Description hero/PlayBtnUnActive (1).png");
+            background = assets.getTexture("Menu/Description hero/Description_hero.png");
+            backButtonActive = assets.getTexture("Menu/ChossenHero/Back_ButtonActive.png");
+            backButtonInactive = assets.getTexture("Menu/ChossenHero/Back_ButtonUnActive.png");
+            playButtonActive = assets.getTexture("Menu/Description hero/PlayBtnActive (1).png");
+            playButtonInactive = assets.getTexture("Menu/Description hero/PlayBtnUnActive (1).png");
 
             switch (heroType) {
                 case "Knight":
-                    heroAvatar = new Texture("Menu/IngameIcon/knightAva.png");
+                    heroAvatar = assets.getTexture("Menu/IngameIcon/knightAva.png");
                     break;
                 case "Samurai":
-                    heroAvatar = new Texture("Menu/IngameIcon/SamuraiAva.png");
+                    heroAvatar = assets.getTexture("Menu/IngameIcon/SamuraiAva.png");
                     break;
                 case "Archer":
-                    heroAvatar = new Texture("Menu/IngameIcon/archerAva.png");
+                    heroAvatar = assets.getTexture("Menu/IngameIcon/archerAva.png");
                     break;
                 case "Wizard":
-                    heroAvatar = new Texture("Menu/IngameIcon/wizardAva.png");
+                    heroAvatar = assets.getTexture("Menu/IngameIcon/wizardAva.png");
                     break;
                 default:
-                    heroAvatar = new Texture("Menu/IngameIcon/knightAva.png");
+                    heroAvatar = assets.getTexture("Menu/IngameIcon/knightAva.png");
                     break;
             }
         } catch (Exception e) {
@@ -152,7 +152,7 @@ public class DescriptionHero implements Screen {
             public void clicked(InputEvent event, float x, float y) {
                 Gdx.app.log("DescriptionHero", "Play button clicked with hero: " + heroType);
                 audioManager.playButtonClickSound();
-                game.setScreen(new GameScreen(game, heroType));
+                game.startGame(heroType);
             }
         });
 
@@ -163,17 +163,7 @@ public class DescriptionHero implements Screen {
 
     public void createFont()
     {
-        try
-        {
-            FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("Menu/Font/antiquity-print.ttf"));
-            FreeTypeFontGenerator.FreeTypeFontParameter titleParams = new FreeTypeFontGenerator.FreeTypeFontParameter();
-            titleParams.size = 36;
-            titleParams.color = Color.BLACK;
-
-            font = generator.generateFont(titleParams);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        font = assets.getFont(AssetManifest.FONT_TITLE);
         description = new Label.LabelStyle(font, Color.BLACK);
     }
     public void setupLabel(int hp, int atk, float speed, float range)
@@ -254,10 +244,5 @@ public class DescriptionHero implements Screen {
     public void dispose() {
         stage.dispose();
         batch.dispose();
-        background.dispose();
-        backButtonActive.dispose();
-        backButtonInactive.dispose();
-        playButtonActive.dispose();
-        playButtonInactive.dispose();
     }
 }
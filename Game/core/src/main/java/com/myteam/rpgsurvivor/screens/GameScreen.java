@@ -56,7 +56,7 @@ public class GameScreen implements Screen {
 
     @Override
     public void dispose() {
-
+        map.dispose();
     }
 
     public MapScreen getMap() {
@@ -16,7 +16,9 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.myteam.rpgsurvivor.Main;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 import com.myteam.rpgsurvivor.controller.system.AudioManager;
+import com.myteam.rpgsurvivor.debug.FrameProfiler;
 import com.myteam.rpgsurvivor.model.Player;
 
 public class LayoutPlayScreen implements Screen {
@@ -30,6 +32,8 @@ public class LayoutPlayScreen implements Screen {
     private String heroType;
 
     private AudioManager audioManager;
+    private final AssetRegistry assets = AssetRegistry.getInstance();
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
 
     //Pause Button
     private Texture pauseUnactiveTexture;
@@ -65,6 +69,8 @@ public class LayoutPlayScreen implements Screen {
 
     private float maxHealth ;
     private float currentHealth ;
+    // Lấy từ snapshot qua setHeroStatus, hero có thể đang được mô phỏng trên luồng khác
+    private boolean heroDead;
 
 
     private boolean isPaused = false;
@@ -132,34 +138,34 @@ public class LayoutPlayScreen implements Screen {
     private void loadTexture()
     {
         try {
-            pauseUnactiveTexture = new Texture(Gdx.files.internal("Menu/IngameIcon/pauseGameUnactive.png"));
-            pauseActiveTexture = new Texture(Gdx.files.internal("Menu/IngameIcon/pauseGameActive.png"));
+            pauseUnactiveTexture = assets.getTexture("Menu/IngameIcon/pauseGameUnactive.png");
+            pauseActiveTexture = assets.getTexture("Menu/IngameIcon/pauseGameActive.png");
             switch (chosenHero.getHeroType().name())
             {
                 case "KNIGHT" :
-                    heroAvatar = new Texture(Gdx.files.internal("Menu/IngameIcon/knightAva.png"));
+                    heroAvatar = assets.getTexture("Menu/IngameIcon/knightAva.png");
                     break;
                 case "SAMURAI" :
-                    heroAvatar = new Texture(Gdx.files.internal("Menu/IngameIcon/SamuraiAva.png"));
+                    heroAvatar = assets.getTexture("Menu/IngameIcon/SamuraiAva.png");
                     break;
                 case "ARCHER" :
-                    heroAvatar = new Texture(Gdx.files.internal("Menu/IngameIcon/archerAva.png"));
+                    heroAvatar = assets.getTexture("Menu/IngameIcon/archerAva.png");
                     break;
                 case "WIZARD" :
-                    heroAvatar = new Texture(Gdx.files.internal("Menu/IngameIcon/wizardAva.png"));
+                    heroAvatar = assets.getTexture("Menu/IngameIcon/wizardAva.png");
                     break;
                 default:
-                    heroAvatar = new Texture(Gdx.files.internal("Menu/IngameIcon/knightAva.png"));
+                    heroAvatar = assets.getTexture("Menu/IngameIcon/knightAva.png");
                     break;
             }
-            frameAvatar = new Texture(Gdx.files.internal("Menu/IngameIcon/Khung ava.png"));
-            frameBlood = new Texture(Gdx.files.internal("Menu/IngameIcon/Khung Blood(1)(1)-1.png.png"));
-            bloodTexture = new Texture(Gdx.files.internal("Menu/IngameIcon/Blood.png"));
-            endStage = new Texture(Gdx.files.internal("Menu/NoticeStage/YouDied.png"));
-            yesUnAtive = new Texture(Gdx.files.internal("Menu/NoticeStage/YesUnActive.png"));
-            yesActive = new Texture(Gdx.files.internal("Menu/NoticeStage/YesActive.png"));
-            noUnActive = new Texture(Gdx.files.internal("Menu/NoticeStage/NoUnActive.png"));
-            noActive = new Texture(Gdx.files.internal("Menu/NoticeStage/NoActive.png"));
+            frameAvatar = assets.getTexture("Menu/IngameIcon/Khung ava.png");
+            frameBlood = assets.getTexture("Menu/IngameIcon/Khung Blood(1)(1)-1.png.png");
+            bloodTexture = assets.getTexture("Menu/IngameIcon/Blood.png");
+            endStage = assets.getTexture("Menu/NoticeStage/YouDied.png");
+            yesUnAtive = assets.getTexture("Menu/NoticeStage/YesUnActive.png");
+            yesActive = assets.getTexture("Menu/NoticeStage/YesActive.png");
+            noUnActive = assets.getTexture("Menu/NoticeStage/NoUnActive.png");
+            noActive = assets.getTexture("Menu/NoticeStage/NoActive.png");
 
             setupBloodFrames();
             setupDeathScreen();
@@ -213,7 +219,7 @@ public class LayoutPlayScreen implements Screen {
         endStageTimer += deltaTime;
         if (endStageTimer >= END_STAGE_DURATION) {
             System.out.println("Death screen timer finished. Returning to main menu...");
-            game.setScreen(new MainMenuScreen(game));
+            game.showMainMenu();
         }
     }
 
@@ -253,7 +259,7 @@ public class LayoutPlayScreen implements Screen {
         yesBtn.addListener(new ClickListener(){
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new MainMenuScreen(game));
+                game.showMainMenu();
             }
         });
 
@@ -281,17 +287,18 @@ public class LayoutPlayScreen implements Screen {
 
     @Override
     public void render(float delta) {
-        if (chosenHero.isDead()) {
+        if (heroDead) {
             Gdx.input.setInputProcessor(deathStage);
             Gdx.gl.glClearColor(0, 0, 0, 1);
             Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
             handlePlayerDeath();
             deathStage.act(delta);
+            profiler.begin(FrameProfiler.Section.STAGE_DRAW);
             deathStage.draw();
+            profiler.end(FrameProfiler.Section.STAGE_DRAW);
             return;
         }
         Gdx.input.setInputProcessor(stage);
-        updateHealth(chosenHero.getCurrentHealth());
         stage.act(Gdx.graphics.getDeltaTime());
         batch.begin();
 
@@ -333,7 +340,9 @@ public class LayoutPlayScreen implements Screen {
         }
 
         batch.end();
+        profiler.begin(FrameProfiler.Section.STAGE_DRAW);
         stage.draw();
+        profiler.end(FrameProfiler.Section.STAGE_DRAW);
 
         if (isPaused) {
             pauseScreen.render(Gdx.graphics.getDeltaTime());
@@ -362,12 +371,6 @@ public class LayoutPlayScreen implements Screen {
     public void dispose() {
         stage.dispose();
         batch.dispose();
-        pauseUnactiveTexture.dispose();
-        pauseActiveTexture.dispose();
-        heroAvatar.dispose();
-        frameAvatar.dispose();
-        frameBlood.dispose();
-        bloodTexture.dispose();
     }
 
     public void togglePause() {
@@ -379,6 +382,15 @@ public class LayoutPlayScreen implements Screen {
         }
     }
 
+    /**
+     * Hero values of the frame being drawn, call before {@link #render(float)}
+     */
+    public void setHeroStatus(boolean dead, int health, int maxHealth) {
+        this.heroDead = dead;
+        this.maxHealth = maxHealth;
+        updateHealth(health);
+    }
+
     public boolean isPaused() {
         return isPaused;
     }
@@ -0,0 +1,107 @@
+package com.myteam.rpgsurvivor.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.myteam.rpgsurvivor.Main;
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
+
+import java.util.function.Supplier;
+
+/**
+ * Loads a manifest a few milliseconds per frame while drawing a progress bar,
+ * then creates the next screen. The next screen takes its own references on the
+ * manifest, the loading screen drops the one it held once the switch is done.
+ */
+public class LoadingScreen implements Screen {
+    // Thời gian tối đa dành cho AssetManager mỗi frame
+    private static final int LOAD_BUDGET_MILLIS = 12;
+    private static final float BAR_WIDTH = 600f;
+    private static final float BAR_HEIGHT = 24f;
+
+    private final Main game;
+    private final AssetManifest manifest;
+    private final Supplier<Screen> nextScreen;
+    private final AssetRegistry assets;
+
+    private OrthographicCamera camera;
+    private ShapeRenderer shapeRenderer;
+    private long startTime;
+    private boolean finished;
+
+    public LoadingScreen(Main game, AssetManifest manifest, Supplier<Screen> nextScreen) {
+        this.game = game;
+        this.manifest = manifest;
+        this.nextScreen = nextScreen;
+        this.assets = AssetRegistry.getInstance();
+
+        camera = new OrthographicCamera();
+        camera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        shapeRenderer = new ShapeRenderer();
+    }
+
+    @Override
+    public void show() {
+        startTime = TimeUtils.millis();
+        assets.load(manifest);
+    }
+
+    @Override
+    public void render(float delta) {
+        if (finished) return;
+
+        if (assets.update(LOAD_BUDGET_MILLIS)) {
+            finished = true;
+            long loadTime = TimeUtils.timeSinceMillis(startTime);
+            long createStart = TimeUtils.millis();
+            Screen screen = nextScreen.get();
+            Gdx.app.log("LoadingScreen", manifest.getName() + " loaded in " + loadTime + " ms, "
+                + screen.getClass().getSimpleName() + " created in " + TimeUtils.timeSinceMillis(createStart) + " ms");
+
+            game.setScreen(screen);
+            assets.release(manifest);
+            dispose();
+            return;
+        }
+
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float x = (camera.viewportWidth - BAR_WIDTH) / 2f;
+        float y = (camera.viewportHeight - BAR_HEIGHT) / 2f;
+        camera.update();
+        shapeRenderer.setProjectionMatrix(camera.combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(Color.FIREBRICK);
+        shapeRenderer.rect(x, y, BAR_WIDTH * assets.getProgress(), BAR_HEIGHT);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+
+    @Override
+    public void dispose() {
+        shapeRenderer.dispose();
+    }
+}
@@ -24,6 +24,7 @@ import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.myteam.rpgsurvivor.Main;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 import com.myteam.rpgsurvivor.controller.combat.attack.impl.HeroAttack.MeleeAttackComponent;
 import com.myteam.rpgsurvivor.controller.movement.HeroMovement;
 import com.myteam.rpgsurvivor.controller.system.AudioManager;
@@ -42,6 +43,7 @@ public class MainMenuScreen implements Screen {
 
     private GameSaveManager gameSaveManager = new GameSaveManager();
     private AudioManager audioManager;
+    private final AssetRegistry assets = AssetRegistry.getInstance();
 
     // Background
     private Texture backGDTexture;
@@ -94,20 +96,20 @@ public class MainMenuScreen implements Screen {
     }
 
     private void loadTextures() {
-        backGDTexture = new Texture(Gdx.files.internal("Menu/IntroScreen/BG.png"));
-        logoGame = new Texture(Gdx.files.internal("Menu/IntroScreen/LogoGame.png"));
+        backGDTexture = assets.getTexture("Menu/IntroScreen/BG.png");
+        logoGame = assets.getTexture("Menu/IntroScreen/LogoGame.png");
 
-        playUnHover = new Texture(Gdx.files.internal("Menu/IntroScreen/NewGameUnActive.png"));
-        playHover = new Texture(Gdx.files.internal("Menu/IntroScreen/NewGameActive.png"));
+        playUnHover = assets.getTexture("Menu/IntroScreen/NewGameUnActive.png");
+        playHover = assets.getTexture("Menu/IntroScreen/NewGameActive.png");
 
-        continueUnHover = new Texture(Gdx.files.internal("Menu/IntroScreen/ContinueUnActive.png"));
-        continueHover = new Texture(Gdx.files.internal("Menu/IntroScreen/ContinueActive.png"));
+        continueUnHover = assets.getTexture("Menu/IntroScreen/ContinueUnActive.png");
+        continueHover = assets.getTexture("Menu/IntroScreen/ContinueActive.png");
 
-        settingUnHover = new Texture(Gdx.files.internal("Menu/IntroScreen/SettingUnActive.png"));
-        settingHover = new Texture(Gdx.files.internal("Menu/IntroScreen/SettingActive.png"));
+        settingUnHover = assets.getTexture("Menu/IntroScreen/SettingUnActive.png");
+        settingHover = assets.getTexture("Menu/IntroScreen/SettingActive.png");
 
-        exitUnHover = new Texture(Gdx.files.internal("Menu/IntroScreen/ExitUnActive.png"));
-        exitHover = new Texture(Gdx.files.internal("Menu/IntroScreen/ExitActive.png"));
+        exitUnHover = assets.getTexture("Menu/IntroScreen/ExitUnActive.png");
+        exitHover = assets.getTexture("Menu/IntroScreen/ExitActive.png");
 
     }
 
@@ -256,13 +258,5 @@ public class MainMenuScreen implements Screen {
     public void dispose() {
         stage.dispose();
         batch.dispose();
-        backGDTexture.dispose();
-        logoGame.dispose();
-        playUnHover.dispose();
-        playHover.dispose();
-        settingUnHover.dispose();
-        settingHover.dispose();
-        exitUnHover.dispose();
-        exitHover.dispose();
     }
 }
@@ -3,47 +3,71 @@ package com.myteam.rpgsurvivor.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.myteam.rpgsurvivor.Main;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 import com.myteam.rpgsurvivor.controller.EnemySpawnController;
+import com.myteam.rpgsurvivor.controller.combat.CombatEventQueue;
+import com.myteam.rpgsurvivor.controller.spatial.CollisionGrid;
 import com.myteam.rpgsurvivor.controller.system.AudioManager;
+import com.myteam.rpgsurvivor.controller.system.GameSimulation;
+import com.myteam.rpgsurvivor.controller.system.SimulationClock;
 import com.myteam.rpgsurvivor.controller.system.SystemController;
 import com.myteam.rpgsurvivor.debug.DebugRenderer;
+import com.myteam.rpgsurvivor.debug.FrameProfiler;
+import com.myteam.rpgsurvivor.debug.ProfilerOverlay;
+import com.myteam.rpgsurvivor.input.Replay;
 import com.myteam.rpgsurvivor.model.Player;
-import com.myteam.rpgsurvivor.model.impl.Hero.Archer;
-import com.myteam.rpgsurvivor.model.impl.Hero.Knight;
-import com.myteam.rpgsurvivor.model.impl.Hero.Samurai;
-import com.myteam.rpgsurvivor.model.impl.Hero.Wizard;
-import com.myteam.rpgsurvivor.saveGame.GameSaveData;
+import com.myteam.rpgsurvivor.render.ChunkedMapRenderer;
+import com.myteam.rpgsurvivor.render.RenderPipeline;
+import com.myteam.rpgsurvivor.render.RenderSnapshot;
+import com.myteam.rpgsurvivor.render.ViewCulling;
 import com.myteam.rpgsurvivor.saveGame.GameSaveManager;
 
 public class MapScreen implements Screen {
     private Main game;
     private TiledMap map;
-    private TiledMapRenderer tiledMapRenderer;
+    // Tile layer được nướng sẵn thành từng chunk khi nạp map
+    private ChunkedMapRenderer mapRenderer;
+    // Raster hóa lớp Collision và Map Border một lần khi nạp map
+    private CollisionGrid collisionGrid;
+    // camera đứng yên cho HUD và các stage, worldCamera chạy theo hero để vẽ map và snapshot
     private OrthographicCamera camera;
+    private OrthographicCamera worldCamera;
     private SpriteBatch batch;
     private Player chosenHero;
     private LayoutPlayScreen layoutPlayScreen;
     private EnemySpawnController enemySpawnController;
     private SystemController systemController;
+    private GameSimulation simulation;
+    private SimulationClock simulationClock;
+    // Tick của frame sau chạy trên luồng riêng trong lúc frame này được vẽ từ snapshot
+    private RenderPipeline renderPipeline;
 
     private AudioManager audioManager;
+    private final AssetRegistry assets = AssetRegistry.getInstance();
 
     private boolean debugEnabled = false;
+    // F4 bật bảng thời gian từng phần của frame, F5 xuất ra profiles/ trong thư mục local
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    private final ViewCulling culling = ViewCulling.getInstance();
+    private ProfilerOverlay profilerOverlay;
+    // Input của cả lượt chơi được ghi lại, F6 lưu ra replays/ để chạy lại bằng headless --replay
+    private Replay replay;
 
     private String heroType;
 
     private GameSaveManager gameSaveManager;
-    private GameSaveData gameSaveData;
 
     private boolean isSaving;
+    // Mỗi SAVE_INTERVAL giây những gì thay đổi được ghi thêm vào journal của bản lưu
     private float saveTimer = 0f;
     private static final float SAVE_INTERVAL = 2.0f;
 
@@ -56,98 +80,159 @@ public class MapScreen implements Screen {
         camera = new OrthographicCamera();
         camera.setToOrtho(false, w, h);
         camera.update();
+        worldCamera = new OrthographicCamera();
+        worldCamera.setToOrtho(false, w, h);
         isSaving = false;
         audioManager = AudioManager.getInstance();
+        CombatEventQueue.getInstance().setHitSoundSink(audioManager::queueAtkSound);
 
-
-        try {
-            batch = new SpriteBatch();
-
-            switch (heroType)
-            {
-                case "Knight" :
-                    chosenHero = new Knight(400, 400);
-                    break;
-                case "Samurai" :
-                    chosenHero = new Samurai(400,400);
-                    break;
-                case "Archer" :
-                    chosenHero = new Archer(400, 400);
-                    break;
-                case "Wizard" :
-                    chosenHero = new Wizard(400, 400);
-                    break;
-                default:
-                    chosenHero = new Knight(400,400);
-                    break;
-            }
-
-        } catch (Exception e) {
-            Gdx.app.error("MapScreen", "Error initializing: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // Giữ tham chiếu GAME cho tới khi dispose; nếu đã qua LoadingScreen thì không phải chờ gì thêm
+        assets.load(AssetManifest.GAME);
+        assets.finishLoading();
 
 
+        batch = new SpriteBatch();
         loadMap();
-        enemySpawnController = new EnemySpawnController(chosenHero, map);
 
-        systemController = new SystemController(enemySpawnController, chosenHero, game, this, camera);
+        simulation = new GameSimulation(heroType, map, collisionGrid);
+        replay = simulation.startRecording();
+        chosenHero = simulation.getHero();
+        enemySpawnController = simulation.getEnemySpawnController();
+        followHero();
 
-        enemySpawnController.setMaxEnemiesOnMap(5);
-        enemySpawnController.setSpawnInterval(3.0f);
-        enemySpawnController.setTimeBetweenWaves(45.0f);
-
-        chosenHero.setEnemySpawnController(enemySpawnController);
+        systemController = new SystemController(simulation.getStageController(), chosenHero, game, this, camera);
 
         layoutPlayScreen = new LayoutPlayScreen(camera,chosenHero,heroType,game);
 
         gameSaveManager = new GameSaveManager();
+        simulationClock = new SimulationClock();
+        renderPipeline = new RenderPipeline(simulation);
+        profilerOverlay = new ProfilerOverlay(profiler);
     }
 
     public void loadMap() {
         try {
-            map = new TmxMapLoader().load("Map Asset/Map Final.tmx");
-            tiledMapRenderer = new OrthogonalTiledMapRenderer(map);
+            map = assets.getMap(AssetManifest.MAP);
+            mapRenderer = new ChunkedMapRenderer(map);
+            collisionGrid = CollisionGrid.fromMap(map);
         } catch (Exception e) {
             Gdx.app.error("Map Loading", "Error loading map: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
+    /**
+     * Size the view to the world camera and put it on the hero. From then on the simulation moves the view
+     * each time it records a snapshot, the camera follows the snapshot in {@link #render(float)}.
+     */
+    private void followHero() {
+        culling.setView(worldCamera);
+        if (collisionGrid != null) {
+            culling.setWorldBounds(0, 0, collisionGrid.getWorldWidth(), collisionGrid.getWorldHeight());
+        }
+        simulation.followHero(1f);
+        worldCamera.position.set(culling.getCenterX(), culling.getCenterY(), 0);
+        worldCamera.update();
+    }
+
+    /**
+     * Join the simulation job of the previous frame, then hand the ticks of this frame to the
+     * render pipeline. Between the two the simulation belongs to this thread.
+     */
     public void update() {
+        profiler.begin(FrameProfiler.Section.SIMULATION_WAIT);
+        renderPipeline.await();
+        profiler.end(FrameProfiler.Section.SIMULATION_WAIT);
+        // Luồng mô phỏng đã dừng: đóng frame trước khi bắt đầu đo frame mới
+        if (profiler.isEnabled()) {
+            profiler.count(FrameProfiler.Counter.ENEMIES,
+                enemySpawnController.getCreepStore().size() + enemySpawnController.getBossStore().size());
+            profiler.count(FrameProfiler.Counter.PROJECTILES, chosenHero.getProjectileCount());
+            profiler.count(FrameProfiler.Counter.CULLED_ENTITIES, culling.getCulled(ViewCulling.Kind.ENTITY));
+            profiler.count(FrameProfiler.Counter.CULLED_PROJECTILES, culling.getCulled(ViewCulling.Kind.PROJECTILE));
+            profiler.count(FrameProfiler.Counter.CULLED_EFFECTS, culling.getCulled(ViewCulling.Kind.EFFECT));
+            profiler.endFrame();
+        }
+
+        // Đổi khi luồng mô phỏng đang dừng, job sau mới bắt đầu ghi hình debug và đo thời gian, ngoài mọi section
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            debugEnabled = !debugEnabled;
+            DebugRenderer.setEnabled(debugEnabled);
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            profiler.setEnabled(!profiler.isEnabled());
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F5) && profiler.isEnabled()) {
+            profiler.export();
+        }
+
+        profiler.begin(FrameProfiler.Section.MAP_UPDATE);
         camera.update();
         if (!isPaused()) {
-            chosenHero.update(Gdx.graphics.getDeltaTime());
-            systemController.update(Gdx.graphics.getDeltaTime());
+            systemController.update(SimulationClock.STEP);
+            autosave();
+            chosenHero.getInputHandle().latchInput();
+            int steps = simulationClock.advance(Gdx.graphics.getDeltaTime());
+            // Chạy tuần tự khi màn nâng cấp đang sửa chỉ số hero
+            boolean parallel = !systemController.isWaitingForNextStage();
+            renderPipeline.submit(steps, simulationClock.getAlpha(), parallel);
+            isSaving = false;
         }
         else {
+                // Lưu một lần mỗi khi vào màn tạm dừng, không lưu lại ở mỗi frame
                 if(isSaving == false)
                 {
-                    saveGame();
+                    checkpoint();
                     isSaving = true;
                 }
         }
+        profiler.end(FrameProfiler.Section.MAP_UPDATE);
+    }
 
+    /**
+     * Append the changes since the last autosave to the journal every {@link #SAVE_INTERVAL} seconds.
+     * Other frames only advance the timer.
+     */
+    private void autosave() {
+        saveTimer += Gdx.graphics.getDeltaTime();
+        if (saveTimer < SAVE_INTERVAL || chosenHero.isDead()) return;
+        saveTimer = 0f;
+        gameSaveManager.autosave(this);
     }
 
-    private void saveGame() {
+    /**
+     * Copy the game state and queue it for writing as a full save, which the journal starts over from.
+     * The file is written on the save thread, this frame only pays for the copy.
+     * Call while the simulation is not running, after {@link RenderPipeline#await()}.
+     */
+    public void checkpoint() {
         try {
-            gameSaveData = new GameSaveData(this);
-            System.out.println(this);
-            gameSaveManager.saveGame(gameSaveData);
-            Gdx.app.log("MapScreen", "Game saved successfully");
-            System.out.println(gameSaveData.toString());
+            long start = TimeUtils.nanoTime();
+            gameSaveManager.checkpoint(this);
+            saveTimer = 0f;
+            Gdx.app.log("MapScreen", String.format("Save queued in %.3f ms", (TimeUtils.nanoTime() - start) / 1e6));
         } catch (Exception e) {
             Gdx.app.error("MapScreen", "Error saving game: " + e.getMessage());
             e.printStackTrace();
-        } finally {
-            isSaving = false;
         }
+    }
 
 
+    /**
+     * Write the input recorded so far to replays/&lt;hero&gt;-&lt;time&gt;.replay in local storage
+     */
+    private void saveReplay() {
+        if (simulation.getRecording() != replay) {
+            Gdx.app.log("MapScreen", "Loaded games cannot be replayed");
+            return;
+        }
+        // Luồng mô phỏng đang ghi thêm tick vào replay
+        renderPipeline.await();
+        FileHandle file = Gdx.files.local("replays/" + heroType + "-" + TimeUtils.millis() + ".replay");
+        replay.write(file);
+        Gdx.app.log("MapScreen", "Saved " + replay.getTickCount() + " ticks to " + file.path());
     }
 
-
     @Override
     public void show() {
         if(!isPaused())
@@ -162,23 +247,31 @@ public class MapScreen implements Screen {
 
     @Override
     public void render(float delta) {
-        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
-            DebugRenderer.setEnabled(!debugEnabled);
-            debugEnabled = !debugEnabled;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F6)) {
+            saveReplay();
         }
+        profiler.begin(FrameProfiler.Section.MAP_RENDER);
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         camera.update();
+        // Camera về đúng chỗ vùng nhìn lúc ghi snapshot, sprite và map khớp nhau
+        RenderSnapshot front = renderPipeline.getFront();
+        if (front.hasView()) {
+            worldCamera.position.set(front.getViewCenterX(), front.getViewCenterY(), 0);
+        }
+        worldCamera.update();
 
-        if (tiledMapRenderer != null) {
-            tiledMapRenderer.setView(camera);
-            tiledMapRenderer.render();
+        if (mapRenderer != null) {
+            mapRenderer.render(worldCamera);
         }
 
+        batch.setProjectionMatrix(worldCamera.combined);
         batch.begin();
 
-        if(chosenHero.isDead())
+        // Luồng mô phỏng có thể đang chạy: trạng thái hero và stage lấy từ snapshot
+        layoutPlayScreen.setHeroStatus(front.isHeroDead(), front.getHeroHealth(), front.getHeroMaxHealth());
+        if(front.isHeroDead())
         {
             layoutPlayScreen.render(Gdx.graphics.getDeltaTime());
         }
@@ -186,23 +279,31 @@ public class MapScreen implements Screen {
         {
             layoutPlayScreen.render(Gdx.graphics.getDeltaTime());
             if (!isPaused()) {
-                if (enemySpawnController != null && !systemController.isWaitingForNextStage()) {
-                    chosenHero.render(batch, Gdx.graphics.getDeltaTime());
-                    boolean isBossWave = enemySpawnController.isBossWave();
-                    //System.out.println(isBossWave);
-                    if (isBossWave) {
-                        enemySpawnController.renderBoss(batch, Gdx.graphics.getDeltaTime());
-                    } else {
-                        enemySpawnController.renderCreep(batch, Gdx.graphics.getDeltaTime());
-                    }
+                if (enemySpawnController != null && !front.isWaitingForNextStage()) {
+                    // Hero và enemy đã được ghi vào snapshot bởi luồng mô phỏng
+                    front.draw(batch);
                 } else {
+                    // Màn nâng cấp đọc StageController và nạp asset: job của frame này phải xong trước
+                    renderPipeline.await();
                     systemController.render(Gdx.graphics.getDeltaTime());
                 }
             }
         }
 
         batch.end();
-        DebugRenderer.render();
+        audioManager.playQueuedSounds();
+        profiler.begin(FrameProfiler.Section.DEBUG_RENDER);
+        DebugRenderer.render(front.getDebugShapes(), worldCamera.combined);
+        profiler.end(FrameProfiler.Section.DEBUG_RENDER);
+        profiler.end(FrameProfiler.Section.MAP_RENDER);
+
+        if (profiler.isEnabled()) {
+            profiler.count(FrameProfiler.Counter.RENDER_CALLS, batch.renderCalls);
+            if (mapRenderer != null) {
+                profiler.count(FrameProfiler.Counter.TILE_CHUNKS, mapRenderer.getDrawCount());
+            }
+            profilerOverlay.render(delta);
+        }
     }
 
     @Override
@@ -222,16 +323,26 @@ public class MapScreen implements Screen {
 
     @Override
     public void hide() {
-
+        renderPipeline.await();
     }
 
     public void dispose() {
-        if (map != null) {
-            map.dispose();
-        }
+        renderPipeline.dispose();
+        CombatEventQueue.getInstance().setHitSoundSink(null);
+        // Lần lưu cuối phải xong trước khi thoát, luồng ghi là daemon
+        gameSaveManager.waitForPendingSave();
         batch.dispose();
+        if (mapRenderer != null) {
+            mapRenderer.dispose();
+        }
+        profilerOverlay.dispose();
+        profiler.setEnabled(false);
         layoutPlayScreen.dispose();
         systemController.dispose();
+        simulation.dispose();
+        culling.clearView();
+        AnimationLoader.getInstance().clearCache();
+        assets.release(AssetManifest.GAME);
     }
 
     public OrthographicCamera getCamera() {
@@ -254,12 +365,18 @@ public class MapScreen implements Screen {
         return enemySpawnController;
     }
 
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
     public SystemController getSystemController() {
         return systemController;
     }
 
     public void setChosenHero(Player chosenHero) {
+        renderPipeline.await();
         this.chosenHero = chosenHero;
+        simulation.setHero(chosenHero);
     }
 
     public LayoutPlayScreen getLayoutPlayScreen() {
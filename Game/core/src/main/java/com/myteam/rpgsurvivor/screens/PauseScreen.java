@@ -14,15 +14,16 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.myteam.rpgsurvivor.Main;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 
 public class PauseScreen implements Screen {
+    private final AssetRegistry assets = AssetRegistry.getInstance();
     private Main game;
     private Stage stage;
     private Viewport viewport;
     private SpriteBatch batch;
     private OrthographicCamera camera;
     private ShowControlScreen showControlScreen;
-    private MainMenuScreen mainMenuScreen;
     private AudioScreen audioScreen;
 
     private Texture backgroundTexture;
@@ -65,18 +66,17 @@ public class PauseScreen implements Screen {
         stage = new Stage(viewport, batch);
         showControlScreen = new ShowControlScreen(game, PauseScreen.this,camera);
         audioScreen = new AudioScreen(game, PauseScreen.this,camera);
-        mainMenuScreen = new MainMenuScreen(game);
 
         try {
-            backgroundTexture = new Texture(Gdx.files.internal("Menu/PauseMenu/BackGround.png"));
-            controlUnActiveTexture = new Texture(Gdx.files.internal("Menu/PauseMenu/controlUnActive.png"));
-            controlActiveTexture = new Texture(Gdx.files.internal("Menu/PauseMenu/controlActive.png"));
-            audioUnActiveTexure = new Texture(Gdx.files.internal("Menu/PauseMenu/audioUnActive.png"));
-            audioActiveTexture = new Texture(Gdx.files.internal("Menu/PauseMenu/audioActive.png"));
-            exitUnActiveTexture = new Texture(Gdx.files.internal("Menu/PauseMenu/exitUnActive.png"));
-            exitActiveTexture = new Texture(Gdx.files.internal("Menu/PauseMenu/exitActive.png"));
-            resumeUnActiveTexture = new Texture(Gdx.files.internal("Menu/PauseMenu/resumeUnActive.png"));
-            resumeActiveTexture = new Texture(Gdx.files.internal("Menu/PauseMenu/resumeActive.png"));
+            backgroundTexture = assets.getTexture("Menu/PauseMenu/BackGround.png");
+            controlUnActiveTexture = assets.getTexture("Menu/PauseMenu/controlUnActive.png");
+            controlActiveTexture = assets.getTexture("Menu/PauseMenu/controlActive.png");
+            audioUnActiveTexure = assets.getTexture("Menu/PauseMenu/audioUnActive.png");
+            audioActiveTexture = assets.getTexture("Menu/PauseMenu/audioActive.png");
+            exitUnActiveTexture = assets.getTexture("Menu/PauseMenu/exitUnActive.png");
+            exitActiveTexture = assets.getTexture("Menu/PauseMenu/exitActive.png");
+            resumeUnActiveTexture = assets.getTexture("Menu/PauseMenu/resumeUnActive.png");
+            resumeActiveTexture = assets.getTexture("Menu/PauseMenu/resumeActive.png");
 
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -134,7 +134,7 @@ public class PauseScreen implements Screen {
         exitBtn.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-               game.setScreen(mainMenuScreen);
+               game.showMainMenu();
             }
         });
 
@@ -203,11 +203,6 @@ public class PauseScreen implements Screen {
     public void dispose() {
         stage.dispose();
         batch.dispose();
-        backgroundTexture.dispose();
-        controlUnActiveTexture.dispose();
-        controlActiveTexture.dispose();
-        audioUnActiveTexure.dispose();
-        audioUnActiveTexure.dispose();
 
     }
 
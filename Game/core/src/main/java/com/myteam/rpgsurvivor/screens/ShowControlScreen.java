@@ -15,8 +15,10 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.myteam.rpgsurvivor.Main;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 
 public class ShowControlScreen implements Screen {
+    private final AssetRegistry assets = AssetRegistry.getInstance();
     private final Main game;
     private final PauseScreen previousScreen;
     private OrthographicCamera camera;
@@ -48,9 +50,9 @@ public class ShowControlScreen implements Screen {
     public void loadTexture() {
         try
         {
-            background = new Texture(Gdx.files.internal("Menu/PauseMenu/controlScreen.png"));
-            backUnActiveTexture = new Texture(Gdx.files.internal("Menu/ChossenHero/Back_ButtonUnActive.png"));
-            backActiveTexture = new Texture(Gdx.files.internal("Menu/ChossenHero/Back_ButtonActive.png"));
+            background = assets.getTexture("Menu/PauseMenu/controlScreen.png");
+            backUnActiveTexture = assets.getTexture("Menu/ChossenHero/Back_ButtonUnActive.png");
+            backActiveTexture = assets.getTexture("Menu/ChossenHero/Back_ButtonActive.png");
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -131,9 +133,6 @@ public class ShowControlScreen implements Screen {
     public void dispose() {
         stage.dispose();
         batch.dispose();
-        background.dispose();
-        backUnActiveTexture.dispose();
-        backActiveTexture.dispose();
     }
 
     public boolean isShow()
@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -18,10 +17,13 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.myteam.rpgsurvivor.Main;
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
 import com.myteam.rpgsurvivor.model.Player;
 import com.myteam.rpgsurvivor.model.enum_type.HeroType;
 
 public class UpgradeScreen implements Screen {
+    private final AssetRegistry assets = AssetRegistry.getInstance();
     private Main game;
     private Viewport viewport;
     private SpriteBatch batch;
@@ -122,67 +124,58 @@ public class UpgradeScreen implements Screen {
     }
 
     public void createFont() {
-        try {
-            FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("Menu/Font/antiquity-print.ttf"));
-            FreeTypeFontGenerator.FreeTypeFontParameter titleParams = new FreeTypeFontGenerator.FreeTypeFontParameter();
-            titleParams.size = 18;
-            titleParams.color = Color.BLACK;
-
-            font = generator.generateFont(titleParams);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        font = assets.getFont(AssetManifest.FONT_SMALL);
         description = new Label.LabelStyle(font, Color.BLACK);
     }
 
     public void loadTexture() {
-        background = new Texture(Gdx.files.internal("Menu/Upgrade Screen/Upgrade_Screen.png"));
+        background = assets.getTexture("Menu/Upgrade Screen/Upgrade_Screen.png");
 
-        increaseHealthUnactive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/increaseUnActive.png"));
-        increaseHealthActive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/increaseActive.png"));
-        decreaseHealthUnactive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/decreaseUnActive.png"));
-        decreaseHealthActive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/decreaseActive.png"));
+        increaseHealthUnactive = assets.getTexture("Menu/Upgrade Screen/increaseUnActive.png");
+        increaseHealthActive = assets.getTexture("Menu/Upgrade Screen/increaseActive.png");
+        decreaseHealthUnactive = assets.getTexture("Menu/Upgrade Screen/decreaseUnActive.png");
+        decreaseHealthActive = assets.getTexture("Menu/Upgrade Screen/decreaseActive.png");
 
-        increaseDamageUnactive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/increaseUnActive.png"));
-        increaseDamageActive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/increaseActive.png"));
-        decreaseDamageUnactive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/decreaseUnActive.png"));
-        decreaseDamageActive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/decreaseActive.png"));
+        increaseDamageUnactive = assets.getTexture("Menu/Upgrade Screen/increaseUnActive.png");
+        increaseDamageActive = assets.getTexture("Menu/Upgrade Screen/increaseActive.png");
+        decreaseDamageUnactive = assets.getTexture("Menu/Upgrade Screen/decreaseUnActive.png");
+        decreaseDamageActive = assets.getTexture("Menu/Upgrade Screen/decreaseActive.png");
 
-        increaseSpeedUnactive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/increaseUnActive.png"));
-        increaseSpeedActive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/increaseActive.png"));
-        decreaseSpeedUnactive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/decreaseUnActive.png"));
-        decreaseSpeedActive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/decreaseActive.png"));
+        increaseSpeedUnactive = assets.getTexture("Menu/Upgrade Screen/increaseUnActive.png");
+        increaseSpeedActive = assets.getTexture("Menu/Upgrade Screen/increaseActive.png");
+        decreaseSpeedUnactive = assets.getTexture("Menu/Upgrade Screen/decreaseUnActive.png");
+        decreaseSpeedActive = assets.getTexture("Menu/Upgrade Screen/decreaseActive.png");
 
-        increaseAtkSpeedUnactive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/increaseUnActive.png"));
-        increaseAtkSpeedActive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/increaseActive.png"));
-        decreaseAtkSpeedUnactive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/decreaseUnActive.png"));
-        decreaseAtkSpeedActive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/decreaseActive.png"));
+        increaseAtkSpeedUnactive = assets.getTexture("Menu/Upgrade Screen/increaseUnActive.png");
+        increaseAtkSpeedActive = assets.getTexture("Menu/Upgrade Screen/increaseActive.png");
+        decreaseAtkSpeedUnactive = assets.getTexture("Menu/Upgrade Screen/decreaseUnActive.png");
+        decreaseAtkSpeedActive = assets.getTexture("Menu/Upgrade Screen/decreaseActive.png");
 
-        increaseSkillUnactive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/increaseUnActive.png"));
-        increaseSkillActive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/increaseActive.png"));
-        decreaseSkillUnactive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/decreaseUnActive.png"));
-        decreaseSkillActive = new Texture(Gdx.files.internal("Menu/Upgrade Screen/decreaseActive.png"));
+        increaseSkillUnactive = assets.getTexture("Menu/Upgrade Screen/increaseUnActive.png");
+        increaseSkillActive = assets.getTexture("Menu/Upgrade Screen/increaseActive.png");
+        decreaseSkillUnactive = assets.getTexture("Menu/Upgrade Screen/decreaseUnActive.png");
+        decreaseSkillActive = assets.getTexture("Menu/Upgrade Screen/decreaseActive.png");
 
-        playUnActive = new Texture(Gdx.files.internal("Menu/Description hero/PlayBtnUnActive (1).png"));
-        playActive = new Texture(Gdx.files.internal("Menu/Description hero/PlayBtnActive (1).png"));
+        playUnActive = assets.getTexture("Menu/Description hero/PlayBtnUnActive (1).png");
+        playActive = assets.getTexture("Menu/Description hero/PlayBtnActive (1).png");
 
         HeroType hero = player.getHeroType();
         if(HeroType.KNIGHT.name().equals(hero.name()))
         {
-            avatarHero = new Texture(Gdx.files.internal("Menu/IngameIcon/knightAva.png"));
+            avatarHero = assets.getTexture("Menu/IngameIcon/knightAva.png");
         }
         else if(HeroType.SAMURAI.name().equals(hero.name()))
         {
-            avatarHero = new Texture(Gdx.files.internal("Menu/IngameIcon/SamuraiAva.png"));
+            avatarHero = assets.getTexture("Menu/IngameIcon/SamuraiAva.png");
 
         }
         else if(HeroType.ARCHER.name().equals(hero.name()))
         {
-            avatarHero = new Texture(Gdx.files.internal("Menu/IngameIcon/archerAva.png"));
+            avatarHero = assets.getTexture("Menu/IngameIcon/archerAva.png");
         }
         else if(HeroType.WIZARD.name().equals(hero.name()))
         {
-            avatarHero = new Texture(Gdx.files.internal("Menu/IngameIcon/wizardAva.png"));
+            avatarHero = assets.getTexture("Menu/IngameIcon/wizardAva.png");
         }
     }
 
@@ -487,39 +480,8 @@ public class UpgradeScreen implements Screen {
     @Override
     public void dispose() {
         stage.dispose();
-        background.dispose();
         batch.dispose();
-
-        // Dispose all textures
-        increaseHealthUnactive.dispose();
-        increaseHealthActive.dispose();
-        decreaseHealthUnactive.dispose();
-        decreaseHealthActive.dispose();
-
-        increaseDamageUnactive.dispose();
-        increaseDamageActive.dispose();
-        decreaseDamageUnactive.dispose();
-        decreaseDamageActive.dispose();
-
-        increaseSpeedUnactive.dispose();
-        increaseSpeedActive.dispose();
-        decreaseSpeedUnactive.dispose();
-        decreaseSpeedActive.dispose();
-
-        increaseAtkSpeedUnactive.dispose();
-        increaseAtkSpeedActive.dispose();
-        decreaseAtkSpeedUnactive.dispose();
-        decreaseAtkSpeedActive.dispose();
-
-        increaseSkillUnactive.dispose();
-        increaseSkillActive.dispose();
-        decreaseSkillUnactive.dispose();
-        decreaseSkillActive.dispose();
-
-        playUnActive.dispose();
-        playActive.dispose();
-
-        font.dispose();
+        // Texture và font thuộc AssetRegistry, không dispose ở đây
     }
 
     public boolean isDone() {
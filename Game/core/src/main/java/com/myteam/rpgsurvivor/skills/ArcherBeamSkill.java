@@ -1,14 +1,20 @@
 package com.myteam.rpgsurvivor.skills;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.Rectangle;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
 import com.myteam.rpgsurvivor.animation.AnimationManager;
+import com.myteam.rpgsurvivor.animation.AnimationSet;
+import com.myteam.rpgsurvivor.controller.combat.CombatEventQueue;
+import com.myteam.rpgsurvivor.controller.spatial.EnemySpatialGrid;
 import com.myteam.rpgsurvivor.debug.DebugRenderer;
 import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.model.enum_type.EffectType;
 import com.myteam.rpgsurvivor.model.enum_type.StateType;
+import com.myteam.rpgsurvivor.render.ViewCulling;
 
-import java.util.List;
+import java.util.ArrayList;
 
 public class ArcherBeamSkill implements Skill {
     private float cooldownTime = 13f;
@@ -27,16 +33,20 @@ public class ArcherBeamSkill implements Skill {
     private int damage = 50;
 
     private AnimationManager animationManager;
+    private final ArrayList<Enemy> hitCandidates = new ArrayList<>();
+    private final CombatEventQueue combatEvents = CombatEventQueue.getInstance();
+    private final ViewCulling culling = ViewCulling.getInstance();
 
     public ArcherBeamSkill() {
         hitBox = new Rectangle();
-        animationManager = new AnimationManager();
-        animationManager.addAnimation(
-            StateType.STATE_SKILL.stateType,
-            "Hero/Achers/spriteSheet/beam_skill.png",
-            5, 1, 0.1f, true
-        );
-        animationManager.setState(StateType.STATE_SKILL.stateType, true);
+        animationManager = new AnimationManager(AnimationLoader.getInstance().getSet(EffectType.ARCHER_BEAM, () ->
+            new AnimationSet.Builder()
+                .addAnimation(
+                    StateType.STATE_SKILL,
+                    "Hero/Achers/spriteSheet/beam_skill.png",
+                    5, 1, 0.1f, true
+                )
+                .build()));
     }
 
     public void activate(float x, float y, boolean facingRight) {
@@ -58,7 +68,7 @@ public class ArcherBeamSkill implements Skill {
         hasDealtDamage = false;
     }
 
-    public void update(float deltaTime, List<Enemy> enemies) {
+    public void update(float deltaTime, EnemySpatialGrid enemyGrid) {
         if (cooldownRemaining > 0) {
             cooldownRemaining -= deltaTime;
         }
@@ -66,32 +76,34 @@ public class ArcherBeamSkill implements Skill {
         if (!isActive) return;
 
         elapsed += deltaTime;
+        animationManager.update(deltaTime);
         if (elapsed >= duration) {
             isActive = false;
         }
 
         if (!hasDealtDamage) {
-            for (Enemy e : enemies) {
-                if (!e.isDead() && hitBox.overlaps(e.getHitBox())) {
-                    e.takeDamge(damage);
-                    e.onHurt();
+            enemyGrid.queryRect(hitBox, hitCandidates);
+            for (int i = 0; i < hitCandidates.size(); i++) {
+                Enemy e = hitCandidates.get(i);
+                if (!e.isDead()) {
+                    combatEvents.postDamage(e, damage);
 
                     float knockbackForce = 1500f;
                     float knockbackX = facingRight ? 1 : -1;
-                    e.applyExternalForce(knockbackX * knockbackForce * deltaTime, 0);
+                    combatEvents.postKnockback(e, knockbackX * knockbackForce * deltaTime, 0);
                 }
             }
             hasDealtDamage = true;
         }
     }
 
-    public void render(SpriteBatch batch, float deltaTime) {
+    public void render(Batch batch) {
         if (!isActive) return;
 
-        animationManager.update(deltaTime);
         float width = hitBox.width;
         float height = hitBox.height;
 
+        if (!culling.accept(ViewCulling.Kind.EFFECT, hitBox.x, hitBox.y, width, height)) return;
         batch.draw(
             animationManager.getCurrentFrame(),
             hitBox.x,
@@ -123,6 +135,10 @@ public class ArcherBeamSkill implements Skill {
         return isActive;
     }
 
+    public void setCooldownRemaining(float cooldownRemaining) {
+        this.cooldownRemaining = cooldownRemaining;
+    }
+
     public void dispose() {
 
     }
@@ -1,8 +1,10 @@
 package com.myteam.rpgsurvivor.skills;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
 import com.myteam.rpgsurvivor.animation.AnimationForSummondKnight;
 import com.myteam.rpgsurvivor.controller.EnemySpawnController;
+import com.myteam.rpgsurvivor.controller.system.GameRandom;
 import com.myteam.rpgsurvivor.model.Enemy;
 import com.myteam.rpgsurvivor.model.enum_type.HeroType;
 import com.myteam.rpgsurvivor.model.impl.Hero.SummonedKnight;
@@ -11,7 +13,6 @@ import com.myteam.rpgsurvivor.model.impl.Hero.Knight;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
 
 public class KnightSkill {
     private static  int NUM_SUMMONS = 2;
@@ -23,8 +24,9 @@ public class KnightSkill {
     private float currentCooldown = 0f;
     private boolean isOnCooldown = false;
     private EnemySpawnController enemySpawnController;
-    Random rand = new Random();
+    private final GameRandom random = GameRandom.getInstance();
     private int attackDamge = 10;
+    private final ArrayList<Enemy> nearestEnemies = new ArrayList<>();
     public KnightSkill(Knight owner) {
         this.owner = owner;
         this.summonedKnights = new ArrayList<>();
@@ -45,27 +47,16 @@ public class KnightSkill {
         return new ArrayList<>();
     }
 
-    private Enemy getNearestEnemy(ArrayList<Enemy> enemies) {
-        if (enemies.isEmpty()) return null;
-
-        Enemy nearest = null;
-        float minDistance = Float.MAX_VALUE;
-
-        for (Enemy enemy : enemies) {
-            if (enemy.isDead()) continue;
-
-            float distance = (float) Math.sqrt(
-                Math.pow(enemy.getEntityX() - owner.getEntityX(), 2) +
-                    Math.pow(enemy.getEntityY() - owner.getEntityY(), 2)
-            );
+    private Enemy getNearestEnemy() {
+        EnemySpawnController controller = owner.getEnemySpawnController();
+        if (controller == null) return null;
 
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearest = enemy;
-            }
-        }
-
-        return nearest;
+        Rectangle ownerBox = owner.getHitbox();
+        controller.getEnemyGrid().queryNearest(
+            ownerBox.x + ownerBox.width / 2f,
+            ownerBox.y + ownerBox.height / 2f,
+            1, nearestEnemies);
+        return nearestEnemies.isEmpty() ? null : nearestEnemies.get(0);
     }
     private Enemy getRandomAliveEnemy(ArrayList<Enemy> enemies) {
         if (enemies.isEmpty()) return null;
@@ -79,7 +70,7 @@ public class KnightSkill {
 
         if (aliveEnemies.isEmpty()) return null;
 
-        return aliveEnemies.get(rand.nextInt(aliveEnemies.size()));
+        return aliveEnemies.get(random.nextInt(aliveEnemies.size()));
     }
 
     public boolean activateSkill() {
@@ -103,21 +94,11 @@ public class KnightSkill {
         float[] angles = {0f, 120f, 240f};
         float distance = 1f;
 
-        ArrayList<Enemy> targetBoss = getTargetBosses();
-        ArrayList<Enemy> targetEnemy = getTargetEnemies();
-
         int knightsToSummon = NUM_SUMMONS;
 
         for (int i = 0; i < knightsToSummon; i++) {
-            Enemy targetEnemyForKnight = null;
-
-            if (!targetBoss.isEmpty()) {
-                targetEnemyForKnight = getNearestEnemy(targetBoss);
-            }
-
-            if (targetEnemyForKnight == null && !targetEnemy.isEmpty()) {
-                targetEnemyForKnight = getNearestEnemy(targetEnemy);
-            }
+            // Boss và creep không xuất hiện cùng lúc nên lưới chỉ chứa một loại
+            Enemy targetEnemyForKnight = getNearestEnemy();
 
             if (targetEnemyForKnight == null) {
                 continue;
@@ -133,8 +114,8 @@ public class KnightSkill {
             float xOffset = distance * (float) Math.cos(angleRad) * direction;
             float yOffset = distance * (float) Math.sin(angleRad);
 
-            float spawnX = owner.getEntityX() + xOffset + (float) Math.random() * 30f;
-            float spawnY = owner.getEntityY() + yOffset + (float) Math.random() * 30f;
+            float spawnX = owner.getEntityX() + xOffset + random.nextFloat() * 30f;
+            float spawnY = owner.getEntityY() + yOffset + random.nextFloat() * 30f;
 
             SummonedKnight summonedKnight = new SummonedKnight(
                 spawnX,
@@ -192,9 +173,9 @@ public class KnightSkill {
         return newTarget;
     }
 
-    public void render(SpriteBatch batch, float deltaTime) {
+    public void render(Batch batch, float alpha) {
         for (SummonedKnight knight : summonedKnights) {
-            knight.render(batch, deltaTime);
+            knight.render(batch, alpha);
         }
     }
 
@@ -210,6 +191,33 @@ public class KnightSkill {
         return isOnCooldown;
     }
 
+    public float getCurrentCooldown() {
+        return currentCooldown;
+    }
+
+    public void setCurrentCooldown(float currentCooldown) {
+        this.currentCooldown = currentCooldown;
+        this.isOnCooldown = currentCooldown > 0;
+    }
+
+    public List<SummonedKnight> getSummonedKnights() {
+        return summonedKnights;
+    }
+
+    /**
+     * Put back a summon read from a save
+     */
+    public SummonedKnight restoreSummon(float x, float y, Enemy target, float lifeTime, int health) {
+        SummonedKnight summonedKnight = new SummonedKnight(x, y, target, animation);
+        summonedKnight.setDamage(attackDamge);
+        summonedKnight.setFacingRight(owner.isFacingRight());
+        summonedKnight.setEnemySpawnController(owner.getEnemySpawnController());
+        summonedKnight.setCurrentLifeTime(lifeTime);
+        summonedKnight.setCurrentHealth(health);
+        summonedKnights.add(summonedKnight);
+        return summonedKnight;
+    }
+
     public int getActiveSummonCount() {
         return summonedKnights.size();
     }
@@ -1,7 +1,9 @@
 package com.myteam.rpgsurvivor.skills;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.myteam.rpgsurvivor.controller.spatial.CollisionGrid;
 import com.myteam.rpgsurvivor.model.impl.Hero.Samurai;
 import com.myteam.rpgsurvivor.input.InputHandle;
 
@@ -21,6 +23,7 @@ public class SamuraiDashing {
     private float dashCoolDown;
     private float lastDashTime;
     private float gameTime;
+    private final Vector2 resolved = new Vector2();
 
     public SamuraiDashing(Samurai samurai) {
         this.samurai = samurai;
@@ -50,6 +53,18 @@ public class SamuraiDashing {
             // Update samurai position during dash
             float newX = dashStartPosition.x + (dashTargetPosition.x - dashStartPosition.x) * progress - 20;
             float newY = dashStartPosition.y + (dashTargetPosition.y - dashStartPosition.y) * progress - 20;
+
+            CollisionGrid grid = samurai.getCollisionGrid();
+            if (grid != null) {
+                // Quét hitbox từ vị trí hiện tại tới vị trí mới, dừng ở mép tường thay vì xuyên qua
+                float x = samurai.getEntityX();
+                float y = samurai.getEntityY();
+                Rectangle hitbox = samurai.getHitbox();
+                grid.sweep(x + samurai.getOffsetX(), y + samurai.getOffsetY(), hitbox.width, hitbox.height,
+                    newX - x, newY - y, resolved);
+                newX = x + resolved.x;
+                newY = y + resolved.y;
+            }
             samurai.setEntityPosition(newX, newY);
 
             // End dash when complete
@@ -101,6 +116,9 @@ public class SamuraiDashing {
             dashStartPosition.y + dashDirection.y * dashDistance
         );
 
+        // Walls are resolved every step in update, the screen boundaries only apply without a map
+        if (samurai.getCollisionGrid() != null) return;
+
         // Apply screen boundary checks
         if (dashTargetPosition.x < 0) dashTargetPosition.x = 0;
         if (dashTargetPosition.y < 0) dashTargetPosition.y = 0;
@@ -3,10 +3,13 @@ package com.myteam.rpgsurvivor.skills;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.myteam.rpgsurvivor.controller.combat.CombatEventQueue;
 import com.myteam.rpgsurvivor.debug.DebugRenderer;
 import com.myteam.rpgsurvivor.model.Enemy;
 import com.myteam.rpgsurvivor.model.impl.Hero.Samurai;
 
+import java.util.ArrayList;
+
 
 public class SamuraiSlashing {
     private Samurai samurai;
@@ -21,6 +24,8 @@ public class SamuraiSlashing {
 
     private int damgeSlash = 60;
     private ShapeRenderer shapeRenderer;
+    private final ArrayList<Enemy> hitCandidates = new ArrayList<>();
+    private final CombatEventQueue combatEvents = CombatEventQueue.getInstance();
 
     public SamuraiSlashing(Samurai samurai)
     {
@@ -61,13 +66,12 @@ public class SamuraiSlashing {
         }
 
         if (!skillDamageTriggered) {
-            for (Enemy enemy : samurai.getEnemySpawnController().getActiveEnemies()) {
-                if (skillHitBox.overlaps(enemy.getHitBox())) {
-                    enemy.takeDamge(damgeSlash);
-                    System.out.println(enemy.getCurrentHealth());
-                    skillDamageTriggered = true;
-                    break;
-                }
+            samurai.getEnemySpawnController().getEnemyGrid().queryRect(skillHitBox, hitCandidates);
+            if (!hitCandidates.isEmpty()) {
+                Enemy enemy = hitCandidates.get(0);
+                // Chém không làm quái khựng lại, chỉ trừ máu như trước
+                combatEvents.postDamage(enemy, damgeSlash, false);
+                skillDamageTriggered = true;
             }
         }
     }
@@ -2,17 +2,22 @@ package com.myteam.rpgsurvivor.skills;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Rectangle;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
 import com.myteam.rpgsurvivor.animation.AnimationManager;
+import com.myteam.rpgsurvivor.animation.AnimationSet;
+import com.myteam.rpgsurvivor.controller.combat.CombatEventQueue;
+import com.myteam.rpgsurvivor.controller.spatial.EnemySpatialGrid;
 import com.myteam.rpgsurvivor.debug.DebugRenderer;
 import com.myteam.rpgsurvivor.model.Enemy;
+import com.myteam.rpgsurvivor.model.enum_type.EffectType;
 import com.myteam.rpgsurvivor.model.enum_type.StateType;
+import com.myteam.rpgsurvivor.render.ViewCulling;
 
-import java.util.List;
-import java.util.PrimitiveIterator;
+import java.util.ArrayList;
 
 public class WizardPortalSkill implements Skill {
     private float cooldownTime = 15;
@@ -36,15 +41,20 @@ public class WizardPortalSkill implements Skill {
 //    private final Texture iconTexture;
     private  TextureRegion skillEffectTexture;
     private Circle hitboxPortal;
+    private final ArrayList<Enemy> pulledEnemies = new ArrayList<>();
+    private final CombatEventQueue combatEvents = CombatEventQueue.getInstance();
+    private final ViewCulling culling = ViewCulling.getInstance();
     public WizardPortalSkill() {
-        animationManager =  new AnimationManager();
-        animationManager.addAnimation(
-            StateType.STATE_SKILL.stateType,
-            "Skills/WizardSkill/Wizard Skill.png",
-            SKILL_EFFECT_FRAME_COLS, SKILL_EFFECT_FRAME_ROWS, skillFrameDuration,
-            true
-        );
-        this.animationManager.setState(StateType.STATE_SKILL.stateType, true);
+        // Set chỉ có clip skill nên cursor chạy nó ngay từ đầu
+        animationManager = new AnimationManager(AnimationLoader.getInstance().getSet(EffectType.WIZARD_PORTAL, () ->
+            new AnimationSet.Builder()
+                .addAnimation(
+                    StateType.STATE_SKILL,
+                    "Skills/WizardSkill/Wizard Skill.png",
+                    SKILL_EFFECT_FRAME_COLS, SKILL_EFFECT_FRAME_ROWS, skillFrameDuration,
+                    true
+                )
+                .build()));
 //        this.iconTexture = new Texture("Skills/WizardSkill/SkillIcon.png");
 
     }
@@ -59,18 +69,21 @@ public class WizardPortalSkill implements Skill {
         cooldownRemaining = cooldownTime;
     }
 
-    public void update(float deltaTime, List<Enemy> enemies) {
+    public void update(float deltaTime, EnemySpatialGrid enemyGrid) {
         if (cooldownRemaining > 0) {
             cooldownRemaining -= deltaTime;
         }
 
         if (isActive) {
             elapsed += deltaTime;
+            animationManager.update(deltaTime);
             if (elapsed >= duration) {
                 isActive = false;
             }
 
-            for (Enemy e : enemies) {
+            enemyGrid.queryCircle(hitboxPortal, pulledEnemies);
+            for (int i = 0; i < pulledEnemies.size(); i++) {
+                Enemy e = pulledEnemies.get(i);
                 float enemyX = e.getHitbox().getX();
                 float enemyY =  e.getHitbox().getY();
 
@@ -83,14 +96,13 @@ public class WizardPortalSkill implements Skill {
                         float normX = dx / dist;
                         float normY = dy / dist;
                         float force = pullStrength * (1 - dist / pullRadius);
-                        e.applyExternalForce(normX * force * deltaTime, normY * force * deltaTime);
+                        combatEvents.postKnockback(e, normX * force * deltaTime, normY * force * deltaTime);
                         // Gây damage tích lũy
                     }
                     damageAccumulator += damagePerSecond * deltaTime;
                     if (damageAccumulator >= 1f) {
                         int damageToApply = (int) damageAccumulator;
-                        e.takeDamge(damageToApply);
-                        e.onHurt();
+                        combatEvents.postDamage(e, damageToApply);
                         damageAccumulator -= damageToApply;
                     }
                 }
@@ -99,14 +111,16 @@ public class WizardPortalSkill implements Skill {
         }
     }
 
-    public void render(SpriteBatch batch, float deltaTime) {
+    public void render(Batch batch) {
         if (!isActive) return;
-        animationManager.update(deltaTime);
         this.skillEffectTexture =
             animationManager.getCurrentFrame() ;
 
         float width = skillEffectTexture.getRegionWidth();
         float height = skillEffectTexture.getRegionHeight();
+        if (!culling.accept(ViewCulling.Kind.EFFECT, centerX - width / 2f, centerY - height / 2f, width + upSize, height + upSize)) {
+            return;
+        }
         batch.draw(skillEffectTexture, centerX - width / 2f, centerY - height / 2f, width + upSize, height + upSize);
         DebugRenderer.drawCircle(hitboxPortal, Color.WHITE);
     }
@@ -135,6 +149,38 @@ public class WizardPortalSkill implements Skill {
         return isActive;
     }
 
+    public float getElapsed() {
+        return elapsed;
+    }
+
+    public float getCenterX() {
+        return centerX;
+    }
+
+    public float getCenterY() {
+        return centerY;
+    }
+
+    public float getDamageAccumulator() {
+        return damageAccumulator;
+    }
+
+    /**
+     * Put the skill back to a saved point, with the portal still open when active
+     */
+    public void restore(float cooldownRemaining, boolean active, float elapsed, float centerX, float centerY, float damageAccumulator) {
+        this.cooldownRemaining = cooldownRemaining;
+        this.isActive = active;
+        this.elapsed = elapsed;
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.damageAccumulator = damageAccumulator;
+        if (active) {
+            hitboxPortal = new Circle(centerX, centerY, pullRadius);
+            animationManager.setStateTime(elapsed);
+        }
+    }
+
     public void dispose() {
 //        iconTexture.dispose();
 //        skillEffectTexture.dispose();
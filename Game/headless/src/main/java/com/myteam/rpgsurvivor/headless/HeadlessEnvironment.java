@@ -0,0 +1,60 @@
+package com.myteam.rpgsurvivor.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Sets up the Gdx statics the simulation classes need when there is no window:
+ * files, audio and logging from the headless backend, plus a no-op GL and a
+ * graphics object that reports the desktop window size.
+ */
+public final class HeadlessEnvironment {
+    // Kích thước cửa sổ của bản lwjgl3, dùng làm biên bản đồ cho hero và mũi tên
+    public static final int SCREEN_WIDTH = 1280;
+    public static final int SCREEN_HEIGHT = 770;
+
+    private HeadlessEnvironment() {
+    }
+
+    /**
+     * Replace graphics and GL of the running headless application. Call from its create().
+     */
+    public static void installGraphics() {
+        GL20 gl = HeadlessGL.create();
+        HeadlessGraphics graphics = new HeadlessGraphics(SCREEN_WIDTH, SCREEN_HEIGHT);
+        Gdx.graphics = graphics;
+        graphics.setGL20(gl);
+    }
+
+    /**
+     * Start a headless application only to fill the Gdx statics, then stop its loop.
+     * Used by callers that own their thread, such as JMH benchmarks.
+     */
+    public static synchronized void start() {
+        if (Gdx.app != null) return;
+
+        CountDownLatch ready = new CountDownLatch(1);
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+        HeadlessApplication application = new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                installGraphics();
+                ready.countDown();
+            }
+        }, configuration);
+
+        try {
+            ready.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting the headless application", e);
+        }
+        application.exit();
+    }
+}
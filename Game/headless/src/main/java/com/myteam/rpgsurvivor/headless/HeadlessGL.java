@@ -0,0 +1,51 @@
+package com.myteam.rpgsurvivor.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * GL20 that does nothing, so textures, sprite batches and shape renderers created by
+ * the simulation classes can be constructed without a context. Every call returns 0,
+ * except shader and program handles and their compile and link status, which report success.
+ */
+final class HeadlessGL {
+    private HeadlessGL() {
+    }
+
+    static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class}, HeadlessGL::invoke);
+    }
+
+    private static Object invoke(Object proxy, Method method, Object[] args) {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "HeadlessGL";
+            }
+        }
+
+        String name = method.getName();
+        if (name.equals("glCreateShader") || name.equals("glCreateProgram")) {
+            return 1;
+        }
+        if ((name.equals("glGetShaderiv") && (int) args[1] == GL20.GL_COMPILE_STATUS)
+            || (name.equals("glGetProgramiv") && (int) args[1] == GL20.GL_LINK_STATUS)) {
+            ((IntBuffer) args[2]).put(0, 1);
+            return null;
+        }
+
+        Class<?> type = method.getReturnType();
+        if (type == int.class) return 0;
+        if (type == boolean.class) return false;
+        if (type == float.class) return 0f;
+        if (type == String.class) return "";
+        return null;
+    }
+}
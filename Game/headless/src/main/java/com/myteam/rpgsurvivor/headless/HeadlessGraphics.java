@@ -0,0 +1,53 @@
+package com.myteam.rpgsurvivor.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+
+/**
+ * Mock graphics reporting the desktop window size instead of 0x0.
+ * HeroMovement, Arrow and SamuraiDashing read the screen size as the map bounds.
+ * Keeps the GL it is given like the desktop backend does, so GLProfiler can wrap it.
+ */
+class HeadlessGraphics extends MockGraphics {
+    private final int width;
+    private final int height;
+    private GL20 gl20;
+
+    HeadlessGraphics(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public GL20 getGL20() {
+        return gl20;
+    }
+
+    @Override
+    public void setGL20(GL20 gl20) {
+        this.gl20 = gl20;
+        Gdx.gl = gl20;
+        Gdx.gl20 = gl20;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getBackBufferWidth() {
+        return width;
+    }
+
+    @Override
+    public int getBackBufferHeight() {
+        return height;
+    }
+}
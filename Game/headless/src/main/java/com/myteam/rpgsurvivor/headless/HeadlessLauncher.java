@@ -0,0 +1,94 @@
+package com.myteam.rpgsurvivor.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Launches the game simulation without a window, steps it at several enemy counts and prints ticks per second.
+ * Arguments: [hero type] [--scaling] [--crowd]. With --scaling the enemy job system is measured from 1 to N threads,
+ * with --crowd the enemy-enemy separation is measured against runs without it.
+ * With --record &lt;file&gt; [ticks] the patrol script is recorded into a replay file, --replay &lt;file&gt; plays one back.
+ */
+public class HeadlessLauncher {
+    private static final int[] ENEMY_COUNTS = {100, 1000, 10000};
+    private static final int[] SCALING_ENEMY_COUNTS = {5000, 20000};
+    private static final int[] CROWD_ENEMY_COUNTS = {500, 2000, 5000};
+    private static final String SCALING_FLAG = "--scaling";
+    private static final String CROWD_FLAG = "--crowd";
+    private static final String RECORD_FLAG = "--record";
+    private static final String REPLAY_FLAG = "--replay";
+    // 10 phút chơi
+    private static final int DEFAULT_RECORD_TICKS = 36000;
+
+    public static void main(String[] args) {
+        String heroType = "Knight";
+        boolean scaling = false;
+        boolean crowd = false;
+        String recordFile = null;
+        int recordTicks = DEFAULT_RECORD_TICKS;
+        String replayFile = null;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (SCALING_FLAG.equals(arg)) {
+                scaling = true;
+            } else if (CROWD_FLAG.equals(arg)) {
+                crowd = true;
+            } else if (RECORD_FLAG.equals(arg) && i + 1 < args.length) {
+                recordFile = args[++i];
+                if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
+                    recordTicks = Integer.parseInt(args[++i]);
+                }
+            } else if (REPLAY_FLAG.equals(arg) && i + 1 < args.length) {
+                replayFile = args[++i];
+            } else {
+                heroType = arg;
+            }
+        }
+
+        if (recordFile != null) {
+            new HeadlessApplication(new ReplayRunner(heroType, new FileHandle(recordFile), recordTicks), getDefaultConfiguration());
+        } else if (replayFile != null) {
+            new HeadlessApplication(new ReplayRunner(new FileHandle(replayFile)), getDefaultConfiguration());
+        } else {
+            createApplication(heroType, scaling, crowd);
+        }
+    }
+
+    private static HeadlessApplication createApplication(String heroType, boolean scaling, boolean crowd) {
+        SimulationBenchmark benchmark;
+        if (scaling) {
+            benchmark = new SimulationBenchmark(heroType, SCALING_ENEMY_COUNTS, threadCounts(Runtime.getRuntime().availableProcessors()));
+        } else if (crowd) {
+            benchmark = new SimulationBenchmark(heroType, CROWD_ENEMY_COUNTS);
+            benchmark.setCompareSeparation(true);
+        } else {
+            benchmark = new SimulationBenchmark(heroType, ENEMY_COUNTS);
+        }
+        return new HeadlessApplication(benchmark, getDefaultConfiguration());
+    }
+
+    /**
+     * 1, 2, 4, ... up to and including the number of cores
+     */
+    private static int[] threadCounts(int cores) {
+        int count = 1;
+        for (int threads = 2; threads < cores; threads *= 2) count++;
+        if (cores > 1) count++;
+
+        int[] threadCounts = new int[count];
+        int threads = 1;
+        for (int i = 0; i < count - 1; i++, threads *= 2) {
+            threadCounts[i] = threads;
+        }
+        threadCounts[count - 1] = cores;
+        return threadCounts;
+    }
+
+    private static HeadlessApplicationConfiguration getDefaultConfiguration() {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        //// Toàn bộ phép đo chạy trong create(), vòng lặp của backend không gọi render()
+        configuration.updatesPerSecond = -1;
+        return configuration;
+    }
+}
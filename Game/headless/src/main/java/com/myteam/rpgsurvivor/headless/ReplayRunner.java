@@ -0,0 +1,147 @@
+package com.myteam.rpgsurvivor.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
+import com.myteam.rpgsurvivor.controller.EnemySpawnController;
+import com.myteam.rpgsurvivor.controller.spatial.CollisionGrid;
+import com.myteam.rpgsurvivor.controller.system.AudioManager;
+import com.myteam.rpgsurvivor.controller.system.GameSimulation;
+import com.myteam.rpgsurvivor.controller.system.SimulationClock;
+import com.myteam.rpgsurvivor.controller.system.StageController;
+import com.myteam.rpgsurvivor.input.InputHandle;
+import com.myteam.rpgsurvivor.input.Replay;
+import com.myteam.rpgsurvivor.input.ReplayInputSource;
+import com.myteam.rpgsurvivor.model.EnemyStore;
+import com.myteam.rpgsurvivor.model.Player;
+
+/**
+ * Records a run of the patrol script to a replay file, or plays a replay file back as fast as possible.
+ * Unlike {@link SimulationBenchmark} nothing is added to the game: no extra enemies, the hero can die,
+ * and the next stage starts right when the last one is cleared, as if the upgrade screen was closed at once.
+ * Both print a checksum of the final state, a replay reproduces the run when the checksums match.
+ */
+public class ReplayRunner extends ApplicationAdapter {
+    public static final long RECORD_SEED = 20240601L;
+
+    private final String heroType;
+    private final FileHandle file;
+    private final int recordTicks;
+
+    /**
+     * Play the replay in the given file
+     */
+    public ReplayRunner(FileHandle file) {
+        this(null, file, 0);
+    }
+
+    /**
+     * Record the given number of ticks of the patrol script into the file
+     */
+    public ReplayRunner(String heroType, FileHandle file, int recordTicks) {
+        this.heroType = heroType;
+        this.file = file;
+        this.recordTicks = recordTicks;
+    }
+
+    @Override
+    public void create() {
+        HeadlessEnvironment.installGraphics();
+
+        AssetRegistry assets = AssetRegistry.getInstance();
+        TiledMap map = assets.acquire(AssetManifest.MAP, TiledMap.class);
+        if (recordTicks > 0) {
+            record(map);
+        } else {
+            play(map);
+        }
+
+        AnimationLoader.getInstance().clearCache();
+        assets.release(AssetManifest.MAP);
+        Gdx.app.exit();
+    }
+
+    private void record(TiledMap map) {
+        GameSimulation simulation = new GameSimulation(heroType, map, CollisionGrid.fromMap(map), RECORD_SEED);
+        Replay replay = simulation.startRecording();
+        ScriptedInputSource script = ScriptedInputSource.patrol();
+        InputHandle input = simulation.getHero().getInputHandle();
+        input.setInputSource(script);
+
+        for (int i = 0; i < recordTicks; i++) {
+            startClearedStage(simulation.getStageController());
+            script.advance();
+            input.latchInput();
+            simulation.step(SimulationClock.STEP);
+        }
+        replay.write(file);
+        Gdx.app.log("Headless", String.format("Recorded %d ticks of %s to %s (%d bytes), checksum %016x",
+            replay.getTickCount(), heroType, file.path(), file.length(), checksum(simulation)));
+        simulation.dispose();
+    }
+
+    private void play(TiledMap map) {
+        Replay replay = Replay.read(file);
+        GameSimulation simulation = new GameSimulation(replay.getHeroType(), map, CollisionGrid.fromMap(map), replay.getSeed());
+        ReplayInputSource source = new ReplayInputSource(replay);
+        InputHandle input = simulation.getHero().getInputHandle();
+        input.setInputSource(source);
+
+        long start = TimeUtils.nanoTime();
+        while (source.advance(simulation)) {
+            input.latchInput();
+            simulation.step(SimulationClock.STEP);
+        }
+        double seconds = (TimeUtils.nanoTime() - start) / 1e9;
+
+        int ticks = replay.getTickCount();
+        Gdx.app.log("Headless", String.format("Replayed %d ticks of %s in %.2f s: %.1f ticks/s (%.1fx real time), stage %d, checksum %016x",
+            ticks, replay.getHeroType(), seconds, ticks / seconds, ticks * SimulationClock.STEP / seconds,
+            simulation.getStageController().getCurrentStage(), checksum(simulation)));
+        simulation.dispose();
+    }
+
+    private static void startClearedStage(StageController stageController) {
+        if (stageController.isWaitingForNextStage()) {
+            stageController.startNextStage();
+        }
+    }
+
+    /**
+     * Hash of the hero, the stage and every enemy's position and health
+     */
+    public static long checksum(GameSimulation simulation) {
+        Player hero = simulation.getHero();
+        EnemySpawnController spawner = simulation.getEnemySpawnController();
+        long hash = 17;
+        hash = hash * 31 + Float.floatToIntBits(hero.getEntityX());
+        hash = hash * 31 + Float.floatToIntBits(hero.getEntityY());
+        hash = hash * 31 + hero.getCurrentHealth();
+        hash = hash * 31 + simulation.getStageController().getCurrentStage();
+        hash = hash * 31 + spawner.getTotalDeaths();
+        hash = checksum(hash, spawner.getCreepStore());
+        return checksum(hash, spawner.getBossStore());
+    }
+
+    private static long checksum(long hash, EnemyStore store) {
+        hash = hash * 31 + store.size();
+        for (int i = 0, n = store.size(); i < n; i++) {
+            hash = hash * 31 + Float.floatToIntBits(store.x[i]);
+            hash = hash * 31 + Float.floatToIntBits(store.y[i]);
+            hash = hash * 31 + store.health[i];
+            hash = hash * 31 + store.type[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public void dispose() {
+        AudioManager.getInstance().dispose();
+        AssetRegistry.getInstance().dispose();
+    }
+}
@@ -0,0 +1,108 @@
+package com.myteam.rpgsurvivor.headless;
+
+import com.badlogic.gdx.Input;
+import com.myteam.rpgsurvivor.input.InputSource;
+
+import java.util.ArrayList;
+
+/**
+ * Plays a fixed list of steps in a loop, one {@link #advance()} per simulation tick.
+ * A step holds some keys for a number of ticks and may press one key on its first tick.
+ */
+public class ScriptedInputSource implements InputSource {
+    private static final int NO_KEY = -1;
+
+    private final ArrayList<Step> steps = new ArrayList<>();
+    private int stepIndex;
+    private int tickInStep = -1;
+    private Step current;
+
+    /**
+     * Walk around the spawn point, stopping to attack and to cast the skill
+     */
+    public static ScriptedInputSource patrol() {
+        return new ScriptedInputSource()
+            .walk(60, Input.Keys.D)
+            .stand(2)
+            .press(Input.Keys.J, 40)
+            .walk(60, Input.Keys.W)
+            .stand(2)
+            .press(Input.Keys.K, 60)
+            .walk(60, Input.Keys.A)
+            .stand(2)
+            .press(Input.Keys.J, 40)
+            .walk(60, Input.Keys.S)
+            .stand(2)
+            .press(Input.Keys.J, 40)
+            .walk(45, Input.Keys.D, Input.Keys.W)
+            .stand(2)
+            .press(Input.Keys.K, 60)
+            .walk(45, Input.Keys.A, Input.Keys.S);
+    }
+
+    /**
+     * Hold the keys for the given number of ticks
+     */
+    public ScriptedInputSource walk(int ticks, int... keys) {
+        steps.add(new Step(ticks, keys, NO_KEY));
+        return this;
+    }
+
+    /**
+     * Release every key. Heroes only start an attack or a skill from the idle animation,
+     * so a press right after walking needs a tick or two of standing first.
+     */
+    public ScriptedInputSource stand(int ticks) {
+        return walk(ticks);
+    }
+
+    /**
+     * Press a key once, then stand still for the given number of ticks
+     */
+    public ScriptedInputSource press(int key, int ticks) {
+        steps.add(new Step(ticks, new int[0], key));
+        return this;
+    }
+
+    /**
+     * Move to the next tick of the script
+     */
+    public void advance() {
+        if (steps.isEmpty()) return;
+        tickInStep++;
+        if (current == null || tickInStep >= current.ticks) {
+            if (current != null) {
+                stepIndex = (stepIndex + 1) % steps.size();
+            }
+            current = steps.get(stepIndex);
+            tickInStep = 0;
+        }
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        if (current == null) return false;
+        if (tickInStep == 0 && current.pressedKey == key) return true;
+        for (int held : current.heldKeys) {
+            if (held == key) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        return current != null && tickInStep == 0 && current.pressedKey == key;
+    }
+
+    private static class Step {
+        final int ticks;
+        final int[] heldKeys;
+        final int pressedKey;
+
+        Step(int ticks, int[] heldKeys, int pressedKey) {
+            this.ticks = ticks;
+            this.heldKeys = heldKeys;
+            this.pressedKey = pressedKey;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.myteam.rpgsurvivor.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.myteam.rpgsurvivor.animation.AnimationLoader;
+import com.myteam.rpgsurvivor.assets.AssetManifest;
+import com.myteam.rpgsurvivor.assets.AssetRegistry;
+import com.myteam.rpgsurvivor.controller.EnemySpawnController;
+import com.myteam.rpgsurvivor.controller.job.EnemyJobSystem;
+import com.myteam.rpgsurvivor.controller.movement.EnemyMovement;
+import com.myteam.rpgsurvivor.controller.spatial.CollisionGrid;
+import com.myteam.rpgsurvivor.controller.system.AudioManager;
+import com.myteam.rpgsurvivor.controller.system.GameSimulation;
+import com.myteam.rpgsurvivor.controller.system.SimulationClock;
+import com.myteam.rpgsurvivor.controller.system.StageController;
+import com.myteam.rpgsurvivor.model.Player;
+
+/**
+ * Runs the MapScreen loop (spawning, enemy movement, combat, skills) with no rendering.
+ * The hero follows a {@link ScriptedInputSource} and cannot die, and the creep store is
+ * topped up after every tick so the measured load stays at the requested enemy count.
+ * With thread counts, every enemy count is run once per number of enemy job threads.
+ * With {@link #setCompareSeparation(boolean)} every run is repeated without enemy-enemy separation.
+ */
+public class SimulationBenchmark extends ApplicationAdapter {
+    private static final int WARMUP_TICKS = 600;
+    private static final long MEASURE_MILLIS = 5000;
+
+    private final String heroType;
+    private final int[] enemyCounts;
+    private final int[] threadCounts;
+    private boolean compareSeparation;
+
+    public SimulationBenchmark(String heroType, int[] enemyCounts) {
+        this(heroType, enemyCounts, new int[] {EnemyJobSystem.defaultParallelism()});
+    }
+
+    public SimulationBenchmark(String heroType, int[] enemyCounts, int[] threadCounts) {
+        this.heroType = heroType;
+        this.enemyCounts = enemyCounts;
+        this.threadCounts = threadCounts;
+    }
+
+    /**
+     * Also run every count with the separation force turned off, to measure its cost
+     */
+    public void setCompareSeparation(boolean compareSeparation) {
+        this.compareSeparation = compareSeparation;
+    }
+
+    @Override
+    public void create() {
+        HeadlessEnvironment.installGraphics();
+
+        AssetRegistry assets = AssetRegistry.getInstance();
+        TiledMap map = assets.acquire(AssetManifest.MAP, TiledMap.class);
+
+        for (int enemyCount : enemyCounts) {
+            double singleThreadTicks = 0;
+            for (int threads : threadCounts) {
+                if (compareSeparation) {
+                    double withoutSeparation = run(map, enemyCount, threads, false);
+                    double withSeparation = run(map, enemyCount, threads, true);
+                    Gdx.app.log("Headless", String.format("  separation: %.3f ms/tick extra",
+                        1000.0 / withSeparation - 1000.0 / withoutSeparation));
+                    continue;
+                }
+                double ticksPerSecond = run(map, enemyCount, threads, true);
+                if (threads == 1) singleThreadTicks = ticksPerSecond;
+                if (threadCounts.length > 1 && singleThreadTicks > 0) {
+                    Gdx.app.log("Headless", String.format("  %d threads: %.2fx of 1 thread", threads, ticksPerSecond / singleThreadTicks));
+                }
+            }
+        }
+
+        AnimationLoader.getInstance().clearCache();
+        assets.release(AssetManifest.MAP);
+        Gdx.app.exit();
+    }
+
+    private double run(TiledMap map, int enemyCount, int threads, boolean separation) {
+        GameSimulation simulation = new GameSimulation(heroType, map, CollisionGrid.fromMap(map), ReplayRunner.RECORD_SEED);
+        Player hero = simulation.getHero();
+        EnemySpawnController spawner = simulation.getEnemySpawnController();
+        EnemyMovement movement = spawner.getJobSystem().getMovement();
+        spawner.setJobSystem(new EnemyJobSystem(movement, threads));
+        if (!separation) {
+            movement.setSeparationGrid(null);
+        }
+        StageController stageController = simulation.getStageController();
+
+        ScriptedInputSource script = ScriptedInputSource.patrol();
+        hero.getInputHandle().setInputSource(script);
+        hero.setInvulnerable(true);
+        spawner.setMaxEnemiesOnMap(enemyCount);
+        // Wave không bao giờ kết thúc, enemy chết được thay ngay sau tick
+        spawner.setEnemiesPerWave(Integer.MAX_VALUE);
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            tick(simulation, script, spawner, stageController, enemyCount);
+        }
+
+        int killsBefore = spawner.getTotalDeaths();
+        long ticks = 0;
+        long start = TimeUtils.nanoTime();
+        long end = start + MEASURE_MILLIS * 1000000L;
+        long now;
+        do {
+            tick(simulation, script, spawner, stageController, enemyCount);
+            ticks++;
+            now = TimeUtils.nanoTime();
+        } while (now < end);
+
+        double seconds = (now - start) / 1e9;
+        Gdx.app.log("Headless", String.format("%s, %d enemies, %d threads%s: %.1f ticks/s (%.3f ms/tick, %.1fx real time, %d kills)",
+            heroType, enemyCount, threads, separation ? "" : ", no separation", ticks / seconds, seconds * 1000.0 / ticks,
+            ticks * SimulationClock.STEP / seconds, spawner.getTotalDeaths() - killsBefore));
+
+        simulation.dispose();
+        return ticks / seconds;
+    }
+
+    private static void tick(GameSimulation simulation, ScriptedInputSource script,
+                             EnemySpawnController spawner, StageController stageController, int enemyCount) {
+        script.advance();
+        simulation.getHero().getInputHandle().latchInput();
+        simulation.step(SimulationClock.STEP);
+
+        // Không có màn nâng cấp: sang stage mới ngay
+        if (stageController.isWaitingForNextStage()) {
+            stageController.startNextStage();
+            spawner.setEnemiesPerWave(Integer.MAX_VALUE);
+        }
+        while (spawner.getActiveEnemies().size() < enemyCount && !spawner.isBossWave()) {
+            spawner.spawnEnemy();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        AudioManager.getInstance().dispose();
+        AssetRegistry.getInstance().dispose();
+    }
+}